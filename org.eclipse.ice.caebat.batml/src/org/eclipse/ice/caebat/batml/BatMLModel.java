@@ -49,13 +49,13 @@ public class BatMLModel extends Item {
 	/**
 	 * References to the main BatML schema file and xml file to be loaded, respectively.
 	 */
-	private static File xsdFile, xmlFile;
+	private File xsdFile, xmlFile;
 
 	/**
 	 * Reference to the EMFComponent that takes the XML Schema file and maps it
 	 * to an Ecore model.
 	 */
-	private static EMFComponent emfComp;
+	private EMFComponent emfComp;
 
 	/**
 	 * The constructor.
@@ -180,20 +180,7 @@ public class BatMLModel extends Item {
 		xmlFile = xmlIFile.getRawLocation().makeAbsolute().toFile();
 		
 		// Create the EMFComponent
-		if (xsdFile != null) {
-			emfComp = new EMFComponent();
-			emfComp.load(xsdFile, xmlFile);
-			emfComp.getEMFTreeComposite().setName("BatML");
-			emfComp.setName("BatML Model Editor");
-			emfComp.setId(1);
-		} else {
-			emfComp = new EMFComponent();
-			emfComp.setName("BatML Model Editor");
-			emfComp.setDescription("Could not find BatML input for model creation!");
-			emfComp.setId(1);
-		}
-
-		form.addComponent(emfComp);
+		loadEMFComponent();
 	}
 	
 	/**
@@ -271,17 +258,26 @@ public class BatMLModel extends Item {
 		xmlFile = xmlIFile.getRawLocation().makeAbsolute().toFile();
 		
 		// Create the EMFComponent
+		loadEMFComponent();
+	}
+
+	/**
+	 * Creates the EMFComponent for the current schema and xml files and adds
+	 * it to the form. BatML files can be large, so the file is loaded lazily
+	 * and only the parts of the model that are opened are converted.
+	 */
+	private void loadEMFComponent() {
+
+		emfComp = new EMFComponent();
+		emfComp.setName("BatML Model Editor");
+		emfComp.setId(1);
+
 		if (xsdFile != null) {
-			emfComp = new EMFComponent();
+			emfComp.setLazyLoading(true);
 			emfComp.load(xsdFile, xmlFile);
 			emfComp.getEMFTreeComposite().setName("BatML");
-			emfComp.setName("BatML Model Editor");
-			emfComp.setId(1);
 		} else {
-			emfComp = new EMFComponent();
-			emfComp.setName("BatML Model Editor");
 			emfComp.setDescription("Could not find BatML input for model creation!");
-			emfComp.setId(1);
 		}
 
 		form.addComponent(emfComp);
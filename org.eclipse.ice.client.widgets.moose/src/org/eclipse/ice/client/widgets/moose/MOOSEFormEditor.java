@@ -12,9 +12,6 @@
  *******************************************************************************/
 package org.eclipse.ice.client.widgets.moose;
 
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.LineNumberReader;
 import java.net.URL;
 import java.util.ArrayList;
 
@@ -39,6 +36,7 @@ import org.eclipse.ice.datastructures.form.TreeComposite;
 import org.eclipse.ice.datastructures.resource.ICEResource;
 import org.eclipse.ice.item.nuclear.MOOSE;
 import org.eclipse.ice.item.nuclear.MOOSEModel;
+import org.eclipse.ice.item.utilities.moose.PostprocessorStore;
 import org.eclipse.ice.reactor.plant.PlantComposite;
 import org.eclipse.ice.reactor.plant.ViewFactory;
 import org.eclipse.jface.action.Action;
@@ -270,37 +268,19 @@ public class MOOSEFormEditor extends ICEFormEditor {
 
 	/**
 	 * This private method is used to decide whether or not the given
-	 * ICEResource contains valid Postprocessor data to plot. Basically, for now
-	 * it naively checks that there is more than one line in the file, because
-	 * if there was 1 or less, then we would have no data or just the feature
-	 * line describing the data.
+	 * ICEResource contains valid Postprocessor data to plot. It checks that
+	 * the MOOSE Item has stored at least one value of the Postprocessor, so
+	 * the files are not read again on every poll.
 	 * 
 	 * @param r
 	 * @return validData Whether or not there is valid data in the resource
 	 */
 	private boolean hasValidPostprocessorData(ICEResource r) {
 
-		// Simply count the number of lines in the resource file
-		try {
-			LineNumberReader reader = new LineNumberReader(
-					new FileReader(r.getPath().getPath()));
-			int cnt = 0;
-			String lineRead = "";
-			while ((lineRead = reader.readLine()) != null) {
-			}
-
-			cnt = reader.getLineNumber();
-			reader.close();
-
-			if (cnt <= 1) {
-				return false;
-			} else {
-				return true;
-			}
-		} catch (IOException e) {
-			logger.error(getClass().getName() + " Exception!", e);
-			return false;
-		}
+		PostprocessorStore store = MOOSE
+				.getPostprocessorStore(iceDataForm.getItemID());
+		return store != null && store
+				.getSize(FilenameUtils.removeExtension(r.getName())) > 0;
 	}
 
 	/**
@@ -72,6 +72,14 @@ public abstract class EntryListener implements IUpdateableListener {
 	 */
 	public abstract void updateEntry();
 
+	/**
+	 * Unregisters this listener from its Entry. It should be called when the
+	 * component that the Entry belongs to is no longer used.
+	 */
+	public void dispose() {
+		entry.unregister(this);
+	}
+
 	/**
 	 * Utility method for converting the Entry's value into an integer.
 	 * 
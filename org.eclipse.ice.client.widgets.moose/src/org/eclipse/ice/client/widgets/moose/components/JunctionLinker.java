@@ -97,7 +97,7 @@ public class JunctionLinker extends PlantComponentLinker {
 								// Get the pipes from the entry and set them as
 								// input to the junction.
 								ArrayList<PlantComponent> pipes = parsePipes(entry
-										.getValue());
+										.getValue(), this);
 								junction.setInputs(pipes);
 							}
 						});
@@ -117,7 +117,7 @@ public class JunctionLinker extends PlantComponentLinker {
 								// Get the pipes from the entry and set them as
 								// output to the junction.
 								ArrayList<PlantComponent> pipes = parsePipes(entry
-										.getValue());
+										.getValue(), this);
 								junction.setOutputs(pipes);
 							}
 						});
@@ -143,7 +143,7 @@ public class JunctionLinker extends PlantComponentLinker {
 								// Get the pipes from the entry and set them as
 								// input to the junction.
 								ArrayList<PlantComponent> pipes = parsePipes(entry
-										.getValue());
+										.getValue(), this);
 								junction.setOutputs(pipes);
 							}
 						});
@@ -166,14 +166,24 @@ public class JunctionLinker extends PlantComponentLinker {
 	 * into account any primary/secondary and in/out flags set in the string.
 	 * See {@link PipeSelector} for more details on the supported format.
 	 * 
+	 * <p>
+	 * The names in the string are recorded for the listener that parses it, so
+	 * that the listener is updated when a component with one of the names is
+	 * added or removed.
+	 * </p>
+	 * 
 	 * @param value
 	 *            The value to parse.
+	 * @param listener
+	 *            The EntryListener whose Entry holds the value.
 	 * @return An ArrayList containing PlantComponents if some could be found
 	 *         with names matching values in the string. If none could be found,
 	 *         the list will be empty.
 	 */
-	private ArrayList<PlantComponent> parsePipes(String value) {
+	private ArrayList<PlantComponent> parsePipes(String value,
+			EntryListener listener) {
 		ArrayList<PlantComponent> pipes = new ArrayList<PlantComponent>();
+		List<String> names = new ArrayList<String>();
 
 		if (value != null) {
 			// Remove single quotes, trim leading and trailing whitespace, and
@@ -194,6 +204,7 @@ public class JunctionLinker extends PlantComponentLinker {
 					String name = m.group(1);
 					String primary = m.group(4);
 					String input = m.group(5);
+					names.add(name);
 
 					// Add any component derived from the name to the list.
 					PlantComponent pipe = pipeSelector.getPipe(name, primary,
@@ -205,6 +216,9 @@ public class JunctionLinker extends PlantComponentLinker {
 			}
 		}
 
+		// Record the names, even those that could not be found yet.
+		plantManager.setReferencedNames(listener, names);
+
 		return pipes;
 	}
 
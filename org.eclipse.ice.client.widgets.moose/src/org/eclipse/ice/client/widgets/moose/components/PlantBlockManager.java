@@ -13,18 +13,22 @@
 package org.eclipse.ice.client.widgets.moose.components;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
-import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.componentVisitor.IComponentVisitor;
 import org.eclipse.ice.datastructures.componentVisitor.SelectiveComponentVisitor;
 import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.form.ITreeCompositeListener;
 import org.eclipse.ice.datastructures.form.TreeComposite;
 import org.eclipse.ice.reactor.plant.Boundary;
 import org.eclipse.ice.reactor.plant.Branch;
@@ -64,11 +68,17 @@ import org.eclipse.ice.reactor.plant.WetWell;
  * This class connects the MOOSE Component block (in the form of a
  * {@link TreeComposite} with a {@link PlantComposite}. Any changes made to the
  * block should be reflected in the {@code PlantComposite}.
+ * <p>
+ * The manager is told which components were added to or removed from the
+ * block, so an edit only updates the PlantComponents that changed and the
+ * Junctions that refer to them by name. The whole block is only synchronized
+ * when a new block is set or when all of its children are replaced at once.
+ * </p>
  * 
  * @author Jordan Deyton
  *
  */
-public class PlantBlockManager implements IUpdateableListener {
+public class PlantBlockManager implements ITreeCompositeListener {
 
 	/**
 	 * The tree of Components. This comes from a root TreeComposite read in from
@@ -90,6 +100,19 @@ public class PlantBlockManager implements IUpdateableListener {
 	 */
 	private final IdentityHashMap<TreeComposite, PlantComponent> componentMap;
 
+	/**
+	 * The TreeComposites in the {@link #componentMap} keyed on their names, in
+	 * the order they were added. The first one is the one that is found by
+	 * {@link #getPlantComponent(String)}.
+	 */
+	private final Map<String, List<TreeComposite>> nameMap;
+
+	/**
+	 * The name under which each TreeComposite is stored in the
+	 * {@link #nameMap}. It is used to find renamed TreeComposites.
+	 */
+	private final IdentityHashMap<TreeComposite, String> indexedNames;
+
 	/**
 	 * An ID counter for adding to the PlantComposite.
 	 */
@@ -118,10 +141,23 @@ public class PlantBlockManager implements IUpdateableListener {
 	private final PlantComponentFactory componentFactory;
 
 	/**
-	 * A list of all created EntryListeners. This list is only required when
-	 * loading a new tree of PlantComponents.
+	 * The EntryListeners created for each TreeComposite in the
+	 * {@link #componentMap}. They are disposed when the TreeComposite is
+	 * removed.
+	 */
+	private final IdentityHashMap<TreeComposite, List<EntryListener>> entryListeners;
+
+	/**
+	 * The EntryListeners that refer to other components by name, keyed on
+	 * those names. When a component with one of the names is added, removed or
+	 * renamed, only these listeners are updated.
 	 */
-	private final List<EntryListener> entryListeners;
+	private final Map<String, Set<EntryListener>> dependentListeners;
+
+	/**
+	 * The names that each listener in {@link #dependentListeners} refers to.
+	 */
+	private final IdentityHashMap<EntryListener, Set<String>> referencedNames;
 
 	/**
 	 * The default constructor.
@@ -131,8 +167,10 @@ public class PlantBlockManager implements IUpdateableListener {
 		tree = new TreeComposite();
 		plant = new MOOSEPlantComposite();
 
-		// Initialize the Map of PlantComponents.
+		// Initialize the Map of PlantComponents and its name index.
 		componentMap = new IdentityHashMap<TreeComposite, PlantComponent>();
+		nameMap = new HashMap<String, List<TreeComposite>>();
+		indexedNames = new IdentityHashMap<TreeComposite, String>();
 
 		// Initialize the PlantComponentLinkers.
 		pipeLinker = new PipeLinker(this);
@@ -142,8 +180,10 @@ public class PlantBlockManager implements IUpdateableListener {
 		// Initialize the PlantComponentFactory.
 		componentFactory = new PlantComponentFactory();
 
-		// Initialize the list of EntryListeners.
-		entryListeners = new ArrayList<EntryListener>();
+		// Initialize the maps of EntryListeners.
+		entryListeners = new IdentityHashMap<TreeComposite, List<EntryListener>>();
+		dependentListeners = new HashMap<String, Set<EntryListener>>();
+		referencedNames = new IdentityHashMap<EntryListener, Set<String>>();
 
 		return;
 	}
@@ -161,24 +201,24 @@ public class PlantBlockManager implements IUpdateableListener {
 			// Unregister from the old components tree.
 			this.tree.unregister(this);
 
-			// Remove all components from the plant and this class' meta data.
-			for (PlantComponent plantComp : componentMap.values()) {
-				if (plantComp != null) {
-					plant.removeComponent(plantComp.getId());
+			synchronized (this) {
+				// Remove all components from the plant and this class' meta
+				// data.
+				for (TreeComposite child : new ArrayList<TreeComposite>(
+						componentMap.keySet())) {
+					removeComponent(child, false);
 				}
-			}
-			componentMap.clear();
 
-			// Clear the list of EntryListeners.
-			entryListeners.clear();
+				// Reset the ID counter.
+				id = 0;
 
-			// Reset the ID counter.
-			id = 0;
+				// Update the reference to the new components tree.
+				this.tree = tree;
+				// Update the plant and this class' meta data from the new
+				// tree.
+				synchronizeTree();
+			}
 
-			// Update the reference to the new components tree.
-			this.tree = tree;
-			// Update the plant and this class' meta data from the new tree.
-			update(tree);
 			// Register with the new components tree.
 			tree.register(this);
 		}
@@ -195,79 +235,306 @@ public class PlantBlockManager implements IUpdateableListener {
 		return plant;
 	}
 
+	/**
+	 * Implements ITreeCompositeListener. Adds a PlantComponent for a new child
+	 * of the Components {@link #tree}.
+	 */
+	@Override
+	public synchronized void childAdded(TreeComposite parent,
+			TreeComposite child) {
+		if (parent == tree && !componentMap.containsKey(child)) {
+			addComponent(child, true);
+		}
+		return;
+	}
+
+	/**
+	 * Implements ITreeCompositeListener. Removes the PlantComponent of a child
+	 * that was removed from the Components {@link #tree}.
+	 */
+	@Override
+	public synchronized void childRemoved(TreeComposite parent,
+			TreeComposite child) {
+		if (parent == tree && componentMap.containsKey(child)) {
+			removeComponent(child, true);
+		}
+		return;
+	}
+
+	/**
+	 * Implements ITreeCompositeListener. Synchronizes the plant with all of the
+	 * children of the Components {@link #tree}.
+	 */
+	@Override
+	public synchronized void childrenReset(TreeComposite parent) {
+		if (parent == tree) {
+			synchronizeTree();
+		}
+		return;
+	}
+
 	/**
 	 * Implements IUpdateableListener. This method is called when the Components
-	 * {@link #tree} updates. It looks for new and removed components and adds
-	 * or removes them from the {@link #plant} as necessary.
+	 * {@link #tree} or one of its children updates. Added and removed children
+	 * are handled by {@link #childAdded(TreeComposite, TreeComposite)} and
+	 * {@link #childRemoved(TreeComposite, TreeComposite)}, so this only handles
+	 * changes to the children themselves.
 	 */
 	@Override
-	public void update(IUpdateable component) {
-
-		// Update the plant and meta data based on the current children of the
-		// components tree.
-		if (component == tree) {
-			// Create a set containing all TreeComposites in the component map.
-			// When a TreeComposite is found to still be a child of the
-			// "Components" TreeComposite, it will be removed from this set. Any
-			// TreeComposites remaining in the set afterward have been removed
-			// from the "Components" TreeComposite and should be removed from
-			// both the component map and the PlantComposite.
-			Set<TreeComposite> removedComponents = Collections
-					.newSetFromMap(new IdentityHashMap<TreeComposite, Boolean>(
-							componentMap.size()));
-			removedComponents.addAll(componentMap.keySet());
-
-			// Loop over the existing children in the tree.
-			for (int i = 0; i < tree.getNumberOfChildren(); i++) {
-				TreeComposite child = tree.getChildAtIndex(i);
-
-				// If the child TreeComposite does not already have a
-				// corresponding PlantComponent in the component Map, try to
-				// create a new one and add it to the PlantComposite.
-				if (!componentMap.containsKey(child)) {
-					// Create a plant component for the child.
-					PlantComponent plantComp = createPlantComponent(child);
-					if (plantComp != null) {
-						plantComp.setId(id++);
-						plantComp.setName(child.getName());
-						plantComp.setDescription(child.getDescription());
-						// Only add the child to the plant if it is active.
-						if (child.isActive()) {
-							plant.addPlantComponent(plantComp);
-						}
-					}
-					componentMap.put(child, plantComp);
+	public synchronized void update(IUpdateable component) {
+
+		if (component != tree && componentMap.containsKey(component)) {
+			// If a node's active flag has changed, add or remove the associated
+			// PlantComponent to or from the plant.
+			TreeComposite treeNode = (TreeComposite) component;
+			PlantComponent plantComp = componentMap.get(component);
+			if (plantComp != null) {
+				if (treeNode.isActive()) {
+					plant.addPlantComponent(plantComp);
 				} else {
-					// The child is still a child of "Components", so remove it
-					// from the set of components.
-					removedComponents.remove(child);
+					plant.removeComponent(plantComp.getId());
+				}
+			}
+
+			// If the node was renamed, move it in the name index and update
+			// the listeners that refer to either name.
+			String oldName = indexedNames.get(treeNode);
+			String newName = treeNode.getName();
+			if (oldName != null && !oldName.equals(newName)) {
+				unindexName(treeNode);
+				indexName(treeNode);
+				if (plantComp != null) {
+					plantComp.setName(newName);
 				}
+				updateDependentListeners(oldName);
+				updateDependentListeners(newName);
 			}
+		}
+
+		return;
+	}
 
-			// Remove all PlantComponents for TreeComposites that remain in the
-			// set of removed TreeComposites.
-			for (TreeComposite child : removedComponents) {
-				PlantComponent plantComp = componentMap.remove(child);
-				plant.removeComponent(plantComp.getId());
+	/**
+	 * Synchronizes the plant and meta data with all of the current children
+	 * of the components {@link #tree}. Components that are no longer children
+	 * are removed and new children are added. All of the EntryListeners are
+	 * updated once afterward.
+	 */
+	private void synchronizeTree() {
+
+		// Create a set containing all TreeComposites in the component map.
+		// When a TreeComposite is found to still be a child of the
+		// "Components" TreeComposite, it will be removed from this set. Any
+		// TreeComposites remaining in the set afterward have been removed
+		// from the "Components" TreeComposite and should be removed from
+		// both the component map and the PlantComposite.
+		Set<TreeComposite> removedComponents = Collections
+				.newSetFromMap(new IdentityHashMap<TreeComposite, Boolean>(
+						componentMap.size()));
+		removedComponents.addAll(componentMap.keySet());
+
+		// Add PlantComponents for the new children.
+		for (int i = 0; i < tree.getNumberOfChildren(); i++) {
+			TreeComposite child = tree.getChildAtIndex(i);
+			if (!removedComponents.remove(child)) {
+				addComponent(child, false);
 			}
+		}
+
+		// Remove the PlantComponents of the removed children.
+		for (TreeComposite child : removedComponents) {
+			removeComponent(child, false);
+		}
 
-			// TODO This is overkill, but the difficulty lies in making sure
-			// Junctions (or HeatExchangers) are hooked up to their Pipes (or
-			// Junctions) properly. Until we can come up with a better way to
-			// link Entries and the model, this loop will have to suffice.
-			// Sync all of the Entries with the plant model.
-			for (EntryListener listener : entryListeners) {
+		// Sync all of the Entries with the plant model now that all of the
+		// components that Junctions may refer to exist.
+		for (List<EntryListener> listeners : entryListeners.values()) {
+			for (EntryListener listener : listeners) {
 				listener.updateEntry();
 			}
-		} else if (componentMap.containsKey(component)) {
-			// If a node's active flag has changed, add or remove the associated
-			// PlantComponent to or from the plant.
-			TreeComposite treeNode = (TreeComposite) component;
-			PlantComponent plantComp = componentMap.get(component);
-			if (treeNode.isActive()) {
+		}
+
+		return;
+	}
+
+	/**
+	 * Creates a PlantComponent for a child of the components {@link #tree} and
+	 * adds it to the plant if the child is active.
+	 * 
+	 * @param child
+	 *            The new child.
+	 * @param updateListeners
+	 *            Whether to update the new component's EntryListeners and the
+	 *            listeners that refer to its name. This is false when the
+	 *            whole tree is synchronized, since all listeners are updated
+	 *            afterward.
+	 */
+	private void addComponent(TreeComposite child, boolean updateListeners) {
+
+		// Create a plant component for the child.
+		PlantComponent plantComp = createPlantComponent(child);
+		if (plantComp != null) {
+			plantComp.setId(id++);
+			plantComp.setName(child.getName());
+			plantComp.setDescription(child.getDescription());
+			// Only add the child to the plant if it is active.
+			if (child.isActive()) {
 				plant.addPlantComponent(plantComp);
-			} else {
-				plant.removeComponent(plantComp.getId());
+			}
+		}
+		componentMap.put(child, plantComp);
+		indexName(child);
+
+		// Sync the new component with its Entries, then re-link any Junctions
+		// that were waiting for a component with this name.
+		if (updateListeners) {
+			List<EntryListener> listeners = entryListeners.get(child);
+			if (listeners != null) {
+				for (EntryListener listener : listeners) {
+					listener.updateEntry();
+				}
+			}
+			updateDependentListeners(child.getName());
+		}
+
+		return;
+	}
+
+	/**
+	 * Removes the PlantComponent of a former child of the components
+	 * {@link #tree} from the plant and disposes its EntryListeners.
+	 * 
+	 * @param child
+	 *            The removed child.
+	 * @param updateListeners
+	 *            Whether to update the listeners that refer to its name.
+	 */
+	private void removeComponent(TreeComposite child,
+			boolean updateListeners) {
+
+		PlantComponent plantComp = componentMap.remove(child);
+		if (plantComp != null) {
+			plant.removeComponent(plantComp.getId());
+		}
+		String name = unindexName(child);
+
+		// Stop listening to the removed component's Entries.
+		List<EntryListener> listeners = entryListeners.remove(child);
+		if (listeners != null) {
+			for (EntryListener listener : listeners) {
+				listener.dispose();
+				setReferencedNames(listener, null);
+			}
+		}
+
+		// Junctions that referred to the component must drop it.
+		if (updateListeners && name != null) {
+			updateDependentListeners(name);
+		}
+
+		return;
+	}
+
+	/**
+	 * Adds a TreeComposite to the {@link #nameMap} under its current name.
+	 * 
+	 * @param child
+	 *            The TreeComposite to add.
+	 */
+	private void indexName(TreeComposite child) {
+		String name = child.getName();
+		List<TreeComposite> named = nameMap.get(name);
+		if (named == null) {
+			named = new ArrayList<TreeComposite>(1);
+			nameMap.put(name, named);
+		}
+		named.add(child);
+		indexedNames.put(child, name);
+		return;
+	}
+
+	/**
+	 * Removes a TreeComposite from the {@link #nameMap}.
+	 * 
+	 * @param child
+	 *            The TreeComposite to remove.
+	 * @return The name under which it was stored, or null if it was not
+	 *         stored.
+	 */
+	private String unindexName(TreeComposite child) {
+		String name = indexedNames.remove(child);
+		if (name != null) {
+			List<TreeComposite> named = nameMap.get(name);
+			// Remove the child by identity, not by equality
+			for (int i = 0; i < named.size(); i++) {
+				if (named.get(i) == child) {
+					named.remove(i);
+					break;
+				}
+			}
+			if (named.isEmpty()) {
+				nameMap.remove(name);
+			}
+		}
+		return name;
+	}
+
+	/**
+	 * Updates the EntryListeners that refer to a component name.
+	 * 
+	 * @param name
+	 *            The name of the component that was added, removed or renamed.
+	 */
+	private void updateDependentListeners(String name) {
+		Set<EntryListener> listeners = dependentListeners.get(name);
+		if (listeners != null) {
+			// Copy the set since the listeners update their references.
+			for (EntryListener listener : new ArrayList<EntryListener>(
+					listeners)) {
+				listener.updateEntry();
+			}
+		}
+		return;
+	}
+
+	/**
+	 * Records the names of the components that an EntryListener refers to,
+	 * such as the inputs and outputs of a Junction. The listener is updated
+	 * when a component with one of these names is added, removed or renamed.
+	 * 
+	 * @param listener
+	 *            The listener.
+	 * @param names
+	 *            The names it refers to, or null if it does not refer to any
+	 *            names anymore.
+	 */
+	protected synchronized void setReferencedNames(EntryListener listener,
+			Collection<String> names) {
+
+		// Remove the old references.
+		Set<String> oldNames = referencedNames.remove(listener);
+		if (oldNames != null) {
+			for (String name : oldNames) {
+				Set<EntryListener> listeners = dependentListeners.get(name);
+				listeners.remove(listener);
+				if (listeners.isEmpty()) {
+					dependentListeners.remove(name);
+				}
+			}
+		}
+
+		// Add the new references.
+		if (names != null && !names.isEmpty()) {
+			Set<String> newNames = new HashSet<String>(names);
+			referencedNames.put(listener, newNames);
+			for (String name : newNames) {
+				Set<EntryListener> listeners = dependentListeners.get(name);
+				if (listeners == null) {
+					listeners = Collections.newSetFromMap(
+							new IdentityHashMap<EntryListener, Boolean>());
+					dependentListeners.put(name, listeners);
+				}
+				listeners.add(listener);
 			}
 		}
 
@@ -284,20 +551,15 @@ public class PlantBlockManager implements IUpdateableListener {
 	 * @return A PlantComponent if one could be found matching the name, null
 	 *         otherwise.
 	 */
-	protected PlantComponent getPlantComponent(String name) {
-		// TODO This could be optimized by keeping track of TreeComposite names.
+	protected synchronized PlantComponent getPlantComponent(String name) {
 
 		// Set the default return value.
 		PlantComponent component = null;
 
-		// Loop over the currently known TreeComposites and find the first one
-		// whose name matches the specified name.
-		for (TreeComposite composite : componentMap.keySet()) {
-			if (composite.getName().equals(name)) {
-				// Get the PlantComponent for the matching TreeComposite.
-				component = componentMap.get(composite);
-				break;
-			}
+		// Get the PlantComponent for the first TreeComposite with the name.
+		List<TreeComposite> named = nameMap.get(name);
+		if (named != null) {
+			component = componentMap.get(named.get(0));
 		}
 
 		return component;
@@ -323,8 +585,8 @@ public class PlantBlockManager implements IUpdateableListener {
 			// Try to create a PlantComponent from the DataComponent.
 			plantComp = componentFactory.createComponent(dataComp);
 			// Try to link the PlantComponent with the DataComponent's Entries.
-			// We also need to update the list of EntryListeners.
-			entryListeners.addAll(createEntryListeners(plantComp, dataComp));
+			// We also need to keep the EntryListeners for the TreeComposite.
+			entryListeners.put(tree, createEntryListeners(plantComp, dataComp));
 		}
 
 		return plantComp;
@@ -14,6 +14,8 @@ package org.eclipse.ice.client.widgets;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
 
 import org.eclipse.ice.datastructures.ICEObject.IElementSource;
 import org.eclipse.ice.datastructures.ICEObject.ListComponent;
@@ -59,6 +61,11 @@ public class ElementSourceDialog<T> extends Dialog {
 	 */
 	private ListComponentNattable listTable;
 
+	/**
+	 * The copy of the list that the NatTable shows and that is filtered
+	 */
+	private ListComponent<T> tableList;
+
 	/**
 	 * The selection made by the user or null if the dialog was closed.
 	 */
@@ -136,16 +143,14 @@ public class ElementSourceDialog<T> extends Dialog {
 
 		// Get a copy of the list to give to the NatTable so that we can keep a
 		// fresh copy to compare to.
-		ListComponent<T> copy = new ListComponent<T>();
-		copy.setTableFormat(list.getTableFormat());
-		for (int i = 0; i < list.size(); i++) {
-			copy.add(list.get(i));
-		}
+		tableList = new ListComponent<T>();
+		tableList.setTableFormat(list.getTableFormat());
+		tableList.addAll(list);
 
 		// Create the Nattable from the Composite parent and the ListComponent
 		// list
 		// We do NOT want this table to be editable!
-		listTable = new ListComponentNattable(comp, copy, false);
+		listTable = new ListComponentNattable(comp, tableList, false);
 
 		// Set the size of the shell, have the list fill the entire available
 		// area.
@@ -168,63 +173,66 @@ public class ElementSourceDialog<T> extends Dialog {
 
 			@Override
 			public void modifyText(ModifyEvent arg0) {
-				ListComponent listFromTable = listTable.getList();
 				// Get the filter text
-				String filterText = filter.getText().toLowerCase();
+				final String filterText = filter.getText().toLowerCase();
 
 				// Checks to see if this is a search for a specific
 				// isotope or a element (in which case all isotopes should be
 				// shown through the filter).
-				boolean useElementName = !((filterText.length() > 0)
+				final boolean useElementName = !((filterText.length() > 0)
 						&& (Character.isDigit(filterText.charAt(0))));
 
 				// Iterate over the list and pick the items to keep from the
-				// filter text.
-				int numRemoved = 0;
-				for (int i = 0; i < list.size(); i++) {
-
-					// Lock the list to protect thread issues.
-					listFromTable.getReadWriteLock().writeLock().lock();
-					// If the list contains materials, get the material
-					if (list.get(i) instanceof Material) {
-						Material mat = (Material) list.get(i);
-						// Finally, if the material fits the filter, make sure
-						// it is in the list. Otherwise,
-						// take it out of the list.
-
-						// Get whether to compare entire name or just elemental
-						// name.
-						String matName = "";
-						if (useElementName) {
-							matName = mat.getElementalName();
-						} else {
-							matName = mat.getName();
-						}
-
-						// If the material meets the criteria
-						if (matName.toLowerCase().startsWith(filterText)) {
+				// filter text. This is done in one batch so that the table is
+				// only refreshed once.
+				tableList.batch(new Consumer<List<T>>() {
+					@Override
+					public void accept(List<T> edits) {
+						int numRemoved = 0;
+						for (int i = 0; i < list.size(); i++) {
+
+							// If the list contains materials, get the material
+							T element = list.get(i);
+							if (element instanceof Material) {
+								Material mat = (Material) element;
+								// Finally, if the material fits the filter,
+								// make sure it is in the list. Otherwise, take
+								// it out of the list.
+
+								// Get whether to compare entire name or just
+								// elemental name.
+								String matName = "";
+								if (useElementName) {
+									matName = mat.getElementalName();
+								} else {
+									matName = mat.getName();
+								}
+
+								// If the material meets the criteria
+								if (matName.toLowerCase()
+										.startsWith(filterText)) {
+
+									// Make sure material is in list
+									if (!edits.contains(element)) {
+										edits.add(i - numRemoved, element);
+									}
+
+									// If the material does not meet the
+									// criteria
+								} else {
+
+									// Remove materials that do not fit the
+									// search criteria.
+									if (edits.contains(element)) {
+										edits.remove(element);
+									}
+									numRemoved++;
+								}
 
-							// Make sure material is in list
-							if (!listFromTable.contains(mat)) {
-								listFromTable.add(i - numRemoved, mat);
 							}
-
-							// If the material does not meet the criteria
-						} else {
-
-							// Remove materials that do not fit the search
-							// criteria.
-							if (listFromTable.contains(mat)) {
-								listFromTable.remove(mat);
-							}
-							numRemoved++;
 						}
-
 					}
-
-					// Unlock the list
-					listFromTable.getReadWriteLock().writeLock().unlock();
-				}
+				});
 			}
 		});
 
@@ -13,6 +13,7 @@ package org.eclipse.ice.client.widgets;
 
 import java.io.File;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -118,7 +119,8 @@ public class ExecutableEntryComposite extends FileEntryComposite {
 						if (file.exists() && file.isFile()) {
 							// Check if its an executable
 							if (file.canExecute()) {
-								List<String> valueList = entry.getAllowedValues();
+								List<String> valueList = new ArrayList<String>(
+										entry.getAllowedValues());
 								valueList.add(file.toURI().toString());
 
 								// Finish setting the allowed values and default
@@ -252,7 +254,8 @@ public class ExecutableEntryComposite extends FileEntryComposite {
 						
 						// Create a new content provider with the new file
 						// in the allowed values list
-						List<String> valueList = entry.getAllowedValues();
+						List<String> valueList = new ArrayList<String>(
+								entry.getAllowedValues());
 						if (!valueList.contains(entryValue)) {
 							valueList.add(entryValue);
 						}
@@ -12,6 +12,7 @@
 package org.eclipse.ice.client.widgets;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
@@ -105,7 +106,8 @@ public class FileEntryComposite extends DiscreteEntryComposite {
 						client.importFile(importedFile.toURI());
 						// Create a new content provider with the new file
 						// in the allowed values list
-						List<String> valueList = entry.getAllowedValues();
+						List<String> valueList = new ArrayList<String>(
+								entry.getAllowedValues());
 						if (!valueList.contains(importedFile.getName())) {
 							valueList.add(importedFile.getName());
 						}
@@ -15,6 +15,8 @@ package org.eclipse.ice.core.iCore;
 import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.GET;
@@ -25,6 +27,8 @@ import javax.ws.rs.Produces;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.ice.datastructures.ICEObject.ICEList;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
 import org.eclipse.ice.datastructures.form.Form;
@@ -395,6 +399,91 @@ public interface ICore {
 	 */
 	public void importFile(URI file, String projectName);
 
+	/**
+	 * This operation directs the core to import a set of files into the
+	 * specified IProject instance and to load each of them as the input of a
+	 * new Item of the specified type. Implementations may import the files in
+	 * parallel, in which case a file that fails to be copied, or whose Item
+	 * fails to be created or loaded, fails the whole batch and no Items are
+	 * kept. The default implementation imports them one at a time with
+	 * importFileAsItem().
+	 *
+	 * @param files
+	 *            The files that should be imported. Null entries are skipped.
+	 * @param itemType
+	 *            The type of Item to create for each file.
+	 * @param project
+	 *            The IProject instance the files will be imported into.
+	 * @param monitor
+	 *            The monitor used to report progress and check for
+	 *            cancellation. It may be null.
+	 * @return The identification numbers of the new Items, in the same order
+	 *         as the files, given as Strings. The id is -1 for files that could
+	 *         not be imported, which is every file if a parallel batch failed.
+	 */
+	public default ArrayList<String> importFilesAsItems(List<URI> files,
+			String itemType, IProject project, IProgressMonitor monitor) {
+
+		// Local Declarations
+		ArrayList<String> ids = new ArrayList<String>();
+		IProgressMonitor progress = (monitor != null) ? monitor
+				: new NullProgressMonitor();
+
+		if (files != null) {
+			progress.beginTask("Importing files", files.size());
+			for (URI file : files) {
+				boolean skip = file == null || progress.isCanceled();
+				ids.add(skip ? "-1"
+						: importFileAsItem(file, itemType, project));
+				progress.worked(1);
+			}
+			progress.done();
+		}
+
+		return ids;
+	}
+
+	/**
+	 * This operation directs the core to import every file in a directory
+	 * into the specified IProject instance and to load each of them as the
+	 * input of a new Item of the specified type. Subdirectories and hidden
+	 * files are ignored. The files are imported in alphabetical order with
+	 * importFilesAsItems().
+	 *
+	 * @param directory
+	 *            The directory whose files should be imported.
+	 * @param itemType
+	 *            The type of Item to create for each file.
+	 * @param project
+	 *            The IProject instance the files will be imported into.
+	 * @param monitor
+	 *            The monitor used to report progress and check for
+	 *            cancellation. It may be null.
+	 * @return The identification numbers of the new Items, ordered like the
+	 *         file names, given as Strings. The id is -1 for files that could
+	 *         not be imported.
+	 */
+	public default ArrayList<String> importDirectoryAsItems(URI directory,
+			String itemType, IProject project, IProgressMonitor monitor) {
+
+		// Local Declarations
+		ArrayList<URI> files = new ArrayList<URI>();
+
+		// Collect the regular files in the directory
+		File[] contents = (directory != null) ? new File(directory).listFiles()
+				: null;
+		if (contents != null) {
+			Arrays.sort(contents);
+			for (File file : contents) {
+				if (file.isFile() && !file.isHidden()) {
+					files.add(file.toURI());
+				}
+			}
+		}
+
+		return importFilesAsItems(files, itemType, project, monitor);
+	}
+
 	/**
 	 * This operation directs the core to rename the Item given by itemID.
 	 * 
@@ -13,15 +13,22 @@ package org.eclipse.ice.core.internal;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.inject.Inject;
@@ -38,6 +45,8 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.ice.core.iCore.ICore;
@@ -1008,49 +1017,12 @@ public class Core extends Application implements ICore, BundleActivator {
 	public void importFile(URI file, IProject project) {
 		// Only do this if the file is good
 		if (file != null) {
-			// Get the file handle
-			IPath path = (new Path(file.toString()));
-			IFile fileInProject = project.getFile(path.lastSegment());
-			// Get the paths and convert them to strings
-			IPath fullPathInProject = fileInProject.getLocation();
-			String path1 = path.toString(), path2 = fullPathInProject.toString();
-			// Remove devices ids and other such things from the path strings
-			path1 = path1.substring(path1.lastIndexOf(":") + 1);
-			path2 = path2.substring(path2.lastIndexOf(":") + 1);
-			// Only manipulate the file if it is not already in the workspace.
-			// It is completely reasonable to stick the file in the workspace
-			// and then "import" it, so a simple check here relieves some
-			// heartburn I would no doubt otherwise endure.
-			if (!path1.equals(path2)) {
-				// If the project space contains a file by the same name, but
-				// with a different absolute path, delete that file.
-				if (fileInProject.exists()) {
-					try {
-						fileInProject.delete(true, null);
-					} catch (CoreException e) {
-						// Complain and don't do anything else.
-						logger.info("Core Message: " + "Unable to import file.");
-						logger.error(getClass().getName() + " Exception!", e);
-						return;
-					}
-				}
-				try {
-					// Open a stream of the file
-					FileInputStream fileStream = new FileInputStream(new File(file));
-					// Import the file
-					fileInProject.create(fileStream, true, null);
-				} catch (FileNotFoundException e) {
-					// Complain and don't do anything else.
-					logger.info("Core Message: " + "Unable to import file.");
-					logger.error(getClass().getName() + " Exception!", e);
-					return;
-				} catch (CoreException e) {
-					// Complain and don't do anything else.
-					logger.info("Core Message: " + "Unable to import file.");
-					logger.error(getClass().getName() + " Exception!", e);
-					return;
-				}
+			// Copy the file into the project
+			IFile fileInProject = copyIntoProject(file, project);
+			if (fileInProject == null) {
+				return;
 			}
+
 			// Refresh all of the Items
 			itemManager.reloadItemData();
 
@@ -1064,6 +1036,192 @@ public class Core extends Application implements ICore, BundleActivator {
 
 	}
 
+	/**
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.ice.core.iCore.ICore#importFilesAsItems(java.util.List,
+	 *      java.lang.String, org.eclipse.core.resources.IProject,
+	 *      org.eclipse.core.runtime.IProgressMonitor)
+	 */
+	@Override
+	public ArrayList<String> importFilesAsItems(List<URI> files, String itemType, IProject project,
+			IProgressMonitor monitor) {
+
+		// Local Declarations
+		ArrayList<String> ids = new ArrayList<String>();
+		IProgressMonitor progress = (monitor != null) ? monitor : new NullProgressMonitor();
+
+		// Nothing can be imported without files and a project
+		if (files == null || files.isEmpty() || project == null) {
+			return ids;
+		}
+
+		// Each file is copied and then loaded, so there are two units of work
+		// per file.
+		int numFiles = files.size();
+		progress.beginTask("Importing " + numFiles + " files", 2 * numFiles);
+
+		// Files with the same name replace each other in the project, so they
+		// are imported in rounds in which each name appears only once. Each
+		// Item then loads its own file, as it would if the files were imported
+		// one at a time.
+		ArrayList<List<Integer>> rounds = new ArrayList<List<Integer>>();
+		HashMap<String, Integer> occurrences = new HashMap<String, Integer>();
+		for (int i = 0; i < numFiles; i++) {
+			ids.add("-1");
+			if (files.get(i) != null) {
+				String name = new Path(files.get(i).toString()).lastSegment();
+				Integer count = occurrences.get(name);
+				int round = (count != null) ? count : 0;
+				occurrences.put(name, round + 1);
+				if (round == rounds.size()) {
+					rounds.add(new ArrayList<Integer>());
+				}
+				rounds.get(round).add(i);
+			} else {
+				progress.worked(2);
+			}
+		}
+
+		int numThreads = Math.min(numFiles, Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		boolean imported = false;
+		try {
+			for (List<Integer> round : rounds) {
+				// Copy the files into the project in parallel. The index of
+				// each file is returned so that the order is kept.
+				final IFile[] importedFiles = new IFile[round.size()];
+				CompletionService<Integer> copier = new ExecutorCompletionService<Integer>(executor);
+				for (int i = 0; i < round.size(); i++) {
+					final int index = i;
+					final URI file = files.get(round.get(i));
+					copier.submit(new Callable<Integer>() {
+						@Override
+						public Integer call() throws Exception {
+							importedFiles[index] = copyIntoProject(file, project);
+							return index;
+						}
+					});
+				}
+				for (int i = 0; i < round.size(); i++) {
+					copier.take().get();
+					progress.worked(1);
+				}
+				if (progress.isCanceled()) {
+					logger.info("Core Message: Import canceled.");
+					return ids;
+				}
+				for (int i = 0; i < round.size(); i++) {
+					if (importedFiles[i] == null) {
+						logger.info("Core Message: Unable to copy " + files.get(round.get(i))
+								+ " into the project, so none of the files were imported.");
+						return ids;
+					}
+				}
+
+				// Create the Items and load the files in parallel
+				ArrayList<String> filenames = new ArrayList<String>(round.size());
+				for (IFile importedFile : importedFiles) {
+					filenames.add((importedFile != null) ? importedFile.getName() : null);
+				}
+				ArrayList<Integer> roundIds = itemManager.createItems(filenames, itemType, project, executor,
+						progress);
+				for (int i = 0; i < round.size(); i++) {
+					ids.set(round.get(i), String.valueOf(roundIds.get(i)));
+				}
+				if (roundIds.contains(-1)) {
+					logger.info("Core Message: Unable to create " + itemType
+							+ " Items, so none of the files were imported.");
+					return ids;
+				}
+			}
+			imported = true;
+
+			// Refresh all of the Items once for the whole batch
+			itemManager.reloadItemData();
+			logger.info("Core Message: Imported " + numFiles + " files as " + itemType + " Items.");
+		} catch (InterruptedException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			logger.info("Core Message: Unable to import the files.");
+			logger.error(getClass().getName() + " Exception!", e.getCause());
+		} finally {
+			executor.shutdownNow();
+			// The import is all or nothing, so remove the Items from earlier
+			// rounds if it failed or was canceled.
+			if (!imported) {
+				for (int i = 0; i < numFiles; i++) {
+					int id = Integer.parseInt(ids.get(i));
+					if (id > 0) {
+						itemManager.deleteItem(id);
+					}
+					ids.set(i, "-1");
+				}
+			}
+			progress.done();
+		}
+
+		return ids;
+	}
+
+	/**
+	 * This operation copies a file into the project unless it is already
+	 * there. A file with the same name, but a different absolute path, is
+	 * replaced. It may be called from multiple threads.
+	 *
+	 * @param file
+	 *            The file to copy.
+	 * @param project
+	 *            The project into which it should be copied.
+	 * @return The file in the project or null if it could not be copied.
+	 */
+	private IFile copyIntoProject(URI file, IProject project) {
+		// Get the file handle
+		IPath path = (new Path(file.toString()));
+		IFile fileInProject = project.getFile(path.lastSegment());
+		// Get the paths and convert them to strings
+		IPath fullPathInProject = fileInProject.getLocation();
+		String path1 = path.toString(), path2 = fullPathInProject.toString();
+		// Remove devices ids and other such things from the path strings
+		path1 = path1.substring(path1.lastIndexOf(":") + 1);
+		path2 = path2.substring(path2.lastIndexOf(":") + 1);
+		// Only manipulate the file if it is not already in the workspace.
+		// It is completely reasonable to stick the file in the workspace
+		// and then "import" it, so a simple check here relieves some
+		// heartburn I would no doubt otherwise endure.
+		if (!path1.equals(path2)) {
+			// If the project space contains a file by the same name, but
+			// with a different absolute path, delete that file.
+			if (fileInProject.exists()) {
+				try {
+					fileInProject.delete(true, null);
+				} catch (CoreException e) {
+					// Complain and don't do anything else.
+					logger.info("Core Message: " + "Unable to import file.");
+					logger.error(getClass().getName() + " Exception!", e);
+					return null;
+				}
+			}
+			// Open a stream of the file and import it
+			try (FileInputStream fileStream = new FileInputStream(new File(file))) {
+				fileInProject.create(fileStream, true, null);
+			} catch (IOException e) {
+				// Complain and don't do anything else.
+				logger.info("Core Message: " + "Unable to import file.");
+				logger.error(getClass().getName() + " Exception!", e);
+				return null;
+			} catch (CoreException e) {
+				// Complain and don't do anything else.
+				logger.info("Core Message: " + "Unable to import file.");
+				logger.error(getClass().getName() + " Exception!", e);
+				return null;
+			}
+		}
+
+		return fileInProject;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -16,10 +16,19 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.ice.datastructures.ICEObject.ContentHash;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
 import org.eclipse.ice.datastructures.form.Form;
 import org.eclipse.ice.datastructures.form.FormStatus;
@@ -116,6 +125,13 @@ public class ItemManager implements ItemListener {
 	 */
 	private IPersistenceProvider provider;
 
+	/**
+	 * The content hashes of the Forms and the status of the Items when they
+	 * were last written by updateItem(). The keys are the Item ids. It is used
+	 * to skip writing Items that did not change.
+	 */
+	private HashMap<Integer, Long> updatedHashes;
+
 	/**
 	 * The project space from which Items were loaded from the persistence
 	 * provider.
@@ -138,6 +154,7 @@ public class ItemManager implements ItemListener {
 		itemBuilderList = new HashMap<String, ItemBuilder>();
 		compositeBuilders = new ArrayList<ICompositeItemBuilder>();
 		itemList = new HashMap<Integer, Item>();
+		updatedHashes = new HashMap<Integer, Long>();
 
 	}
 
@@ -174,41 +191,9 @@ public class ItemManager implements ItemListener {
 	 */
 	public int createItem(String newItemType, IProject project) {
 
-		// Local Declarations
-		int retVal = -1;
-		Item item = null;
-
-		// Create the new Item if the type is valid by doing a linear search
-		// across the map. This shouldn't be too expensive, for now, because the
-		// list of items is small.
-		if (newItemType != null) {
-			for (ItemBuilder i : itemBuilderList.values()) {
-				if (i.getItemName().equals(newItemType)) {
-					item = i.build(project);
-				}
-			}
-		}
-
-		// Set the Item's id if it was created, add it to the list and
-		// update the return value.
-		if (item != null) {
-			// Set the id to a previously used id if one is available
-			if (!(reusableIds.isEmpty())) {
-				item.setId(reusableIds.get(0));
-				reusableIds.remove(0);
-			} else {
-				// Set the id to the next sequential id
-				item.setId(nextSequentialId);
-				// Update the next sequential id
-				++nextSequentialId;
-			}
-			// Register as an observer of the Item
-			item.addListener(this);
-			// Add the Item to the list
-			itemList.put(item.getId(), item);
-			// Set the return value to the Item's id
-			retVal = item.getId();
-		}
+		// Create the Item and get its id
+		Item item = buildItem(newItemType, project);
+		int retVal = (item != null) ? item.getId() : -1;
 
 		// If the provider exists, persist to the provider
 		if (provider != null) {
@@ -281,6 +266,153 @@ public class ItemManager implements ItemListener {
 		return itemId;
 	}
 
+	/**
+	 * This operation creates a new Item of type itemType for each of the files
+	 * and loads the file as its input. It is the batch version of
+	 * createItem(String, String, IProject) that is used to import many files
+	 * at once.
+	 * <p>
+	 * The Items are built and given ids on the calling thread, but their
+	 * inputs, which may be expensive to parse, are loaded in parallel on the
+	 * executor. The Items are only persisted, in a single batch, after all of
+	 * them have been loaded. If any input fails to load, the other loads are
+	 * canceled and none of the new Items are kept. The discarded Items are
+	 * unregistered and disposed.
+	 * </p>
+	 *
+	 * @param filenames
+	 *            The files that should be loaded, which should be in the
+	 *            project space. Null entries are skipped.
+	 * @param itemType
+	 *            The type of Item to create.
+	 * @param project
+	 *            The Eclipse project where the newly created Items should
+	 *            store files and search for other resources.
+	 * @param executor
+	 *            The executor on which the inputs are loaded.
+	 * @param monitor
+	 *            The monitor that is notified as each input is loaded. It is
+	 *            only called from the calling thread.
+	 * @return The ids of the new Items in the same order as the files, or -1
+	 *         for files whose Items could not be created.
+	 * @throws ExecutionException
+	 *             Thrown when an input could not be loaded. Its cause is the
+	 *             exception thrown by the Item.
+	 * @throws InterruptedException
+	 *             Thrown when the calling thread is interrupted while waiting
+	 *             for the inputs to load.
+	 */
+	public ArrayList<Integer> createItems(List<String> filenames,
+			String itemType, IProject project, ExecutorService executor,
+			IProgressMonitor monitor)
+			throws ExecutionException, InterruptedException {
+
+		// Local Declarations
+		ArrayList<Integer> ids = new ArrayList<Integer>(filenames.size());
+		ArrayList<Item> items = new ArrayList<Item>();
+		ArrayList<Future<Item>> loads = new ArrayList<Future<Item>>();
+		CompletionService<Item> loader = new ExecutorCompletionService<Item>(
+				executor);
+
+		// Build the Items here since the ids and maps are not thread safe,
+		// then queue up their inputs
+		for (final String filename : filenames) {
+			final Item item = (filename != null)
+					? buildItem(itemType, project) : null;
+			ids.add((item != null) ? item.getId() : -1);
+			if (item != null) {
+				items.add(item);
+				loads.add(loader.submit(new Callable<Item>() {
+					@Override
+					public Item call() throws Exception {
+						item.loadInput(filename);
+						return item;
+					}
+				}));
+			}
+		}
+
+		// Wait for the inputs to load
+		boolean loaded = false;
+		try {
+			for (int i = 0; i < items.size(); i++) {
+				loader.take().get();
+				monitor.worked(1);
+			}
+			loaded = true;
+		} finally {
+			// Throw away the whole batch if any input could not be loaded
+			if (!loaded) {
+				for (Future<Item> load : loads) {
+					load.cancel(true);
+				}
+				for (Item item : items) {
+					item.removeListener(this);
+					item.dispose();
+					itemList.remove(item.getId());
+					updatedHashes.remove(item.getId());
+					reusableIds.add(item.getId());
+				}
+			}
+		}
+
+		// Persist all of the new Items at once
+		if (provider != null && !items.isEmpty()) {
+			logger.info("ItemManager Message: Persisting " + items.size()
+					+ " Items with the provider");
+			provider.persistItems(items);
+		}
+
+		return ids;
+	}
+
+	/**
+	 * This operation builds a new Item of the given type, gives it an id and
+	 * adds it to the managed Items. It does not persist the Item.
+	 *
+	 * @param newItemType
+	 *            The type of new Item to create.
+	 * @param project
+	 *            The Eclipse project for the new Item.
+	 * @return The new Item or null if the type is not available.
+	 */
+	private Item buildItem(String newItemType, IProject project) {
+
+		// Local Declarations
+		Item item = null;
+
+		// Create the new Item if the type is valid by doing a linear search
+		// across the map. This shouldn't be too expensive, for now, because the
+		// list of items is small.
+		if (newItemType != null) {
+			for (ItemBuilder i : itemBuilderList.values()) {
+				if (i.getItemName().equals(newItemType)) {
+					item = i.build(project);
+				}
+			}
+		}
+
+		// Set the Item's id if it was created and add it to the list
+		if (item != null) {
+			// Set the id to a previously used id if one is available
+			if (!(reusableIds.isEmpty())) {
+				item.setId(reusableIds.get(0));
+				reusableIds.remove(0);
+			} else {
+				// Set the id to the next sequential id
+				item.setId(nextSequentialId);
+				// Update the next sequential id
+				++nextSequentialId;
+			}
+			// Register as an observer of the Item
+			item.addListener(this);
+			// Add the Item to the list
+			itemList.put(item.getId(), item);
+		}
+
+		return item;
+	}
+
 	/**
 	 * <p>
 	 * This operation retrieves the Form that represents the Item with id equal
@@ -890,7 +1022,8 @@ public class ItemManager implements ItemListener {
 	 * </p>
 	 * <p>
 	 * The ItemManager will call the persistence provider to update the Item
-	 * when this operation is called.
+	 * when this operation is called, unless the content hash of the Form and
+	 * the status of the Item are the same as the last time that it did so.
 	 * </p>
 	 *
 	 * @param form
@@ -924,7 +1057,22 @@ public class ItemManager implements ItemListener {
 		if ((status.equals(FormStatus.Processed)
 				|| status.equals(FormStatus.ReadyToProcess))
 				&& provider != null) {
-			provider.updateItem(currentItem);
+			// Skip the write if nothing changed since the last one. This is
+			// only known if the content hash covers every Component.
+			long hash = ContentHash.add(form.getContentHash(),
+					(long) status.ordinal());
+			Long updatedHash = updatedHashes.get(id);
+			if (!form.hasTrackedContent()) {
+				provider.updateItem(currentItem);
+				updatedHashes.remove(id);
+			} else if (updatedHash == null
+					|| updatedHash.longValue() != hash) {
+				provider.updateItem(currentItem);
+				updatedHashes.put(id, hash);
+			} else {
+				logger.debug("ItemManager Message: Item " + id
+						+ " is unchanged and was not updated.");
+			}
 		}
 
 		return status;
@@ -1025,8 +1173,13 @@ public class ItemManager implements ItemListener {
 								+ " " + item.getId() + " from provider");
 				provider.deleteItem(itemList.get(itemID));
 			}
-			// Remove the Item from the list
-			retVal = (this.itemList.remove(itemID) != null || false);
+			// Remove the Item from the list and let it release its resources
+			Item removedItem = itemList.remove(itemID);
+			retVal = (removedItem != null);
+			if (retVal) {
+				removedItem.dispose();
+			}
+			updatedHashes.remove(itemID);
 			// Add the id to the list so that it can be reused
 			reusableIds.add(itemID);
 		}
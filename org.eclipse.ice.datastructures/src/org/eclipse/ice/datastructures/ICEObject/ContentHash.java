@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.ICEObject;
+
+/**
+ * This class provides the operations that are used to compute the 64-bit
+ * content hashes of ICEObjects and Entries. The hash of a container is made
+ * from the hashes of its parts, like a Merkle tree, so two objects with the
+ * same content have the same hash and a container only needs to combine the
+ * cached hashes of the parts that did not change.
+ * <p>
+ * Each ICEObject and Entry counts the changes to its own content and caches
+ * its hash until the count changes. Containers register as an
+ * {@link IContentHashListener} with the parts that they hash, so a change to a
+ * part also makes the hashes of the containers above it stale, but no others.
+ * </p>
+ *
+ * @author UT-Battelle, LLC
+ */
+public final class ContentHash {
+
+	/**
+	 * The hash of an object with no content.
+	 */
+	public static final long SEED = 0xcbf29ce484222325L;
+
+	/**
+	 * The multiplier of the FNV-1a hash.
+	 */
+	private static final long PRIME = 0x100000001b3L;
+
+	/**
+	 * The constructor is private because this class only has static
+	 * operations.
+	 */
+	private ContentHash() {
+	}
+
+	/**
+	 * This operation adds a String to a hash. Null and empty Strings hash
+	 * differently.
+	 *
+	 * @param hash
+	 *            The current hash.
+	 * @param value
+	 *            The String to add.
+	 * @return The new hash.
+	 */
+	public static long add(long hash, String value) {
+		if (value == null) {
+			return add(hash, -1L);
+		}
+		hash = add(hash, (long) value.length());
+		for (int i = 0; i < value.length(); i++) {
+			hash = (hash ^ value.charAt(i)) * PRIME;
+		}
+		return hash;
+	}
+
+	/**
+	 * This operation adds a number, such as the hash of a part, to a hash.
+	 *
+	 * @param hash
+	 *            The current hash.
+	 * @param value
+	 *            The number to add.
+	 * @return The new hash.
+	 */
+	public static long add(long hash, long value) {
+		// Mix the bits of the value so that similar values, like the hashes
+		// of parts that only differ a little, do not cancel out.
+		long mixed = value + 0x9e3779b97f4a7c15L;
+		mixed = (mixed ^ (mixed >>> 30)) * 0xbf58476d1ce4e5b9L;
+		mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+		mixed = mixed ^ (mixed >>> 31);
+		return (hash ^ mixed) * PRIME;
+	}
+
+	/**
+	 * This operation adds a flag to a hash.
+	 *
+	 * @param hash
+	 *            The current hash.
+	 * @param value
+	 *            The flag to add.
+	 * @return The new hash.
+	 */
+	public static long add(long hash, boolean value) {
+		return add(hash, value ? 1L : 0L);
+	}
+
+}
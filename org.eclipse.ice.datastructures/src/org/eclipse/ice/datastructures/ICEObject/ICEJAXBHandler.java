@@ -21,6 +21,8 @@ import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 
+import org.eclipse.ice.datastructures.jaxbclassprovider.JAXBContextRegistry;
+
 /**
  * This class is responsible for reading and writing JAXB-annotated classes into
  * and out of ICE.
@@ -48,7 +50,6 @@ public class ICEJAXBHandler {
 
 		// Initialize local variables
 		JAXBContext context;
-		Class[] clazzArray = {};
 
 		// If the input args are null, throw an exception
 		if (classList == null) {
@@ -60,11 +61,18 @@ public class ICEJAXBHandler {
 					+ "inputStream argument can not be null");
 		}
 
-		// Create new instance of object from file and then return it.
-		context = JAXBContext.newInstance(classList.toArray(clazzArray));
-		Unmarshaller unmarshaller = context.createUnmarshaller();
-		// New object created
-		Object dataFromFile = unmarshaller.unmarshal(inputStream);
+		// Create new instance of object from file and then return it. The
+		// context and unmarshaller are shared with other readers.
+		context = JAXBContextRegistry.getContext(classList);
+		Unmarshaller unmarshaller = JAXBContextRegistry
+				.acquireUnmarshaller(context);
+		Object dataFromFile;
+		try {
+			// New object created
+			dataFromFile = unmarshaller.unmarshal(inputStream);
+		} finally {
+			JAXBContextRegistry.releaseUnmarshaller(context, unmarshaller);
+		}
 
 		// Return object
 		return dataFromFile;
@@ -92,7 +100,6 @@ public class ICEJAXBHandler {
 			JAXBException, IOException {
 
 		JAXBContext jaxbContext = null;
-		Class[] classArray = {};
 
 		// Throw exceptions if input args are null
 		if (dataObject == null) {
@@ -125,13 +132,15 @@ public class ICEJAXBHandler {
 
 		// Create the context and marshal the data if classes were determined
 		if (classList.size() > 0) {
-			jaxbContext = JAXBContext
-					.newInstance(classList.toArray(classArray));
-			Marshaller marshaller = jaxbContext.createMarshaller();
-			marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT,
-					Boolean.TRUE);
-			// Write to file
-			marshaller.marshal(dataObject, outputStream);
+			jaxbContext = JAXBContextRegistry.getContext(classList);
+			Marshaller marshaller = JAXBContextRegistry
+					.acquireMarshaller(jaxbContext);
+			try {
+				// Write to file
+				marshaller.marshal(dataObject, outputStream);
+			} finally {
+				JAXBContextRegistry.releaseMarshaller(jaxbContext, marshaller);
+			}
 		}
 
 		return;
@@ -13,6 +13,7 @@
 package org.eclipse.ice.datastructures.ICEObject;
 
 import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -99,6 +100,32 @@ public class ICEObject implements IUpdateable {
 	@XmlTransient
 	protected ArrayList<IUpdateableListener> listeners;
 
+	/**
+	 * The number of changes made to the content of the ICEObject.
+	 */
+	@XmlTransient
+	private volatile long contentVersion;
+
+	/**
+	 * The content hash of the ICEObject when it was last computed.
+	 */
+	@XmlTransient
+	private long contentHash;
+
+	/**
+	 * The content version when the content hash was last computed or -1 if it
+	 * has not been computed.
+	 */
+	@XmlTransient
+	private long hashedVersion = -1;
+
+	/**
+	 * The containers that combine the content hash of this ICEObject into
+	 * their own. It is created when the first one registers.
+	 */
+	@XmlTransient
+	private volatile CopyOnWriteArrayList<IContentHashListener> contentHashListeners;
+
 	/**
 	 * The Constructor
 	 */
@@ -217,6 +244,8 @@ public class ICEObject implements IUpdateable {
 		uniqueId = entity.uniqueId;
 		context = entity.context;
 
+		contentChanged();
+
 		return;
 	}
 
@@ -226,6 +255,10 @@ public class ICEObject implements IUpdateable {
 	 */
 	protected void notifyListeners() {
 
+		// Every change is notified, so the cached content hash is stale. This
+		// has to happen now since the listeners are notified later.
+		contentChanged();
+
 		// Only process the update if there are listeners
 		if (listeners != null && !listeners.isEmpty()) {
 			// Create a thread on which to notify the listeners.
@@ -247,6 +280,139 @@ public class ICEObject implements IUpdateable {
 		return;
 	}
 
+	/**
+	 * This operation returns a 64-bit hash of the content of the ICEObject.
+	 * ICEObjects that are equal have the same content hash and a change to the
+	 * content changes the hash, except in the rare case of a collision, so it
+	 * can be used to find out if an ICEObject changed since the last time that
+	 * it was looked at or if two ICEObjects are likely to be the same without
+	 * comparing them.
+	 * <p>
+	 * If {@link #isContentTracked()} is true, the hash is cached until the
+	 * ICEObject or one of the parts that it hashes changes, so checking an
+	 * unchanged ICEObject is O(1). Containers combine the hashes of their
+	 * parts, which are cached in the same way, so only the parts that changed
+	 * are hashed again.
+	 * </p>
+	 * 
+	 * @return The content hash.
+	 */
+	public long getContentHash() {
+
+		// Read the version first so that a change made while the hash is
+		// computed is found the next time.
+		long version = contentVersion;
+		synchronized (this) {
+			if (version == hashedVersion && isContentTracked()) {
+				return contentHash;
+			}
+		}
+
+		// Compute the hash without holding the lock since the parts are
+		// hashed too
+		long hash = computeContentHash();
+		synchronized (this) {
+			contentHash = hash;
+			hashedVersion = version;
+		}
+
+		return hash;
+	}
+
+	/**
+	 * This operation records that the content of the ICEObject changed, so
+	 * that its content hash and the hashes of the containers that registered
+	 * with {@link #registerContentHashListener(IContentHashListener)} are
+	 * computed again. Subclasses must call it after they change their content
+	 * without calling notifyListeners().
+	 */
+	protected void contentChanged() {
+
+		synchronized (this) {
+			contentVersion++;
+		}
+
+		// Tell the containers on this thread
+		CopyOnWriteArrayList<IContentHashListener> containers = contentHashListeners;
+		if (containers != null) {
+			for (IContentHashListener container : containers) {
+				container.partChanged(this);
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation registers a container that combines the content hash of
+	 * this ICEObject into its own. It is told about every change to the
+	 * content of the ICEObject. Registering the same container again does
+	 * nothing.
+	 * 
+	 * @param listener
+	 *            The container.
+	 */
+	public void registerContentHashListener(IContentHashListener listener) {
+
+		if (listener != null) {
+			synchronized (this) {
+				if (contentHashListeners == null) {
+					contentHashListeners = new CopyOnWriteArrayList<IContentHashListener>();
+				}
+			}
+			contentHashListeners.addIfAbsent(listener);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation unregisters a container that no longer contains this
+	 * ICEObject.
+	 * 
+	 * @param listener
+	 *            The container.
+	 */
+	public void unregisterContentHashListener(IContentHashListener listener) {
+
+		CopyOnWriteArrayList<IContentHashListener> containers = contentHashListeners;
+		if (containers != null) {
+			containers.remove(listener);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation computes the content hash of the ICEObject. The default
+	 * implementation uses the identity of the ICEObject and hashCode(), which
+	 * works for every subclass that overrides hashCode() for its content.
+	 * Containers should override it to combine the content hashes of their
+	 * parts instead.
+	 * 
+	 * @return The content hash.
+	 */
+	protected long computeContentHash() {
+		long hash = ContentHash.add(ContentHash.SEED, getClass().getName());
+		hash = ContentHash.add(hash, (long) uniqueId);
+		hash = ContentHash.add(hash, objectName);
+		hash = ContentHash.add(hash, objectDescription);
+		return ContentHash.add(hash, (long) hashCode());
+	}
+
+	/**
+	 * This operation returns true if every change to the content of the
+	 * ICEObject is recorded with {@link #contentChanged()} so that its
+	 * content hash can be cached. It is false by default because subclasses
+	 * can change their content without notifying their listeners, in which
+	 * case the hash is computed every time that it is requested.
+	 * 
+	 * @return True if the content hash can be cached, false otherwise.
+	 */
+	public boolean isContentTracked() {
+		return false;
+	}
+
 	/**
 	 * This operation returns a clone of the ICEObject using a deep copy.
 	 * 
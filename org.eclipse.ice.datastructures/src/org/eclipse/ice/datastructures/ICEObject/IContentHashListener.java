@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.ICEObject;
+
+/**
+ * The IContentHashListener interface is realized by containers that combine
+ * the content hashes of their parts into their own. A part tells these
+ * listeners that its content changed right away, on the thread that changed
+ * it, so that the container knows that its cached hash is stale. The regular
+ * listener notifications are delivered later on other threads and can not be
+ * used for this.
+ *
+ * @author UT-Battelle, LLC
+ */
+public interface IContentHashListener {
+
+	/**
+	 * This operation notifies the listener that the content of one of its
+	 * parts changed.
+	 *
+	 * @param part
+	 *            The ICEObject or Entry that changed.
+	 */
+	public void partChanged(Object part);
+
+}
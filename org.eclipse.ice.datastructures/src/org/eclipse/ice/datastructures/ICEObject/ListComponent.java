@@ -11,8 +11,13 @@
  *******************************************************************************/
 package org.eclipse.ice.datastructures.ICEObject;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +34,7 @@ import ca.odell.glazedlists.TransformedList;
 import ca.odell.glazedlists.event.ListEvent;
 import ca.odell.glazedlists.event.ListEventListener;
 import ca.odell.glazedlists.gui.WritableTableFormat;
+import ca.odell.glazedlists.util.concurrent.Lock;
 
 /**
  * This is a base class for Components that are based on lists. Its primary
@@ -73,6 +79,21 @@ import ca.odell.glazedlists.gui.WritableTableFormat;
  * sure that the source list was registered. The TransformedList by defaults
  * registers listeners against itself, not the source, but it processes all of
  * the list additions, etc., through the source.
+ * <p>
+ * All of the edits made through this class hold the write lock of the source
+ * list from {@link #getReadWriteLock()}. Many edits can be made at once with
+ * {@link #batch(Consumer)}, which holds the write lock for all of them and
+ * notifies listeners with a single event. Other threads can read the list
+ * safely with {@link #snapshot()}.
+ * </p>
+ * <p>
+ * Listeners are notified on the thread that edits the list while it still
+ * holds the write lock, because a GlazedLists ListEvent is only valid until
+ * the list changes again. Listeners must therefore not wait for another
+ * thread that reads or edits the list. For example, a listener that updates
+ * a UI should use Display.asyncExec() instead of Display.syncExec(), since
+ * the UI thread would block on the read lock of the list.
+ * </p>
  * 
  * @author Jay Jay Billings
  * 
@@ -148,7 +169,7 @@ public class ListComponent<T> extends TransformedList<T, T>
 	 * and sets the source list to an empty BasicEventList.
 	 */
 	public ListComponent() {
-		this(new BasicEventList<T>());
+		this(new BatchEventList<T>());
 	}
 
 	/**
@@ -202,9 +223,72 @@ public class ListComponent<T> extends TransformedList<T, T>
 		// Copy the identity
 		idList.clear();
 		idList.addAll(list.idList);
-		// Copy the list
-		clear();
-		addAll(list);
+		// Copy the list in one event
+		final List<T> elements = list.snapshot();
+		batch(new Consumer<List<T>>() {
+			@Override
+			public void accept(List<T> edits) {
+				edits.clear();
+				edits.addAll(elements);
+			}
+		});
+	}
+
+	/**
+	 * This operation makes a set of edits to the list while holding its write
+	 * lock. Listeners are notified of all of the edits with a single event
+	 * after they are made, which is much cheaper than an event for each edit
+	 * when many elements are added or removed. Batches can be nested, in
+	 * which case the event is posted when the outermost batch is done.
+	 * 
+	 * @param edits
+	 *            The edits to make. They are given this list and should only
+	 *            use it on the calling thread.
+	 */
+	public void batch(Consumer<? super List<T>> edits) {
+
+		Lock lock = source.getReadWriteLock().writeLock();
+		lock.lock();
+		try {
+			// Only lists made by this class can combine their events
+			BatchEventList<T> batchList = (source instanceof BatchEventList)
+					? (BatchEventList<T>) source : null;
+			if (batchList != null) {
+				batchList.beginBatch();
+			}
+			try {
+				edits.accept(this);
+			} finally {
+				if (batchList != null) {
+					batchList.commitBatch();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation returns a copy of the elements in the list that is taken
+	 * while holding the read lock of the list. It is safe to iterate over the
+	 * copy on any thread while the list is being edited.
+	 * 
+	 * @return An unmodifiable copy of the list.
+	 */
+	public List<T> snapshot() {
+
+		List<T> elements;
+		Lock lock = source.getReadWriteLock().readLock();
+		lock.lock();
+		try {
+			elements = new ArrayList<T>(source);
+		} finally {
+			lock.unlock();
+		}
+
+		return Collections.unmodifiableList(elements);
 	}
 
 	/**
@@ -251,6 +335,10 @@ public class ListComponent<T> extends TransformedList<T, T>
 
 	/**
 	 * @see IUpdateable#register(IUpdateableListener listener)
+	 * <p>
+	 * The listener is updated while the write lock of the list is held, so it
+	 * must not wait for another thread that reads or edits the list.
+	 * </p>
 	 */
 	@Override
 	public void register(IUpdateableListener listener) {
@@ -334,6 +422,146 @@ public class ListComponent<T> extends TransformedList<T, T>
 		}
 	}
 
+	/**
+	 * @see java.util.List#add(Object)
+	 */
+	@Override
+	public boolean add(T value) {
+		Lock lock = source.getReadWriteLock().writeLock();
+		lock.lock();
+		try {
+			return super.add(value);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @see TransformedList#add(int, Object)
+	 */
+	@Override
+	public void add(int index, T value) {
+		Lock lock = source.getReadWriteLock().writeLock();
+		lock.lock();
+		try {
+			super.add(index, value);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @see java.util.List#addAll(Collection)
+	 */
+	@Override
+	public boolean addAll(Collection<? extends T> values) {
+		Lock lock = source.getReadWriteLock().writeLock();
+		lock.lock();
+		try {
+			return super.addAll(values);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @see TransformedList#addAll(int, Collection)
+	 */
+	@Override
+	public boolean addAll(int index, Collection<? extends T> values) {
+		Lock lock = source.getReadWriteLock().writeLock();
+		lock.lock();
+		try {
+			return super.addAll(index, values);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @see TransformedList#set(int, Object)
+	 */
+	@Override
+	public T set(int index, T value) {
+		Lock lock = source.getReadWriteLock().writeLock();
+		lock.lock();
+		try {
+			return super.set(index, value);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @see TransformedList#remove(int)
+	 */
+	@Override
+	public T remove(int index) {
+		Lock lock = source.getReadWriteLock().writeLock();
+		lock.lock();
+		try {
+			return super.remove(index);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @see java.util.List#remove(Object)
+	 */
+	@Override
+	public boolean remove(Object value) {
+		Lock lock = source.getReadWriteLock().writeLock();
+		lock.lock();
+		try {
+			return super.remove(value);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @see TransformedList#removeAll(Collection)
+	 */
+	@Override
+	public boolean removeAll(Collection<?> values) {
+		Lock lock = source.getReadWriteLock().writeLock();
+		lock.lock();
+		try {
+			return super.removeAll(values);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @see TransformedList#retainAll(Collection)
+	 */
+	@Override
+	public boolean retainAll(Collection<?> values) {
+		Lock lock = source.getReadWriteLock().writeLock();
+		lock.lock();
+		try {
+			return super.retainAll(values);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @see TransformedList#clear()
+	 */
+	@Override
+	public void clear() {
+		Lock lock = source.getReadWriteLock().writeLock();
+		lock.lock();
+		try {
+			super.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
 	/**
 	 * @see TransformedList#listChanged(ListEvent)
 	 */
@@ -520,6 +748,10 @@ public class ListComponent<T> extends TransformedList<T, T>
 	 * ListComponent also registers the listener to the underlying source list.
 	 * Effectively, this method can be used to register glazed list listeners.
 	 * </p>
+	 * <p>
+	 * The listener is notified while the write lock of the list is held, so it
+	 * must not wait for another thread that reads or edits the list.
+	 * </p>
 	 */
 	@Override
 	public void addListEventListener(
@@ -569,4 +801,35 @@ public class ListComponent<T> extends TransformedList<T, T>
 		idList.set(3, context);
 	}
 
+	/**
+	 * This class is the source list of ListComponents. It can combine the
+	 * events of many edits into a single event.
+	 * 
+	 * @param <E>
+	 *            The type of the elements in the list.
+	 */
+	static class BatchEventList<E> extends BasicEventList<E> {
+
+		/**
+		 * The version number for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * This operation starts a batch of edits. The events of the edits are
+		 * combined until the batch is committed. The write lock must be held.
+		 */
+		void beginBatch() {
+			updates.beginEvent(true);
+		}
+
+		/**
+		 * This operation commits a batch of edits and notifies listeners of
+		 * all of them, unless the batch is nested in another one.
+		 */
+		void commitBatch() {
+			updates.commitEvent();
+		}
+	}
+
 }
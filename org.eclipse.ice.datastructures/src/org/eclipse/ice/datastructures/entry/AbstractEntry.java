@@ -15,7 +15,9 @@ package org.eclipse.ice.datastructures.entry;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
@@ -23,6 +25,8 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
 
+import org.eclipse.ice.datastructures.ICEObject.ContentHash;
+import org.eclipse.ice.datastructures.ICEObject.IContentHashListener;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
@@ -38,6 +42,12 @@ import org.slf4j.LoggerFactory;
  * 
  * It defers implementation for entry-type-specific operations to subclasses.
  * 
+ * Large Forms, such as MOOSE input trees, hold hundreds of thousands of
+ * Entries, so Entries are kept compact. The list of listeners is only created
+ * when the first listener is registered, and the names, descriptions and
+ * default values are interned so that the many Entries that describe the same
+ * parameter share them.
+ * 
  * @author Alex McCaskey
  *
  */
@@ -68,7 +78,8 @@ public abstract class AbstractEntry implements IEntry {
 	protected String objectDescription;
 
 	/**
-	 * The set of IUpdateableListeners observing the ICEObject.
+	 * The set of IUpdateableListeners observing the ICEObject. It is null
+	 * until the first listener is registered.
 	 */
 	@XmlTransient
 	protected ArrayList<IUpdateableListener> listeners;
@@ -145,6 +156,32 @@ public abstract class AbstractEntry implements IEntry {
 	 */
 	@XmlAttribute()
 	protected boolean isSecret = false;
+
+	/**
+	 * The number of changes made to the content of this Entry.
+	 */
+	@XmlTransient
+	private volatile long contentVersion;
+
+	/**
+	 * The content hash of this Entry when it was last computed.
+	 */
+	@XmlTransient
+	private long contentHash;
+
+	/**
+	 * The content version when the content hash was last computed or -1 if
+	 * it has not been computed.
+	 */
+	@XmlTransient
+	private long hashedVersion = -1;
+
+	/**
+	 * The containers that combine the content hash of this Entry into their
+	 * own. It is created when the first one registers.
+	 */
+	@XmlTransient
+	private volatile CopyOnWriteArrayList<IContentHashListener> contentHashListeners;
 	
 	/**
 	 * The Constructor
@@ -160,7 +197,6 @@ public abstract class AbstractEntry implements IEntry {
 		objectName = "ICE Entry";
 		objectDescription = "ICE Entry";
 		contextId = "default";
-		listeners = new ArrayList<IUpdateableListener>();
 		defaultValue = "";
 		value = "";
 		comment = "";
@@ -204,7 +240,7 @@ public abstract class AbstractEntry implements IEntry {
 	public void setName(String name) {
 
 		if (name != null) {
-			objectName = name;
+			changeName(name.intern());
 			// Notify the listeners that the object has changed.
 			notifyListeners();
 		}
@@ -231,7 +267,7 @@ public abstract class AbstractEntry implements IEntry {
 	public void setDescription(String description) {
 
 		if (description != null) {
-			objectDescription = description;
+			objectDescription = description.intern();
 			// Notify the listeners that the object has changed.
 			notifyListeners();
 		}
@@ -265,7 +301,7 @@ public abstract class AbstractEntry implements IEntry {
 		}
 		// Copy contents of entity to this ICEObject.
 		this.objectDescription = entity.objectDescription;
-		this.objectName = entity.objectName;
+		changeName(entity.objectName);
 		this.uniqueId = entity.uniqueId;
 		this.comment = entity.comment;
 		this.defaultValue = entity.defaultValue;
@@ -276,6 +312,26 @@ public abstract class AbstractEntry implements IEntry {
 		this.tag = entity.tag;
 		this.contextId = entity.contextId;
 
+		contentChanged();
+	}
+
+	/**
+	 * This operation sets the name and tells the listeners that index their
+	 * Entries by name about it. They are told right away because the other
+	 * notifications are delivered asynchronously.
+	 */
+	private void changeName(String name) {
+		String oldName = objectName;
+		objectName = name;
+		if (listeners != null && (oldName == null ? name != null
+				: !oldName.equals(name))) {
+			for (int i = 0; i < listeners.size(); i++) {
+				IUpdateableListener listener = listeners.get(i);
+				if (listener instanceof IEntryNameListener) {
+					((IEntryNameListener) listener).nameChanged(this, oldName);
+				}
+			}
+		}
 	}
 
 	/**
@@ -287,6 +343,10 @@ public abstract class AbstractEntry implements IEntry {
 	 */
 	protected void notifyListeners() {
 
+		// Every change is notified, so the content hash is stale. This has to
+		// happen now since the listeners are notified later.
+		contentChanged();
+
 		// Only process the update if there are listeners
 		if (listeners != null && !listeners.isEmpty()) {
 			// Create a thread on which to notify the listeners.
@@ -308,6 +368,155 @@ public abstract class AbstractEntry implements IEntry {
 		return;
 	}
 
+	/**
+	 * This operation replaces the Strings of the Entry with shared copies.
+	 * It is called after the Entry is read from XML, since the Strings that
+	 * are read are never shared. Subclasses may override it to share their
+	 * own attributes too, but they must call super.compact().
+	 */
+	protected void compact() {
+		if (objectName != null) {
+			objectName = objectName.intern();
+		}
+		if (objectDescription != null) {
+			objectDescription = objectDescription.intern();
+		}
+		if (defaultValue != null) {
+			defaultValue = defaultValue.intern();
+			// Most values were never changed from the default
+			if (defaultValue.equals(value)) {
+				value = defaultValue;
+			}
+		}
+	}
+
+	/**
+	 * This operation is called by JAXB after the Entry is read. It compacts
+	 * the Entry.
+	 * 
+	 * @param unmarshaller
+	 *            The Unmarshaller that read the Entry.
+	 * @param parent
+	 *            The object that contains the Entry.
+	 */
+	private void afterUnmarshal(Unmarshaller unmarshaller, Object parent) {
+		compact();
+	}
+
+	/**
+	 * This operation records that the content of the Entry has changed so
+	 * that its content hash and the hashes of its containers are computed
+	 * again. Subclasses must call it after they change the value or any other
+	 * attribute without calling notifyListeners().
+	 */
+	protected void contentChanged() {
+
+		synchronized (this) {
+			contentVersion++;
+		}
+
+		// Tell the containers on this thread
+		CopyOnWriteArrayList<IContentHashListener> containers = contentHashListeners;
+		if (containers != null) {
+			for (IContentHashListener container : containers) {
+				container.partChanged(this);
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation registers a container that combines the content hash of
+	 * this Entry into its own. It is told about every change to the content
+	 * of the Entry. Registering the same container again does nothing.
+	 * 
+	 * @param listener
+	 *            The container.
+	 */
+	public void registerContentHashListener(IContentHashListener listener) {
+
+		if (listener != null) {
+			synchronized (this) {
+				if (contentHashListeners == null) {
+					contentHashListeners = new CopyOnWriteArrayList<IContentHashListener>();
+				}
+			}
+			contentHashListeners.addIfAbsent(listener);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation unregisters a container that no longer contains this
+	 * Entry.
+	 * 
+	 * @param listener
+	 *            The container.
+	 */
+	public void unregisterContentHashListener(IContentHashListener listener) {
+
+		CopyOnWriteArrayList<IContentHashListener> containers = contentHashListeners;
+		if (containers != null) {
+			containers.remove(listener);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation returns a 64-bit hash of the content of the Entry. The
+	 * hash is cached until the Entry changes, so checking an unchanged Entry
+	 * is O(1).
+	 * 
+	 * @return The content hash.
+	 * @see org.eclipse.ice.datastructures.ICEObject.ICEObject#getContentHash()
+	 */
+	public long getContentHash() {
+
+		// Read the version first so that a change made while the hash is
+		// computed is found the next time.
+		long version = contentVersion;
+		synchronized (this) {
+			if (version == hashedVersion) {
+				return contentHash;
+			}
+		}
+
+		long hash = computeContentHash();
+		synchronized (this) {
+			contentHash = hash;
+			hashedVersion = version;
+		}
+
+		return hash;
+	}
+
+	/**
+	 * This operation computes the content hash of the Entry. It includes the
+	 * identity, value, default value, comment, tag, context and the ready,
+	 * required and secret flags, but not the modified flag and error message,
+	 * which only describe the last edit. Subclasses with more content must add
+	 * it and call {@link #contentChanged()} when it changes.
+	 * 
+	 * @return The content hash.
+	 */
+	protected long computeContentHash() {
+		long hash = ContentHash.add(ContentHash.SEED, getClass().getName());
+		hash = ContentHash.add(hash, (long) uniqueId);
+		hash = ContentHash.add(hash, objectName);
+		hash = ContentHash.add(hash, objectDescription);
+		hash = ContentHash.add(hash, value);
+		hash = ContentHash.add(hash, defaultValue);
+		hash = ContentHash.add(hash, comment);
+		hash = ContentHash.add(hash, tag);
+		hash = ContentHash.add(hash, contextId);
+		hash = ContentHash.add(hash, isReady);
+		hash = ContentHash.add(hash, isRequired);
+		return ContentHash.add(hash, isSecret);
+	}
+
 	/**
 	 * <p>
 	 * This operation returns a clone of the ICEObject using a deep copy.
@@ -413,8 +622,12 @@ public abstract class AbstractEntry implements IEntry {
 	@Override
 	public void register(IUpdateableListener listener) {
 
-		// Register the listener if it is not null
+		// Register the listener if it is not null. Most Entries only have
+		// their container as a listener, so the list starts small.
 		if (listener != null) {
+			if (listeners == null) {
+				listeners = new ArrayList<IUpdateableListener>(1);
+			}
 			listeners.add(listener);
 		}
 		return;
@@ -429,7 +642,8 @@ public abstract class AbstractEntry implements IEntry {
 	public void unregister(IUpdateableListener listener) {
 
 		// Unregister the listener if it is not null and in the list
-		if (listener != null && listeners.contains(listener)) {
+		if (listener != null && listeners != null
+				&& listeners.contains(listener)) {
 			listeners.remove(listener);
 		}
 
@@ -514,10 +728,11 @@ public abstract class AbstractEntry implements IEntry {
 	 */
 	@Override
 	public void setDefaultValue(String value) {
-		defaultValue = value;
+		defaultValue = (value != null) ? value.intern() : null;
 		if (this.value == null || this.value.isEmpty()) {
 			this.value = defaultValue;
 		}
+		contentChanged();
 	}
 
 	/*
@@ -557,6 +772,7 @@ public abstract class AbstractEntry implements IEntry {
 	@Override
 	public void setComment(String comment) {
 		this.comment = comment;
+		contentChanged();
 	}
 
 	/*
@@ -577,6 +793,7 @@ public abstract class AbstractEntry implements IEntry {
 	@Override
 	public void setTag(String tag) {
 		this.tag = tag;
+		contentChanged();
 	}
 
 	/*
@@ -606,6 +823,7 @@ public abstract class AbstractEntry implements IEntry {
 	 */
 	public void setReady(boolean ready) {
 		isReady = ready;
+		contentChanged();
 	}
 
 	/*
@@ -615,6 +833,7 @@ public abstract class AbstractEntry implements IEntry {
 	 */
 	public void setRequired(boolean required) {
 		isRequired = required;
+		contentChanged();
 	}
 
 	/*
@@ -643,6 +862,7 @@ public abstract class AbstractEntry implements IEntry {
 	@Override
 	public void setSecret(boolean secret) {
 		isSecret = secret;
+		contentChanged();
 	}
 	
 	/*
@@ -674,6 +894,7 @@ public abstract class AbstractEntry implements IEntry {
 	@Override
 	public void setContext(String id) {
 		contextId = id;
+		contentChanged();
 	}
 
 	/*
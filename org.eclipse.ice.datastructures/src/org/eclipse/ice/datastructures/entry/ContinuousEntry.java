@@ -103,6 +103,7 @@ public class ContinuousEntry extends DiscreteEntry {
 					&& (newValueDouble.compareTo(lowerBound) != -1 && newValueDouble.compareTo(upperBound) != 1)) {
 				this.value = newValue;
 				errorMessage = null;
+				contentChanged();
 				return true;
 			} else {
 				// Replace the default error values with the ones for this Entry
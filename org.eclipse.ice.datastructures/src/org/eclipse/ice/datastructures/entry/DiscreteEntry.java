@@ -13,9 +13,13 @@
  *******************************************************************************/
 package org.eclipse.ice.datastructures.entry;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -23,6 +27,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
 
+import org.eclipse.ice.datastructures.ICEObject.ContentHash;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
@@ -31,6 +36,12 @@ import org.eclipse.ice.datastructures.ICEObject.Identifiable;
  * The DiscreteEntry is a subclass of AbstractEntry that only allows clients to
  * set a value from an existing list of allowed values.
  * 
+ * Many DiscreteEntries allow the same values, such as "true" and "false", so
+ * the lists of allowed values that the DiscreteEntry creates itself, in the
+ * convenience constructor or when it is read from XML, are shared tables that
+ * can not be modified. Lists passed to setAllowedValues() are used as they
+ * are. Use {@link #shareAllowedValues(List)} to share those too.
+ * 
  * @author Alex McCaskey
  *
  */
@@ -54,6 +65,13 @@ public class DiscreteEntry extends AbstractEntry {
 	@XmlElement(name = "AllowedValues")
 	protected List<String> allowedValues;
 
+	/**
+	 * The shared tables of allowed values. Each table is its own key and they
+	 * are only weakly referenced, so tables that are not used by any Entry
+	 * are released.
+	 */
+	private static final Map<List<String>, WeakReference<List<String>>> allowedValueTables = new WeakHashMap<List<String>, WeakReference<List<String>>>();
+
 	/**
 	 * The Constructor
 	 */
@@ -70,7 +88,53 @@ public class DiscreteEntry extends AbstractEntry {
 	 */
 	public DiscreteEntry(String... allowed) {
 		super();
-		allowedValues = Arrays.asList(allowed);
+		allowedValues = shareAllowedValues(Arrays.asList(allowed));
+	}
+
+	/**
+	 * This operation returns a shared table with the same allowed values as
+	 * the list. The table can not be modified. The values are interned.
+	 * 
+	 * @param values
+	 *            The allowed values.
+	 * @return The shared table or null if the list is null.
+	 */
+	public static List<String> shareAllowedValues(List<String> values) {
+
+		// Local Declarations
+		List<String> table = null;
+
+		if (values != null) {
+			// Copy the values so that the table does not change with the list
+			ArrayList<String> copy = new ArrayList<String>(values.size());
+			for (String value : values) {
+				copy.add((value != null) ? value.intern() : null);
+			}
+			// Find the table or add it
+			synchronized (allowedValueTables) {
+				WeakReference<List<String>> reference = allowedValueTables
+						.get(copy);
+				table = (reference != null) ? reference.get() : null;
+				if (table == null) {
+					table = Collections.unmodifiableList(copy);
+					allowedValueTables.put(table,
+							new WeakReference<List<String>>(table));
+				}
+			}
+		}
+
+		return table;
+	}
+
+	/**
+	 * This operation shares the allowed values after the Entry is read.
+	 * 
+	 * @see AbstractEntry#compact()
+	 */
+	@Override
+	protected void compact() {
+		super.compact();
+		allowedValues = shareAllowedValues(allowedValues);
 	}
 
 	/*
@@ -139,11 +203,13 @@ public class DiscreteEntry extends AbstractEntry {
 		return false;
 	}
 
-	/*
-	 * (non-Javadoc)
+	/**
+	 * This operation returns the allowed values. The list may be a shared
+	 * table that can not be modified, so clients that want to add or remove
+	 * values must change a copy and pass it to
+	 * {@link #setAllowedValues(List)}.
 	 * 
-	 * @see
-	 * org.eclipse.ice.datastructures.entry.AbstractEntry#getAllowedValues()
+	 * @see AbstractEntry#getAllowedValues()
 	 */
 	@Override
 	public List<String> getAllowedValues() {
@@ -160,6 +226,7 @@ public class DiscreteEntry extends AbstractEntry {
 	@Override
 	public void setAllowedValues(List<String> values) {
 		allowedValues = values;
+		contentChanged();
 		if (allowedValues != null && !allowedValues.isEmpty()) {
 			setValue(allowedValues.get(0));
 		}
@@ -226,6 +293,7 @@ public class DiscreteEntry extends AbstractEntry {
 
 		super.copy(entity);
 		allowedValues = entity.allowedValues;
+		contentChanged();
 		return;
 	}
 
@@ -249,6 +317,23 @@ public class DiscreteEntry extends AbstractEntry {
 		return hash;
 	}
 
+	/**
+	 * This operation adds the allowed values to the content hash of the Entry.
+	 * 
+	 * @see AbstractEntry#computeContentHash()
+	 */
+	@Override
+	protected long computeContentHash() {
+		long hash = super.computeContentHash();
+		if (allowedValues != null) {
+			hash = ContentHash.add(hash, (long) allowedValues.size());
+			for (String allowedValue : allowedValues) {
+				hash = ContentHash.add(hash, allowedValue);
+			}
+		}
+		return hash;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
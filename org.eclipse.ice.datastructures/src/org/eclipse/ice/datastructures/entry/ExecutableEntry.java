@@ -12,6 +12,7 @@
 package org.eclipse.ice.datastructures.entry;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
 
 import javax.xml.bind.annotation.XmlAccessType;
@@ -126,6 +127,8 @@ public class ExecutableEntry extends DiscreteEntry {
 	public void loadFromPreferences(String prefId) {
 		// Get the Application preferences
 		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(prefId);
+		// The allowed values may be a shared table, so add to a copy
+		allowedValues = new ArrayList<String>(allowedValues);
 		try {
 			for (String key : prefs.keys()) {
 				String pref = prefs.get(key, "");
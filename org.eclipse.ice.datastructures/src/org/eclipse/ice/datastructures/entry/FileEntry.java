@@ -216,6 +216,7 @@ public class FileEntry extends DiscreteEntry implements IResourceChangeListener
 		}
 
 		allowedValues = files;
+		contentChanged();
 	}
 
 	/**
@@ -254,6 +255,7 @@ public class FileEntry extends DiscreteEntry implements IResourceChangeListener
 
 		super.copy(entity);
 		allowedValues = entity.allowedValues;
+		contentChanged();
 		return;
 	}
 
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.entry;
+
+/**
+ * The IEntryNameListener interface is realized by containers that look up
+ * their Entries by name. When the name of an AbstractEntry changes, each of
+ * its registered listeners that also realizes this interface is told right
+ * away on the same thread, before the regular, asynchronous update, so that
+ * the container can fix its index before anyone looks up the new name.
+ *
+ * @author UT-Battelle, LLC
+ */
+public interface IEntryNameListener {
+
+	/**
+	 * This operation notifies the listener that the name of an Entry has
+	 * changed.
+	 *
+	 * @param entry
+	 *            The Entry that was renamed. It already has its new name.
+	 * @param oldName
+	 *            The previous name of the Entry, which may be null.
+	 */
+	public void nameChanged(IEntry entry, String oldName);
+
+}
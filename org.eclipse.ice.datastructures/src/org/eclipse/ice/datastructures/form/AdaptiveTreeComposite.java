@@ -24,6 +24,7 @@ import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
+import org.eclipse.ice.datastructures.ICEObject.ContentHash;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.componentVisitor.IComponentVisitor;
 import org.eclipse.ice.datastructures.entry.AbstractEntry;
@@ -373,6 +374,16 @@ public class AdaptiveTreeComposite extends TreeComposite {
 		return hash;
 	}
 
+	/**
+	 * This operation adds the type to the content hash of the tree.
+	 * 
+	 * @see TreeComposite#computeContentHash()
+	 */
+	@Override
+	protected long computeContentHash() {
+		return ContentHash.add(super.computeContentHash(), type);
+	}
+
 	/**
 	 * (non-Javadoc)
 	 * 
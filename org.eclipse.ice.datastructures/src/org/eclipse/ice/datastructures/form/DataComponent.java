@@ -13,17 +13,24 @@
 package org.eclipse.ice.datastructures.form;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 
 import javax.xml.bind.annotation.XmlAnyElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
+import org.eclipse.ice.datastructures.ICEObject.ContentHash;
 import org.eclipse.ice.datastructures.ICEObject.ICEObject;
+import org.eclipse.ice.datastructures.ICEObject.IContentHashListener;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.componentVisitor.IComponentVisitor;
+import org.eclipse.ice.datastructures.entry.AbstractEntry;
 import org.eclipse.ice.datastructures.entry.IEntry;
+import org.eclipse.ice.datastructures.entry.IEntryNameListener;
 
 /**
  * <p>
@@ -32,12 +39,31 @@ import org.eclipse.ice.datastructures.entry.IEntry;
  * Entries that are related to each other in some way and to accept updates from
  * dispatched from the Registry.
  * </p>
+ * <p>
+ * Entries are found by name with a hash index that maps each name to the first
+ * Entry with that name, so retrieveEntry(), contains(), deleteEntry() and
+ * update() do not need to search the list. The index is kept up to date by
+ * the operations on this class, and Entries that are renamed tell the
+ * component through {@link IEntryNameListener} so that only their old and new
+ * names are updated. It is rebuilt the next time that it is needed if the list
+ * returned by retrieveAllEntries() is modified directly. It is never
+ * persisted. The index is only used while holding the lock of the component
+ * because Entries may be renamed on other threads.
+ * </p>
+ * <p>
+ * The content hash of a DataComponent combines the cached content hashes of
+ * its Entries, so only the Entries that changed are hashed again. The
+ * component registers with its Entries as an {@link IContentHashListener}
+ * when it hashes them, so a change to any Entry marks the component changed.
+ * Changes to the list returned by retrieveAllEntries() are tracked as well.
+ * </p>
  * 
  * @author Jay Jay Billings
  */
 @XmlRootElement(name = "DataComponent")
 public class DataComponent extends ICEObject
-		implements Component, IUpdateableListener {
+		implements Component, IUpdateableListener, IEntryNameListener,
+		IContentHashListener {
 	/**
 	 * The entries in this data component.
 	 */
@@ -45,6 +71,32 @@ public class DataComponent extends ICEObject
 	@XmlAnyElement(lax = true)
 	private ArrayList<IEntry> entries;
 
+	/**
+	 * The index of the first Entry with each name, in the order that the names
+	 * were added. It is null if it needs to be rebuilt.
+	 */
+	@XmlTransient
+	private LinkedHashMap<String, IEntry> entryIndex;
+
+	/**
+	 * The version of the Entry list when the index was last valid.
+	 */
+	@XmlTransient
+	private long indexedVersion;
+
+	/**
+	 * True if all of the Entries recorded their changes when the content hash
+	 * was last computed.
+	 */
+	@XmlTransient
+	private boolean entriesTracked;
+
+	/**
+	 * The version of the Entry list when the content hash was last computed.
+	 */
+	@XmlTransient
+	private long hashedListVersion;
+
 	/**
 	 * <p>
 	 * The Constructor
@@ -53,8 +105,9 @@ public class DataComponent extends ICEObject
 	 */
 	public DataComponent() {
 
-		// Setup the list of Entries
-		entries = new ArrayList<IEntry>();
+		// Setup the list of Entries. JAXB reuses this list when it reads a
+		// DataComponent.
+		entries = new EntryList();
 
 	}
 
@@ -72,7 +125,15 @@ public class DataComponent extends ICEObject
 
 		// Add the Entry if it is not null
 		if (newEntry != null) {
-			entries.add(newEntry);
+			synchronized (this) {
+				LinkedHashMap<String, IEntry> index = getIndex();
+				entries.add(newEntry);
+				String name = newEntry.getName();
+				if (name != null && !index.containsKey(name)) {
+					index.put(name, newEntry);
+				}
+				markIndexed();
+			}
 			// Register the data component as a listener of the Entry
 			newEntry.register(this);
 			// Notify the listeners that the component has changed
@@ -114,7 +175,14 @@ public class DataComponent extends ICEObject
 
 		// Clear the list of Entries if it is not already empty
 		if (!entries.isEmpty()) {
-			entries.clear();
+			synchronized (this) {
+				for (IEntry entry : entries) {
+					unregisterFrom(entry);
+				}
+				entries.clear();
+				entryIndex = new LinkedHashMap<String, IEntry>();
+				markIndexed();
+			}
 			notifyListeners();
 		}
 
@@ -133,18 +201,22 @@ public class DataComponent extends ICEObject
 	 */
 	public void deleteEntry(String entryName) {
 
-		// FIXME - Entry names are not necessarily unique!
-
-		// Local Declarations
-		int i = 0;
-
 		// Make sure the entryName is not null
 		if (entryName != null) {
-			// Find and delete the Entry or Entries with this name. A linear
-			// search is OK since the list should be small
-			for (i = 0; i < entries.size(); i++) {
-				if (entries.get(i).getName().equals(entryName)) {
-					entries.remove(i);
+			// Entry names are not necessarily unique, so delete every Entry
+			// with this name if the index says that there is one
+			synchronized (this) {
+				LinkedHashMap<String, IEntry> index = getIndex();
+				if (index.remove(entryName) != null) {
+					Iterator<IEntry> iterator = entries.iterator();
+					while (iterator.hasNext()) {
+						IEntry entry = iterator.next();
+						if (entryName.equals(entry.getName())) {
+							iterator.remove();
+							unregisterFrom(entry);
+						}
+					}
+					markIndexed();
 				}
 			}
 
@@ -170,14 +242,7 @@ public class DataComponent extends ICEObject
 	 *         </p>
 	 */
 	public IEntry retrieveEntry(String entryName) {
-
-		for (IEntry j : entries) {
-			if (j.getName().equals(entryName)) {
-				return j;
-			}
-		}
-
-		return null;
+		return (entryName != null) ? findEntry(entryName) : null;
 	}
 
 	/**
@@ -243,14 +308,7 @@ public class DataComponent extends ICEObject
 	 *         </p>
 	 */
 	public boolean contains(String entryName) {
-
-		for (IEntry i : entries) {
-			if (i.getName().equals(entryName)) {
-				return true;
-			}
-		}
-
-		return false;
+		return entryName != null && findEntry(entryName) != null;
 	}
 
 	/**
@@ -327,6 +385,78 @@ public class DataComponent extends ICEObject
 		return hash;
 	}
 
+	/**
+	 * This operation computes the content hash from the identity of the
+	 * DataComponent and the content hashes of its Entries.
+	 * 
+	 * @see ICEObject#computeContentHash()
+	 */
+	@Override
+	protected long computeContentHash() {
+
+		// Read the version of the list first so that a change made while the
+		// hash is computed is found the next time.
+		boolean tracked = entries instanceof EntryList;
+		if (tracked) {
+			hashedListVersion = ((EntryList) entries).getVersion();
+		}
+		long hash = ContentHash.add(ContentHash.SEED, getClass().getName());
+		hash = ContentHash.add(hash, (long) uniqueId);
+		hash = ContentHash.add(hash, objectName);
+		hash = ContentHash.add(hash, objectDescription);
+		for (IEntry entry : entries) {
+			if (entry instanceof AbstractEntry) {
+				((AbstractEntry) entry).registerContentHashListener(this);
+				hash = ContentHash.add(hash,
+						((AbstractEntry) entry).getContentHash());
+			} else {
+				hash = ContentHash.add(hash, (long) entry.hashCode());
+				tracked = false;
+			}
+		}
+		entriesTracked = tracked;
+
+		return hash;
+	}
+
+	/**
+	 * This operation returns true if all of the Entries recorded their changes
+	 * when the content hash was last computed, which the Entries in the
+	 * datastructures bundle do, and the Entry list has not been changed
+	 * directly since then.
+	 * 
+	 * @see ICEObject#isContentTracked()
+	 */
+	@Override
+	public boolean isContentTracked() {
+		return entriesTracked && entries instanceof EntryList
+				&& hashedListVersion == ((EntryList) entries).getVersion();
+	}
+
+	/**
+	 * This operation marks the content of the DataComponent changed when one
+	 * of its Entries changes.
+	 * 
+	 * @see IContentHashListener#partChanged(Object)
+	 */
+	@Override
+	public void partChanged(Object part) {
+		contentChanged();
+	}
+
+	/**
+	 * This operation stops an Entry that was removed from telling this
+	 * component about its changes.
+	 * 
+	 * @param entry
+	 *            The removed Entry.
+	 */
+	private void unregisterFrom(IEntry entry) {
+		if (entry instanceof AbstractEntry) {
+			((AbstractEntry) entry).unregisterContentHashListener(this);
+		}
+	}
+
 	/**
 	 * <p>
 	 * This operation performs a deep copy of the attributes of another
@@ -347,8 +477,11 @@ public class DataComponent extends ICEObject
 			// Copy contents into super and current object
 			super.copy(otherDataComponent);
 
-			// reset entries
-			entries.clear();
+			// reset entries. The index is rebuilt when it is needed.
+			synchronized (this) {
+				entries.clear();
+				entryIndex = null;
+			}
 
 			// Copy entries
 			for (int i = 0; i < otherDataComponent.entries.size(); i++) {
@@ -389,8 +522,11 @@ public class DataComponent extends ICEObject
 	@Override
 	public void update(String updatedKey, String newValue) {
 
-		for (IEntry i : entries) {
-			i.update(updatedKey, newValue);
+		// Keys are Entry names, so deliver the update straight to the Entry
+		// that owns the key.
+		IEntry entry = retrieveEntry(updatedKey);
+		if (entry != null) {
+			entry.update(updatedKey, newValue);
 		}
 
 		return;
@@ -422,4 +558,140 @@ public class DataComponent extends ICEObject
 
 	}
 
+	/**
+	 * This operation updates the index for an Entry that was renamed. Only the
+	 * first Entry with the old name and the first Entry with the new name can
+	 * change, so the rest of the index is kept.
+	 * 
+	 * @see IEntryNameListener#nameChanged(IEntry, String)
+	 */
+	@Override
+	public synchronized void nameChanged(IEntry entry, String oldName) {
+
+		// A missing or stale index is rebuilt with the new name anyway
+		if (entryIndex != null && isIndexCurrent()) {
+			if (oldName != null && entryIndex.get(oldName) == entry) {
+				reindex(oldName);
+			}
+			reindex(entry.getName());
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation looks up the first Entry with the given name in the
+	 * index.
+	 * 
+	 * @param entryName
+	 *            The name of the Entry. It must not be null.
+	 * @return The Entry or null if there is no Entry with that name.
+	 */
+	private synchronized IEntry findEntry(String entryName) {
+		return getIndex().get(entryName);
+	}
+
+	/**
+	 * This operation returns the name index, rebuilding it first if it is
+	 * missing or stale. It must be called while holding the lock of the
+	 * component.
+	 */
+	private LinkedHashMap<String, IEntry> getIndex() {
+		if (entryIndex == null || !isIndexCurrent()) {
+			LinkedHashMap<String, IEntry> index = new LinkedHashMap<String, IEntry>();
+			for (IEntry entry : entries) {
+				String name = entry.getName();
+				if (name != null && !index.containsKey(name)) {
+					index.put(name, entry);
+				}
+			}
+			entryIndex = index;
+			markIndexed();
+		}
+		return entryIndex;
+	}
+
+	/**
+	 * This operation points the index at the first Entry in the list with the
+	 * given name, or removes the name if there is no such Entry. It must be
+	 * called while holding the lock of the component.
+	 * 
+	 * @param name
+	 *            The name to index. Nothing happens if it is null.
+	 */
+	private void reindex(String name) {
+		if (name != null) {
+			for (IEntry entry : entries) {
+				if (name.equals(entry.getName())) {
+					entryIndex.put(name, entry);
+					return;
+				}
+			}
+			entryIndex.remove(name);
+		}
+	}
+
+	/**
+	 * This operation returns true if the Entry list has not been changed
+	 * directly since the index was last updated. Lists that were not created
+	 * by this class, which can only happen if a persistence framework replaces
+	 * the field, are never considered indexed.
+	 */
+	private boolean isIndexCurrent() {
+		return entries instanceof EntryList
+				&& indexedVersion == ((EntryList) entries).getVersion();
+	}
+
+	/**
+	 * This operation records that the index matches the current Entry list.
+	 * It must only be called after the index was updated along with the list.
+	 */
+	private void markIndexed() {
+		if (entries instanceof EntryList) {
+			indexedVersion = ((EntryList) entries).getVersion();
+		}
+	}
+
+	/**
+	 * The EntryList is the list of Entries. It counts every structural change
+	 * and every replaced element so that the DataComponent can tell when its
+	 * index and its content hash are stale. It is still an ArrayList so that
+	 * retrieveAllEntries() and the persisted form of the DataComponent do not
+	 * change.
+	 */
+	private static class EntryList extends ArrayList<IEntry> {
+
+		/**
+		 * ID used for serialization.
+		 */
+		private static final long serialVersionUID = -5309371536451722894L;
+
+		/**
+		 * The number of elements replaced by set().
+		 */
+		private long replacements;
+
+		/**
+		 * This operation returns a number that changes whenever the list is
+		 * modified.
+		 * 
+		 * @return The version of the list.
+		 */
+		public long getVersion() {
+			return modCount + replacements;
+		}
+
+		/**
+		 * (non-Javadoc)
+		 * 
+		 * @see java.util.ArrayList#set(int, java.lang.Object)
+		 */
+		@Override
+		public IEntry set(int index, IEntry element) {
+			IEntry oldElement = super.set(index, element);
+			replacements++;
+			return oldElement;
+		}
+	}
+
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.Composite;
+import org.eclipse.ice.datastructures.ICEObject.ContentHash;
 import org.eclipse.ice.datastructures.ICEObject.ICEObject;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
@@ -383,6 +384,55 @@ public class Form extends ICEObject implements Composite {
 
 	}
 
+	/**
+	 * This operation computes the content hash of the Form from its identity,
+	 * the id of its Item and the content hashes of its Components. The
+	 * Components cache their own hashes, so this only costs one step per
+	 * Component unless some of them changed. The Form does not cache it
+	 * because the list of Components can be changed directly.
+	 * 
+	 * @see ICEObject#computeContentHash()
+	 */
+	@Override
+	protected long computeContentHash() {
+
+		long hash = ContentHash.add(ContentHash.SEED, getClass().getName());
+		hash = ContentHash.add(hash, (long) uniqueId);
+		hash = ContentHash.add(hash, objectName);
+		hash = ContentHash.add(hash, objectDescription);
+		hash = ContentHash.add(hash, (long) itemID);
+		for (Component component : componentList) {
+			hash = ContentHash.add(hash, component instanceof ICEObject
+					? ((ICEObject) component).getContentHash()
+					: (long) component.hashCode());
+		}
+
+		return hash;
+	}
+
+	/**
+	 * This operation returns true if every Component of the Form tracks the
+	 * changes to its content, so that the content hash of the Form changes
+	 * whenever any of its content does. Other Components, such as
+	 * GeometryComponents and ResourceComponents, fall back to hashCode(),
+	 * which does not cover all of their content. Clients must not conclude
+	 * that the Form is unchanged from an equal hash if this is false.
+	 * 
+	 * @return True if the content hash covers all of the content of the Form,
+	 *         false otherwise.
+	 */
+	public boolean hasTrackedContent() {
+
+		for (Component component : componentList) {
+			if (!(component instanceof ICEObject)
+					|| !((ICEObject) component).isContentTracked()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.ice.datastructures.ICEObject.ICEObject#update(java.lang.String, java.lang.String)
@@ -390,6 +440,8 @@ public class Form extends ICEObject implements Composite {
 	@Override
 	public void update(String updatedKey, String newValue) {
 
+		// DataComponents look the key up in their name indices and only
+		// update the Entry that owns it, so this is cheap even for large Forms.
 		for (Component i : componentList) {
 			i.update(updatedKey, newValue);
 		}
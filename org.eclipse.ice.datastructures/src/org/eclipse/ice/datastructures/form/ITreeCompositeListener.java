@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.form;
+
+import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
+
+/**
+ * This interface is implemented by listeners of a {@link TreeComposite} that
+ * need to know which children were added or removed instead of looking at all
+ * of the children whenever the tree is updated.
+ * <p>
+ * Unlike {@link #update(org.eclipse.ice.datastructures.ICEObject.IUpdateable)},
+ * which is called later on another thread, these operations are called on
+ * the thread that changes the tree, right after the change, so they are
+ * received in the order in which the changes were made. Like all listeners of
+ * a TreeComposite, these listeners are also registered with its children, so
+ * they receive the changes of the whole sub-tree and must check the parent.
+ * </p>
+ *
+ * @author UT-Battelle, LLC
+ */
+public interface ITreeCompositeListener extends IUpdateableListener {
+
+	/**
+	 * This operation is called after a child was added to a tree.
+	 *
+	 * @param parent
+	 *            The tree to which the child was added.
+	 * @param child
+	 *            The new child.
+	 */
+	public void childAdded(TreeComposite parent, TreeComposite child);
+
+	/**
+	 * This operation is called after a child was removed from a tree.
+	 *
+	 * @param parent
+	 *            The tree from which the child was removed.
+	 * @param child
+	 *            The removed child.
+	 */
+	public void childRemoved(TreeComposite parent, TreeComposite child);
+
+	/**
+	 * This operation is called after all of the children of a tree were
+	 * replaced at once, for instance when another tree was copied into it. The
+	 * listener should look at all of the children of the tree again.
+	 *
+	 * @param parent
+	 *            The tree whose children were replaced.
+	 */
+	public void childrenReset(TreeComposite parent);
+
+}
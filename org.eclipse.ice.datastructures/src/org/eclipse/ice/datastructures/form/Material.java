@@ -13,6 +13,7 @@
 package org.eclipse.ice.datastructures.form;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +39,12 @@ import javax.xml.bind.annotation.XmlTransient;
  * with the getComponents() operation. ICE makes no attempt to correct
  * mismatched sizes, etc. between components and composites.
  * 
+ * The well-known properties whose names are the constants of this class are
+ * stored as primitive values in an array instead of the map. They are still
+ * persisted with the other properties. The properties that updateProperties()
+ * derives from the components are only recomputed when the material or one of
+ * its components has changed since the last update.
+ * 
  * @author Jay Jay Billings, Kasper Gammeltoft
  * 
  */
@@ -135,6 +142,46 @@ public class Material implements Cloneable, Comparable<Material> {
 	@XmlTransient
 	public static final String MASS_ABS_INCOHERENT = "mminc (Ang^-1)";
 
+	/**
+	 * The names of the well-known properties. The position of a name in this
+	 * array is the index of its value in {@link #knownValues}.
+	 */
+	@XmlTransient
+	private static final String[] knownProperties = { ATOMIC_MASS,
+			ATOMIC_DENSITY, DENSITY, NUMBER_DENSITY, COHERENT_SCAT_LENGTH,
+			INCOHERENT_SCAT_LENGTH, COHERENT_SCAT_X_SECTION,
+			INCOHERENT_SCAT_X_SECTION, SCAT_LENGTH_DENSITY, SCAT_X_SECTION,
+			ABS_X_SECTION, MASS_ABS_COHERENT, MASS_ABS_INCOHERENT };
+
+	/**
+	 * The index of each well-known property in {@link #knownValues}, keyed by
+	 * the name of the property.
+	 */
+	@XmlTransient
+	private static final HashMap<String, Integer> knownIndices = new HashMap<String, Integer>();
+
+	// The indices of the properties that are used by updateProperties()
+	@XmlTransient
+	private static final int ATOMIC_MASS_INDEX = 0;
+	@XmlTransient
+	private static final int DENSITY_INDEX = 2;
+	@XmlTransient
+	private static final int NUMBER_DENSITY_INDEX = 3;
+	@XmlTransient
+	private static final int COHERENT_SCAT_LENGTH_INDEX = 4;
+	@XmlTransient
+	private static final int SCAT_LENGTH_DENSITY_INDEX = 8;
+	@XmlTransient
+	private static final int MASS_ABS_COHERENT_INDEX = 11;
+	@XmlTransient
+	private static final int MASS_ABS_INCOHERENT_INDEX = 12;
+
+	static {
+		for (int i = 0; i < knownProperties.length; i++) {
+			knownIndices.put(knownProperties[i], i);
+		}
+	}
+
 	/**
 	 * The name of the material.
 	 */
@@ -142,9 +189,12 @@ public class Material implements Cloneable, Comparable<Material> {
 	private String name;
 
 	/**
-	 * The key-value pair map of properties for this material.
+	 * The key-value pair map of the properties of this material that are not
+	 * well-known. The well-known properties are stored in {@link #knownValues}
+	 * and JAXB reads and writes both through getPersistedProperties() and
+	 * setPersistedProperties().
 	 */
-	@XmlElement(name = "properties")
+	@XmlTransient
 	private HashMap<String, Double> properties;
 
 	/**
@@ -154,6 +204,48 @@ public class Material implements Cloneable, Comparable<Material> {
 	// @XmlTransient
 	private HashMap<String, MaterialStack> components;
 
+	/**
+	 * The values of the well-known properties, indexed by their position in
+	 * {@link #knownProperties}. The values of the properties that are not set
+	 * are 0.0.
+	 */
+	@XmlTransient
+	private double[] knownValues;
+
+	/**
+	 * A bit mask of the well-known properties that are set. Bit i is set if
+	 * the property at index i of {@link #knownValues} is set.
+	 */
+	@XmlTransient
+	private int knownMask;
+
+	/**
+	 * A counter that is incremented every time the properties or components
+	 * of this material change. Composites use it to tell if their derived
+	 * properties are out of date.
+	 */
+	@XmlTransient
+	private long version;
+
+	/**
+	 * The version of this material right after its properties were last
+	 * updated by updateProperties(), or -1 if they have not been updated.
+	 */
+	@XmlTransient
+	private long updatedVersion;
+
+	/**
+	 * The components, their amounts and their versions when the properties of
+	 * this material were last updated, in the iteration order of the
+	 * components map. They are null if the properties have not been updated.
+	 */
+	@XmlTransient
+	private Material[] updatedComponents;
+	@XmlTransient
+	private int[] updatedAmounts;
+	@XmlTransient
+	private long[] updatedVersions;
+
 	/**
 	 * The constructor.
 	 */
@@ -161,6 +253,10 @@ public class Material implements Cloneable, Comparable<Material> {
 		name = "";
 		properties = new HashMap<String, Double>();
 		components = new HashMap<String, MaterialStack>();
+		knownValues = new double[knownProperties.length];
+		knownMask = 0;
+		version = 0;
+		updatedVersion = -1;
 	}
 
 	/**
@@ -193,7 +289,10 @@ public class Material implements Cloneable, Comparable<Material> {
 	 */
 	public double getProperty(String key) {
 		double value = 0.0;
-		if (properties.containsKey(key)) {
+		Integer index = knownIndices.get(key);
+		if (index != null) {
+			value = knownValues[index];
+		} else if (properties.containsKey(key)) {
 			value = properties.get(key);
 		}
 		return value;
@@ -208,7 +307,27 @@ public class Material implements Cloneable, Comparable<Material> {
 	 *            the property
 	 */
 	public void setProperty(String key, double value) {
-		properties.put(key, value);
+		Integer index = knownIndices.get(key);
+		if (index != null) {
+			setKnownProperty(index, value);
+		} else {
+			properties.put(key, value);
+			version++;
+		}
+	}
+
+	/**
+	 * This operation sets the value of a well-known property.
+	 * 
+	 * @param index
+	 *            The index of the property in {@link #knownValues}
+	 * @param value
+	 *            the property
+	 */
+	private void setKnownProperty(int index, double value) {
+		knownValues[index] = value;
+		knownMask |= 1 << index;
+		version++;
 	}
 
 	/**
@@ -218,8 +337,16 @@ public class Material implements Cloneable, Comparable<Material> {
 	 *            The name of the property that should be removed.
 	 */
 	public void removeProperty(String key) {
-		if (properties.containsKey(key)) {
+		Integer index = knownIndices.get(key);
+		if (index != null) {
+			if ((knownMask & (1 << index)) != 0) {
+				knownValues[index] = 0.0;
+				knownMask &= ~(1 << index);
+				version++;
+			}
+		} else if (properties.containsKey(key)) {
 			properties.remove(key);
+			version++;
 		}
 	}
 
@@ -230,7 +357,25 @@ public class Material implements Cloneable, Comparable<Material> {
 	 *         internal properties of the material.
 	 */
 	public Map<String, Double> getProperties() {
-		return new HashMap<String, Double>(properties);
+		HashMap<String, Double> allProperties = new HashMap<String, Double>(
+				properties);
+		putKnownProperties(allProperties);
+		return allProperties;
+	}
+
+	/**
+	 * This operation puts the well-known properties that are set into a map of
+	 * properties.
+	 * 
+	 * @param map
+	 *            The map into which the properties should be put
+	 */
+	private void putKnownProperties(Map<String, Double> map) {
+		for (int i = 0; i < knownProperties.length; i++) {
+			if ((knownMask & (1 << i)) != 0) {
+				map.put(knownProperties[i], knownValues[i]);
+			}
+		}
 	}
 
 	/**
@@ -285,6 +430,7 @@ public class Material implements Cloneable, Comparable<Material> {
 			// components
 			components.put(component.getName(), stack);
 		}
+		version++;
 	}
 
 	/**
@@ -324,7 +470,10 @@ public class Material implements Cloneable, Comparable<Material> {
 				// Check each member
 				boolean val1 = this.name.equals(otherMaterial.name);
 				boolean val2 = this.components.equals(otherMaterial.components);
-				boolean val3 = this.properties.equals(otherMaterial.properties);
+				boolean val3 = this.properties.equals(otherMaterial.properties)
+						&& this.knownMask == otherMaterial.knownMask
+						&& Arrays.equals(this.knownValues,
+								otherMaterial.knownValues);
 				retVal = val1 && val2 && val3;
 			}
 		}
@@ -346,6 +495,8 @@ public class Material implements Cloneable, Comparable<Material> {
 		// Compute the hash code
 		hash = 31 * hash + name.hashCode();
 		hash = 31 * hash + properties.hashCode();
+		hash = 31 * hash + knownMask;
+		hash = 31 * hash + Arrays.hashCode(knownValues);
 		hash = 31 * hash + components.hashCode();
 
 		return hash;
@@ -365,6 +516,9 @@ public class Material implements Cloneable, Comparable<Material> {
 			this.properties = new HashMap<String, Double>(material.properties);
 			this.components = new HashMap<String, MaterialStack>(
 					material.components);
+			this.knownValues = material.knownValues.clone();
+			this.knownMask = material.knownMask;
+			this.version++;
 		}
 	}
 
@@ -375,13 +529,15 @@ public class Material implements Cloneable, Comparable<Material> {
 	 * scattering length density, true (coherent) scattering length absorption
 	 * coefficient, and the incoherent scattering length absorption coefficient
 	 * all from the density of the material (in g/cm^3) and its components. If
-	 * called on a elemental material, does nothing.
+	 * called on a elemental material, does nothing. If neither this material
+	 * nor its components have changed since the last update, the properties
+	 * are not computed again.
 	 */
 	public void updateProperties() {
 
 		// Makes sure to not try to recalculate the values for an element or
-		// isotope.
-		if (!isElemental()) {
+		// isotope or for a material that is up to date.
+		if (!isElemental() && !isUpdated()) {
 			// Variables and constants
 			final double nA = 6.02E23;
 			double numberDensity = 0;
@@ -389,46 +545,40 @@ public class Material implements Cloneable, Comparable<Material> {
 			double muMInc = 0;
 			double b = 0;
 
-			double density = getProperty(DENSITY);
+			double density = knownValues[DENSITY_INDEX];
 			// Get the molecular mass
 			double molMass = 0;
-			List<MaterialStack> list = getComponents();
-			for (MaterialStack stack : list) {
-
+			for (MaterialStack stack : components.values()) {
 				molMass += (stack.getAmount()
-						* (stack.getMaterial().getProperty(ATOMIC_MASS)));
-				System.out
-						.println("adding mass: " + stack.getMaterial().getName()
-								+ " amount: " + molMass);
+						* (stack.getMaterial().knownValues[ATOMIC_MASS_INDEX]));
 			}
 
 			// Check if valid inputs
-			if (list.size() > 0 && molMass >= 1) {
+			if (molMass >= 1) {
 
 				// Get the number density
 				numberDensity = (1E-24) * (nA) * (density / molMass);
 
 				// Iterate over the list and create the new material's
 				// properties
-				for (int j = 0; j < list.size(); j++) {
-					MaterialStack stack = list.get(j);
-					Material mat = stack.getMaterial();
+				for (MaterialStack stack : components.values()) {
+					double[] values = stack.getMaterial().knownValues;
 					int N = stack.getAmount();
 
 					// Sum the scattering length for the new material
-					double cohb = 1E-5 * mat.getProperty(COHERENT_SCAT_LENGTH);
+					double cohb = 1E-5 * values[COHERENT_SCAT_LENGTH_INDEX];
 
 					// The real part of the scattering length
 					b += N * cohb;
 
 					// Determine true mass absorption coefficient
-					double massPercent = mat.getProperty(ATOMIC_MASS) / molMass;
+					double massPercent = values[ATOMIC_MASS_INDEX] / molMass;
 					muMAbs += N * massPercent
-							* (mat.getProperty(MASS_ABS_COHERENT));
+							* (values[MASS_ABS_COHERENT_INDEX]);
 
 					// Determine incoherent mass absorption coefficient
 					muMInc += N * massPercent
-							* (mat.getProperty(MASS_ABS_INCOHERENT));
+							* (values[MASS_ABS_INCOHERENT_INDEX]);
 
 				}
 
@@ -437,20 +587,59 @@ public class Material implements Cloneable, Comparable<Material> {
 			// Now just write these values to the new material's properties.
 
 			// Set the new total mass for the material
-			setProperty(ATOMIC_MASS, molMass);
+			setKnownProperty(ATOMIC_MASS_INDEX, molMass);
 			// Set the number density
-			setProperty(NUMBER_DENSITY, numberDensity);
+			setKnownProperty(NUMBER_DENSITY_INDEX, numberDensity);
 			// Set the scattering length density
-			setProperty(SCAT_LENGTH_DENSITY, numberDensity * b);
+			setKnownProperty(SCAT_LENGTH_DENSITY_INDEX, numberDensity * b);
 			// Set the true scattering length absorption coefficient
-			muMAbs *= 1E-24 * getProperty(DENSITY);
-			setProperty(MASS_ABS_COHERENT, muMAbs);
+			muMAbs *= 1E-24 * density;
+			setKnownProperty(MASS_ABS_COHERENT_INDEX, muMAbs);
 			// Set the incoherent scattering length absorption coefficient
-			muMInc *= 1E-24 * getProperty(DENSITY);
-			setProperty(MASS_ABS_INCOHERENT, muMInc);
+			muMInc *= 1E-24 * density;
+			setKnownProperty(MASS_ABS_INCOHERENT_INDEX, muMInc);
+
+			// Remember the inputs of this update
+			int numComponents = components.size();
+			updatedComponents = new Material[numComponents];
+			updatedAmounts = new int[numComponents];
+			updatedVersions = new long[numComponents];
+			int i = 0;
+			for (MaterialStack stack : components.values()) {
+				updatedComponents[i] = stack.getMaterial();
+				updatedAmounts[i] = stack.getAmount();
+				updatedVersions[i] = stack.getMaterial().version;
+				i++;
+			}
+			updatedVersion = version;
 		}
 	}
 
+	/**
+	 * This operation checks whether the derived properties of this material
+	 * are up to date. They are if neither this material nor any of its
+	 * components, or their amounts, have changed since the last update.
+	 * 
+	 * @return True if the properties are up to date, false otherwise.
+	 */
+	private boolean isUpdated() {
+		if (updatedVersion != version || updatedComponents == null
+				|| updatedComponents.length != components.size()) {
+			return false;
+		}
+		int i = 0;
+		for (MaterialStack stack : components.values()) {
+			Material component = stack.getMaterial();
+			if (component != updatedComponents[i]
+					|| stack.getAmount() != updatedAmounts[i]
+					|| component.version != updatedVersions[i]) {
+				return false;
+			}
+			i++;
+		}
+		return true;
+	}
+
 	/**
 	 * Gets if this material is elemental (not a compound/composite). It must
 	 * have no components to be elemental.
@@ -593,4 +782,42 @@ public class Material implements Cloneable, Comparable<Material> {
 
 	}
 
+	/**
+	 * This operation returns all of the properties of the material, including
+	 * the well-known ones, so that JAXB can write them. It does not change the
+	 * material.
+	 * 
+	 * @return A new map of the properties.
+	 */
+	@XmlElement(name = "properties")
+	private HashMap<String, Double> getPersistedProperties() {
+		HashMap<String, Double> allProperties = new HashMap<String, Double>(
+				properties);
+		putKnownProperties(allProperties);
+		return allProperties;
+	}
+
+	/**
+	 * This operation is called by JAXB after the properties of the material
+	 * are read. It replaces the properties of the material and moves the
+	 * well-known ones into their primitive storage.
+	 * 
+	 * @param persistedProperties
+	 *            The properties that were read.
+	 */
+	private void setPersistedProperties(
+			HashMap<String, Double> persistedProperties) {
+		properties = new HashMap<String, Double>();
+		Arrays.fill(knownValues, 0.0);
+		knownMask = 0;
+		if (persistedProperties != null) {
+			for (Map.Entry<String, Double> entry : persistedProperties
+					.entrySet()) {
+				if (entry.getValue() != null) {
+					setProperty(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+	}
+
 }
@@ -13,12 +13,18 @@
 package org.eclipse.ice.datastructures.form;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.List;
 
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.ICEObject;
@@ -45,6 +51,21 @@ import org.eclipse.ice.datastructures.entry.IEntry;
  * if a row is deleted it will result in the entire table being re-ordered to
  * keep the row numbers sequential.
  * </p>
+ * <p>
+ * The table is stored by column. Each column keeps the values of its cells and
+ * only creates an Entry for a cell, by copying the column's template Entry,
+ * when the row is retrieved with getRow(). Entries that have been handed out
+ * are kept and stay attached to the table, so edits made through them are
+ * reflected in the table. Bulk operations like addRows(), deleteRows() and
+ * setColumn() therefore only touch Strings and notify listeners once. The id of
+ * a row is always equal to its index, so rows are found by id in constant
+ * time.
+ * </p>
+ * <p>
+ * The table is still persisted as a list of DataComponents, one per row, which
+ * are created just before the table is written and discarded as soon as it
+ * has been read.
+ * </p>
  * 
  * @author Jay Jay Billings
  */
@@ -72,9 +93,10 @@ public class TableComponent extends ICEObject implements Component {
 
 	/**
 	 * <p >
-	 * The set of DataComponents that represents the rows of the table. The
-	 * index of the set represents the row index in the table. The DataComponent
-	 * at i = 0 is the Row Template.
+	 * The set of DataComponents that represents the rows of the table when it
+	 * is persisted. The index of the set represents the row index in the table.
+	 * The DataComponent at i = 0 is the Row Template. This list is only filled
+	 * while the table is being written or read.
 	 * </p>
 	 * 
 	 */
@@ -88,6 +110,31 @@ public class TableComponent extends ICEObject implements Component {
 	@XmlElement(name = "SelectedRow")
 	private ArrayList<Integer> selectedRows;
 
+	/**
+	 * The DataComponent that holds the Entries of the row template or null if
+	 * the template has not been set.
+	 */
+	@XmlTransient
+	private DataComponent rowTemplate;
+
+	/**
+	 * The columns of the table in order.
+	 */
+	@XmlTransient
+	private ArrayList<Column> columns;
+
+	/**
+	 * The index of the first column with each name.
+	 */
+	@XmlTransient
+	private HashMap<String, Integer> columnIndex;
+
+	/**
+	 * The number of rows in the table, not counting the template.
+	 */
+	@XmlTransient
+	private int rowCount;
+
 	/**
 	 * <p>
 	 * The constructor
@@ -99,6 +146,8 @@ public class TableComponent extends ICEObject implements Component {
 		rowComponents = new ArrayList<DataComponent>();
 		listeners = new ArrayList<IUpdateableListener>();
 		selectedRows = new ArrayList<Integer>();
+		columns = new ArrayList<Column>();
+		columnIndex = new HashMap<String, Integer>();
 	}
 
 	/**
@@ -111,15 +160,7 @@ public class TableComponent extends ICEObject implements Component {
 	 *         </p>
 	 */
 	public int numberOfRows() {
-
-		// exclude columns row
-		if (rowComponents.size() <= 1) {
-			return 0;
-		} else {
-			// Index shift -> index 0 of rowComponents are the column tags and
-			// are not considered rows.
-			return this.rowComponents.size() - 1;
-		}
+		return rowCount;
 	}
 
 	/**
@@ -157,30 +198,38 @@ public class TableComponent extends ICEObject implements Component {
 	public ArrayList<IEntry> getRow(int index) {
 
 		// return null if index does not exist
-		// Index shift -> index 0 of rowComponents are the column tags and are
-		// not considered rows.
-		// Also do not return a row if the index is negative
-		// Boolean operation
-		if (!(!rowComponents.isEmpty() & index < rowComponents.size() - 1 & index >= 0)) {
+		if (!containsRow(index)) {
 			return null;
 		}
 
-		// create a new arraylist
-		ArrayList<IEntry> rowArray = new ArrayList<IEntry>();
-
-		// copy entries into rowArray
-		// Index shift -> index 0 of rowComponents are the column tags and are
-		// not considered rows.
-		// Add one to index to compensate.
-		for (int i = 0; i < rowComponents.get(index + 1).retrieveAllEntries()
-				.size(); i++) {
-			rowArray.add(rowComponents.get(index + 1).retrieveAllEntries()
-					.get(i));
+		// Create the Entries of the row if they do not exist yet
+		ArrayList<IEntry> rowArray = new ArrayList<IEntry>(columns.size());
+		for (Column column : columns) {
+			rowArray.add(column.getEntry(index));
 		}
 
 		return rowArray;
 	}
 
+	/**
+	 * <p>
+	 * This operation returns true if the table has a row with the given id.
+	 * Row ids are equal to row indices, so this is a constant time check.
+	 * </p>
+	 * 
+	 * @param rowId
+	 *            <p>
+	 *            The id of the row.
+	 *            </p>
+	 * @return
+	 * 		<p>
+	 *         True if the row exists, false otherwise.
+	 *         </p>
+	 */
+	public boolean containsRow(int rowId) {
+		return rowId >= 0 && rowId < rowCount;
+	}
+
 	/**
 	 * <p>
 	 * This operation adds a row to the Table and returns the index of that row.
@@ -196,39 +245,120 @@ public class TableComponent extends ICEObject implements Component {
 	 *         </p>
 	 */
 	public int addRow() {
-		// create a clone of template
 
 		// Return -1 if the template has not been set
-		// Notice how rowComponents has to have the rowTemplate created before
-		// it will allow
-		// a row addition
-		if (rowComponents.isEmpty()) {
+		if (rowTemplate == null) {
 			return -1;
 		}
 
-		// create a datacomponent. Set dataComponent id to rowSize and set name
-		// and description
-		DataComponent dataComponent = new DataComponent();
+		appendRow(null);
+		notifyListeners();
+
+		return rowCount - 1;
+	}
+
+	/**
+	 * <p>
+	 * This operation adds a number of rows to the Table at once and returns
+	 * the index of the first new row. The rows are configured from the row
+	 * template exactly as they are by addRow(), but listeners are only notified
+	 * once for the whole batch.
+	 * </p>
+	 * 
+	 * @param count
+	 *            <p>
+	 *            The number of rows to add.
+	 *            </p>
+	 * @return
+	 * 		<p>
+	 *         The index of the first new row in the table or -1 if the row
+	 *         template has not been set or the count is not positive.
+	 *         </p>
+	 */
+	public int addRows(int count) {
+
+		// Return -1 if the template has not been set or there is nothing to do
+		if (rowTemplate == null || count <= 0) {
+			return -1;
+		}
+
+		// Add the rows and notify the listeners once
+		int firstIndex = rowCount;
+		ensureCapacity(rowCount + count);
+		for (int i = 0; i < count; i++) {
+			appendRow(null);
+		}
+		notifyListeners();
 
-		// Index shift -> index 0 of rowComponents are the column tags and are
-		// not considered rows.
-		// decrement one
-		dataComponent.setId(rowComponents.size() - 1);
-		dataComponent.setName("Row");
-		dataComponent.setDescription("This is a row");
+		return firstIndex;
+	}
 
-		// copy contents of template into new row
-		for (int i = 0; i < rowComponents.get(0).retrieveAllEntries().size(); i++) {
-			dataComponent.addEntry((IEntry) rowComponents.get(0)
-					.retrieveAllEntries().get(i).clone());
+	/**
+	 * <p>
+	 * This operation bulk-loads rows into the Table and returns the index of
+	 * the first new row. Each row is configured from the row template and its
+	 * Entries are set to the given values before they are added to the table,
+	 * so loading does not trigger any per-Entry or per-row updates. Listeners
+	 * are notified once for the whole batch.
+	 * </p>
+	 * 
+	 * @param rowValues
+	 *            <p>
+	 *            The values of the new rows. Each list holds the values of one
+	 *            row in column order. Rows with fewer values than there are
+	 *            columns keep the template's values for the remaining columns
+	 *            and extra values are ignored.
+	 *            </p>
+	 * @return
+	 * 		<p>
+	 *         The index of the first new row in the table or -1 if the row
+	 *         template has not been set or there are no rows to add.
+	 *         </p>
+	 */
+	public int addRows(List<? extends List<String>> rowValues) {
+
+		// Return -1 if the template has not been set or there is nothing to do
+		if (rowTemplate == null || rowValues == null || rowValues.isEmpty()) {
+			return -1;
 		}
 
-		rowComponents.add(dataComponent);
+		// Add the rows and notify the listeners once
+		int firstIndex = rowCount;
+		ensureCapacity(rowCount + rowValues.size());
+		for (List<String> values : rowValues) {
+			appendRow(values);
+		}
 		notifyListeners();
 
-		// Index shift -> index 0 of rowComponents are the column tags and are
-		// not considered rows.
-		return rowComponents.size() - 2;
+		return firstIndex;
+	}
+
+	/**
+	 * This private operation appends a row to every column, using the given
+	 * values if they are available and the template's values otherwise. It
+	 * does not notify listeners.
+	 * 
+	 * @param values
+	 *            The values for the cells of the row in column order or null
+	 *            if the template's values should be used.
+	 */
+	private void appendRow(List<String> values) {
+		for (int i = 0; i < columns.size(); i++) {
+			String value = (values != null && i < values.size())
+					? values.get(i) : null;
+			columns.get(i).add(value);
+		}
+		rowCount++;
+	}
+
+	/**
+	 * This private operation makes room for the given number of rows in every
+	 * column.
+	 */
+	private void ensureCapacity(int capacity) {
+		for (Column column : columns) {
+			column.values.ensureCapacity(capacity);
+		}
 	}
 
 	/**
@@ -250,32 +380,175 @@ public class TableComponent extends ICEObject implements Component {
 	public boolean deleteRow(int index) {
 
 		// Return if the index is deleting a row that does not exist
-		// Index shift -> index 0 of rowComponents are the column tags and are
-		// not considered rows.
-		// decrement by one from index
-		// Also do not delete row if index is negative
-		// Optimized for boolean operation
-		if (!(!rowComponents.isEmpty() & index < rowComponents.size() - 1 & index >= 0)) {
+		if (!containsRow(index)) {
+			return false;
+		}
+
+		ArrayList<Integer> indices = new ArrayList<Integer>(1);
+		indices.add(index);
+		return deleteRows(indices);
+	}
+
+	/**
+	 * <p>
+	 * This operation deletes a number of rows from the table at once. The
+	 * remaining rows are re-ordered to keep the row numbers sequential, just
+	 * as they are by deleteRow(), and selected rows keep their selection.
+	 * Listeners are only notified once for the whole batch.
+	 * </p>
+	 * 
+	 * @param indices
+	 *            <p>
+	 *            The indices of the rows that should be deleted. Indices of
+	 *            rows that do not exist and duplicates are ignored.
+	 *            </p>
+	 * @return
+	 * 		<p>
+	 *         True if at least one row was deleted, false otherwise.
+	 *         </p>
+	 */
+	public boolean deleteRows(Collection<Integer> indices) {
+
+		// Mark the rows that should be deleted
+		if (indices == null || indices.isEmpty()) {
+			return false;
+		}
+		boolean[] deleted = new boolean[rowCount];
+		int numDeleted = 0;
+		for (Integer index : indices) {
+			if (index != null && containsRow(index) && !deleted[index]) {
+				deleted[index] = true;
+				numDeleted++;
+			}
+		}
+		if (numDeleted == 0) {
 			return false;
 		}
 
-		// delete row
-		// Index shift -> index 0 of rowComponents are the column tags and are
-		// not considered rows.
-		rowComponents.remove(index + 1);
+		// Compact every column in a single pass
+		for (Column column : columns) {
+			column.removeRows(deleted);
+		}
 
-		// set indexes up
-		// Index shift -> index 0 of rowComponents are the column tags and are
-		// not considered rows.
-		// Add one to make adjustments into rowComponents index
-		for (int i = index + 1; i < rowComponents.size(); i++) {
-			rowComponents.get(i).setId(i);
+		// Shift the selected rows to their new ids
+		if (!selectedRows.isEmpty()) {
+			int[] newIds = new int[rowCount];
+			for (int i = 0, id = 0; i < rowCount; i++) {
+				newIds[i] = deleted[i] ? -1 : id++;
+			}
+			ArrayList<Integer> newSelection = new ArrayList<Integer>();
+			for (int rowId : selectedRows) {
+				if (containsRow(rowId) && newIds[rowId] >= 0) {
+					newSelection.add(newIds[rowId]);
+				}
+			}
+			selectedRows = newSelection;
 		}
 
+		rowCount -= numDeleted;
 		notifyListeners();
-		// return true
+
 		return true;
+	}
+
+	/**
+	 * <p>
+	 * This operation deletes every row in the table, leaving only the row
+	 * template, and clears the selected rows. Listeners are notified once
+	 * instead of once per row.
+	 * </p>
+	 */
+	public void deleteAllRows() {
+
+		if (rowCount > 0) {
+			for (Column column : columns) {
+				column.clear();
+			}
+			rowCount = 0;
+			selectedRows.clear();
+			notifyListeners();
+		}
+
+		return;
+	}
+
+	/**
+	 * <p>
+	 * This operation returns the values of all of the cells in a column in row
+	 * order.
+	 * </p>
+	 * 
+	 * @param columnName
+	 *            <p>
+	 *            The name of the column.
+	 *            </p>
+	 * @return
+	 * 		<p>
+	 *         A new list with the values of the column or null if the table
+	 *         does not have a column with that name.
+	 *         </p>
+	 */
+	public ArrayList<String> getColumn(String columnName) {
+
+		// Find the column
+		Integer index = (columnName != null) ? columnIndex.get(columnName)
+				: null;
+		if (index == null) {
+			return null;
+		}
+
+		// Copy its values
+		Column column = columns.get(index);
+		ArrayList<String> values = new ArrayList<String>(rowCount);
+		for (int i = 0; i < rowCount; i++) {
+			values.add(column.getValue(i));
+		}
+
+		return values;
+	}
+
+	/**
+	 * <p>
+	 * This operation sets the values of the cells in a column, starting with
+	 * the first row. Listeners are notified once for the whole column.
+	 * </p>
+	 * 
+	 * @param columnName
+	 *            <p>
+	 *            The name of the column.
+	 *            </p>
+	 * @param values
+	 *            <p>
+	 *            The new values in row order. Null values leave their cells
+	 *            unchanged and values past the last row are ignored.
+	 *            </p>
+	 * @return
+	 * 		<p>
+	 *         True if the column exists and the values were set, false
+	 *         otherwise.
+	 *         </p>
+	 */
+	public boolean setColumn(String columnName, List<String> values) {
+
+		// Find the column
+		Integer index = (columnName != null) ? columnIndex.get(columnName)
+				: null;
+		if (index == null || values == null) {
+			return false;
+		}
+
+		// Set the values and notify the listeners once
+		Column column = columns.get(index);
+		int size = Math.min(values.size(), rowCount);
+		for (int i = 0; i < size; i++) {
+			String value = values.get(i);
+			if (value != null) {
+				column.setValue(i, value);
+			}
+		}
+		notifyListeners();
 
+		return true;
 	}
 
 	/**
@@ -319,12 +592,44 @@ public class TableComponent extends ICEObject implements Component {
 			dataComponent.addEntry(template.get(i));
 		}
 
-		// add dataComponent to rowComponents
-		rowComponents.add(dataComponent);
+		// Create the columns
+		setTemplate(dataComponent);
 
 		this.notifyListeners();
 	}
 
+	/**
+	 * This private operation stores the row template and creates one column
+	 * for each of its Entries. Existing rows get the template's values.
+	 * 
+	 * @param template
+	 *            The DataComponent that holds the template Entries.
+	 */
+	private void setTemplate(DataComponent template) {
+		rowTemplate = template;
+		columns.clear();
+		columnIndex.clear();
+		for (IEntry entry : template.retrieveAllEntries()) {
+			Column column = new Column(entry);
+			for (int i = 0; i < rowCount; i++) {
+				column.add(null);
+			}
+			addColumn(column);
+		}
+	}
+
+	/**
+	 * This private operation adds a column to the table and indexes it by
+	 * name.
+	 */
+	private void addColumn(Column column) {
+		String name = column.template.getName();
+		if (name != null && !columnIndex.containsKey(name)) {
+			columnIndex.put(name, columns.size());
+		}
+		columns.add(column);
+	}
+
 	/**
 	 * <p>
 	 * This operation returns the row template for this TableComponent.
@@ -336,22 +641,14 @@ public class TableComponent extends ICEObject implements Component {
 	 *         </p>
 	 */
 	public ArrayList<IEntry> getRowTemplate() {
-		// Local Declarations
-		int i = 0;
 
 		// Return null if the rowTemplate has not been set
-		if (this.columnNames.isEmpty()) {
+		if (this.columnNames.isEmpty() || rowTemplate == null) {
 			return null;
 		}
 
 		// Create a new ArrayList and return it.
-		ArrayList<IEntry> rowTemplate = new ArrayList<IEntry>();
-
-		for (i = 0; i < rowComponents.get(0).retrieveAllEntries().size(); i++) {
-			rowTemplate.add(rowComponents.get(0).retrieveAllEntries().get(i));
-		}
-
-		return rowTemplate;
+		return new ArrayList<IEntry>(rowTemplate.retrieveAllEntries());
 	}
 
 	/**
@@ -365,19 +662,10 @@ public class TableComponent extends ICEObject implements Component {
 	 *         </p>
 	 */
 	public ArrayList<Integer> getRowIds() {
-		// create a new arraylist
-		ArrayList<Integer> rowIds = new ArrayList<Integer>();
-
-		// add rowIds from hashTable
-		// Index shift -> index 0 of rowComponents are the column tags and are
-		// not considered rows.
-		// Only return rows and not the rowTemplate
-		for (int i = 1; i < rowComponents.size(); i++) {
-			// Return the rowIds in each rowComponent (better than returning a
-			// new arraylist of integers
-			// because this allows for better verification of Id setting on data
-			// component
-			rowIds.add(rowComponents.get(i).getId());
+		// create a new arraylist. Row ids are the row indices.
+		ArrayList<Integer> rowIds = new ArrayList<Integer>(rowCount);
+		for (int i = 0; i < rowCount; i++) {
+			rowIds.add(i);
 		}
 
 		return rowIds;
@@ -432,15 +720,24 @@ public class TableComponent extends ICEObject implements Component {
 			this.columnNames.add(otherTableComponent.columnNames.get(i));
 		}
 
-		// Deep copy row components
-		this.rowComponents.clear();
-		for (int i = 0; i < otherTableComponent.rowComponents.size(); i++) {
-			this.rowComponents
-					.add((DataComponent) otherTableComponent.rowComponents.get(
-							i).clone());
+		// Deep copy the template and the columns
+		columns.clear();
+		columnIndex.clear();
+		rowTemplate = null;
+		rowCount = otherTableComponent.rowCount;
+		if (otherTableComponent.rowTemplate != null) {
+			rowTemplate = (DataComponent) otherTableComponent.rowTemplate
+					.clone();
+			ArrayList<IEntry> templateEntries = rowTemplate
+					.retrieveAllEntries();
+			for (int i = 0; i < otherTableComponent.columns.size(); i++) {
+				addColumn(otherTableComponent.columns.get(i)
+						.copy(templateEntries.get(i)));
+			}
 		}
 
 		// Copy the selected rows
+		selectedRows.clear();
 		setSelectedRows(otherTableComponent.getSelectedRows());
 
 		// Notify the listeners
@@ -507,12 +804,20 @@ public class TableComponent extends ICEObject implements Component {
 		// At this point, other object must be a TableComponent, so cast it
 		TableComponent castedComponent = (TableComponent) otherTableComponent;
 
-		// Loop through columnNames and rowComponentfor equality.
-
+		// Check the column names, template, size and selection first
 		retVal = (this.columnNames.equals(castedComponent.columnNames))
-				&& (this.rowComponents.equals(castedComponent.rowComponents))
+				&& (rowCount == castedComponent.rowCount)
+				&& (columns.size() == castedComponent.columns.size())
+				&& (rowTemplate == null ? castedComponent.rowTemplate == null
+						: rowTemplate.equals(castedComponent.rowTemplate))
 				&& (this.selectedRows.equals(castedComponent.selectedRows));
 
+		// Check the cells, column by column
+		for (int i = 0; retVal && i < columns.size(); i++) {
+			retVal = columns.get(i).cellsEqual(castedComponent.columns.get(i),
+					rowCount);
+		}
+
 		return retVal;
 	}
 
@@ -531,13 +836,18 @@ public class TableComponent extends ICEObject implements Component {
 		// Local Declaration
 		int hash = 9;
 
-		// Compute hash code from TableComponent using rowComponents data
+		// Compute hash code from TableComponent using the template and the
+		// values of the cells
 		hash = 31 * hash + super.hashCode();
-		for (int i = 0; i < rowComponents.size(); i++) {
-			hash += 31 * rowComponents.get(i).hashCode();
+		hash = 31 * hash + (rowTemplate == null ? 0 : rowTemplate.hashCode());
+		for (Column column : columns) {
+			for (int i = 0; i < rowCount; i++) {
+				String value = column.getValue(i);
+				hash = 31 * hash + (value == null ? 0 : value.hashCode());
+			}
 		}
 		// Add the hash for the selected rows
-		hash *= selectedRows.hashCode();
+		hash = 31 * hash + selectedRows.hashCode();
 
 		return hash;
 	}
@@ -573,11 +883,9 @@ public class TableComponent extends ICEObject implements Component {
 		if (rows != null) {
 			// Create the new array to store the rows
 			ArrayList<Integer> rowsToStore = new ArrayList<Integer>();
-			// Get the rows ids in the table
-			ArrayList<Integer> rowIds = getRowIds();
 			// Check the incoming rows
 			for (int rowId : rows) {
-				if (rowIds.contains(rowId)) {
+				if (containsRow(rowId)) {
 					rowsToStore.add(rowId);
 				}
 			}
@@ -602,4 +910,293 @@ public class TableComponent extends ICEObject implements Component {
 
 	}
 
-}
\ No newline at end of file
+	/**
+	 * This operation is called by JAXB before the table is written. It creates
+	 * the DataComponents for the template and the rows that are persisted.
+	 * Entries that have not been handed out by getRow() are created for the
+	 * occasion and are not kept.
+	 * 
+	 * @param marshaller
+	 *            The Marshaller that is writing the table.
+	 */
+	private void beforeMarshal(Marshaller marshaller) {
+		rowComponents = new ArrayList<DataComponent>(rowCount + 1);
+		if (rowTemplate != null) {
+			rowComponents.add(rowTemplate);
+			for (int i = 0; i < rowCount; i++) {
+				DataComponent row = new DataComponent();
+				row.setId(i);
+				row.setName("Row");
+				row.setDescription("This is a row");
+				ArrayList<IEntry> entries = row.retrieveAllEntries();
+				for (Column column : columns) {
+					entries.add(column.peekEntry(i));
+				}
+				rowComponents.add(row);
+			}
+		}
+	}
+
+	/**
+	 * This operation is called by JAXB after the table is written. It releases
+	 * the persisted rows.
+	 * 
+	 * @param marshaller
+	 *            The Marshaller that wrote the table.
+	 */
+	private void afterMarshal(Marshaller marshaller) {
+		rowComponents = new ArrayList<DataComponent>();
+	}
+
+	/**
+	 * This operation is called by JAXB after the table is read. It loads the
+	 * columns from the persisted rows and then releases them. Cells that only
+	 * differ from the template by their values are stored as values.
+	 * 
+	 * @param unmarshaller
+	 *            The Unmarshaller that read the table.
+	 * @param parent
+	 *            The object that contains the table.
+	 */
+	private void afterUnmarshal(Unmarshaller unmarshaller, Object parent) {
+
+		// Load the template
+		rowCount = 0;
+		columns.clear();
+		columnIndex.clear();
+		if (rowComponents.isEmpty()) {
+			rowTemplate = null;
+			return;
+		}
+		setTemplate(rowComponents.get(0));
+
+		// Load the rows
+		ArrayList<IEntry> probes = new ArrayList<IEntry>(columns.size());
+		for (Column column : columns) {
+			probes.add((IEntry) column.template.clone());
+		}
+		for (int i = 1; i < rowComponents.size(); i++) {
+			ArrayList<IEntry> entries = rowComponents.get(i)
+					.retrieveAllEntries();
+			for (int j = 0; j < columns.size(); j++) {
+				Column column = columns.get(j);
+				IEntry entry = (j < entries.size()) ? entries.get(j) : null;
+				if (entry == null) {
+					column.add(null);
+				} else {
+					// Keep the Entry if it is not just a copy of the template
+					IEntry probe = probes.get(j);
+					probe.setValue(entry.getValue());
+					if (probe.equals(entry)) {
+						column.add(entry.getValue());
+					} else {
+						column.add(null);
+						column.setEntry(rowCount, entry);
+					}
+				}
+			}
+			rowCount++;
+		}
+
+		// Release the persisted rows
+		rowComponents = new ArrayList<DataComponent>();
+	}
+
+	/**
+	 * A Column holds the cells of one column of the table. Cells are stored as
+	 * values until an Entry is requested for them. After that, the Entry holds
+	 * the value of the cell.
+	 */
+	private static class Column {
+
+		/**
+		 * The template Entry from which the Entries of the cells are copied.
+		 */
+		private final IEntry template;
+
+		/**
+		 * The values of the cells that do not have Entries. The value of a
+		 * cell that has an Entry is null.
+		 */
+		private ArrayList<String> values;
+
+		/**
+		 * The Entries of the cells or null if no Entries have been created.
+		 * Cells without Entries are null.
+		 */
+		private ArrayList<IEntry> entries;
+
+		/**
+		 * The constructor.
+		 * 
+		 * @param template
+		 *            The template Entry of the column.
+		 */
+		public Column(IEntry template) {
+			this.template = template;
+			values = new ArrayList<String>();
+		}
+
+		/**
+		 * This operation adds a cell to the end of the column.
+		 * 
+		 * @param value
+		 *            The value of the cell or null if the template's value
+		 *            should be used.
+		 */
+		public void add(String value) {
+			values.add(value != null ? value : template.getValue());
+			if (entries != null) {
+				entries.add(null);
+			}
+		}
+
+		/**
+		 * This operation returns the value of a cell.
+		 */
+		public String getValue(int row) {
+			IEntry entry = (entries != null) ? entries.get(row) : null;
+			return (entry != null) ? entry.getValue() : values.get(row);
+		}
+
+		/**
+		 * This operation sets the value of a cell.
+		 */
+		public void setValue(int row, String value) {
+			IEntry entry = (entries != null) ? entries.get(row) : null;
+			if (entry != null) {
+				entry.setValue(value);
+			} else {
+				values.set(row, value);
+			}
+		}
+
+		/**
+		 * This operation returns the Entry of a cell, creating it from the
+		 * template if needed.
+		 */
+		public IEntry getEntry(int row) {
+			IEntry entry = (entries != null) ? entries.get(row) : null;
+			if (entry == null) {
+				entry = createEntry(row);
+				setEntry(row, entry);
+			}
+			return entry;
+		}
+
+		/**
+		 * This operation returns the Entry of a cell if it has one or a new
+		 * Entry that is not kept by the column if it does not.
+		 */
+		public IEntry peekEntry(int row) {
+			IEntry entry = (entries != null) ? entries.get(row) : null;
+			return (entry != null) ? entry : createEntry(row);
+		}
+
+		/**
+		 * This operation sets the Entry of a cell. The Entry holds the value
+		 * of the cell from now on.
+		 */
+		public void setEntry(int row, IEntry entry) {
+			if (entries == null) {
+				entries = new ArrayList<IEntry>(values.size());
+				for (int i = 0; i < values.size(); i++) {
+					entries.add(null);
+				}
+			}
+			entries.set(row, entry);
+			values.set(row, null);
+		}
+
+		/**
+		 * This operation creates an Entry for a cell from the template.
+		 */
+		private IEntry createEntry(int row) {
+			IEntry entry = (IEntry) template.clone();
+			String value = values.get(row);
+			if (value != null) {
+				entry.setValue(value);
+			}
+			return entry;
+		}
+
+		/**
+		 * This operation removes the marked cells from the column in a single
+		 * pass.
+		 * 
+		 * @param deleted
+		 *            True for each row that should be removed.
+		 */
+		public void removeRows(boolean[] deleted) {
+			int next = 0;
+			for (int i = 0; i < deleted.length; i++) {
+				if (!deleted[i]) {
+					values.set(next, values.get(i));
+					if (entries != null) {
+						entries.set(next, entries.get(i));
+					}
+					next++;
+				}
+			}
+			values.subList(next, values.size()).clear();
+			if (entries != null) {
+				entries.subList(next, entries.size()).clear();
+			}
+		}
+
+		/**
+		 * This operation removes every cell from the column.
+		 */
+		public void clear() {
+			values.clear();
+			entries = null;
+		}
+
+		/**
+		 * This operation returns true if the first rows of this column are
+		 * equal to those of another column. Unlike Entries, the
+		 * values of the cells are compared.
+		 */
+		public boolean cellsEqual(Column other, int rows) {
+			for (int i = 0; i < rows; i++) {
+				// Entries do not compare their values, so check them first
+				String value = getValue(i);
+				if (value == null ? other.getValue(i) != null
+						: !value.equals(other.getValue(i))) {
+					return false;
+				}
+				// Cells without Entries only differ by their values
+				boolean hasEntry = entries != null && entries.get(i) != null;
+				boolean otherHasEntry = other.entries != null
+						&& other.entries.get(i) != null;
+				if ((hasEntry || otherHasEntry)
+						&& !peekEntry(i).equals(other.peekEntry(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * This operation creates a deep copy of the column that uses a
+		 * different template Entry.
+		 * 
+		 * @param newTemplate
+		 *            The template Entry of the copy.
+		 * @return The copy.
+		 */
+		public Column copy(IEntry newTemplate) {
+			Column column = new Column(newTemplate);
+			column.values = new ArrayList<String>(values);
+			if (entries != null) {
+				column.entries = new ArrayList<IEntry>(entries.size());
+				for (IEntry entry : entries) {
+					column.entries.add(
+							(entry != null) ? (IEntry) entry.clone() : null);
+				}
+			}
+			return column;
+		}
+	}
+
+}
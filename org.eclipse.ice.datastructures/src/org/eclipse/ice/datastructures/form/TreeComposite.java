@@ -29,7 +29,9 @@ import javax.xml.bind.annotation.XmlTransient;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.Composite;
+import org.eclipse.ice.datastructures.ICEObject.ContentHash;
 import org.eclipse.ice.datastructures.ICEObject.ICEObject;
+import org.eclipse.ice.datastructures.ICEObject.IContentHashListener;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.ICEObject.ListComponent;
@@ -113,7 +115,10 @@ import org.eclipse.ice.datastructures.form.emf.EMFComponent;
  * added or removed, whenever the active data node is set, if allowed, and
  * whenever the parent is set. Those IComponentListeners that register with a
  * TreeComposite are also registered as listeners of its children and data nodes
- * because changes to those groups change the tree.
+ * because changes to those groups change the tree. Listeners that implement
+ * {@link ITreeCompositeListener} are also told which children were added or
+ * removed, so they do not have to look at all of the children after each
+ * change.
  * </p>
  * <p>
  * TreeComposites can be configured such that only nodes with specific
@@ -131,7 +136,7 @@ import org.eclipse.ice.datastructures.form.emf.EMFComponent;
 @XmlRootElement(name = "TreeComposite")
 @XmlAccessorType(XmlAccessType.FIELD)
 public class TreeComposite extends ICEObject implements Composite,
-		IComponentVisitor {
+		IComponentVisitor, IContentHashListener {
 	/**
 	 * <p>
 	 * The TreeComposite at the same level of the tree that comes before this
@@ -230,6 +235,34 @@ public class TreeComposite extends ICEObject implements Composite,
 	@XmlElement(name = "exemplar")
 	protected ArrayList<TreeComposite> childExemplars;
 
+	/**
+	 * True if the exemplars in childExemplars are shared with a TreeComposite
+	 * that this one was copied from or into, false if this tree owns them.
+	 * Shared exemplars are cloned the first time that they are handed out by
+	 * {@link #getChildExemplars()}, so copying a tree with a large set of
+	 * exemplars, like a MOOSE input tree, does not copy the whole exemplar
+	 * tree unless it is used.
+	 */
+	@XmlTransient
+	private boolean exemplarsShared = false;
+
+	/**
+	 * True if clients may hold the exemplars in childExemplars because they
+	 * were handed out by {@link #getChildExemplars()} or given to
+	 * {@link #setChildExemplars(ArrayList)}. Such exemplars may be changed in
+	 * place, so they are cloned when this tree is copied instead of shared.
+	 */
+	@XmlTransient
+	private boolean exemplarsEscaped = false;
+
+	/**
+	 * The lock that guards childExemplars and the flags that say who owns
+	 * them. A tree never takes another tree's lock while it holds its own,
+	 * except to clone its exemplars, which are below it.
+	 */
+	@XmlTransient
+	private final Object exemplarLock = new Object();
+
 	/**
 	 * <p>
 	 * True if the TreeComposite should be considered active, false if not.
@@ -239,6 +272,13 @@ public class TreeComposite extends ICEObject implements Composite,
 	@XmlAttribute
 	private boolean active = false;
 
+	/**
+	 * True if all of the data nodes and children recorded their changes when
+	 * the content hash was last computed.
+	 */
+	@XmlTransient
+	private boolean subtreeTracked = false;
+
 	/**
 	 * <p>
 	 * The constructor.
@@ -358,9 +398,11 @@ public class TreeComposite extends ICEObject implements Composite,
 		boolean canAdd = true;
 
 		// If there is a list of child exemplars, a check needs to be performed.
-		if (hasChildExemplars()) {
-			// Make sure the new child matches one of the exemplars.
-			canAdd = childExemplars.contains(cNode);
+		synchronized (exemplarLock) {
+			if (!childExemplars.isEmpty()) {
+				// Make sure the new child matches one of the exemplars.
+				canAdd = childExemplars.contains(cNode);
+			}
 		}
 		return canAdd;
 	}
@@ -410,6 +452,10 @@ public class TreeComposite extends ICEObject implements Composite,
 			for (IUpdateableListener listener : listeners) {
 				cNode.register(listener);
 			}
+			// Tell the tree listeners which child was added
+			for (ITreeCompositeListener listener : getTreeListeners()) {
+				listener.childAdded(this, cNode);
+			}
 			// Notify any listeners that a this tree was changed
 			notifyListeners();
 		}
@@ -485,6 +531,11 @@ public class TreeComposite extends ICEObject implements Composite,
 			for (IUpdateableListener listener : listeners) {
 				cNode.unregister(listener);
 			}
+			cNode.unregisterContentHashListener(this);
+			// Tell the tree listeners which child was removed
+			for (ITreeCompositeListener listener : getTreeListeners()) {
+				listener.childRemoved(this, cNode);
+			}
 			// Notify any listeners
 			notifyListeners();
 		}
@@ -493,6 +544,23 @@ public class TreeComposite extends ICEObject implements Composite,
 
 	}
 
+	/**
+	 * This operation returns the listeners of this tree that want to know
+	 * which children were added or removed. A copy is returned so that the
+	 * listeners can register and unregister while they are notified.
+	 * 
+	 * @return The tree listeners.
+	 */
+	private List<ITreeCompositeListener> getTreeListeners() {
+		List<ITreeCompositeListener> treeListeners = new ArrayList<ITreeCompositeListener>();
+		for (IUpdateableListener listener : listeners) {
+			if (listener instanceof ITreeCompositeListener) {
+				treeListeners.add((ITreeCompositeListener) listener);
+			}
+		}
+		return treeListeners;
+	}
+
 	/**
 	 * <p>
 	 * This operation returns the number of children of this TreeComposite.
@@ -754,6 +822,87 @@ public class TreeComposite extends ICEObject implements Composite,
 		return hash;
 	}
 
+	/**
+	 * This operation computes the content hash from the identity and state of
+	 * the TreeComposite and the content hashes of its data nodes and children,
+	 * so only the sub-trees that changed are hashed again. The tree registers
+	 * with them as an {@link IContentHashListener}, so a change anywhere in
+	 * the sub-tree marks the tree changed. The parent and sibling references,
+	 * the child iterator and the child exemplars are not content and are not
+	 * included.
+	 * <p>
+	 * Data nodes that are added to or removed from the list returned by
+	 * {@link #getDataNodes()} directly are not recorded, so such changes must
+	 * be followed by a call to an operation that notifies the listeners.
+	 * </p>
+	 * 
+	 * @see ICEObject#computeContentHash()
+	 */
+	@Override
+	protected long computeContentHash() {
+
+		// Local Declarations
+		boolean tracked = true;
+		int activeIndex = -1;
+
+		long hash = ContentHash.add(ContentHash.SEED, getClass().getName());
+		hash = ContentHash.add(hash, (long) uniqueId);
+		hash = ContentHash.add(hash, objectName);
+		hash = ContentHash.add(hash, objectDescription);
+		hash = ContentHash.add(hash, active);
+		hash = ContentHash.add(hash, allowActiveDataNodes);
+
+		// Add the data nodes
+		for (int i = 0; i < dataNodes.size(); i++) {
+			Component node = dataNodes.get(i);
+			if (node instanceof ICEObject) {
+				((ICEObject) node).registerContentHashListener(this);
+				hash = ContentHash.add(hash,
+						((ICEObject) node).getContentHash());
+				tracked &= ((ICEObject) node).isContentTracked();
+			} else {
+				hash = ContentHash.add(hash, (long) node.hashCode());
+				tracked = false;
+			}
+			if (node == activeDataNode) {
+				activeIndex = i;
+			}
+		}
+		hash = ContentHash.add(hash, (long) activeIndex);
+
+		// Add the children
+		for (TreeComposite child : children) {
+			child.registerContentHashListener(this);
+			hash = ContentHash.add(hash, child.getContentHash());
+			tracked &= child.isContentTracked();
+		}
+		subtreeTracked = tracked;
+
+		return hash;
+	}
+
+	/**
+	 * This operation returns true if all of the data nodes and children
+	 * recorded their changes when the content hash was last computed.
+	 * 
+	 * @see ICEObject#isContentTracked()
+	 */
+	@Override
+	public boolean isContentTracked() {
+		return subtreeTracked;
+	}
+
+	/**
+	 * This operation marks the content of the TreeComposite changed when one
+	 * of its data nodes or children changes.
+	 * 
+	 * @see IContentHashListener#partChanged(Object)
+	 */
+	@Override
+	public void partChanged(Object part) {
+		contentChanged();
+	}
+
 	/**
 	 * <p>
 	 * This operation performs a deep copy of the attributes of another
@@ -777,6 +926,13 @@ public class TreeComposite extends ICEObject implements Composite,
 	 * TreeComposite into the current TreeComposite. It copies ALL of the
 	 * children of the TreeComposite, data and child nodes alike.
 	 * 
+	 * The child exemplars are copied on write. If no client can hold them,
+	 * they are shared by both trees until they are retrieved from either one,
+	 * at which point that tree gets its own clones of them. Exemplars that
+	 * were already retrieved from or set on the other tree are cloned right
+	 * away. Either way, changes to the exemplars of one tree never show up in
+	 * the other.
+	 * 
 	 * This version of the copy method is tailored specifically for instances
 	 * of TreeComposites that can be "copied in place" in a TreeComposite
 	 * structure with multiple levels (ie. when copying data into a TreeComposite
@@ -874,18 +1030,40 @@ public class TreeComposite extends ICEObject implements Composite,
 		// Copy activity marker
 		this.active = otherTreeComposite.active;
 
-		// Copy the exemplars
-		this.childExemplars.clear();
-		for (int i = 0; i < otherTreeComposite.childExemplars.size(); i++) {
-			this.childExemplars
-					.add((TreeComposite) otherTreeComposite.childExemplars.get(
-							i).clone());
+		// Share the exemplars until they are needed. They are cloned by
+		// getChildExemplars(), so both trees have to know that they no longer
+		// own them. Exemplars that clients may hold are cloned now instead.
+		ArrayList<TreeComposite> exemplars;
+		boolean share;
+		synchronized (otherTreeComposite.exemplarLock) {
+			exemplars = new ArrayList<TreeComposite>(
+					otherTreeComposite.childExemplars);
+			share = !exemplars.isEmpty()
+					&& !otherTreeComposite.exemplarsEscaped;
+			if (share) {
+				otherTreeComposite.exemplarsShared = true;
+			}
+		}
+		if (!share) {
+			for (int i = 0; i < exemplars.size(); i++) {
+				exemplars.set(i, (TreeComposite) exemplars.get(i).clone());
+			}
+		}
+		synchronized (exemplarLock) {
+			childExemplars = exemplars;
+			exemplarsShared = share;
+			exemplarsEscaped = false;
 		}
 
 		// Re-register with all of the listeners.
 		for (IUpdateableListener listener : listenersCopy) {
 			register(listener);
 		}
+		// All of the children were replaced, so the tree listeners have to
+		// look at all of them.
+		for (ITreeCompositeListener listener : getTreeListeners()) {
+			listener.childrenReset(this);
+		}
 		// Notify the listeners that this tree has changed.
 		this.notifyListeners();
 
@@ -932,7 +1110,12 @@ public class TreeComposite extends ICEObject implements Composite,
 
 		// Check that the incoming list is valid
 		if (exemplars != null) {
-			childExemplars = (ArrayList<TreeComposite>) exemplars.clone();
+			synchronized (exemplarLock) {
+				childExemplars = (ArrayList<TreeComposite>) exemplars.clone();
+				exemplarsShared = false;
+				// The caller still holds the exemplars
+				exemplarsEscaped = true;
+			}
 		}
 
 		return;
@@ -954,20 +1137,24 @@ public class TreeComposite extends ICEObject implements Composite,
 		// Check the input Tree is valid
 		if (exemplar != null) {
 
-			// Check if there already is a child exemplar of the same name
-			for (int i = 0; i < childExemplars.size(); i++) {
-				currExemplar = childExemplars.get(i);
+			// Clone the new child exemplar before taking the lock
+			TreeComposite cloneExemplar = (TreeComposite) exemplar.clone();
 
-				// If it's already in the list, remove it
-				if (currExemplar.getName().equals(exemplar.getName())) {
-					childExemplars.remove(i);
-					break;
+			synchronized (exemplarLock) {
+				// Check if there already is a child exemplar of the same name
+				for (int i = 0; i < childExemplars.size(); i++) {
+					currExemplar = childExemplars.get(i);
+
+					// If it's already in the list, remove it
+					if (currExemplar.getName().equals(exemplar.getName())) {
+						childExemplars.remove(i);
+						break;
+					}
 				}
-			}
 
-			// Add the new child exemplar
-			TreeComposite cloneExemplar = (TreeComposite) exemplar.clone();
-			childExemplars.add(cloneExemplar);
+				// Add the new child exemplar
+				childExemplars.add(cloneExemplar);
+			}
 		}
 
 		return;
@@ -986,7 +1173,24 @@ public class TreeComposite extends ICEObject implements Composite,
 	 *         </p>
 	 */
 	public ArrayList<TreeComposite> getChildExemplars() {
-		return (ArrayList<TreeComposite>) childExemplars.clone();
+
+		synchronized (exemplarLock) {
+			// Take ownership of any exemplars that are shared with the trees
+			// that this one was copied from or into before handing them out.
+			if (exemplarsShared) {
+				ArrayList<TreeComposite> owned = new ArrayList<TreeComposite>(
+						childExemplars.size());
+				for (TreeComposite exemplar : childExemplars) {
+					owned.add((TreeComposite) exemplar.clone());
+				}
+				childExemplars = owned;
+				exemplarsShared = false;
+			}
+			// The caller may change them from now on
+			exemplarsEscaped = true;
+
+			return (ArrayList<TreeComposite>) childExemplars.clone();
+		}
 	}
 
 	/**
@@ -1003,7 +1207,9 @@ public class TreeComposite extends ICEObject implements Composite,
 	 *         </p>
 	 */
 	public boolean hasChildExemplars() {
-		return !childExemplars.isEmpty();
+		synchronized (exemplarLock) {
+			return !childExemplars.isEmpty();
+		}
 	}
 
 	/**
@@ -1114,6 +1320,9 @@ public class TreeComposite extends ICEObject implements Composite,
 				for (IUpdateableListener listener : listeners) {
 					component.unregister(listener);
 				}
+				if (component instanceof ICEObject) {
+					((ICEObject) component).unregisterContentHashListener(this);
+				}
 				// Notify any listeners
 				notifyListeners();
 				return;
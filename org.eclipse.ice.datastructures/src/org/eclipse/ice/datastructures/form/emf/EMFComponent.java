@@ -12,11 +12,16 @@
  *******************************************************************************/
 package org.eclipse.ice.datastructures.form.emf;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.HashMap;
+import java.util.Map;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -47,6 +52,13 @@ import org.xml.sax.SAXException;
  * EMFComponent provides serialization and de-serialization routines for the
  * encapsulated XML resource.
  * 
+ * Generating the Ecore model from a schema is expensive, so the XMLProcessors
+ * are shared by all EMFComponents that use the same schema file until that
+ * file changes. Large XML files can be loaded lazily, in which case the
+ * EMFTreeComposites are only created for the parts of the Ecore model tree
+ * that are requested, and all files are saved through a buffered stream
+ * instead of being built in memory first.
+ * 
  * @author Alex McCaskey
  */
 @XmlRootElement(name = "EMFComponent")
@@ -77,6 +89,39 @@ public class EMFComponent extends ICEObject implements Component {
 	@XmlTransient
 	private XMLResource xmlResource;
 
+	/**
+	 * True if the EMFTreeComposite should be created lazily from the Ecore
+	 * model tree when a file is loaded. False by default.
+	 */
+	@XmlTransient
+	private boolean lazyLoading = false;
+
+	/**
+	 * The XMLProcessors that have been created, keyed on the absolute path of
+	 * their XML schema. Each is stored with the modification time of the
+	 * schema when it was created so that it can be replaced if the schema
+	 * changes.
+	 */
+	private static final Map<String, CachedProcessor> processors = new HashMap<String, CachedProcessor>();
+
+	/**
+	 * The number of bytes that are buffered when loading and saving files.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * An XMLProcessor in the cache and the modification time of its schema.
+	 */
+	private static class CachedProcessor {
+		private final XMLProcessor processor;
+		private final long lastModified;
+
+		private CachedProcessor(XMLProcessor processor, long lastModified) {
+			this.processor = processor;
+			this.lastModified = lastModified;
+		}
+	}
+
 	/**
 	 * The nullary constructor
 	 * 
@@ -102,10 +147,10 @@ public class EMFComponent extends ICEObject implements Component {
 
 		// Make sure we have a valid File object.
 		if (file != null) {
-			// Create a new XMLProcessor to be used in creating
+			// Get the XMLProcessor to be used in creating
 			// and persisting XML Resources
 			try {
-				xmlProcessor = new XMLProcessor(URI.createFileURI(file.getAbsolutePath()));
+				xmlProcessor = getProcessor(file);
 			} catch (SAXException e) {
 				logger.error(getClass().getName() + " Exception!", e);
 			}
@@ -144,6 +189,66 @@ public class EMFComponent extends ICEObject implements Component {
 		return;
 	}
 
+	/**
+	 * This operation returns the XMLProcessor for the given XML schema. The
+	 * processor is created the first time that the schema is used and is then
+	 * shared until the schema file is modified. The processors only read their
+	 * package registries when loading and saving, so they can be shared.
+	 * 
+	 * @param schema
+	 *            The XML schema
+	 * @return The XMLProcessor for the schema
+	 * @throws SAXException
+	 *             if the schema could not be read
+	 */
+	private static XMLProcessor getProcessor(File schema) throws SAXException {
+
+		String path = schema.getAbsolutePath();
+		long lastModified = schema.lastModified();
+
+		synchronized (processors) {
+			CachedProcessor cached = processors.get(path);
+			if (cached == null || cached.lastModified != lastModified) {
+				cached = new CachedProcessor(
+						new XMLProcessor(URI.createFileURI(path)),
+						lastModified);
+				processors.put(path, cached);
+			}
+			return cached.processor;
+		}
+	}
+
+	/**
+	 * This operation sets whether or not the EMFTreeComposite should be
+	 * created lazily when a file is loaded. If it is, the children of each
+	 * EMFTreeComposite are only created from the Ecore model tree when they
+	 * are first requested. This should be used for large files, most of which
+	 * will never be looked at.
+	 * <p>
+	 * Only the EMFTreeComposites are created lazily. The XMLProcessor still
+	 * reads the whole file into an EMF resource, so the Ecore model of the
+	 * file is always in memory and loading does not use bounded memory. What
+	 * is saved is the ICE tree, with its DataComponents and Entries, for the
+	 * parts of the file that are never opened.
+	 * </p>
+	 * 
+	 * @param lazy
+	 *            True if files should be loaded lazily, false otherwise.
+	 */
+	public void setLazyLoading(boolean lazy) {
+		lazyLoading = lazy;
+	}
+
+	/**
+	 * This operation returns true if files are loaded lazily.
+	 * 
+	 * @return True if files are loaded lazily, false otherwise.
+	 * @see #setLazyLoading(boolean)
+	 */
+	public boolean isLazyLoading() {
+		return lazyLoading;
+	}
+
 	/**
 	 * Return the generated EMFTreeComposite that represents the Ecore domain
 	 * model.
@@ -164,7 +269,10 @@ public class EMFComponent extends ICEObject implements Component {
 
 		// Local Declarations
 		boolean created = false;
-		FileOutputStream outputStream = null;
+
+		// Write the file in chunks instead of building all of it in memory
+		Map<Object, Object> options = new HashMap<Object, Object>();
+		options.put(XMLResource.OPTION_FLUSH_THRESHOLD, BUFFER_SIZE);
 
 		try {
 			// If the file already exists, we are
@@ -177,16 +285,15 @@ public class EMFComponent extends ICEObject implements Component {
 			created = saveFile.createNewFile();
 
 			if (created) {
-				// Create the output stream
-				outputStream = new FileOutputStream(saveFile);
-
 				xmlResource.getContents().clear();
 				xmlResource.getContents().add(iceEMFTree.getEcoreNode());
 
-				// Direct the XMLProcessor to save the Resource
-				xmlProcessor.save(outputStream, xmlResource, null);
-
-				outputStream.close();
+				// Direct the XMLProcessor to save the Resource through a
+				// buffered output stream
+				try (OutputStream outputStream = new BufferedOutputStream(
+						new FileOutputStream(saveFile), BUFFER_SIZE)) {
+					xmlProcessor.save(outputStream, xmlResource, options);
+				}
 
 				// Indicate success
 				return true;
@@ -211,10 +318,10 @@ public class EMFComponent extends ICEObject implements Component {
 	 * @return
 	 */
 	public boolean load(File schema, File file) {
-		// Create a new XMLProcessor to be used in creating
+		// Get the XMLProcessor to be used in creating
 		// and persisting XML Resources
 		try {
-			xmlProcessor = new XMLProcessor(URI.createFileURI(schema.getAbsolutePath()));
+			xmlProcessor = getProcessor(schema);
 		} catch (SAXException e) {
 			logger.error(getClass().getName() + " Exception!", e);
 			return false;
@@ -235,8 +342,9 @@ public class EMFComponent extends ICEObject implements Component {
 		EObject documentRoot = null;
 
 		if (xmlProcessor != null) {
-			try {
-				xmlResource = (XMLResource) xmlProcessor.load(new FileInputStream(file), null);
+			try (InputStream inputStream = new BufferedInputStream(
+					new FileInputStream(file), BUFFER_SIZE)) {
+				xmlResource = (XMLResource) xmlProcessor.load(inputStream, null);
 			} catch (IOException e) {
 				logger.error(getClass().getName() + " Exception!", e);
 				return false;
@@ -250,9 +358,15 @@ public class EMFComponent extends ICEObject implements Component {
 			return false;
 		}
 
+		// If the tree should be loaded lazily, only create the root node. Its
+		// children are created from the Ecore tree when they are requested.
+		if (documentRoot != null && lazyLoading) {
+			iceEMFTree = new EMFTreeComposite(documentRoot, true);
+			iceEMFTree.setId(1);
+		}
 		// If we have a valid document root node, we should walk
 		// and create the EMFTreeComposite
-		if (documentRoot != null) {
+		else if (documentRoot != null) {
 			// Create the root node EMFTreeComposite
 			int id = 1;
 			iceEMFTree = new EMFTreeComposite(documentRoot);
@@ -360,6 +474,7 @@ public class EMFComponent extends ICEObject implements Component {
 
 			// Copy contents into super and current object
 			super.copy(otherEMFComponent);
+			lazyLoading = otherEMFComponent.lazyLoading;
 
 			// TODO Do rest of copy...
 			// FIXME ECOREUTILS
@@ -13,7 +13,11 @@
 package org.eclipse.ice.datastructures.form.emf;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
+import javax.xml.bind.Marshaller;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -26,6 +30,8 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.ice.datastructures.ICEObject.Component;
+import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.form.DataComponent;
 import org.eclipse.ice.datastructures.form.TreeComposite;
 
@@ -46,6 +52,12 @@ import org.eclipse.ice.datastructures.form.TreeComposite;
  * and remove Ecore model nodes whenever a new child is added to this
  * TreeComposite.
  * 
+ * EMFTreeComposites for large Ecore model trees can be loaded lazily. In that
+ * case the children of a tree are only created from the children of its
+ * EObject the first time they are requested, so trees that are never opened
+ * are never created. The children get the same ids, in the pre-order of the
+ * Ecore tree, as they would if the whole tree were created at once.
+ * 
  * @author Alex McCaskey
  * 
  */
@@ -69,6 +81,24 @@ public class EMFTreeComposite extends TreeComposite {
 	@XmlTransient
 	private EClass ecoreNodeMetaData;
 
+	/**
+	 * True if the children of this tree have been created from the children
+	 * of its ecoreNode or if they never need to be. Lazily loaded trees set
+	 * this to false until their children are first requested.
+	 */
+	@XmlTransient
+	private boolean childrenLoaded = true;
+
+	/**
+	 * The sizes of the Ecore sub-trees that have been counted but whose trees
+	 * have not been created yet, keyed by the EObject at their root. It is
+	 * shared by all of the trees loaded lazily from the same root, so each
+	 * sub-tree is only counted once. It is null if the tree is not loaded
+	 * lazily.
+	 */
+	@XmlTransient
+	private Map<EObject, Integer> subtreeSizes;
+
 	/**
 	 * The nullary-constructor
 	 */
@@ -119,6 +149,151 @@ public class EMFTreeComposite extends TreeComposite {
 		return;
 	}
 
+	/**
+	 * The constructor, takes a Ecore model tree EObject node instance that is
+	 * already part of an Ecore model tree and optionally loads the children
+	 * of that node lazily. If lazy loading is requested, the children of this
+	 * tree, and their children in turn, are created from the children of the
+	 * EObject when they are first requested instead of by the caller. The ids
+	 * of the children follow the id of this tree in the pre-order of the
+	 * Ecore tree.
+	 * 
+	 * @param treeNode
+	 *            The EObject node
+	 * @param lazy
+	 *            True if the children should be loaded lazily, false if the
+	 *            tree should start without children like
+	 *            {@link #EMFTreeComposite(EObject)}.
+	 */
+	public EMFTreeComposite(EObject treeNode, boolean lazy) {
+		this(treeNode);
+		if (lazy) {
+			childrenLoaded = false;
+			subtreeSizes = Collections
+					.synchronizedMap(new IdentityHashMap<EObject, Integer>());
+		}
+		return;
+	}
+
+	/**
+	 * This constructor creates a lazily loaded child of a lazily loaded tree.
+	 * 
+	 * @param treeNode
+	 *            The EObject node of the child
+	 * @param id
+	 *            The id of the child
+	 * @param sizes
+	 *            The sub-tree sizes shared by the whole tree
+	 */
+	private EMFTreeComposite(EObject treeNode, int id,
+			Map<EObject, Integer> sizes) {
+		this(treeNode);
+		setId(id);
+		childrenLoaded = false;
+		subtreeSizes = sizes;
+		return;
+	}
+
+	/**
+	 * This operation creates the children of a lazily loaded tree from the
+	 * children of its ecoreNode, in document order, if that has not been done
+	 * yet. Each child gets the id that it would have in a pre-order walk of
+	 * the Ecore tree: the id of this tree plus one for the first child, and
+	 * the id of the previous child plus the size of its sub-tree for the
+	 * others. The size of each sub-tree is only counted once for the whole
+	 * tree, so opening every tree takes linear time. The ids therefore do not depend on the order in which the trees
+	 * are opened. The children are linked to the tree directly instead of
+	 * through setNextChild() because their EObjects are already in the Ecore
+	 * model and because loading them does not change the tree, so the
+	 * listeners are registered with the children but not notified.
+	 */
+	private synchronized void loadChildren() {
+
+		if (!childrenLoaded) {
+			// Mark the tree first so that nothing below loads it again
+			childrenLoaded = true;
+
+			int id = getId() + 1;
+			EMFTreeComposite previous = null;
+			for (EObject ecoreChild : ecoreNode.eContents()) {
+				EMFTreeComposite child = new EMFTreeComposite(ecoreChild, id,
+						subtreeSizes);
+				// Skip the ids of the child's sub-tree
+				id += getSubtreeSize(ecoreChild);
+				// Link the siblings and the parent
+				if (previous != null) {
+					previous.nextSibling = child;
+					child.previousSibling = previous;
+				}
+				child.parent = this;
+				children.add(child);
+				for (IUpdateableListener listener : listeners) {
+					child.register(listener);
+				}
+				previous = child;
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation returns the number of nodes of the sub-tree of an
+	 * EObject, including the EObject. The size is taken from
+	 * {@link #subtreeSizes} if it was counted before and removed, since the
+	 * tree of each EObject is only created once.
+	 * 
+	 * @param ecoreObject
+	 *            The root of the sub-tree
+	 * @return The number of nodes
+	 */
+	private int getSubtreeSize(EObject ecoreObject) {
+		Integer size = subtreeSizes.remove(ecoreObject);
+		return (size != null) ? size : countNodes(ecoreObject);
+	}
+
+	/**
+	 * This operation counts the nodes of the sub-tree of an EObject,
+	 * including the EObject, and stores the sizes of the sub-trees of its
+	 * descendants in {@link #subtreeSizes} so that they are not counted again
+	 * when their parents are opened.
+	 * 
+	 * @param ecoreObject
+	 *            The root of the sub-tree
+	 * @return The number of nodes
+	 */
+	private int countNodes(EObject ecoreObject) {
+		int count = 1;
+		for (EObject ecoreChild : ecoreObject.eContents()) {
+			int childCount = countNodes(ecoreChild);
+			subtreeSizes.put(ecoreChild, childCount);
+			count += childCount;
+		}
+		return count;
+	}
+
+	/**
+	 * This operation returns true if the children of this tree have been
+	 * created. It is only false for lazily loaded trees whose children have
+	 * not been requested yet.
+	 * 
+	 * @return True if the children are loaded, false otherwise.
+	 */
+	public boolean isLoaded() {
+		return childrenLoaded;
+	}
+
+	/**
+	 * This operation is called by JAXB before this tree is marshalled. It
+	 * loads the children of lazily loaded trees so that they are persisted.
+	 * 
+	 * @param marshaller
+	 *            The marshaller
+	 */
+	private void beforeMarshal(Marshaller marshaller) {
+		loadChildren();
+	}
+
 	/**
 	 * This method reads through this ECore node's EAttributes and creates an
 	 * active DataComponent data node from them.
@@ -163,6 +338,7 @@ public class EMFTreeComposite extends TreeComposite {
 	 */
 	@Override
 	public ArrayList<TreeComposite> getChildExemplars() {
+		loadChildren();
 		ArrayList<TreeComposite> exemplars = new ArrayList<TreeComposite>();
 		boolean childExists = false;
 
@@ -251,6 +427,7 @@ public class EMFTreeComposite extends TreeComposite {
 		// Local Declarations
 		EMFTreeComposite castedTree;
 		EReference exemplar;
+		loadChildren();
 		int currentSize = children.size();
 
 		// Set the next child. This will use our custom checkExemplars method
@@ -375,6 +552,7 @@ public class EMFTreeComposite extends TreeComposite {
 	public void removeChild(TreeComposite cNode) {
 		// Local Declarations
 		EStructuralFeature childStructuralFeature = null;
+		loadChildren();
 		int currentSize = children.size();
 
 		// Remove the TreeComposite from this TreeComposite
@@ -399,13 +577,129 @@ public class EMFTreeComposite extends TreeComposite {
 		return;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.ice.datastructures.form.TreeComposite#getNextChild()
+	 */
+	@Override
+	public TreeComposite getNextChild() {
+		loadChildren();
+		return super.getNextChild();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.ice.datastructures.form.TreeComposite#getPreviousChild()
+	 */
+	@Override
+	public TreeComposite getPreviousChild() {
+		loadChildren();
+		return super.getPreviousChild();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.datastructures.form.TreeComposite#getNumberOfChildren()
+	 */
+	@Override
+	public int getNumberOfChildren() {
+		loadChildren();
+		return super.getNumberOfChildren();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.datastructures.form.TreeComposite#getChildAtIndex(int)
+	 */
+	@Override
+	public TreeComposite getChildAtIndex(int index) {
+		loadChildren();
+		return super.getChildAtIndex(index);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.datastructures.form.TreeComposite#getComponent(int)
+	 */
+	@Override
+	public Component getComponent(int childId) {
+		loadChildren();
+		return super.getComponent(childId);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.ice.datastructures.form.TreeComposite#getComponents()
+	 */
+	@Override
+	public ArrayList<Component> getComponents() {
+		loadChildren();
+		return super.getComponents();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.datastructures.form.TreeComposite#getNumberOfComponents()
+	 */
+	@Override
+	public int getNumberOfComponents() {
+		loadChildren();
+		return super.getNumberOfComponents();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.datastructures.form.TreeComposite#removeComponent(int)
+	 */
+	@Override
+	public void removeComponent(int childId) {
+		loadChildren();
+		super.removeComponent(childId);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.datastructures.form.TreeComposite#computeContentHash()
+	 */
+	@Override
+	protected long computeContentHash() {
+		loadChildren();
+		return super.computeContentHash();
+	}
+
 	/**
 	 * This operation is used to check equality between the EMFTreeComposite and
 	 * another EMFTreeComposite. It returns true if the EMFTreeComposites are
-	 * equal and false if they are not.
+	 * equal and false if they are not. Lazily loaded children are only loaded
+	 * if the ids and names of the trees match, since everything else about
+	 * the trees has to be compared anyway.
 	 */
 	@Override
 	public boolean equals(Object otherTreeComposite) {
+		if (otherTreeComposite instanceof EMFTreeComposite
+				&& otherTreeComposite != this) {
+			EMFTreeComposite otherTree = (EMFTreeComposite) otherTreeComposite;
+			if (getId() == otherTree.getId()
+					&& getName().equals(otherTree.getName())) {
+				loadChildren();
+				otherTree.loadChildren();
+			}
+		}
 		return super.equals(otherTreeComposite);
 	}
 
@@ -418,6 +712,7 @@ public class EMFTreeComposite extends TreeComposite {
 	 */
 	@Override
 	public int hashCode() {
+		loadChildren();
 		return super.hashCode();
 	}
 
@@ -448,7 +743,32 @@ public class EMFTreeComposite extends TreeComposite {
 			ecoreNodeMetaData = otherTreeComposite.ecoreNodeMetaData;
 			ecoreNode = EcoreUtil.create(ecoreNodeMetaData);
 		}
-		super.copy(otherTreeComposite, true);
+		copy(otherTreeComposite, true);
+
+		return;
+	}
+
+	/**
+	 * This operation overrides TreeComposite.copy to load the children of the
+	 * other tree before they are copied. The children of this tree are
+	 * replaced, so they are never loaded from its ecoreNode afterward.
+	 * 
+	 * @param otherTreeComposite
+	 * @param copyInPlace
+	 */
+	@Override
+	public void copy(TreeComposite otherTreeComposite,
+			boolean copyInPlace) {
+
+		if (otherTreeComposite instanceof EMFTreeComposite) {
+			((EMFTreeComposite) otherTreeComposite).loadChildren();
+		}
+		if (otherTreeComposite != null) {
+			synchronized (this) {
+				childrenLoaded = true;
+			}
+		}
+		super.copy(otherTreeComposite, copyInPlace);
 
 		return;
 	}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.form.iterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+import org.eclipse.ice.datastructures.ICEObject.Component;
+import org.eclipse.ice.datastructures.componentVisitor.IComponentVisitor;
+import org.eclipse.ice.datastructures.form.TreeComposite;
+
+/**
+ * This class traverses a {@link TreeComposite} on a {@link ForkJoinPool}. Each
+ * child of a tree is handled as an independent task, so large trees are
+ * processed by all of the threads in the pool. The order in which the trees
+ * are handled is not defined, but a tree is always handled before its
+ * children.
+ * <p>
+ * The traversal only reads the children of each tree and it never changes the
+ * tree. The actions that are performed during the traversal may run at the
+ * same time on different threads, so they must be thread safe and they must
+ * not change the structure of the tree. Use {@link TreeCompositeSpliterator}
+ * for a traversal with a defined order.
+ * </p>
+ * <p>
+ * This is an opt-in API. None of the traversals in ICE use it, because they
+ * either depend on the order of the trees or handle trees that are too small
+ * to gain from running in parallel. Clients that process large trees with
+ * independent, thread safe actions can call it directly.
+ * </p>
+ * 
+ * @author UT-Battelle, LLC
+ * 
+ */
+public final class ParallelTreeCompositeTraversal {
+
+	/**
+	 * The constructor is private because this class only has static
+	 * operations.
+	 */
+	private ParallelTreeCompositeTraversal() {
+	}
+
+	/**
+	 * This operation performs an action for a tree and all of its descendants
+	 * on the common ForkJoinPool and waits for it to finish.
+	 * 
+	 * @param root
+	 *            The root of the tree.
+	 * @param action
+	 *            The thread safe action to perform for each tree.
+	 */
+	public static void forEach(TreeComposite root,
+			Consumer<? super TreeComposite> action) {
+		forEach(ForkJoinPool.commonPool(), root, action);
+	}
+
+	/**
+	 * This operation performs an action for a tree and all of its descendants
+	 * on a ForkJoinPool and waits for it to finish. Exceptions thrown by the
+	 * action are thrown by this operation.
+	 * 
+	 * @param pool
+	 *            The pool on which the action should be performed.
+	 * @param root
+	 *            The root of the tree.
+	 * @param action
+	 *            The thread safe action to perform for each tree.
+	 */
+	public static void forEach(ForkJoinPool pool, TreeComposite root,
+			Consumer<? super TreeComposite> action) {
+
+		// Check the arguments
+		if (pool == null || root == null || action == null) {
+			throw new IllegalArgumentException(
+					"ParallelTreeCompositeTraversal error: "
+							+ "The pool, root and action cannot be null.");
+		}
+
+		pool.invoke(new SubtreeAction(root, action));
+
+		return;
+	}
+
+	/**
+	 * This operation has a visitor visit the data nodes of a tree and all of
+	 * its descendants on the common ForkJoinPool. The visitor is shared by
+	 * all of the threads, so it must be thread safe.
+	 * 
+	 * @param root
+	 *            The root of the tree.
+	 * @param visitor
+	 *            The thread safe visitor.
+	 */
+	public static void visitDataNodes(TreeComposite root,
+			final IComponentVisitor visitor) {
+
+		// Check the visitor
+		if (visitor == null) {
+			throw new IllegalArgumentException(
+					"ParallelTreeCompositeTraversal error: "
+							+ "The visitor cannot be null.");
+		}
+
+		forEach(root, new Consumer<TreeComposite>() {
+			@Override
+			public void accept(TreeComposite tree) {
+				for (Component dataNode : tree.getDataNodes()) {
+					dataNode.accept(visitor);
+				}
+			}
+		});
+
+		return;
+	}
+
+	/**
+	 * This class performs the action for a tree and then forks a task for
+	 * each of its children.
+	 */
+	private static class SubtreeAction extends RecursiveAction {
+
+		/**
+		 * The version number for serialization.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The root of the sub-tree.
+		 */
+		private final TreeComposite tree;
+
+		/**
+		 * The action to perform for each tree.
+		 */
+		private final Consumer<? super TreeComposite> action;
+
+		/**
+		 * The constructor.
+		 * 
+		 * @param tree
+		 *            The root of the sub-tree.
+		 * @param action
+		 *            The action to perform for each tree.
+		 */
+		public SubtreeAction(TreeComposite tree,
+				Consumer<? super TreeComposite> action) {
+			this.tree = tree;
+			this.action = action;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.util.concurrent.RecursiveAction#compute()
+		 */
+		@Override
+		protected void compute() {
+
+			action.accept(tree);
+
+			// Fork a task for each child. An only child is handled on this
+			// thread.
+			int numChildren = tree.getNumberOfChildren();
+			if (numChildren == 1) {
+				new SubtreeAction(tree.getChildAtIndex(0), action).compute();
+			} else if (numChildren > 1) {
+				List<SubtreeAction> tasks = new ArrayList<SubtreeAction>(
+						numChildren);
+				for (int i = 0; i < numChildren; i++) {
+					tasks.add(new SubtreeAction(tree.getChildAtIndex(i),
+							action));
+				}
+				invokeAll(tasks);
+			}
+
+			return;
+		}
+	}
+
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.form.iterator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.ice.datastructures.form.TreeComposite;
+
+/**
+ * This class implements a pre-order {@link Spliterator} for a
+ * {@link TreeComposite} so that trees can be processed with Streams, e.g.:
+ * 
+ * <pre>
+ * <code>
+ * TreeComposite root;
+ * // Set up your tree here...
+ * 
+ * List<TreeComposite> activeTrees = TreeCompositeSpliterator.stream(root, true)
+ *         .filter(tree -> tree.isActive())
+ *         .collect(Collectors.toList());
+ * </code>
+ * </pre>
+ * 
+ * The encounter order is the same as the order of the
+ * {@link PreOrderTreeCompositeIterator}. When the Stream is parallel, the
+ * spliterator is split by handing independent sub-trees to other threads.
+ * <p>
+ * The spliterator only reads the children of each tree and it never changes
+ * the tree. The tree must not be changed while it is being traversed, and
+ * operations that run in parallel must not change the structure of the tree
+ * either.
+ * </p>
+ * <p>
+ * This is an opt-in API. The iterators in this package remain the way ICE
+ * traverses trees, and the spliterator is only used by clients that want to
+ * process a tree with Streams.
+ * </p>
+ * 
+ * @author UT-Battelle, LLC
+ * 
+ */
+public class TreeCompositeSpliterator implements Spliterator<TreeComposite> {
+
+	/**
+	 * The trees that have not been traversed yet, in order. A tree is only
+	 * followed by its children if it is also in {@link #subtrees}.
+	 */
+	private final Deque<TreeComposite> trees;
+
+	/**
+	 * For each tree in {@link #trees}, in the same order, true if its
+	 * children remain to be traversed after it and false if only the tree
+	 * itself does.
+	 */
+	private final Deque<Boolean> subtrees;
+
+	/**
+	 * The default constructor.
+	 * 
+	 * @param root
+	 *            The root TreeComposite that is the starting point for this
+	 *            spliterator.
+	 */
+	public TreeCompositeSpliterator(TreeComposite root) {
+
+		// Create the empty queues.
+		this();
+
+		// The root is the first element to traverse.
+		if (root != null) {
+			trees.add(root);
+			subtrees.add(true);
+		} else {
+			throw new IllegalArgumentException(
+					"TreeCompositeSpliterator error: "
+							+ "Root cannot be null.");
+		}
+
+		return;
+	}
+
+	/**
+	 * This constructor creates an empty spliterator that split off parts can
+	 * be added to.
+	 */
+	private TreeCompositeSpliterator() {
+		trees = new ArrayDeque<TreeComposite>();
+		subtrees = new ArrayDeque<Boolean>();
+	}
+
+	/**
+	 * This operation creates a Stream of a tree and all of its descendants in
+	 * pre-order.
+	 * 
+	 * @param root
+	 *            The root of the tree.
+	 * @param parallel
+	 *            True if the Stream should be parallel, false if it should be
+	 *            sequential.
+	 * @return The Stream.
+	 */
+	public static Stream<TreeComposite> stream(TreeComposite root,
+			boolean parallel) {
+		return StreamSupport.stream(new TreeCompositeSpliterator(root),
+				parallel);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+	 */
+	@Override
+	public boolean tryAdvance(Consumer<? super TreeComposite> action) {
+
+		if (trees.isEmpty()) {
+			return false;
+		}
+
+		// Replace the next tree with its children, if they are to be
+		// traversed, and hand it to the action.
+		TreeComposite tree = trees.poll();
+		if (subtrees.poll()) {
+			for (int i = tree.getNumberOfChildren() - 1; i >= 0; i--) {
+				trees.push(tree.getChildAtIndex(i));
+				subtrees.push(true);
+			}
+		}
+		action.accept(tree);
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Spliterator#trySplit()
+	 */
+	@Override
+	public Spliterator<TreeComposite> trySplit() {
+
+		// A single tree is split by handing its first children out with it.
+		if (trees.size() == 1 && subtrees.peek()) {
+			TreeComposite tree = trees.peek();
+			int numChildren = tree.getNumberOfChildren();
+			if (numChildren < 2) {
+				return null;
+			}
+			TreeCompositeSpliterator prefix = new TreeCompositeSpliterator();
+			prefix.trees.add(trees.poll());
+			prefix.subtrees.add(false);
+			subtrees.poll();
+			for (int i = 0; i < numChildren; i++) {
+				TreeCompositeSpliterator part = (i < numChildren / 2) ? prefix
+						: this;
+				part.trees.add(tree.getChildAtIndex(i));
+				part.subtrees.add(true);
+			}
+			return prefix;
+		}
+
+		// Otherwise, the first half of the remaining trees is handed out.
+		int prefixSize = trees.size() / 2;
+		if (prefixSize == 0) {
+			return null;
+		}
+		TreeCompositeSpliterator prefix = new TreeCompositeSpliterator();
+		for (int i = 0; i < prefixSize; i++) {
+			prefix.trees.add(trees.poll());
+			prefix.subtrees.add(subtrees.poll());
+		}
+
+		return prefix;
+	}
+
+	/**
+	 * The size of a tree is unknown until it is traversed, so this operation
+	 * returns Long.MAX_VALUE until the traversal is done.
+	 * 
+	 * @see java.util.Spliterator#estimateSize()
+	 */
+	@Override
+	public long estimateSize() {
+		return trees.isEmpty() ? 0 : Long.MAX_VALUE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Spliterator#characteristics()
+	 */
+	@Override
+	public int characteristics() {
+		return ORDERED | DISTINCT | NONNULL;
+	}
+
+}
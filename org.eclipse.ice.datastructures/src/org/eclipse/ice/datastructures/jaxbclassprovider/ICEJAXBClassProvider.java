@@ -80,6 +80,16 @@ public class ICEJAXBClassProvider implements IJAXBClassProvider {
 		return classList;
 	}
 
+	/**
+	 * This operation is called by the OSGi Declarative Services engine when
+	 * the provider is activated. It starts creating the shared JAXBContext for
+	 * ICE's classes in the background so that it is ready before the first
+	 * Item or Form is read or written.
+	 */
+	public void activate() {
+		JAXBContextRegistry.prefetch(getClasses());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.eclipse.ice.datastructures.jaxbclassprovider.IJAXBClassProvider#getProviderName()
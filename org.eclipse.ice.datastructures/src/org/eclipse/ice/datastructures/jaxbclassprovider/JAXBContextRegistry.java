@@ -0,0 +1,314 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.datastructures.jaxbclassprovider;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The JAXBContextRegistry is a platform-wide cache of JAXBContexts. Creating a
+ * JAXBContext for ICE's class list is very expensive, so every client that
+ * reads or writes XML should get its context from here instead of calling
+ * JAXBContext.newInstance().
+ * <p>
+ * Contexts are keyed by the set of classes that they are created from, so the
+ * order of the classes does not matter. Each context is only created once,
+ * even if it is requested by several threads at the same time. Contexts can
+ * also be built in the background with {@link #prefetch(Collection)} before
+ * they are needed. The ICEJAXBClassProvider does this for ICE's class list
+ * when it is activated.
+ * </p>
+ * <p>
+ * Marshallers and Unmarshallers are not thread safe, but they can be reused.
+ * The registry keeps a small pool of them for each context. Clients should
+ * acquire one, use it on a single thread and release it in a finally block.
+ * Pooled Marshallers always produce formatted output. Clients must not change
+ * any other properties of pooled Marshallers or Unmarshallers.
+ * </p>
+ *
+ * @author UT-Battelle, LLC
+ *
+ */
+public final class JAXBContextRegistry {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(JAXBContextRegistry.class);
+
+	/**
+	 * The maximum number of idle Marshallers and Unmarshallers that are kept
+	 * for each context.
+	 */
+	private static final int POOL_SIZE = 8;
+
+	/**
+	 * The contexts, or the tasks that are creating them, keyed by their class
+	 * sets.
+	 */
+	private static final ConcurrentHashMap<Set<Class>, FutureTask<JAXBContext>> contexts = new ConcurrentHashMap<Set<Class>, FutureTask<JAXBContext>>();
+
+	/**
+	 * The idle Marshallers of each context.
+	 */
+	private static final ConcurrentHashMap<JAXBContext, ArrayBlockingQueue<Marshaller>> marshallers = new ConcurrentHashMap<JAXBContext, ArrayBlockingQueue<Marshaller>>();
+
+	/**
+	 * The idle Unmarshallers of each context.
+	 */
+	private static final ConcurrentHashMap<JAXBContext, ArrayBlockingQueue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<JAXBContext, ArrayBlockingQueue<Unmarshaller>>();
+
+	/**
+	 * The daemon thread on which contexts are prefetched.
+	 */
+	private static final ExecutorService loader = Executors
+			.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable,
+							"ICE JAXBContext Loader");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+
+	/**
+	 * The constructor is private because this class only has static
+	 * operations.
+	 */
+	private JAXBContextRegistry() {
+	}
+
+	/**
+	 * This operation returns the JAXBContext for the classes, creating it if
+	 * needed. If the context is being created on another thread, this
+	 * operation waits for it.
+	 *
+	 * @param classes
+	 *            The classes that the context must be aware of.
+	 * @return The shared context.
+	 * @throws JAXBException
+	 *             An exception indicating that the context could not be
+	 *             created. The next request for the same classes will try
+	 *             again.
+	 */
+	public static JAXBContext getContext(Collection<Class> classes)
+			throws JAXBException {
+
+		// Local Declarations
+		Set<Class> key = createKey(classes);
+		FutureTask<JAXBContext> task = findTask(key);
+
+		// Create it on this thread if nobody has started yet. This does
+		// nothing if the task is already running or done.
+		task.run();
+
+		try {
+			return task.get();
+		} catch (ExecutionException e) {
+			// Forget the failure so that the next request tries again
+			contexts.remove(key, task);
+			Throwable cause = e.getCause();
+			if (cause instanceof JAXBException) {
+				throw (JAXBException) cause;
+			}
+			throw new JAXBException("Unable to create JAXBContext.", cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JAXBException(
+					"Interrupted while waiting for JAXBContext.", e);
+		}
+	}
+
+	/**
+	 * This operation returns the JAXBContext for the classes, creating it if
+	 * needed.
+	 *
+	 * @param classes
+	 *            The classes that the context must be aware of.
+	 * @return The shared context.
+	 * @throws JAXBException
+	 *             An exception indicating that the context could not be
+	 *             created.
+	 * @see #getContext(Collection)
+	 */
+	public static JAXBContext getContext(Class... classes)
+			throws JAXBException {
+		return getContext(Arrays.asList(classes));
+	}
+
+	/**
+	 * This operation starts creating the JAXBContext for the classes in the
+	 * background and returns immediately. It does nothing if the context
+	 * already exists or is being created.
+	 *
+	 * @param classes
+	 *            The classes that the context must be aware of.
+	 */
+	public static void prefetch(Collection<Class> classes) {
+		FutureTask<JAXBContext> task = findTask(createKey(classes));
+		if (!task.isDone()) {
+			loader.execute(task);
+		}
+	}
+
+	/**
+	 * This operation returns a Marshaller for the context from the pool, or a
+	 * new one if the pool is empty. It must be released with
+	 * {@link #releaseMarshaller(JAXBContext, Marshaller)} when the client is
+	 * done with it.
+	 *
+	 * @param context
+	 *            The context of the Marshaller.
+	 * @return A Marshaller that produces formatted output.
+	 * @throws JAXBException
+	 *             An exception indicating that the Marshaller could not be
+	 *             created.
+	 */
+	public static Marshaller acquireMarshaller(JAXBContext context)
+			throws JAXBException {
+		Marshaller marshaller = getPool(marshallers, context).poll();
+		if (marshaller == null) {
+			marshaller = context.createMarshaller();
+			marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT,
+					Boolean.TRUE);
+		}
+		return marshaller;
+	}
+
+	/**
+	 * This operation returns a Marshaller to the pool of its context. It is
+	 * dropped if the pool is full.
+	 *
+	 * @param context
+	 *            The context that created the Marshaller.
+	 * @param marshaller
+	 *            The Marshaller. Nothing happens if it is null.
+	 */
+	public static void releaseMarshaller(JAXBContext context,
+			Marshaller marshaller) {
+		if (marshaller != null) {
+			getPool(marshallers, context).offer(marshaller);
+		}
+	}
+
+	/**
+	 * This operation returns an Unmarshaller for the context from the pool, or
+	 * a new one if the pool is empty. It must be released with
+	 * {@link #releaseUnmarshaller(JAXBContext, Unmarshaller)} when the client
+	 * is done with it.
+	 *
+	 * @param context
+	 *            The context of the Unmarshaller.
+	 * @return The Unmarshaller.
+	 * @throws JAXBException
+	 *             An exception indicating that the Unmarshaller could not be
+	 *             created.
+	 */
+	public static Unmarshaller acquireUnmarshaller(JAXBContext context)
+			throws JAXBException {
+		Unmarshaller unmarshaller = getPool(unmarshallers, context).poll();
+		return (unmarshaller != null) ? unmarshaller
+				: context.createUnmarshaller();
+	}
+
+	/**
+	 * This operation returns an Unmarshaller to the pool of its context. It
+	 * is dropped if the pool is full.
+	 *
+	 * @param context
+	 *            The context that created the Unmarshaller.
+	 * @param unmarshaller
+	 *            The Unmarshaller. Nothing happens if it is null.
+	 */
+	public static void releaseUnmarshaller(JAXBContext context,
+			Unmarshaller unmarshaller) {
+		if (unmarshaller != null) {
+			getPool(unmarshallers, context).offer(unmarshaller);
+		}
+	}
+
+	/**
+	 * This operation creates the key for a class list.
+	 */
+	private static Set<Class> createKey(Collection<Class> classes) {
+		return Collections.unmodifiableSet(new HashSet<Class>(classes));
+	}
+
+	/**
+	 * This operation returns the task that creates the context for the key,
+	 * registering a new one if there is none. The task is not started.
+	 */
+	private static FutureTask<JAXBContext> findTask(final Set<Class> key) {
+		FutureTask<JAXBContext> task = contexts.get(key);
+		if (task == null) {
+			FutureTask<JAXBContext> newTask = new FutureTask<JAXBContext>(
+					new Callable<JAXBContext>() {
+						@Override
+						public JAXBContext call() throws JAXBException {
+							long start = System.currentTimeMillis();
+							JAXBContext context = JAXBContext.newInstance(
+									key.toArray(new Class[key.size()]));
+							logger.debug("JAXBContextRegistry Message: "
+									+ "Created context for " + key.size()
+									+ " classes in "
+									+ (System.currentTimeMillis() - start)
+									+ " ms.");
+							return context;
+						}
+					});
+			task = contexts.putIfAbsent(key, newTask);
+			if (task == null) {
+				task = newTask;
+			}
+		}
+		return task;
+	}
+
+	/**
+	 * This operation returns the pool of a context, creating it if needed.
+	 */
+	private static <T> ArrayBlockingQueue<T> getPool(
+			ConcurrentHashMap<JAXBContext, ArrayBlockingQueue<T>> pools,
+			JAXBContext context) {
+		ArrayBlockingQueue<T> pool = pools.get(context);
+		if (pool == null) {
+			ArrayBlockingQueue<T> newPool = new ArrayBlockingQueue<T>(
+					POOL_SIZE);
+			pool = pools.putIfAbsent(context, newPool);
+			if (pool == null) {
+				pool = newPool;
+			}
+		}
+		return pool;
+	}
+
+}
@@ -33,4 +33,15 @@ public class CSVReader extends DelimitedReader {
 		delimiter = ",";
 		type = "csv";
 	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.ice.io.serializable.IReader#canRead(java.lang.String,
+	 * java.lang.String)
+	 */
+	@Override
+	public boolean canRead(String fileExtension, String header) {
+		return "csv".equals(fileExtension);
+	}
 }
@@ -15,6 +15,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.List;
 
 import javax.naming.OperationNotSupportedException;
 
@@ -90,6 +91,7 @@ public class DelimitedReader implements IReader {
 			BufferedReader reader = new BufferedReader(
 					new InputStreamReader(file.getContents()));
 			String line = null;
+			List<String[]> lineArrays = new ArrayList<String[]>();
 			while ((line = reader.readLine()) != null) {
 				// Skip lines that pure comments
 				if (!line.startsWith("#")) {
@@ -106,9 +108,11 @@ public class DelimitedReader implements IReader {
 						element = element.trim();
 					}
 					// Put the lines in the list
-					lines.add(lineArray);
+					lineArrays.add(lineArray);
 				}
 			}
+			// Add all of the lines at once so that only one event is posted
+			lines.addAll(lineArrays);
 			form.addComponent(lines);
 		} catch (CoreException e) {
 			// Complain
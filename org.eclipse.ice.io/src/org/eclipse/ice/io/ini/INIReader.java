@@ -84,12 +84,6 @@ public class INIReader implements ITemplatedReader {
 	 */
 	private HashMap<String, IFile> templateMap = new HashMap<String, IFile>();
 
-	/**
-	 * Keep track of which TableComponent each template variable is in so we can
-	 * load the actual file more quickly
-	 */
-	private HashMap<String, Integer> variableToComponentNumber = new HashMap<String, Integer>();
-
 	/**
 	 * Constructor using the ! as a comment is the default behavior
 	 */
@@ -123,8 +117,13 @@ public class INIReader implements ITemplatedReader {
 		// Check if we are building a templated form and if so,
 		// make the template, then read in the file to the template
 		if (templateFile != null) {
-			iniForm = buildTemplate();
-			iniForm = loadIntoTemplate(iniForm, file);
+			// Keep track of which TableComponent each template variable is in
+			// so we can load the actual file more quickly. It is local to this
+			// read because INIReaders are shared by the IOService.
+			HashMap<String, Integer> variableToComponentNumber = new HashMap<String, Integer>();
+			iniForm = buildTemplate(variableToComponentNumber);
+			iniForm = loadIntoTemplate(iniForm, file,
+					variableToComponentNumber);
 		} else {
 			// Build the default version of the form
 			// Make sure the file exists before trying to read
@@ -138,18 +137,18 @@ public class INIReader implements ITemplatedReader {
 					reader = new BufferedReader(new InputStreamReader(
 							file.getContents()));
 					String line;
-					String[] splitLine;
 					String section = "Default Section";
 					DataComponent sectionComp = new DataComponent();
+					KeyValueLineTokenizer lineTokenizer = createTokenizer();
+					Matcher sectionMatch = sectionPattern.matcher("");
 					sectionComp.setName(section);
 					while ((line = reader.readLine()) != null) {
 						// Make sure that comments are taken into consideration
-						splitLine = line.split(comment);
-						line = splitLine[0].trim();
+						lineTokenizer.tokenize(line);
 						// If at a new section, add the previous section to
 						// the list and create a new DataComponent for the
 						// next section
-						Matcher sectionMatch = sectionPattern.matcher(line);
+						sectionMatch.reset(lineTokenizer.getContent());
 						if (sectionMatch.matches()) {
 							if (sectionComp.retrieveAllEntries().size() > 0) {
 								iniForm.addComponent(sectionComp);
@@ -157,11 +156,11 @@ public class INIReader implements ITemplatedReader {
 							sectionComp = new DataComponent();
 							sectionComp.setName(sectionMatch.group(0).trim()
 									.replace("[", "").replace("]", ""));
-						} else if ((splitLine = line.split(assignmentPattern)).length >= 2) {
+						} else if (lineTokenizer.hasPair()) {
 							// Get the key and value and put it in the Data
 							// Component
-							String var = splitLine[0].trim();
-							String val = splitLine[splitLine.length - 1].trim();
+							String var = lineTokenizer.getKey();
+							String val = lineTokenizer.getValue();
 							sectionComp.addEntry(makeTemplateEntry(var, val,
 									new ArrayList<String>(),
 									AllowedValueType.Undefined));
@@ -188,9 +187,13 @@ public class INIReader implements ITemplatedReader {
 	/**
 	 * If a template is used it can be loaded with this method.
 	 *
+	 * @param variableToComponentNumber
+	 *            : The map that is filled with the id of the component of
+	 *            each template variable
 	 * @return the default form from the template
 	 */
-	private Form buildTemplate() {
+	private Form buildTemplate(
+			HashMap<String, Integer> variableToComponentNumber) {
 		Form templateForm = new Form();
 		ArrayList<IEntry> entries = new ArrayList<IEntry>();
 		IEntry variableTemplate = new StringEntry();
@@ -281,9 +284,12 @@ public class INIReader implements ITemplatedReader {
 	 *            : The template form
 	 * @param file
 	 *            : The file to use to update the form
+	 * @param variableToComponentNumber
+	 *            : The id of the component of each template variable
 	 * @return the updated form
 	 */
-	private Form loadIntoTemplate(Form form, IFile file) {
+	private Form loadIntoTemplate(Form form, IFile file,
+			HashMap<String, Integer> variableToComponentNumber) {
 		// Initialize the form & table row template
 		ArrayList<IEntry> entries = new ArrayList<IEntry>();
 		IEntry variableTemplate = new StringEntry();
@@ -302,14 +308,15 @@ public class INIReader implements ITemplatedReader {
 				reader = new BufferedReader(new InputStreamReader(
 						file.getContents()));
 				String line, var, val;
-				String[] splitLine;
 				String section = "Default Section";
 				boolean foundInTemplate;
 				int rowNumber;
 				DataComponent sectionTable = new DataComponent();
+				KeyValueLineTokenizer lineTokenizer = createTokenizer();
+				Matcher sectionMatch = sectionPattern.matcher("");
 				sectionTable.setName(section);
 				while ((line = reader.readLine()) != null) {
-					Matcher sectionMatch = sectionPattern.matcher(line);
+					sectionMatch.reset(line);
 					if (sectionMatch.matches()) {
 						System.err
 								.println("INIReader Message: Found invalid section header: "
@@ -318,11 +325,10 @@ public class INIReader implements ITemplatedReader {
 												.replace("]", ""));
 
 						// Make sure that comments are taken into consideration
-					} else if ((splitLine = line.split(comment)[0].trim()
-							.split(assignmentPattern)).length >= 2) {
+					} else if (lineTokenizer.tokenize(line)) {
 						// Get the variable name and value
-						var = splitLine[0].trim();
-						val = splitLine[splitLine.length - 1].trim();
+						var = lineTokenizer.getKey();
+						val = lineTokenizer.getValue();
 						foundInTemplate = false;
 
 						// Try to find the variable in the existing form. If it
@@ -364,6 +370,18 @@ public class INIReader implements ITemplatedReader {
 		return form;
 	}
 
+	/**
+	 * Create a line tokenizer for the current comment and assignment patterns.
+	 * A new tokenizer is created for each file that is read because
+	 * tokenizers keep the state of the last line and readers are shared.
+	 *
+	 * @return the tokenizer
+	 */
+	private KeyValueLineTokenizer createTokenizer() {
+		return new KeyValueLineTokenizer(comment, assignmentPattern, false,
+				true);
+	}
+
 	/**
 	 * Initialize an entry with the correct allowed values
 	 *
@@ -499,4 +517,16 @@ public class INIReader implements ITemplatedReader {
 		return "INI";
 	}
 
+	/**
+	 * INI files are detected by their extension because their contents are
+	 * too generic to be recognized reliably.
+	 *
+	 * @see org.eclipse.ice.io.serializable.IReader#canRead(java.lang.String,
+	 *      java.lang.String)
+	 */
+	@Override
+	public boolean canRead(String fileExtension, String header) {
+		return "ini".equals(fileExtension);
+	}
+
 }
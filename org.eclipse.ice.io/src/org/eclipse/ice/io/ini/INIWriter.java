@@ -28,6 +28,7 @@ import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.form.DataComponent;
 import org.eclipse.ice.datastructures.form.Form;
 import org.eclipse.ice.io.serializable.IWriter;
+import org.eclipse.ice.io.serializable.StreamingFileReplacer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -171,11 +172,24 @@ public class INIWriter implements IWriter {
 	}
 
 	/**
-	 * This method is not used.
+	 * Searches the given file for lines that match the given regular
+	 * expression and replaces the matches with the given value. The file is
+	 * streamed and only rewritten if a match was found.
+	 * 
+	 * @param file
+	 *            The file to search in
+	 * @param regex
+	 *            The regular expression to search for
+	 * @param value
+	 *            The replacement value for matches to the regex
 	 */
 	@Override
 	public void replace(IFile file, String regex, String value) {
-		// Skipped for now
+		// Make sure we aren't given any null values
+		if (file == null || regex == null || value == null) {
+			return;
+		}
+		new StreamingFileReplacer(regex, value).replace(file);
 	}
 
 	/**
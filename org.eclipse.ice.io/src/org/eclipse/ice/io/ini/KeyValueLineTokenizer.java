@@ -0,0 +1,424 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.io.ini;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The KeyValueLineTokenizer splits single lines of INI-style files into a
+ * comment-free content region and a key/value pair. It is shared by the
+ * INIReader and the IPSReader.
+ *
+ * The comment and assignment strings are regular expressions, exactly as they
+ * would be passed to {@link String#split(String)}. They are compiled once when
+ * the tokenizer is created. Strings that do not contain any regular expression
+ * meta characters are searched with {@link String#indexOf(String)} instead of
+ * a Matcher. Tokenizing a line only records offsets into it; Strings are only
+ * created when the key, value or content are requested.
+ *
+ * Two splitting modes are supported:
+ * <ul>
+ * <li>In "split once" mode the key is everything before the first assignment
+ * match and the value is everything after it, which is the same as
+ * {@code line.split(assignment, 2)}.</li>
+ * <li>Otherwise the key is the first token and the value is the last non-empty
+ * token, which is the same as taking the first and last elements of
+ * {@code line.split(assignment)}.</li>
+ * </ul>
+ *
+ * Instances keep state for the last line that was tokenized and are not thread
+ * safe.
+ *
+ * @author UT-Battelle, LLC
+ *
+ */
+public class KeyValueLineTokenizer {
+
+	/**
+	 * The characters that make a String a regular expression instead of a
+	 * literal.
+	 */
+	private static final String META_CHARACTERS = "\\[](){}.*+?^$|";
+
+	/**
+	 * The literal comment string or null if the comment is a regular
+	 * expression.
+	 */
+	private final String commentLiteral;
+
+	/**
+	 * The reusable matcher for the comment expression or null if the comment is
+	 * a literal.
+	 */
+	private final Matcher commentMatcher;
+
+	/**
+	 * The literal assignment string or null if the assignment is a regular
+	 * expression.
+	 */
+	private final String assignmentLiteral;
+
+	/**
+	 * The reusable matcher for the assignment expression or null if the
+	 * assignment is a literal.
+	 */
+	private final Matcher assignmentMatcher;
+
+	/**
+	 * True if lines are only split on the first assignment.
+	 */
+	private final boolean splitOnce;
+
+	/**
+	 * True if the content should be trimmed before it is split.
+	 */
+	private final boolean trimContent;
+
+	/**
+	 * The last line that was tokenized.
+	 */
+	private String line;
+
+	/**
+	 * The bounds of the content of the line, after comments are removed.
+	 */
+	private int contentStart, contentEnd;
+
+	/**
+	 * The bounds of the key and value in the line.
+	 */
+	private int keyStart, keyEnd, valueStart, valueEnd;
+
+	/**
+	 * True if the last line had a key/value pair.
+	 */
+	private boolean hasPair;
+
+	/**
+	 * The constructor.
+	 *
+	 * @param comment
+	 *            The comment string or regular expression. Everything in a line
+	 *            starting at the first match is ignored. It may be null if the
+	 *            format has no comments.
+	 * @param assignment
+	 *            The assignment string or regular expression that separates
+	 *            keys from values.
+	 * @param splitOnce
+	 *            True if lines should only be split on the first assignment,
+	 *            false if the key and value are the first and last tokens.
+	 * @param trimContent
+	 *            True if the content should be trimmed before it is split into
+	 *            tokens.
+	 */
+	public KeyValueLineTokenizer(String comment, String assignment,
+			boolean splitOnce, boolean trimContent) {
+		// Set up the comment search
+		if (comment == null || comment.isEmpty() || isLiteral(comment)) {
+			commentLiteral = (comment == null || comment.isEmpty()) ? null
+					: comment;
+			commentMatcher = null;
+		} else {
+			commentLiteral = null;
+			commentMatcher = Pattern.compile(comment).matcher("");
+		}
+
+		// Set up the assignment search
+		if (isLiteral(assignment)) {
+			assignmentLiteral = assignment;
+			assignmentMatcher = null;
+		} else {
+			assignmentLiteral = null;
+			assignmentMatcher = Pattern.compile(assignment).matcher("");
+		}
+
+		this.splitOnce = splitOnce;
+		this.trimContent = trimContent;
+	}
+
+	/**
+	 * This operation tokenizes the line. The results are available from the
+	 * other accessors until the next call.
+	 *
+	 * @param line
+	 *            The line to tokenize. It must not be null.
+	 * @return True if the line contained a key/value pair, false otherwise.
+	 */
+	public boolean tokenize(String line) {
+		this.line = line;
+		hasPair = false;
+
+		// Find the content before the comment
+		contentStart = 0;
+		contentEnd = findComment(line);
+		if (trimContent) {
+			while (contentStart < contentEnd
+					&& line.charAt(contentStart) <= ' ') {
+				contentStart++;
+			}
+			while (contentEnd > contentStart
+					&& line.charAt(contentEnd - 1) <= ' ') {
+				contentEnd--;
+			}
+		}
+
+		// Split it into the key and value
+		if (assignmentLiteral != null) {
+			splitLiteral();
+		} else {
+			splitPattern();
+		}
+
+		return hasPair;
+	}
+
+	/**
+	 * This operation returns true if the last line had a key/value pair.
+	 *
+	 * @return True if a pair was found.
+	 */
+	public boolean hasPair() {
+		return hasPair;
+	}
+
+	/**
+	 * This operation returns the content of the last line with its comment
+	 * removed. It is trimmed if the tokenizer trims content.
+	 *
+	 * @return The content.
+	 */
+	public String getContent() {
+		return line.substring(contentStart, contentEnd);
+	}
+
+	/**
+	 * This operation returns true if the content of the last line is empty or
+	 * only white space.
+	 *
+	 * @return True if the content is blank.
+	 */
+	public boolean isBlank() {
+		for (int i = contentStart; i < contentEnd; i++) {
+			if (line.charAt(i) > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * This operation returns the trimmed key of the last line.
+	 *
+	 * @return The key or null if the line did not contain a pair.
+	 */
+	public String getKey() {
+		return hasPair ? trimmed(keyStart, keyEnd) : null;
+	}
+
+	/**
+	 * This operation returns the trimmed value of the last line.
+	 *
+	 * @return The value or null if the line did not contain a pair.
+	 */
+	public String getValue() {
+		return hasPair ? trimmed(valueStart, valueEnd) : null;
+	}
+
+	/**
+	 * This operation returns the key of the last line exactly as it was found,
+	 * including surrounding white space.
+	 *
+	 * @return The key or null if the line did not contain a pair.
+	 */
+	public String getRawKey() {
+		return hasPair ? line.substring(keyStart, keyEnd) : null;
+	}
+
+	/**
+	 * This operation returns the value of the last line exactly as it was
+	 * found, including surrounding white space.
+	 *
+	 * @return The value or null if the line did not contain a pair.
+	 */
+	public String getRawValue() {
+		return hasPair ? line.substring(valueStart, valueEnd) : null;
+	}
+
+	/**
+	 * This operation returns true if the key of the last line is empty or only
+	 * white space.
+	 *
+	 * @return True if the key is blank or there was no pair.
+	 */
+	public boolean isKeyBlank() {
+		if (hasPair) {
+			for (int i = keyStart; i < keyEnd; i++) {
+				if (line.charAt(i) > ' ') {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * This operation finds the end of the content, which is the start of the
+	 * first comment or the end of the line.
+	 */
+	private int findComment(String line) {
+		if (commentLiteral != null) {
+			int index = line.indexOf(commentLiteral);
+			return index < 0 ? line.length() : index;
+		} else if (commentMatcher != null) {
+			commentMatcher.reset(line);
+			while (commentMatcher.find()) {
+				// A zero-width match at the start never splits the line
+				if (commentMatcher.end() > 0) {
+					return commentMatcher.start();
+				}
+			}
+		}
+		return line.length();
+	}
+
+	/**
+	 * This operation splits the content on a literal assignment string.
+	 */
+	private void splitLiteral() {
+		int length = assignmentLiteral.length();
+		int index = line.indexOf(assignmentLiteral, contentStart);
+		if (index < 0 || index + length > contentEnd) {
+			return;
+		}
+
+		keyStart = contentStart;
+		keyEnd = index;
+		if (splitOnce) {
+			valueStart = index + length;
+			valueEnd = contentEnd;
+			hasPair = true;
+		} else {
+			// Find the last non-empty token
+			int tokens = 1, lastIndex = 0, lastStart = -1, lastEnd = -1;
+			int start = keyStart, end = keyEnd;
+			while (true) {
+				if (end > start) {
+					lastStart = start;
+					lastEnd = end;
+					lastIndex = tokens;
+				}
+				if (end == contentEnd) {
+					break;
+				}
+				start = end + length;
+				int next = line.indexOf(assignmentLiteral, start);
+				end = (next < 0 || next + length > contentEnd) ? contentEnd
+						: next;
+				tokens++;
+			}
+			setLastToken(lastIndex, lastStart, lastEnd);
+		}
+	}
+
+	/**
+	 * This operation splits the content on an assignment regular expression.
+	 */
+	private void splitPattern() {
+		Matcher matcher = assignmentMatcher;
+		matcher.reset(line);
+		matcher.region(contentStart, contentEnd);
+
+		// Emulate String.split(): a zero-width match at the beginning never
+		// produces a leading empty token
+		int start = contentStart, tokens = 0;
+		int lastIndex = 0, lastStart = -1, lastEnd = -1;
+		while (matcher.find()) {
+			if (matcher.end() == contentStart) {
+				continue;
+			}
+			tokens++;
+			if (tokens == 1) {
+				keyStart = start;
+				keyEnd = matcher.start();
+			}
+			if (matcher.start() > start) {
+				lastStart = start;
+				lastEnd = matcher.start();
+				lastIndex = tokens;
+			}
+			start = matcher.end();
+			if (splitOnce) {
+				break;
+			}
+		}
+
+		// No match means a single token and no pair
+		if (tokens == 0) {
+			return;
+		}
+
+		if (splitOnce) {
+			valueStart = start;
+			valueEnd = contentEnd;
+			hasPair = true;
+		} else {
+			// The trailing token
+			tokens++;
+			if (contentEnd > start) {
+				lastStart = start;
+				lastEnd = contentEnd;
+				lastIndex = tokens;
+			}
+			setLastToken(lastIndex, lastStart, lastEnd);
+		}
+	}
+
+	/**
+	 * This operation records the last non-empty token as the value. Trailing
+	 * empty tokens are dropped, just like String.split(), so there is only a
+	 * pair if the last non-empty token is at least the second token.
+	 */
+	private void setLastToken(int lastIndex, int lastStart, int lastEnd) {
+		if (lastIndex >= 2) {
+			valueStart = lastStart;
+			valueEnd = lastEnd;
+			hasPair = true;
+		}
+	}
+
+	/**
+	 * This operation creates a trimmed String from a region of the line.
+	 */
+	private String trimmed(int start, int end) {
+		while (start < end && line.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && line.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return line.substring(start, end);
+	}
+
+	/**
+	 * This operation returns true if the String does not contain any regular
+	 * expression meta characters.
+	 */
+	private static boolean isLiteral(String regex) {
+		for (int i = 0; i < regex.length(); i++) {
+			if (META_CHARACTERS.indexOf(regex.charAt(i)) >= 0) {
+				return false;
+			}
+		}
+		return !regex.isEmpty();
+	}
+
+}
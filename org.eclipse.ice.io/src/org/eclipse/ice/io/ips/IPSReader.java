@@ -13,13 +13,17 @@
 package org.eclipse.ice.io.ips;
 
 import java.io.BufferedReader;
-import java.io.FileNotFoundException;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
@@ -31,6 +35,7 @@ import org.eclipse.ice.datastructures.form.DataComponent;
 import org.eclipse.ice.datastructures.form.Form;
 import org.eclipse.ice.datastructures.form.MasterDetailsComponent;
 import org.eclipse.ice.datastructures.form.TableComponent;
+import org.eclipse.ice.io.ini.KeyValueLineTokenizer;
 import org.eclipse.ice.io.serializable.IReader;
 import org.eclipse.jface.dialogs.ErrorDialog;
 import org.eclipse.swt.widgets.Display;
@@ -106,23 +111,48 @@ public class IPSReader implements IReader {
 		}
 		Form form = new Form();
 
-		// Read in the ini file to an ArrayList<String>
-		ArrayList<String> lines = null;
-		try {
-			lines = readFileLines(ifile);
-		} catch (FileNotFoundException e) {
+		// Split KEY = VALUE # Comment lines, keeping keys and values exactly
+		// as they appear in the file. The tokenizer holds the state of the
+		// last line, so each read gets its own.
+		KeyValueLineTokenizer tokenizer = new KeyValueLineTokenizer("#", "=",
+				true, false);
+
+		// Stream the lines of the ini file straight into the loading methods.
+		// IPSReaders are shared by the IOService and keep the ids, the current
+		// line and the port defaults of the file being parsed, so each file is
+		// parsed by its own instance.
+		try (LineIterator iniIterator = new LineIterator(ifile)) {
+			new IPSReader().readForm(form, iniIterator, tokenizer);
+		} catch (CoreException e) {
 			logger.info("IPSReader Message: Error!  Could not find file for loading.");
 			return null;
-		} catch (IOException e) {
+		} catch (IOException | UncheckedIOException e) {
 			logger.info("IPSReader Message: Error!  Trouble reading file.");
 			return null;
 		}
 
-		// Get an iterator over the input to pass to the loading methods
-		Iterator<String> iniIterator = lines.iterator();
+		// Return the form
+		return form;
+	}
+
+	/**
+	 * Loads the four components of an IPS INI file from the lines of the file
+	 * and adds them to the Form.
+	 * 
+	 * @param form
+	 *            The Form to fill
+	 * @param iniIterator
+	 *            Iterator over the lines of the INI file, ending with the
+	 *            dummy EOF line
+	 * @param tokenizer
+	 *            The tokenizer used to split the lines
+	 */
+	private void readForm(Form form, Iterator<String> iniIterator,
+			KeyValueLineTokenizer tokenizer) {
 
 		// Read in the global configuration and ports data
-		TableComponent globalConfiguration = loadGlobalConfiguration(iniIterator);
+		TableComponent globalConfiguration = loadGlobalConfiguration(iniIterator,
+				tokenizer);
 		TableComponent portsData = loadPortsData(iniIterator);
 
 		// Determine the number of components that were specified in
@@ -134,7 +164,8 @@ public class IPSReader implements IReader {
 		// Read in each of the ports individually
 		String name = "";
 		while (!name.equals("TIME_LOOP")) {
-			DataComponent ipsComponent = loadComponent(iniIterator, true);
+			DataComponent ipsComponent = loadComponent(iniIterator, true,
+					tokenizer);
 			name = ipsComponent.getName();
 			if (!name.equals("TIME_LOOP")) {
 				ipsComponents.add(ipsComponent);
@@ -142,10 +173,12 @@ public class IPSReader implements IReader {
 			}
 		}
 		// Build a MasterDetailsComponent out of the DataComponents
-		MasterDetailsComponent portsMaster = buildMasterDetailsComponent(ipsComponents);
+		MasterDetailsComponent portsMaster = buildMasterDetailsComponent(
+				ipsComponents, tokenizer);
 
 		// Read in the time loop specification
-		DataComponent timeLoopComponent = loadTimeLoopComponent(iniIterator);
+		DataComponent timeLoopComponent = loadTimeLoopComponent(iniIterator,
+				tokenizer);
 
 		// Add the components to the form
 		form.addComponent(timeLoopComponent);
@@ -153,8 +186,7 @@ public class IPSReader implements IReader {
 		form.addComponent(portsData);
 		form.addComponent(portsMaster);
 
-		// Return the form
-		return form;
+		return;
 	}
 
 	/**
@@ -179,31 +211,31 @@ public class IPSReader implements IReader {
 			return null;
 		}
 
-		// Read in the ini file and create the iterator
+		// Compile the expression once for the whole file
 		IEntry foundEntry;
 		ArrayList<IEntry> matchedEntries = new ArrayList<IEntry>();
-		ArrayList<String> lines = null;
-		try {
-			lines = readFileLines(ifile);
-		} catch (FileNotFoundException e) {
+		Matcher matcher = Pattern.compile(regex).matcher("");
+
+		// Stream through each line and look for matches
+		try (LineIterator lines = new LineIterator(ifile)) {
+			while (lines.hasNext()) {
+				String line = lines.next();
+				if (matcher.reset(line).matches()) {
+					foundEntry = makeIPSEntry();
+					foundEntry.setName(line);
+					foundEntry.setDescription(regex);
+					foundEntry.setValue(line);
+					matchedEntries.add(foundEntry);
+				}
+			}
+		} catch (CoreException e) {
 			logger.info("IPSReader Message: " + "Error!  Could not find file for loading.");
 			return null;
-		} catch (IOException e) {
+		} catch (IOException | UncheckedIOException e) {
 			logger.info("IPSReader Message: " + "Error!  Trouble reading file.");
 			return null;
 		}
 
-		// Go through each line and look for matches
-		for (String line : lines) {
-			if (line.matches(regex)) {
-				foundEntry = makeIPSEntry();
-				foundEntry.setName(line);
-				foundEntry.setDescription(regex);
-				foundEntry.setValue(line);
-				matchedEntries.add(foundEntry);
-			}
-		}
-
 		return matchedEntries;
 	}
 
@@ -220,47 +252,94 @@ public class IPSReader implements IReader {
 	}
 
 	/**
-	 * Read the INI file lines into entries of an ArrayList so that it is easy
-	 * to parse the sections into ICE.
+	 * <p>
+	 * IPS configuration files are detected by the SIM_NAME and SIM_ROOT
+	 * parameters of the global configuration at the top of the file. They
+	 * usually have a .conf extension, but that is not required.
+	 * </p>
 	 * 
-	 * @param iniFile
-	 *            The INI file to be read in.
-	 * @return An ArrayList of strings of the lines of the INI file.
-	 * @throws FileNotFoundException
-	 *             Thrown when the INI file cannot be found.
-	 * @throws IOException
-	 *             Thrown when the INI file cannot be read or closed.
+	 * @see org.eclipse.ice.io.serializable.IReader#canRead(java.lang.String,
+	 *      java.lang.String)
 	 */
-	private ArrayList<String> readFileLines(IFile ifile) throws FileNotFoundException, IOException {
+	@Override
+	public boolean canRead(String fileExtension, String header) {
+		return header.contains("SIM_NAME") && header.contains("SIM_ROOT");
+	}
 
-		// Read in the ini file and create the iterator
-		BufferedReader reader = null;
-		try {
-			reader = new BufferedReader(new InputStreamReader(ifile.getContents()));
-		} catch (CoreException e) {
-			// TODO Auto-generated catch block
-			logger.error(getClass().getName() + " Exception!", e);
+	/**
+	 * An iterator over the lines of an INI file that reads them on demand
+	 * instead of loading the whole file into memory first. A dummy EOF line is
+	 * returned after the last line of the file so that the last line is read
+	 * in correctly by the loading methods.
+	 */
+	private static class LineIterator implements Iterator<String>, Closeable {
+
+		/**
+		 * The reader for the file.
+		 */
+		private final BufferedReader reader;
+
+		/**
+		 * The next line that will be returned, or null if the iteration is
+		 * over.
+		 */
+		private String nextLine;
+
+		/**
+		 * True once the dummy EOF line has been queued.
+		 */
+		private boolean reachedEOF = false;
+
+		/**
+		 * The constructor.
+		 * 
+		 * @param ifile
+		 *            The INI file to be read in.
+		 * @throws CoreException
+		 *             Thrown when the contents of the file cannot be opened.
+		 * @throws IOException
+		 *             Thrown when the first line cannot be read.
+		 */
+		public LineIterator(IFile ifile) throws CoreException, IOException {
+			reader = new BufferedReader(
+					new InputStreamReader(ifile.getContents()));
+			advance();
 		}
 
-		// Read the FileInputStream and append to a StringBuffer
-		StringBuffer buffer = new StringBuffer();
-		int fileByte;
+		/**
+		 * Read the next line, or queue the EOF line at the end of the file.
+		 */
+		private void advance() throws IOException {
+			nextLine = reader.readLine();
+			if (nextLine == null && !reachedEOF) {
+				nextLine = "EOF";
+				reachedEOF = true;
+			}
+		}
 
-		//Read each the file, putting each line into its own string
-		ArrayList<String> fileLines = new ArrayList<String>();
-		String line = reader.readLine();
-		while(line != null){
-			fileLines.add(line);
-			line = reader.readLine();
+		@Override
+		public boolean hasNext() {
+			return nextLine != null;
 		}
-		reader.close();
 
-		// Add a dummy EOF line so that the last line of the file is
-		// read in correctly
-		fileLines.add("EOF");
+		@Override
+		public String next() {
+			if (nextLine == null) {
+				throw new NoSuchElementException();
+			}
+			String current = nextLine;
+			try {
+				advance();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return current;
+		}
 
-		// Return the ArrayList
-		return fileLines;
+		@Override
+		public void close() throws IOException {
+			reader.close();
+		}
 	}
 
 	/**
@@ -269,17 +348,19 @@ public class IPSReader implements IReader {
 	 * 
 	 * @param it
 	 *            Iterator over the lines of the INI file as an ArrayList
+	 * @param tokenizer
+	 *            The tokenizer used to split the lines
 	 * @return A TableComponent of Entries representing the contents at the top
 	 *         of the INI file.
 	 */
-	private TableComponent loadGlobalConfiguration(Iterator<String> it) {
+	private TableComponent loadGlobalConfiguration(Iterator<String> it,
+			KeyValueLineTokenizer tokenizer) {
 		// Create the global configuration component
 		TableComponent globalConfiguration = new TableComponent();
 		globalConfiguration.setName("Global Configuration");
 		globalConfiguration.setDescription("Entries at the top of an " + "IPS framework INI input file.");
 		globalConfiguration.setId(currID);
 		currID++;
-		String[] splitLine = null;
 
 		// Build the template for the ports table
 		ArrayList<IEntry> entries = new ArrayList<IEntry>();
@@ -297,28 +378,17 @@ public class IPSReader implements IReader {
 		while (!line.contains("[PORTS]") && it.hasNext()) {
 
 			// The format in this section is: KEY = VALUE # Comment
-			// First check if the line contains a parameter
-			if (line.contains("=")) {
-				
-				// If the line has a comment split on it and disregard it
-				if (line.contains("#")) {
-					line = line.split("#", 2)[0];
-				}
-
-				// Get the content for the entry
-				splitLine = line.split("=", 2);
-				
-				//If the line cannot be split into two valid tokens, then the entire line must have been commented out and can be safely ignored.
-				if(splitLine.length < 2 || splitLine[0].trim().length() == 0){
-					continue;
-				}
+			// The tokenizer disregards the comment. If the line cannot be split
+			// into two valid tokens, then the entire line must have been
+			// commented out and can be safely ignored.
+			if (tokenizer.tokenize(line) && !tokenizer.isKeyBlank()) {
 
 				// Set up the data in the table
 				ArrayList<IEntry> row = new ArrayList<IEntry>();
 				int rowID = globalConfiguration.addRow();
 				row = globalConfiguration.getRow(rowID);
-				row.get(0).setValue(splitLine[0]);
-				row.get(1).setValue(splitLine[1]);
+				row.get(0).setValue(tokenizer.getRawKey());
+				row.get(1).setValue(tokenizer.getRawValue());
 			}
 
 			// Read in another line
@@ -473,14 +543,16 @@ public class IPSReader implements IReader {
 	 *            Iterator over the lines of the INI file as an ArrayList
 	 * @param fromFile
 	 * 			  True if the iterator is for the file the reader is parsing or false if the iterator is for a standalone set of strings which are to be parsed by themselves.
+	 * @param tokenizer
+	 *            The tokenizer used to split the lines
 	 * @return A DataComponent containing information for one of the port
 	 *         entries.
 	 */
-	private DataComponent loadComponent(Iterator<String> it, boolean fromFile) {
+	private DataComponent loadComponent(Iterator<String> it, boolean fromFile,
+			KeyValueLineTokenizer tokenizer) {
 		// Create the port component and a generic entry
 		DataComponent portComponent = new DataComponent();
 		IEntry entry;
-		String[] splitLine = null;
 		
 		//The local line that is being parsed
 		String line;
@@ -513,15 +585,12 @@ public class IPSReader implements IReader {
 		while (!foundNextPort) {
 			// The format in this section is: KEY = VALUE # Comment
 			// First check if the line contains a parameter
-			if (line.contains("=")) {
-
-				// Get the content for the entry
-				splitLine = line.split("=", 2);
+			if (tokenizer.tokenize(line)) {
 
 				// Set up the entry
 				entry = makeIPSEntry();
-				entry.setName(splitLine[0]);
-				entry.setValue(splitLine[1]);
+				entry.setName(tokenizer.getRawKey());
+				entry.setValue(tokenizer.getRawValue());
 				entry.setId(currID);
 				currID++;
 				portComponent.addEntry(entry);
@@ -536,8 +605,9 @@ public class IPSReader implements IReader {
 			line = it.next();
 
 			// If the line has a comment split on it and disregard it
-			if (line.contains("#")) {
-				line = line.split("#", 2)[0];
+			int commentStart = line.indexOf('#');
+			if (commentStart >= 0) {
+				line = line.substring(0, commentStart);
 			}
 
 			// Check if we are at a new port section
@@ -573,9 +643,13 @@ public class IPSReader implements IReader {
 	 * 
 	 * @param ipsComponents
 	 *            The DataComponents to be put into the MasterDetailsComponent
+	 * @param tokenizer
+	 *            The tokenizer used to split the lines of missing ports
 	 * @return the resultant MasterDetailsComponent
 	 */
-	private MasterDetailsComponent buildMasterDetailsComponent(ArrayList<DataComponent> ipsComponents) {
+	private MasterDetailsComponent buildMasterDetailsComponent(
+			ArrayList<DataComponent> ipsComponents,
+			KeyValueLineTokenizer tokenizer) {
 		MasterDetailsComponent masterDetails = new MasterDetailsComponent();
 		masterDetails.setName("Ports Master");
 		masterDetails.setDescription("Setup for each of the ports in the simulation.");
@@ -606,7 +680,8 @@ public class IPSReader implements IReader {
 		
 		// Add in the missing definitions
 		for (String port : allowedPortList) {
-			portTemplates.add(loadComponent(portMap.get(port).iterator(), false));
+			portTemplates.add(loadComponent(portMap.get(port).iterator(), false,
+					tokenizer));
 		}
 		
 		//The list of portTemplates, re-ordered to match that of the allowedPortNames
@@ -667,14 +742,16 @@ public class IPSReader implements IReader {
 	 * 
 	 * @param it
 	 *            Iterator over the lines of the INI file as an ArrayList
+	 * @param tokenizer
+	 *            The tokenizer used to split the lines
 	 * @return a DataComponent of Entries containing the information from the
 	 *         Time Loop Component of the INI file.
 	 */
-	private DataComponent loadTimeLoopComponent(Iterator<String> it) {
+	private DataComponent loadTimeLoopComponent(Iterator<String> it,
+			KeyValueLineTokenizer tokenizer) {
 		// Create the port component and a generic entry
 		DataComponent timeLoopData = new DataComponent();
 		IEntry entry;
-		String[] splitLine = null;
 
 		// Scan until we get to the next port component
 		if (!it.hasNext()) {
@@ -693,21 +770,14 @@ public class IPSReader implements IReader {
 		// Read parameters until reaching the end of the file
 		while (it.hasNext()) {
 			// The format in this section is: KEY = VALUE # Comment
-			// First check if the line contains a parameter
-			if (line.contains("=")) {
-
-				// If the line has a comment split on it and disregard it
-				if (line.contains("#")) {
-					line = line.split("#", 2)[0];
-				}
-
-				// Get the content for the entry
-				splitLine = line.split("=", 2);
+			// First check if the line contains a parameter. The tokenizer
+			// disregards the comment.
+			if (tokenizer.tokenize(line)) {
 
 				// Set up the entry
 				entry = makeIPSEntry();
-				entry.setName(splitLine[0]);
-				entry.setValue(splitLine[1]);
+				entry.setName(tokenizer.getRawKey());
+				entry.setValue(tokenizer.getRawValue());
 				entry.setId(currID);
 				currID++;
 				timeLoopData.addEntry(entry);
@@ -12,12 +12,10 @@
  *******************************************************************************/
 package org.eclipse.ice.io.ips;
 
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
@@ -26,7 +24,6 @@ import java.net.UnknownHostException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Date;
 
 import org.eclipse.core.resources.IFile;
@@ -39,6 +36,7 @@ import org.eclipse.ice.datastructures.form.Form;
 import org.eclipse.ice.datastructures.form.MasterDetailsComponent;
 import org.eclipse.ice.datastructures.form.TableComponent;
 import org.eclipse.ice.io.serializable.IWriter;
+import org.eclipse.ice.io.serializable.StreamingFileReplacer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -152,74 +150,10 @@ public class IPSWriter implements IWriter {
 			return;
 		}
 
-		// First, get an ArrayList with each line of the file so
-		// we can search through them
-		// Read in the ini file and create the iterator
-		StringBuffer buffer = null;
-		try {
-			// Read the FileInputStream and append to a StringBuffer
-			BufferedReader reader = new BufferedReader(new InputStreamReader(
-					ifile.getContents()));
-			buffer = new StringBuffer();
-			int fileByte;
-			while ((fileByte = reader.read()) != -1) {
-				buffer.append((char) fileByte);
-			}
-			reader.close();
-		} catch (FileNotFoundException e) {
-			logger.info("IPSWriter Message:  Could not find " + ifile.getName()
-					+ " for reading.");
-			return;
-		} catch (IOException e) {
-			logger.info("IPSWriter Message:  Could not read in "
-					+ ifile.getName() + " for replacement writing.");
-			return;
-		} catch (CoreException e) {
-			// TODO Auto-generated catch block
-			logger.error(getClass().getName() + " Exception!",e);
-		}
-
-		// Break up the StringBuffer at each newline character
-		String[] bufferSplit = (buffer.toString()).split("\n");
-		ArrayList<String> fileLines = new ArrayList<String>(
-				Arrays.asList(bufferSplit));
-
-		/*
-		 * NOTE: Need to do this differently if we are using Eclipse IFiles
-		 * exclusively -- Andrew // Make a backup of the original file in case
-		 * something goes wrong during // the search and replace operations File
-		 * tempFile = new File(ifile.getFullPath().toOSString().split("[.]")[0]
-		 * + "_bak.conf"); tempFile.deleteOnExit(); try {
-		 * Files.copy(file.toPath(), tempFile.toPath(),
-		 * StandardCopyOption.REPLACE_EXISTING); } catch (IOException e1) {
-		 * System
-		 * .out.println("IPSWriter Message:  Error creating copy of original " +
-		 * "file for backup."); return; }
-		 */
-
-		// Write out the file again, replacing any occurrences
-		// of the regex with the given replacement value
-
-		StringBuilder builder = new StringBuilder();
-		for (String line : fileLines) {
-			if (line.matches(regex)) {
-				line = line.replaceAll(regex, value);
-			} else if (line.contains(regex)) {
-				line = line.replaceAll(regex, value);
-			}
-			line = line + "\n";
-			builder.append(line);
-		}
-
-		InputStream replaceStream = new ByteArrayInputStream(builder.toString()
-				.getBytes());
-		try {
-			ifile.setContents(replaceStream, true, true,
-					new NullProgressMonitor());
-		} catch (CoreException e) {
-			// TODO Auto-generated catch block
-			logger.error(getClass().getName() + " Exception!",e);
-		}
+		// Stream the file line by line, replacing any occurrences of the regex
+		// with the given replacement value. The file is only rewritten if
+		// something matched.
+		new StreamingFileReplacer(regex, value).replace(ifile);
 	}
 
 	/**
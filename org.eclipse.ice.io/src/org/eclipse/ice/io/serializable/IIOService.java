@@ -11,6 +11,8 @@
  *******************************************************************************/
 package org.eclipse.ice.io.serializable;
 
+import org.eclipse.core.resources.IFile;
+
 /**
  * This is a service container for all IReaders and IWriters exposed to the
  * underlying OSGi framework as a Declarative Service. For each interface
@@ -78,6 +80,19 @@ public interface IIOService {
 	 */
 	ITemplatedReader getTemplatedReader(String readerType);
 
+	/**
+	 * Return the IReader realization that can read the given file. The format
+	 * is detected from the extension and the header of the file using
+	 * {@link IReader#canRead(String, String)}. The result is cached for each
+	 * file until the file is modified or a new IReader is added.
+	 * 
+	 * @param file
+	 *            The file that should be read.
+	 * @return The IReader that can read the file or null if no IReader
+	 *         recognizes it.
+	 */
+	IReader findReader(IFile file);
+
 	/**
 	 * Return the IWriter realization of type writerType.
 	 * 
@@ -12,8 +12,18 @@
  *******************************************************************************/
 package org.eclipse.ice.io.serializable;
 
-import java.util.HashMap;
-
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,6 +34,15 @@ import org.slf4j.LoggerFactory;
  * realization it receives, it loads it into an appropriate mapping that can be
  * queried later by clients of those IO services.
  * 
+ * The mappings are concurrent because services are bound by the OSGi framework
+ * while Items on other threads are looking up their IReaders and IWriters.
+ * 
+ * The IOService can also detect which IReader should read a file with
+ * {@link #findReader(IFile)}. The results are cached by the full path of the
+ * file and its modification stamps, so repeated lookups of unchanged files do
+ * not open them again. Adding a new IReader invalidates the cache, and only the
+ * most recently used files are kept.
+ * 
  * @author Alex McCaskey
  *
  */
@@ -35,39 +54,74 @@ public class IOService implements IIOService {
 	private static final Logger logger = LoggerFactory
 			.getLogger(IOService.class);
 
+	/**
+	 * The number of bytes of a file that are given to IReaders as its header
+	 * during format detection.
+	 */
+	private static final int HEADER_SIZE = 4096;
+
+	/**
+	 * The maximum number of files whose detected formats are cached.
+	 */
+	private static final int MAX_CACHED_FORMATS = 256;
+
 	/**
 	 * Reference to the mapping between IReader type Strings and the
 	 * corresponding IReader.
 	 */
-	private HashMap<String, IReader> readerMap;
+	private ConcurrentHashMap<String, IReader> readerMap;
 
 	/**
 	 * Reference to the mapping between IReader type Strings and the
 	 * corresponding IReader.
 	 */
-	private HashMap<String, ITemplatedReader> templatedReaderMap;
+	private ConcurrentHashMap<String, ITemplatedReader> templatedReaderMap;
 
 	/**
 	 * Reference to the mapping between IWriter type Strings and the
 	 * corresponding IWriter.
 	 */
-	private HashMap<String, IWriter> writerMap;
+	private ConcurrentHashMap<String, IWriter> writerMap;
 
 	/**
 	 * Reference to the mapping between ITemplatedWriter type Strings and the
 	 * corresponding ITemplatedWriter.
 	 */
-	private HashMap<String, ITemplatedWriter> templatedWriterMap;
+	private ConcurrentHashMap<String, ITemplatedWriter> templatedWriterMap;
+
+	/**
+	 * The cache of detected formats, keyed by the full path of the file. It is
+	 * kept in access order so that the least recently used file is dropped
+	 * when it is full.
+	 */
+	private Map<String, DetectedFormat> formatCache;
+
+	/**
+	 * The number of times that the set of IReaders has changed. It is stored
+	 * with each detected format so that results from before an IReader was
+	 * added are ignored.
+	 */
+	private final AtomicInteger readerGeneration = new AtomicInteger();
 
 	/**
 	 * The constructor
 	 */
 	public IOService() {
 		// Initialize our containers
-		readerMap = new HashMap<String, IReader>();
-		templatedReaderMap = new HashMap<String, ITemplatedReader>();
-		writerMap = new HashMap<String, IWriter>();
-		templatedWriterMap = new HashMap<String, ITemplatedWriter>();
+		readerMap = new ConcurrentHashMap<String, IReader>();
+		templatedReaderMap = new ConcurrentHashMap<String, ITemplatedReader>();
+		writerMap = new ConcurrentHashMap<String, IWriter>();
+		templatedWriterMap = new ConcurrentHashMap<String, ITemplatedWriter>();
+		formatCache = Collections.synchronizedMap(
+				new LinkedHashMap<String, DetectedFormat>(16, 0.75f, true) {
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected boolean removeEldestEntry(
+							Map.Entry<String, DetectedFormat> eldest) {
+						return size() > MAX_CACHED_FORMATS;
+					}
+				});
 
 		// Load all services available via extension points.
 		try {
@@ -94,10 +148,13 @@ public class IOService implements IIOService {
 	@Override
 	public void addReader(IReader reader) {
 
-		if (reader != null) {
+		if (reader != null && reader.getReaderType() != null) {
 			logger.info("[IOService Message] Adding " + reader.getReaderType()
 					+ " reader to the IOService Mapping.");
 			readerMap.put(reader.getReaderType(), reader);
+			// Files that were not recognized before may be now
+			readerGeneration.incrementAndGet();
+			formatCache.clear();
 		}
 
 		return;
@@ -113,7 +170,8 @@ public class IOService implements IIOService {
 	@Override
 	public void addTemplatedReader(ITemplatedReader templatedReader) {
 
-		if (templatedReader != null) {
+		if (templatedReader != null
+				&& templatedReader.getReaderType() != null) {
 			logger.info("[IOService Message] Adding "
 					+ templatedReader.getReaderType()
 					+ " templated reader to the IOService Mapping.");
@@ -134,7 +192,7 @@ public class IOService implements IIOService {
 	@Override
 	public void addWriter(IWriter writer) {
 
-		if (writer != null) {
+		if (writer != null && writer.getWriterType() != null) {
 			logger.info("[IOService Message] Adding " + writer.getWriterType()
 					+ " writer to the IOService Mapping.");
 			writerMap.put(writer.getWriterType(), writer);
@@ -151,7 +209,7 @@ public class IOService implements IIOService {
 	@Override
 	public void addTemplatedWriter(ITemplatedWriter writer) {
 
-		if (writer != null) {
+		if (writer != null && writer.getWriterType() != null) {
 			logger.info("[IOService Message] Adding " + writer.getWriterType()
 					+ " templated writer to the IOService Mapping.");
 			templatedWriterMap.put(writer.getWriterType(), writer);
@@ -167,12 +225,8 @@ public class IOService implements IIOService {
 	@Override
 	public IReader getReader(String readerType) {
 
-		// Make sure we have this Reader and if so return it
-		if (readerMap.containsKey(readerType)) {
-			return readerMap.get(readerType);
-		}
-
-		return null;
+		// Return the Reader if we have it. A null key is never mapped.
+		return (readerType != null) ? readerMap.get(readerType) : null;
 	}
 
 	/*
@@ -185,12 +239,67 @@ public class IOService implements IIOService {
 	@Override
 	public ITemplatedReader getTemplatedReader(String readerType) {
 
-		// Make sure we have this Reader and if so return it
-		if (templatedReaderMap.containsKey(readerType)) {
-			return templatedReaderMap.get(readerType);
+		// Return the Reader if we have it. A null key is never mapped.
+		return (readerType != null) ? templatedReaderMap.get(readerType)
+				: null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.io.serializable.IIOService#findReader(org.eclipse.core.
+	 * resources.IFile)
+	 */
+	@Override
+	public IReader findReader(IFile file) {
+
+		// Make sure the file is there
+		if (file == null || !file.exists()) {
+			return null;
 		}
 
-		return null;
+		// Check the cache first
+		String key = file.getFullPath().toString();
+		long modificationStamp = file.getModificationStamp();
+		long localTimeStamp = file.getLocalTimeStamp();
+		int generation = readerGeneration.get();
+		DetectedFormat format = formatCache.get(key);
+		if (format != null && format.matches(modificationStamp,
+				localTimeStamp, generation)) {
+			return (format.readerType != null)
+					? readerMap.get(format.readerType) : null;
+		}
+
+		// Otherwise sniff the file. Readers are checked in a fixed order so
+		// that the same file always gets the same reader.
+		IReader detectedReader = null;
+		String extension = file.getFileExtension();
+		extension = (extension != null) ? extension.toLowerCase() : "";
+		String header = readHeader(file);
+		if (header != null) {
+			List<String> types = new ArrayList<String>(readerMap.keySet());
+			Collections.sort(types);
+			for (String type : types) {
+				IReader reader = readerMap.get(type);
+				if (reader != null && reader.canRead(extension, header)) {
+					detectedReader = reader;
+					break;
+				}
+			}
+			// Cache the result, even if nothing could read the file
+			formatCache.put(key, new DetectedFormat(modificationStamp,
+					localTimeStamp, generation, (detectedReader != null)
+							? detectedReader.getReaderType() : null));
+		}
+
+		if (detectedReader != null) {
+			logger.info("[IOService Message] Detected "
+					+ detectedReader.getReaderType() + " format for "
+					+ file.getName() + ".");
+		}
+
+		return detectedReader;
 	}
 
 	/*
@@ -202,12 +311,8 @@ public class IOService implements IIOService {
 	@Override
 	public IWriter getWriter(String writerType) {
 
-		// Make sure we have this Writer and if so return it
-		if (writerMap.containsKey(writerType)) {
-			return writerMap.get(writerType);
-		}
-
-		return null;
+		// Return the Writer if we have it. A null key is never mapped.
+		return (writerType != null) ? writerMap.get(writerType) : null;
 	}
 
 	/*
@@ -220,12 +325,9 @@ public class IOService implements IIOService {
 	@Override
 	public ITemplatedWriter getTemplatedWriter(String writerType) {
 
-		// Make sure we have this Writer and if so return it
-		if (templatedWriterMap.containsKey(writerType)) {
-			return templatedWriterMap.get(writerType);
-		}
-
-		return null;
+		// Return the Writer if we have it. A null key is never mapped.
+		return (writerType != null) ? templatedWriterMap.get(writerType)
+				: null;
 	}
 
 	/*
@@ -248,4 +350,80 @@ public class IOService implements IIOService {
 		return writerMap.size();
 	}
 
+	/**
+	 * This operation reads the header of the file that is given to the
+	 * IReaders during format detection.
+	 * 
+	 * @param file
+	 *            The file to read.
+	 * @return The header, decoded one character per byte, or null if the
+	 *         file could not be read.
+	 */
+	private String readHeader(IFile file) {
+
+		byte[] buffer = new byte[HEADER_SIZE];
+		int length = 0;
+		try (InputStream stream = file.getContents()) {
+			int count;
+			while (length < buffer.length && (count = stream.read(buffer,
+					length, buffer.length - length)) > 0) {
+				length += count;
+			}
+		} catch (CoreException | IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+			return null;
+		}
+
+		return new String(buffer, 0, length, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * A format detected for a file along with the state of the file and the
+	 * IReaders when it was detected.
+	 */
+	private static final class DetectedFormat {
+
+		/**
+		 * The modification stamp of the file.
+		 */
+		private final long modificationStamp;
+
+		/**
+		 * The local time stamp of the file.
+		 */
+		private final long localTimeStamp;
+
+		/**
+		 * The reader generation when the format was detected.
+		 */
+		private final int generation;
+
+		/**
+		 * The type of the detected IReader or null if none was found.
+		 */
+		private final String readerType;
+
+		/**
+		 * The constructor.
+		 */
+		private DetectedFormat(long modificationStamp, long localTimeStamp,
+				int generation, String readerType) {
+			this.modificationStamp = modificationStamp;
+			this.localTimeStamp = localTimeStamp;
+			this.generation = generation;
+			this.readerType = readerType;
+		}
+
+		/**
+		 * This operation returns true if the format is still valid for the
+		 * current state of the file and IReaders.
+		 */
+		private boolean matches(long modificationStamp, long localTimeStamp,
+				int generation) {
+			return this.modificationStamp == modificationStamp
+					&& this.localTimeStamp == localTimeStamp
+					&& this.generation == generation;
+		}
+	}
+
 }
@@ -68,7 +68,27 @@ public interface IReader {
 	 * @return The String name of this IReader.
 	 */
 	public String getReaderType();
-	
+
+	/**
+	 * This operation is used by the IOService to automatically detect which
+	 * IReader should be used to read a file. Realizations should return true
+	 * only if the extension or the header clearly identifies their format,
+	 * and they must not parse the whole file. The default implementation
+	 * returns false, so readers that do not override it are never picked
+	 * automatically.
+	 * 
+	 * @param fileExtension
+	 *            The lower case extension of the file without the dot, or an
+	 *            empty String if the file has no extension.
+	 * @param header
+	 *            The first few kilobytes of the file, decoded one character
+	 *            per byte.
+	 * @return True if this IReader can read the file, false otherwise.
+	 */
+	public default boolean canRead(String fileExtension, String header) {
+		return false;
+	}
+
 	/**
 	 * This operation retrieves all of the IReaders from the
 	 * ExtensionRegistry.
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.ice.io.serializable;
 
+import java.util.Map;
+
 import org.eclipse.core.resources.IFile;
 import org.eclipse.ice.datastructures.form.Form;
 
@@ -53,6 +55,23 @@ public interface ITemplatedWriter {
 	 */
 	public void replace(IFile file, String regex, String value);
 
+	/**
+	 * This method applies a batch of search and replace operations to a file
+	 * in a single pass. See {@link IWriter#replace(IFile, Map)}.
+	 * 
+	 * @param file
+	 *            The file to search. If it does not exist, this operation will
+	 *            fail.
+	 * @param replacements
+	 *            A map of regular expressions to the values that should replace
+	 *            all of their occurrences.
+	 */
+	public default void replace(IFile file, Map<String, String> replacements) {
+		if (file != null && replacements != null) {
+			new StreamingFileReplacer(replacements).replace(file);
+		}
+	}
+
 	/**
 	 * This method is used by the IOService to store unique references of
 	 * IWriters. It is used as the key in the IOService's IWriter mapping.
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.ice.io.serializable;
 
+import java.util.Map;
+
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -59,6 +61,31 @@ public interface IWriter {
 	 */
 	public void replace(IFile file, String regex, String value);
 
+	/**
+	 * This method applies a batch of search and replace operations to a file
+	 * in a single pass. Each line of the file is searched for every regular
+	 * expression in the iteration order of the map and matches are replaced
+	 * with the associated value. The file is only rewritten if something
+	 * changed.
+	 * 
+	 * The default implementation streams the file through the
+	 * {@link StreamingFileReplacer}, which is also what realizations should
+	 * use for {@link #replace(IFile, String, String)} if they do not need
+	 * format specific handling.
+	 * 
+	 * @param file
+	 *            The file to search. If it does not exist, this operation will
+	 *            fail.
+	 * @param replacements
+	 *            A map of regular expressions to the values that should replace
+	 *            all of their occurrences.
+	 */
+	public default void replace(IFile file, Map<String, String> replacements) {
+		if (file != null && replacements != null) {
+			new StreamingFileReplacer(replacements).replace(file);
+		}
+	}
+
 	/**
 	 * This method is used by the IOService to store unique references of
 	 * IWriters. It is used as the key in the IOService's IWriter mapping.
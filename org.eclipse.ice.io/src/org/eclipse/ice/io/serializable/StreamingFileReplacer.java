@@ -0,0 +1,519 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.io.serializable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.DosFileAttributeView;
+import java.nio.file.attribute.DosFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class is the common search and replace engine used by realizations of
+ * {@link IWriter#replace(IFile, String, String)} and
+ * {@link IWriter#replace(IFile, Map)}.
+ *
+ * Files are processed line by line in fixed size chunks through a
+ * {@link FileChannel}, so the whole file is never held in memory. Every regular
+ * expression is compiled once per call and applied to each line in the order
+ * given. The result is written to a temporary file in the same directory that
+ * is atomically renamed over the original when, and only when, at least one
+ * line changed. The temporary file is given the permissions of the original
+ * before it is moved so that, for example, executable scripts stay
+ * executable. Line terminators are preserved as they are found in the
+ * original file.
+ *
+ * Unless a character set is given, workspace files are read and written in
+ * their own character set (see {@link IFile#getCharset()}) and other files in
+ * the platform's default character set.
+ *
+ * Instances are immutable and may be shared across threads.
+ *
+ * @author UT-Battelle, LLC
+ *
+ */
+public class StreamingFileReplacer {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(StreamingFileReplacer.class);
+
+	/**
+	 * The default size, in bytes, of the chunks read from and written to disk.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+	/**
+	 * The prefix of the temporary files created next to the files that are
+	 * being rewritten.
+	 */
+	private static final String TEMP_PREFIX = ".ice-replace-";
+
+	/**
+	 * The regular expressions and their replacement values, in the order in
+	 * which they are applied to each line.
+	 */
+	private final Pattern[] patterns;
+
+	/**
+	 * The replacement values. The value at index i replaces matches of the
+	 * pattern at index i.
+	 */
+	private final String[] values;
+
+	/**
+	 * The character set used to decode and encode the files, or null if the
+	 * character set of each file should be used.
+	 */
+	private final Charset charset;
+
+	/**
+	 * The size of the chunks read from and written to disk.
+	 */
+	private final int chunkSize;
+
+	/**
+	 * The constructor for a single regular expression and replacement value.
+	 *
+	 * @param regex
+	 *            The regular expression to search.
+	 * @param value
+	 *            The value that should replace all occurrences of the given
+	 *            regular expression.
+	 */
+	public StreamingFileReplacer(String regex, String value) {
+		this(singletonMap(regex, value));
+	}
+
+	/**
+	 * The constructor for a batch of regular expressions.
+	 *
+	 * @param replacements
+	 *            A map of regular expressions to their replacement values.
+	 *            Iteration order is preserved, so an ordered map should be used
+	 *            if one replacement depends on another.
+	 */
+	public StreamingFileReplacer(Map<String, String> replacements) {
+		this(replacements, null, DEFAULT_CHUNK_SIZE, true);
+	}
+
+	/**
+	 * The full constructor.
+	 *
+	 * @param replacements
+	 *            A map of regular expressions to their replacement values.
+	 * @param charset
+	 *            The character set of the files that will be processed.
+	 * @param chunkSize
+	 *            The size, in bytes, of the chunks read from and written to
+	 *            disk. It must be positive.
+	 */
+	public StreamingFileReplacer(Map<String, String> replacements,
+			Charset charset, int chunkSize) {
+		this(replacements, charset, chunkSize, false);
+	}
+
+	/**
+	 * The constructor that all of the others call.
+	 *
+	 * @param replacements
+	 *            A map of regular expressions to their replacement values.
+	 * @param charset
+	 *            The character set of the files that will be processed.
+	 * @param chunkSize
+	 *            The size, in bytes, of the chunks read from and written to
+	 *            disk.
+	 * @param perFileCharset
+	 *            True if the charset may be null so that the character set of
+	 *            each file is used instead.
+	 */
+	private StreamingFileReplacer(Map<String, String> replacements,
+			Charset charset, int chunkSize, boolean perFileCharset) {
+		if (replacements == null || (charset == null && !perFileCharset)
+				|| chunkSize <= 0) {
+			throw new IllegalArgumentException("StreamingFileReplacer Error: "
+					+ "Replacements, charset and a positive chunk size are "
+					+ "required.");
+		}
+
+		patterns = new Pattern[replacements.size()];
+		values = new String[replacements.size()];
+		int i = 0;
+		for (Entry<String, String> entry : replacements.entrySet()) {
+			if (entry.getKey() == null || entry.getValue() == null) {
+				throw new IllegalArgumentException(
+						"StreamingFileReplacer Error: "
+								+ "Null regular expressions and values are "
+								+ "not allowed.");
+			}
+			patterns[i] = Pattern.compile(entry.getKey());
+			values[i] = entry.getValue();
+			i++;
+		}
+
+		this.charset = charset;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * This operation performs the replacement on the file at the given path.
+	 *
+	 * @param path
+	 *            The file to rewrite. It must exist.
+	 * @return The number of lines whose contents are different after the
+	 *         replacements. If this is zero the file was not touched.
+	 * @throws IOException
+	 *             This exception is thrown if the file cannot be read, or if
+	 *             the temporary file cannot be written or moved into place.
+	 */
+	public int replace(Path path) throws IOException {
+		return replace(path,
+				charset != null ? charset : Charset.defaultCharset());
+	}
+
+	/**
+	 * This operation performs the replacement on the file at the given path
+	 * in the given character set.
+	 *
+	 * @param path
+	 *            The file to rewrite. It must exist.
+	 * @param fileCharset
+	 *            The character set of the file.
+	 * @return The number of lines whose contents are different after the
+	 *         replacements.
+	 * @throws IOException
+	 *             This exception is thrown if the file cannot be read, or if
+	 *             the temporary file cannot be written or moved into place.
+	 */
+	private int replace(Path path, Charset fileCharset) throws IOException {
+
+		// Nothing to do for an empty batch
+		if (patterns.length == 0) {
+			return 0;
+		}
+
+		Path absolute = path.toAbsolutePath();
+		Path dir = absolute.getParent();
+		Path temp = Files.createTempFile(dir, TEMP_PREFIX, ".tmp");
+		int changed = 0;
+
+		try {
+			try (FileChannel in = FileChannel.open(absolute,
+					StandardOpenOption.READ);
+					FileChannel out = FileChannel.open(temp,
+							StandardOpenOption.WRITE,
+							StandardOpenOption.TRUNCATE_EXISTING)) {
+				changed = transfer(in, out, fileCharset);
+				if (changed > 0) {
+					out.force(false);
+				}
+			}
+
+			// Swap the new contents into place only if something changed
+			if (changed > 0) {
+				copyAttributes(absolute, temp);
+				move(temp, absolute);
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+
+		return changed;
+	}
+
+	/**
+	 * This operation performs the replacement on a workspace file and
+	 * refreshes the workspace if the file was changed on disk. Errors are
+	 * logged.
+	 *
+	 * @param file
+	 *            The workspace file to rewrite. It must exist and be stored in
+	 *            the local file system.
+	 * @return The number of lines that were changed, or -1 if the file could
+	 *         not be processed.
+	 */
+	public int replace(IFile file) {
+
+		// Make sure the file is available
+		if (file == null || !file.exists()) {
+			logger.info("StreamingFileReplacer Message: Could not find "
+					+ (file == null ? "null" : file.getName())
+					+ " for replacement.");
+			return -1;
+		}
+		IPath location = file.getLocation();
+		if (location == null) {
+			logger.info("StreamingFileReplacer Message: " + file.getName()
+					+ " is not stored in the local file system.");
+			return -1;
+		}
+
+		int changed = -1;
+		try {
+			Charset fileCharset = charset != null ? charset
+					: Charset.forName(file.getCharset());
+			changed = replace(location.toFile().toPath(), fileCharset);
+			// Let the workspace know that the file changed behind its back
+			if (changed > 0) {
+				file.refreshLocal(IResource.DEPTH_ZERO,
+						new NullProgressMonitor());
+			}
+		} catch (IOException e) {
+			logger.error("StreamingFileReplacer Message: Could not replace "
+					+ "the contents of " + file.getName() + ".", e);
+		} catch (CoreException e) {
+			logger.error("StreamingFileReplacer Message: Could not read the "
+					+ "character set of or refresh " + file.getName() + ".",
+					e);
+		} catch (IllegalArgumentException e) {
+			logger.error("StreamingFileReplacer Message: The character set "
+					+ "of " + file.getName() + " is not supported.", e);
+		}
+
+		return changed;
+	}
+
+	/**
+	 * This operation streams the input channel to the output channel one line
+	 * at a time, applying all of the replacements to each line.
+	 *
+	 * @param in
+	 *            The channel to read from.
+	 * @param out
+	 *            The channel to write to.
+	 * @param fileCharset
+	 *            The character set of the file.
+	 * @return The number of lines that were changed.
+	 * @throws IOException
+	 *             This exception is thrown if either channel fails.
+	 */
+	private int transfer(FileChannel in, FileChannel out,
+			Charset fileCharset) throws IOException {
+
+		// Local Declarations
+		CharsetDecoder decoder = fileCharset.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPORT)
+				.onUnmappableCharacter(CodingErrorAction.REPORT);
+		CharsetEncoder encoder = fileCharset.newEncoder();
+		ByteBuffer bytesIn = ByteBuffer.allocate(chunkSize);
+		CharBuffer charsIn = CharBuffer
+				.allocate((int) Math.ceil(chunkSize * decoder.maxCharsPerByte()));
+		ByteBuffer bytesOut = ByteBuffer.allocate(chunkSize);
+		StringBuilder line = new StringBuilder(256);
+		Matcher[] matchers = new Matcher[patterns.length];
+		for (int i = 0; i < patterns.length; i++) {
+			matchers[i] = patterns[i].matcher("");
+		}
+		int changed = 0;
+		boolean eof = false;
+
+		while (!eof) {
+			eof = in.read(bytesIn) == -1;
+			bytesIn.flip();
+			checkResult(decoder.decode(bytesIn, charsIn, eof));
+			if (eof) {
+				checkResult(decoder.flush(charsIn));
+			}
+			bytesIn.compact();
+			charsIn.flip();
+
+			// Emit every complete line in the decoded chunk
+			while (charsIn.hasRemaining()) {
+				char c = charsIn.get();
+				if (c == '\n') {
+					changed += emitLine(line, "\n", matchers, encoder,
+							bytesOut, out);
+				} else {
+					line.append(c);
+				}
+			}
+			charsIn.clear();
+		}
+
+		// Emit the trailing line, which has no terminator
+		if (line.length() > 0) {
+			changed += emitLine(line, "", matchers, encoder, bytesOut, out);
+		}
+
+		// Flush the encoder and whatever is left in the output buffer
+		CharBuffer empty = CharBuffer.allocate(0);
+		checkResult(encoder.encode(empty, bytesOut, true));
+		checkResult(encoder.flush(bytesOut));
+		drain(bytesOut, out);
+
+		return changed;
+	}
+
+	/**
+	 * This operation applies the replacements to a single line and writes it,
+	 * along with its terminator, to the output channel. The line buffer is
+	 * cleared.
+	 *
+	 * @return 1 if the contents of the line are different after the
+	 *         replacements, 0 otherwise. Matches that are replaced by the
+	 *         same text do not count as changes.
+	 */
+	private int emitLine(StringBuilder line, String terminator,
+			Matcher[] matchers, CharsetEncoder encoder, ByteBuffer bytesOut,
+			FileChannel out) throws IOException {
+
+		// A carriage return belongs to the terminator, not the content
+		int length = line.length();
+		if (length > 0 && line.charAt(length - 1) == '\r') {
+			line.setLength(length - 1);
+			terminator = "\r" + terminator;
+		}
+
+		// Apply each replacement in order
+		CharSequence content = line;
+		for (int i = 0; i < matchers.length; i++) {
+			Matcher matcher = matchers[i].reset(content);
+			if (matcher.find()) {
+				content = matcher.replaceAll(values[i]);
+			}
+		}
+		boolean lineChanged = content != line
+				&& !content.toString().contentEquals(line);
+
+		// Encode the line and its terminator into the output buffer
+		encode(CharBuffer.wrap(content), encoder, bytesOut, out);
+		encode(CharBuffer.wrap(terminator), encoder, bytesOut, out);
+		line.setLength(0);
+
+		return lineChanged ? 1 : 0;
+	}
+
+	/**
+	 * This operation encodes characters into the output buffer, writing the
+	 * buffer to the channel whenever it fills.
+	 */
+	private void encode(CharBuffer chars, CharsetEncoder encoder,
+			ByteBuffer bytesOut, FileChannel out) throws IOException {
+		while (true) {
+			CoderResult result = encoder.encode(chars, bytesOut, false);
+			if (result.isOverflow()) {
+				drain(bytesOut, out);
+			} else {
+				checkResult(result);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * This operation writes everything in the buffer to the channel and clears
+	 * the buffer.
+	 */
+	private static void drain(ByteBuffer buffer, FileChannel out)
+			throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			out.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * This operation throws an exception for coder errors.
+	 */
+	private static void checkResult(CoderResult result)
+			throws CharacterCodingException {
+		if (result.isError()) {
+			result.throwException();
+		}
+	}
+
+	/**
+	 * This operation copies the permissions of the original file to the
+	 * temporary file that will replace it. POSIX permissions and group are
+	 * copied where they are supported and DOS attributes otherwise. A group
+	 * that can not be set by the current user is logged and skipped.
+	 */
+	private static void copyAttributes(Path original, Path temp)
+			throws IOException {
+		PosixFileAttributeView posixView = Files.getFileAttributeView(temp,
+				PosixFileAttributeView.class);
+		if (posixView != null) {
+			PosixFileAttributes attributes = Files.readAttributes(original,
+					PosixFileAttributes.class);
+			posixView.setPermissions(attributes.permissions());
+			try {
+				posixView.setGroup(attributes.group());
+			} catch (IOException e) {
+				logger.info("StreamingFileReplacer Message: Could not keep "
+						+ "the group of " + original.getFileName() + ".");
+			}
+		} else {
+			DosFileAttributeView dosView = Files.getFileAttributeView(temp,
+					DosFileAttributeView.class);
+			if (dosView != null) {
+				DosFileAttributes attributes = Files.readAttributes(original,
+						DosFileAttributes.class);
+				dosView.setHidden(attributes.isHidden());
+				dosView.setArchive(attributes.isArchive());
+				dosView.setSystem(attributes.isSystem());
+			}
+		}
+	}
+
+	/**
+	 * This operation moves the temporary file over the target, atomically if
+	 * the file system supports it.
+	 */
+	private static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * This operation creates an ordered map holding a single replacement.
+	 */
+	private static Map<String, String> singletonMap(String regex,
+			String value) {
+		Map<String, String> map = new LinkedHashMap<>(2);
+		map.put(regex, value);
+		return map;
+	}
+
+}
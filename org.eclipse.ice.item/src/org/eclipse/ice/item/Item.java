@@ -581,6 +581,26 @@ public class Item
 		return null;
 	}
 
+	/**
+	 * This method should be used by subclasses to get a reference to the
+	 * IReader that should read a particular file. It is the IReader of this
+	 * Item's IO type if it has one and otherwise the IReader that the
+	 * IOService detects for the file, which it caches until the file changes.
+	 * 
+	 * @param file
+	 *            The file that will be read
+	 * @return The IReader for the file, or {@code null} if the IOService is
+	 *         unavailable or no IReader can read the file.
+	 */
+	protected IReader getReader(IFile file) {
+		IReader reader = getReader();
+		if (reader == null && ioService != null && file != null) {
+			reader = ioService.findReader(file);
+		}
+
+		return reader;
+	}
+
 	/**
 	 * This method should be used by subclasses to get a reference to the
 	 * desired IWriter. To get the desired IWriter, subclasses must specify the
@@ -1594,6 +1614,17 @@ public class Item
 		return;
 	}
 
+	/**
+	 * This operation removes a listener from the Item's set of listeners.
+	 * 
+	 * @param listener
+	 *            The listener that should no longer receive updates.
+	 */
+	public void removeListener(ItemListener listener) {
+		listeners.remove(listener);
+		return;
+	}
+
 	/**
 	 * This operation notifies the listeners of a change in the IProject,
 	 * normally do to a newly created or deleted resource.
@@ -2075,6 +2106,17 @@ public class Item
 
 	}
 
+	/**
+	 * This operation releases the resources that the Item holds while it is
+	 * used, such as threads and open files. It is called when the Item is
+	 * deleted and the Item should not be processed or updated afterwards.
+	 * This implementation does nothing, so subclasses that hold such
+	 * resources should override it.
+	 */
+	public void dispose() {
+		// Nothing to release by default
+	}
+
 	/**
 	 * True if the Item is enabled, false if it is disabled.
 	 * 
@@ -33,6 +33,7 @@ import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.form.DataComponent;
 import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
+import org.eclipse.ice.datastructures.jaxbclassprovider.JAXBContextRegistry;
 import org.eclipse.remote.core.IRemoteConnection;
 import org.eclipse.remote.core.IRemoteConnectionType;
 import org.eclipse.remote.core.IRemoteFileService;
@@ -379,21 +380,20 @@ public class RemoteFileUploadAction extends RemoteAction {
 	private <T> T loadComponent(String xmlForm) {
 
 		T comp = null;
-		// Make an array to store the class list of registered Items
-		ArrayList<Class> classList = new ArrayList<Class>();
-		Class[] classArray = {};
-		classList.addAll(new ICEJAXBClassProvider().getClasses());
-		// Create new JAXB class context and unmarshaller
+		// Get the shared JAXB context for ICE's classes
 		JAXBContext context = null;
 		try {
-			context = JAXBContext.newInstance(classList.toArray(classArray));
+			context = JAXBContextRegistry
+					.getContext(new ICEJAXBClassProvider().getClasses());
 		} catch (JAXBException e1) {
 			actionError("Remote File Upload could not get JAXBContext.", e1);
+			return null;
 		}
 
+		Unmarshaller unmarshaller = null;
 		try {
-			// Create the unmarshaller and load the item
-			Unmarshaller unmarshaller = context.createUnmarshaller();
+			// Get an unmarshaller and load the item
+			unmarshaller = JAXBContextRegistry.acquireUnmarshaller(context);
 			comp = (T) unmarshaller
 					.unmarshal(new ByteArrayInputStream(xmlForm.getBytes()));
 		} catch (JAXBException e) {
@@ -402,6 +402,8 @@ public class RemoteFileUploadAction extends RemoteAction {
 					e);
 			// Null out the Item so that it can't be returned uninitialized
 			comp = null;
+		} finally {
+			JAXBContextRegistry.releaseUnmarshaller(context, unmarshaller);
 		}
 
 		return comp;
@@ -21,13 +21,18 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
@@ -49,6 +54,7 @@ import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.datastructures.form.ResourceComponent;
 import org.eclipse.ice.datastructures.form.TableComponent;
 import org.eclipse.ice.datastructures.resource.ICEResource;
+import org.eclipse.ice.io.serializable.IReader;
 import org.eclipse.ice.item.IActionFactory;
 import org.eclipse.ice.item.Item;
 import org.eclipse.ice.item.ItemType;
@@ -183,6 +189,36 @@ public class JobLauncher extends Item {
 	@XmlAttribute
 	private boolean uploadInput;
 
+	/**
+	 * True if the launcher should reuse the output of an earlier local run with
+	 * the same executable, arguments and input files instead of running the
+	 * job again, otherwise false.
+	 */
+	@XmlAttribute
+	private boolean useRunCache;
+
+	/**
+	 * The key of the current run in the JobRunCache, or null if the run should
+	 * not be stored in the cache.
+	 */
+	@XmlTransient()
+	private String runKey;
+
+	/**
+	 * The names of the entries in the action data map that do not change the
+	 * output of a run and are left out of its key in the JobRunCache.
+	 */
+	private static final List<String> uncachedActionData = Arrays.asList(
+			"localJobLaunchDirectory", "projectSpaceDir", "stdOutFileName",
+			"stdErrFileName", "downloadDirectory");
+
+	/**
+	 * The lock that is held while the folders of local job launches are
+	 * created, so that launches that start at the same time, such as the
+	 * cases of a parameter sweep, do not pick the same folder.
+	 */
+	private static final Object jobFolderLock = new Object();
+
 	/**
 	 * <p>
 	 * The set of hosts available for the job.
@@ -856,6 +892,7 @@ public class JobLauncher extends Item {
 		addInputType("Input File", "inputFile", desc, null);
 		appendInput = true;
 		uploadInput = true;
+		useRunCache = true;
 
 		// Add the host table to the form
 		form.addComponent(hostsTable);
@@ -993,6 +1030,11 @@ public class JobLauncher extends Item {
 				// Create the output files in the project space
 				createOutputFiles();
 
+				// Reuse the output of an identical run if there was one
+				if (restoreCachedRun()) {
+					return status;
+				}
+
 				// Get the Actions that should be executed for
 				// this Job Launch
 				actionList = getActions();
@@ -1146,36 +1188,155 @@ public class JobLauncher extends Item {
 	}
 
 	/**
-	 * This private utility method is to be used once in the process method to
-	 * generate the local job launch IFolder.
+	 * This operation looks for an earlier run of the job with the same
+	 * executable, arguments and input files in the JobRunCache. If there is
+	 * one, its output is copied into the current job folder and the output
+	 * resources instead of running the job again. Otherwise the key of the
+	 * run is kept so that its output can be stored once it is processed. Only
+	 * local runs are cached because remote executables can not be
+	 * fingerprinted.
 	 * 
-	 * @return folder The local job launch folder.
+	 * @return True if the output of an earlier run was restored and the job
+	 *         is processed, false if the job should be run.
 	 */
-	private IFolder createLocalJobLaunchFolder() {
+	private boolean restoreCachedRun() {
+
+		// Local Declarations
+		Map<String, String> arguments = new LinkedHashMap<String, String>();
+		List<String> inputs = new ArrayList<String>();
 
-		// Here we should create a scratch job directory
-		// in project/jobs
-		IFolder jobsFolder = project.getFolder("jobs");
-		if (!jobsFolder.exists()) {
+		runKey = null;
+		if (!useRunCache || !isLocalhost(actionDataMap.get("hostname"))) {
+			return false;
+		}
+
+		try {
+			// Compute the key of the run from the action data
+			for (String key : Collections.list(actionDataMap.keys())) {
+				arguments.put(key, actionDataMap.get(key));
+			}
+			for (FileType type : inputFileNameMap.values()) {
+				inputs.add(type.varName);
+			}
+			String key = JobRunCache.fingerprint(arguments, inputs,
+					uncachedActionData);
+
+			// Restore the earlier run if there was one
+			if (getRunCache().restore(key,
+					currentJobFolder.getLocation().toFile().toPath(),
+					getRunLogs())) {
+				logger.info("JobLauncher Message: Reusing the output of the "
+						+ "identical run " + key + " instead of launching "
+						+ "the job.");
+				updateResourceComponent();
+				status = FormStatus.Processed;
+				return true;
+			}
+			runKey = key;
+		} catch (IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+
+		return false;
+	}
+
+	/**
+	 * This operation stores the output of the current run in the JobRunCache
+	 * if it was processed successfully.
+	 */
+	private void storeCachedRun() {
+		if (runKey != null && status.equals(FormStatus.Processed)) {
 			try {
-				jobsFolder.create(true, true, null);
-			} catch (CoreException e) {
-				logger.error("JobLauncher Error: Could not create the "
-						+ "jobs directory for job launches.", e);
-				return null;
+				getRunCache().store(runKey,
+						currentJobFolder.getLocation().toFile().toPath(),
+						getRunLogs());
+			} catch (IOException e) {
+				logger.error(getClass().getName() + " Exception!", e);
 			}
 		}
+		runKey = null;
 
-		// Create a IFolder for the local job launch
-		IFolder jobFolder = jobsFolder.getFolder("iceLaunch_"
-				+ new SimpleDateFormat("yyyMMddhhmmss").format(new Date()));
-		try {
-			jobFolder.create(true, true, null);
-		} catch (CoreException e1) {
-			logger.error(
-					"JobLauncher Error: Could not create the current launch job directory.",
-					e1);
-			return null;
+		return;
+	}
+
+	/**
+	 * This operation returns the JobRunCache in the jobs folder of the
+	 * project.
+	 * 
+	 * @return The cache
+	 */
+	private JobRunCache getRunCache() {
+		return JobRunCache.getCache(project.getFolder("jobs").getLocation()
+				.toFile().toPath().resolve(JobRunCache.DIRECTORY_NAME));
+	}
+
+	/**
+	 * This operation returns the files with the standard output, standard
+	 * error and total output of the current run. Their names change from run
+	 * to run, so they are stored in the JobRunCache under fixed names.
+	 * 
+	 * @return The files keyed on the names they are cached with
+	 */
+	private Map<String, Path> getRunLogs() {
+		Map<String, Path> logs = new LinkedHashMap<String, Path>();
+		if (actionDataMap.get("stdOutFileName") != null) {
+			logs.put("stdout", new File(actionDataMap.get("stdOutFileName"))
+					.toPath());
+		}
+		if (actionDataMap.get("stdErrFileName") != null) {
+			logs.put("stderr", new File(actionDataMap.get("stdErrFileName"))
+					.toPath());
+		}
+		if (processOutput != null) {
+			logs.put("processOutput", processOutput.toPath());
+		}
+		return logs;
+	}
+
+	/**
+	 * This utility method is to be used once in the process method to
+	 * generate the local job launch IFolder. The name of the folder is
+	 * iceLaunch_timestamp_id_name, with a counter appended if a folder with
+	 * that name already exists, so it is unique even when several launches
+	 * start in the same second.
+	 * 
+	 * @return folder The local job launch folder.
+	 */
+	protected IFolder createLocalJobLaunchFolder() {
+
+		// Local Declarations
+		IFolder jobFolder = null;
+		String baseName = "iceLaunch_"
+				+ new SimpleDateFormat("yyyyMMddHHmmss").format(new Date())
+				+ "_" + getId() + "_" + getName().replaceAll("\\W+", "_");
+
+		synchronized (jobFolderLock) {
+			// Here we should create a scratch job directory
+			// in project/jobs
+			IFolder jobsFolder = project.getFolder("jobs");
+			if (!jobsFolder.exists()) {
+				try {
+					jobsFolder.create(true, true, null);
+				} catch (CoreException e) {
+					logger.error("JobLauncher Error: Could not create the "
+							+ "jobs directory for job launches.", e);
+					return null;
+				}
+			}
+
+			// Create a IFolder for the local job launch
+			jobFolder = jobsFolder.getFolder(baseName);
+			for (int i = 1; jobFolder.exists(); i++) {
+				jobFolder = jobsFolder.getFolder(baseName + "_" + i);
+			}
+			try {
+				jobFolder.create(true, true, null);
+			} catch (CoreException e1) {
+				logger.error(
+						"JobLauncher Error: Could not create the current launch job directory.",
+						e1);
+				return null;
+			}
 		}
 
 		// Add the Job Launch Directory name to the data map
@@ -1305,6 +1466,8 @@ public class JobLauncher extends Item {
 					// Check the project space to see if new resources were
 					// downloaded that should be added to the ICEResource.
 					updateResourceComponent();
+					// Keep the output so that identical runs can reuse it
+					storeCachedRun();
 				} catch (IOException | InterruptedException e) {
 					// Complain and return
 					logger.error(getClass().getName() + " Exception!", e);
@@ -2003,6 +2166,21 @@ public class JobLauncher extends Item {
 		uploadInput = flag;
 	}
 
+	/**
+	 * This operation is to be used by subclasses to notify the JobLauncher if
+	 * it may reuse the output of an earlier local run with the same
+	 * executable, arguments and input files instead of running the job again.
+	 * By default it does. Jobs whose output depends on anything else, such as
+	 * the time or files that are not inputs of the launcher, should turn this
+	 * off.
+	 * 
+	 * @param flag
+	 *            True if earlier runs may be reused, false otherwise.
+	 */
+	protected void setRunCacheFlag(boolean flag) {
+		useRunCache = flag;
+	}
+
 	/**
 	 * This method returns the working directory for the job launch.
 	 * 
@@ -2109,6 +2287,15 @@ public class JobLauncher extends Item {
 	 */
 	protected void updateFileDependencies(IFile file, String regex) {
 
+		// Find the IReader for the file before anything is removed
+		IReader reader = getReader(file);
+		if (reader == null) {
+			logger.info("JobLauncher Message: No IReader can read "
+					+ file.getName() + ", so its file dependencies were not "
+					+ "found.");
+			return;
+		}
+
 		// Get the file DataComponent and Entry names
 		ArrayList<String> entryNames = new ArrayList<String>();
 		DataComponent fileComp = (DataComponent) form
@@ -2131,7 +2318,7 @@ public class JobLauncher extends Item {
 
 		// Use the IReader to find all occurrences of the given Regular
 		// Expression for each of those add a new Input file Entry
-		ArrayList<IEntry> entriesFound = getReader().findAll(file, regex);
+		ArrayList<IEntry> entriesFound = reader.findAll(file, regex);
 		for (IEntry e : entriesFound) {
 			addInputType(e.getName(), e.getName().replaceAll(" ", ""),
 					e.getDescription(),
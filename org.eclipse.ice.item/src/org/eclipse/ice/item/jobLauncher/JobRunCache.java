@@ -0,0 +1,724 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.item.jobLauncher;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class caches the output of job launches so that a job that was already
+ * run with the same executable, arguments and input files is not run again.
+ * Instead, the output of the earlier run is copied into the new job folder.
+ * <p>
+ * Each run is keyed on a fingerprint of the arguments of the launch, the
+ * identity of the executable and the contents of the input files. Input files
+ * are fingerprinted by their names and contents, not their locations, because
+ * they are copied into the job folder before the job runs. The executable and
+ * any other file that is named in the launch command, such as the script of
+ * an interpreter, are identified by their paths, sizes and modification times
+ * because they can be very large.
+ * </p>
+ * <p>
+ * The output of each run is copied into a directory named after its key and
+ * copied back out when the run is restored, so the cache never shares files
+ * with job folders and editing or rerunning a job can not change the output
+ * that later jobs get. Runs that were not used for longer
+ * than the maximum age are removed, as are the least recently used runs when
+ * the cache is larger than its maximum size. The defaults can be changed with
+ * the
+ * {@value #MAX_AGE_PROPERTY} (days) and {@value #MAX_SIZE_PROPERTY} (MB)
+ * system properties.
+ * </p>
+ * <p>
+ * All of the operations on this class are thread safe.
+ * </p>
+ *
+ * @author UT-Battelle, LLC
+ */
+public class JobRunCache {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(JobRunCache.class);
+
+	/**
+	 * The name of the directory of the cache in the jobs folder.
+	 */
+	public static final String DIRECTORY_NAME = ".runCache";
+
+	/**
+	 * The system property with the maximum age of runs in days.
+	 */
+	public static final String MAX_AGE_PROPERTY = "org.eclipse.ice.item.jobLauncher.runCache.maxAge";
+
+	/**
+	 * The system property with the maximum size of the cache in megabytes.
+	 */
+	public static final String MAX_SIZE_PROPERTY = "org.eclipse.ice.item.jobLauncher.runCache.maxSize";
+
+	/**
+	 * The default maximum age of runs, 30 days.
+	 */
+	public static final long DEFAULT_MAX_AGE = 30L * 24 * 60 * 60 * 1000;
+
+	/**
+	 * The default maximum size of the cache, 1 GB.
+	 */
+	public static final long DEFAULT_MAX_SIZE = 1024L * 1024 * 1024;
+
+	/**
+	 * The name of the directory with the output files of a run.
+	 */
+	private static final String OUTPUT_DIRECTORY = "output";
+
+	/**
+	 * The name of the directory with the logs of a run.
+	 */
+	private static final String LOG_DIRECTORY = "logs";
+
+	/**
+	 * The name of the file whose modification time is the last time a run was
+	 * used.
+	 */
+	private static final String LAST_USED_FILE = "lastUsed";
+
+	/**
+	 * The caches that have been opened with {@link #getCache(Path)}, keyed on
+	 * their directories.
+	 */
+	private static final Map<Path, JobRunCache> caches = new HashMap<Path, JobRunCache>();
+
+	/**
+	 * The directory of the cache.
+	 */
+	private final Path directory;
+
+	/**
+	 * The maximum time in milliseconds since a run was last used before it is
+	 * removed.
+	 */
+	private long maxAge;
+
+	/**
+	 * The maximum size of the cache in bytes.
+	 */
+	private long maxSize;
+
+	/**
+	 * The constructor.
+	 *
+	 * @param directory
+	 *            The directory in which the runs should be stored. It is
+	 *            created when the first run is stored.
+	 * @param maxAge
+	 *            The maximum time in milliseconds since a run was last used
+	 *            before it is removed
+	 * @param maxSize
+	 *            The maximum size of the cache in bytes
+	 */
+	public JobRunCache(Path directory, long maxAge, long maxSize) {
+		this.directory = directory;
+		this.maxAge = maxAge;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * This operation returns the cache in the given directory. Each directory
+	 * only has one cache so that all of the launchers that use it share the
+	 * same lock. New caches use the limits from the system properties or the
+	 * defaults.
+	 *
+	 * @param directory
+	 *            The directory of the cache
+	 * @return The cache
+	 */
+	public static JobRunCache getCache(Path directory) {
+		Path key = directory.toAbsolutePath().normalize();
+		synchronized (caches) {
+			JobRunCache cache = caches.get(key);
+			if (cache == null) {
+				long maxAge = Long.getLong(MAX_AGE_PROPERTY,
+						DEFAULT_MAX_AGE / (24 * 60 * 60 * 1000))
+						* 24 * 60 * 60 * 1000;
+				long maxSize = Long.getLong(MAX_SIZE_PROPERTY,
+						DEFAULT_MAX_SIZE / (1024 * 1024)) * 1024 * 1024;
+				cache = new JobRunCache(key, maxAge, maxSize);
+				caches.put(key, cache);
+			}
+			return cache;
+		}
+	}
+
+	/**
+	 * @return The directory of the cache
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * @return The maximum time in milliseconds since a run was last used
+	 *         before it is removed
+	 */
+	public synchronized long getMaxAge() {
+		return maxAge;
+	}
+
+	/**
+	 * This operation sets the maximum time since a run was last used before
+	 * it is removed. It takes effect the next time runs are stored or
+	 * restored.
+	 *
+	 * @param maxAge
+	 *            The maximum age in milliseconds
+	 */
+	public synchronized void setMaxAge(long maxAge) {
+		this.maxAge = maxAge;
+	}
+
+	/**
+	 * @return The maximum size of the cache in bytes
+	 */
+	public synchronized long getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * This operation sets the maximum size of the cache. It takes effect the
+	 * next time a run is stored.
+	 *
+	 * @param maxSize
+	 *            The maximum size in bytes
+	 */
+	public synchronized void setMaxSize(long maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * This operation computes the key of a run from the arguments of the
+	 * launch. The input files are fingerprinted by their names and contents,
+	 * the executable is fingerprinted by its identity and the other arguments
+	 * by their values.
+	 *
+	 * @param arguments
+	 *            The arguments of the launch, such as the action data map of a
+	 *            JobLauncher. They must include the executable under
+	 *            "executable" and may include its installation directory under
+	 *            "installDir".
+	 * @param inputs
+	 *            The names of the arguments that are the paths of input files,
+	 *            such as the variable names of the input files of a
+	 *            JobLauncher
+	 * @param ignored
+	 *            The names of the arguments that do not change the output of
+	 *            the run, such as the job folder
+	 * @return The key of the run
+	 * @throws IOException
+	 *             if an input file can not be read
+	 */
+	public static String fingerprint(Map<String, String> arguments,
+			Collection<String> inputs, Collection<String> ignored)
+			throws IOException {
+
+		// Local Declarations
+		StringBuilder fingerprint = new StringBuilder();
+
+		// Add the arguments in a fixed order
+		for (Map.Entry<String, String> argument : new TreeMap<String, String>(
+				arguments).entrySet()) {
+			String name = argument.getKey();
+			String value = argument.getValue();
+			if (ignored.contains(name)) {
+				continue;
+			}
+			fingerprint.append(name).append('=');
+			if (inputs.contains(name) && value != null
+					&& Files.isRegularFile(Paths.get(value))) {
+				// Only the name of the file is used in the job folder
+				Path file = Paths.get(value);
+				fingerprint.append(file.getFileName()).append('#')
+						.append(hashFile(file));
+			} else {
+				fingerprint.append(value);
+			}
+			fingerprint.append('\n');
+		}
+
+		// Add the executable
+		fingerprint.append('\0').append(getExecutableIdentity(
+				arguments.get("executable"), arguments.get("installDir")));
+
+		return hash(fingerprint.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * This operation returns the identity of the executable of a launch
+	 * command. The executable is the first word of the command after
+	 * ${installDir} is replaced. It is found on the path if it is not a path
+	 * itself. The other words of the command that are paths of files, or
+	 * options whose values are, are identified too so that a rebuilt script
+	 * or library that is passed to the executable is noticed.
+	 *
+	 * @param command
+	 *            The launch command
+	 * @param installDir
+	 *            The installation directory of the executable, or null
+	 * @return The paths, sizes and modification times of the executable and
+	 *         the files in the command, with just the name of the executable
+	 *         if it could not be found
+	 * @throws IOException
+	 *             if the executable could not be read
+	 */
+	public static String getExecutableIdentity(String command,
+			String installDir) throws IOException {
+
+		// Local Declarations
+		Path executable = null;
+
+		if (command == null || command.trim().isEmpty()) {
+			return "";
+		}
+
+		// Find the name of the executable
+		if (installDir != null) {
+			if (!installDir.endsWith("/") && !installDir.endsWith("\\")) {
+				installDir = installDir + File.separator;
+			}
+			command = command.replace("${installDir}", installDir);
+		}
+		String[] words = command.trim().split("\\s+");
+		String name = words[0];
+
+		// Look for it where it is or on the path
+		if (name.contains("/") || name.contains("\\")) {
+			executable = Paths.get(name);
+		} else if (System.getenv("PATH") != null) {
+			for (String pathDir : System.getenv("PATH")
+					.split(File.pathSeparator)) {
+				Path candidate = Paths.get(pathDir, name);
+				if (Files.isRegularFile(candidate)) {
+					executable = candidate;
+					break;
+				}
+			}
+		}
+
+		StringBuilder identity = new StringBuilder(
+				(executable == null || !Files.isRegularFile(executable)) ? name
+						: getFileIdentity(executable));
+
+		// Add the other files in the command
+		for (int i = 1; i < words.length; i++) {
+			String word = words[i].substring(words[i].lastIndexOf('=') + 1);
+			if (word.contains("/") || word.contains("\\")) {
+				try {
+					Path file = Paths.get(word);
+					if (Files.isRegularFile(file)) {
+						identity.append(' ').append(getFileIdentity(file));
+					}
+				} catch (InvalidPathException e) {
+					// Words that are not paths do not name files
+				}
+			}
+		}
+
+		return identity.toString();
+	}
+
+	/**
+	 * This operation returns the identity of a file that is too large or too
+	 * often used to hash.
+	 *
+	 * @param file
+	 *            The file
+	 * @return The path, size and modification time of the file
+	 * @throws IOException
+	 *             if the file could not be read
+	 */
+	private static String getFileIdentity(Path file) throws IOException {
+		return file.toAbsolutePath().normalize() + "|" + Files.size(file)
+				+ "|" + Files.getLastModifiedTime(file).toMillis();
+	}
+
+	/**
+	 * This operation hashes the contents of a file.
+	 *
+	 * @param file
+	 *            The file
+	 * @return The SHA-256 hash of the file in hexadecimal
+	 * @throws IOException
+	 *             if the file could not be read
+	 */
+	public static String hashFile(Path file) throws IOException {
+
+		// Local Declarations
+		MessageDigest digest = getDigest();
+		byte[] buffer = new byte[8192];
+		int count;
+
+		try (InputStream input = Files.newInputStream(file)) {
+			while ((count = input.read(buffer)) != -1) {
+				digest.update(buffer, 0, count);
+			}
+		}
+
+		return toHex(digest.digest());
+	}
+
+	/**
+	 * This operation restores the output of a run into a job folder. Output
+	 * files that are already in the folder are kept and the logs replace the
+	 * given files.
+	 *
+	 * @param key
+	 *            The key of the run
+	 * @param jobFolder
+	 *            The job folder
+	 * @param logs
+	 *            The files that the logs of the run should be written to,
+	 *            keyed on the names that they were stored with
+	 * @return True if the run was in the cache and its output was restored,
+	 *         false if the run was not in the cache
+	 * @throws IOException
+	 *             if the output could not be restored
+	 */
+	public synchronized boolean restore(String key, Path jobFolder,
+			Map<String, Path> logs) throws IOException {
+
+		// Local Declarations
+		Path entry = directory.resolve(key);
+		Path output = entry.resolve(OUTPUT_DIRECTORY);
+
+		if (!Files.isDirectory(output)) {
+			return false;
+		} else if (isExpired(entry, System.currentTimeMillis())) {
+			delete(entry);
+			return false;
+		}
+
+		// Copy the output files
+		try (Stream<Path> files = Files.walk(output)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				if (Files.isRegularFile(file)) {
+					Path target = jobFolder.resolve(
+							output.relativize(file).toString());
+					if (!Files.exists(target)) {
+						Files.createDirectories(target.getParent());
+						Files.copy(file, target);
+					}
+				}
+			}
+		}
+
+		// Copy the logs so that new output does not go into the cache
+		for (Map.Entry<String, Path> log : logs.entrySet()) {
+			Path file = entry.resolve(LOG_DIRECTORY).resolve(log.getKey());
+			if (Files.isRegularFile(file)) {
+				Files.copy(file, log.getValue(),
+						StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+
+		touch(entry);
+
+		return true;
+	}
+
+	/**
+	 * This operation stores the output of a run from its job folder. All of
+	 * the files in the folder are stored except the logs, which are stored
+	 * separately because their names change from launch to launch. Runs that
+	 * are too old and the least recently used runs are removed afterwards to
+	 * keep the cache within its limits.
+	 *
+	 * @param key
+	 *            The key of the run
+	 * @param jobFolder
+	 *            The job folder
+	 * @param logs
+	 *            The logs of the run keyed on the names that they should be
+	 *            stored with
+	 * @throws IOException
+	 *             if the output could not be stored
+	 */
+	public synchronized void store(String key, Path jobFolder,
+			Map<String, Path> logs) throws IOException {
+
+		// Local Declarations
+		Path entry = directory.resolve(key);
+		List<Path> logFiles = new ArrayList<Path>();
+
+		if (!Files.isDirectory(entry.resolve(OUTPUT_DIRECTORY))) {
+
+			// Fill a temporary directory so that a partial run is never found
+			Files.createDirectories(directory);
+			Path temp = Files.createTempDirectory(directory, "tmp_");
+			try {
+				for (Path log : logs.values()) {
+					logFiles.add(log.toAbsolutePath().normalize());
+				}
+				Path output = Files
+						.createDirectory(temp.resolve(OUTPUT_DIRECTORY));
+				try (Stream<Path> files = Files.walk(jobFolder)) {
+					for (Path file : (Iterable<Path>) files::iterator) {
+						if (Files.isRegularFile(file) && !logFiles
+								.contains(file.toAbsolutePath().normalize())) {
+							Path target = output.resolve(
+									jobFolder.relativize(file).toString());
+							Files.createDirectories(target.getParent());
+							Files.copy(file, target);
+						}
+					}
+				}
+				Path logDirectory = Files
+						.createDirectory(temp.resolve(LOG_DIRECTORY));
+				for (Map.Entry<String, Path> log : logs.entrySet()) {
+					if (Files.isRegularFile(log.getValue())) {
+						Files.copy(log.getValue(),
+								logDirectory.resolve(log.getKey()));
+					}
+				}
+				Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				if (Files.exists(temp)) {
+					delete(temp);
+				}
+			}
+		}
+
+		touch(entry);
+		evict();
+
+		return;
+	}
+
+	/**
+	 * This operation removes the runs that were not used for longer than the
+	 * maximum age and then the least recently used runs until the cache is no
+	 * larger than its maximum size.
+	 *
+	 * @throws IOException
+	 *             if the cache could not be read
+	 */
+	public synchronized void evict() throws IOException {
+
+		// Local Declarations
+		long now = System.currentTimeMillis();
+		TreeMap<Long, List<Path>> entries = new TreeMap<Long, List<Path>>();
+		Map<Path, Long> sizes = new HashMap<Path, Long>();
+		long totalSize = 0;
+
+		if (!Files.isDirectory(directory)) {
+			return;
+		}
+
+		// Remove the old runs and sort the others by when they were used
+		try (Stream<Path> children = Files.list(directory)) {
+			for (Path entry : (Iterable<Path>) children::iterator) {
+				if (!Files.isDirectory(entry)) {
+					continue;
+				} else if (isExpired(entry, now)) {
+					logger.info("JobRunCache Message: Removing expired run "
+							+ entry.getFileName());
+					delete(entry);
+				} else if (!entry.getFileName().toString()
+						.startsWith("tmp_")) {
+					long size = getSize(entry);
+					sizes.put(entry, size);
+					totalSize += size;
+					Long lastUsed = getLastUsed(entry);
+					if (!entries.containsKey(lastUsed)) {
+						entries.put(lastUsed, new ArrayList<Path>());
+					}
+					entries.get(lastUsed).add(entry);
+				}
+			}
+		}
+
+		// Remove the least recently used runs until the cache fits
+		for (List<Path> oldest : entries.values()) {
+			for (Path entry : oldest) {
+				if (totalSize <= maxSize) {
+					return;
+				}
+				logger.info("JobRunCache Message: Removing run "
+						+ entry.getFileName() + " to keep the cache under "
+						+ maxSize + " bytes.");
+				delete(entry);
+				totalSize -= sizes.get(entry);
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation checks whether a run was not used for longer than the
+	 * maximum age.
+	 *
+	 * @param entry
+	 *            The directory of the run
+	 * @param now
+	 *            The current time in milliseconds
+	 * @return True if the run is too old, false otherwise
+	 * @throws IOException
+	 *             if the run could not be read
+	 */
+	private boolean isExpired(Path entry, long now) throws IOException {
+		return now - getLastUsed(entry) > maxAge;
+	}
+
+	/**
+	 * This operation returns the last time a run was used.
+	 *
+	 * @param entry
+	 *            The directory of the run
+	 * @return The time in milliseconds
+	 * @throws IOException
+	 *             if the run could not be read
+	 */
+	private static long getLastUsed(Path entry) throws IOException {
+		Path lastUsed = entry.resolve(LAST_USED_FILE);
+		return Files.getLastModifiedTime(
+				Files.exists(lastUsed) ? lastUsed : entry).toMillis();
+	}
+
+	/**
+	 * This operation marks a run as used now.
+	 *
+	 * @param entry
+	 *            The directory of the run
+	 * @throws IOException
+	 *             if the run could not be written
+	 */
+	private static void touch(Path entry) throws IOException {
+		Path lastUsed = entry.resolve(LAST_USED_FILE);
+		if (!Files.exists(lastUsed)) {
+			Files.createFile(lastUsed);
+		}
+		Files.setLastModifiedTime(lastUsed,
+				FileTime.fromMillis(System.currentTimeMillis()));
+	}
+
+	/**
+	 * This operation returns the size of all of the files in a directory.
+	 *
+	 * @param directory
+	 *            The directory
+	 * @return The size in bytes
+	 * @throws IOException
+	 *             if the directory could not be read
+	 */
+	private static long getSize(Path directory) throws IOException {
+		long size = 0;
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				if (Files.isRegularFile(file)) {
+					size += Files.size(file);
+				}
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * This operation deletes a directory and everything in it.
+	 *
+	 * @param directory
+	 *            The directory
+	 * @throws IOException
+	 *             if the directory could not be deleted
+	 */
+	private static void delete(Path directory) throws IOException {
+		Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitFile(Path file,
+					BasicFileAttributes attrs) throws IOException {
+				Files.delete(file);
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException e)
+					throws IOException {
+				if (e != null) {
+					throw e;
+				}
+				Files.delete(dir);
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	/**
+	 * This operation hashes some bytes.
+	 *
+	 * @param bytes
+	 *            The bytes
+	 * @return The SHA-256 hash in hexadecimal
+	 */
+	private static String hash(byte[] bytes) {
+		return toHex(getDigest().digest(bytes));
+	}
+
+	/**
+	 * @return A new SHA-256 digest
+	 */
+	private static MessageDigest getDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * This operation converts bytes to hexadecimal.
+	 *
+	 * @param bytes
+	 *            The bytes
+	 * @return The hexadecimal string
+	 */
+	private static String toHex(byte[] bytes) {
+		StringBuilder hex = new StringBuilder();
+		for (byte b : bytes) {
+			hex.append(String.format("%02x", b));
+		}
+		return hex.toString();
+	}
+
+}
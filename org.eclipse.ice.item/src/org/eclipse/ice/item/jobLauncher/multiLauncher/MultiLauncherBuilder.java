@@ -28,8 +28,8 @@ import org.eclipse.ice.item.ItemType;
  * MultiLauncher, build() will return null.
  * <p>
  * The MultiLauncherBuilder will check the list of ItemBuilders for those with a
- * type of ItemType.Simulation. It will not include itself in the list it
- * creates.
+ * type of ItemType.Simulation. It will not include itself or any other
+ * composite Item, such as the SweepLauncher, in the list it creates.
  * </p>
  * 
  * @author Jay Jay Billings
@@ -83,9 +83,10 @@ public class MultiLauncherBuilder implements ICompositeItemBuilder {
 			// Create the list of JobLaunchers
 			jobLaunchers = new ArrayList<Item>();
 			for (ItemBuilder i : builders) {
-				// Only add them if they have the right type and don't come from
-				// this builder.
-				if (i.getItemType() == ItemType.Simulation && i != this) {
+				// Only add them if they have the right type and aren't
+				// composites, like this builder.
+				if (i.getItemType() == ItemType.Simulation
+						&& !(i instanceof ICompositeItemBuilder)) {
 					jobLaunchers.add(i.build(projectSpace));
 				}
 			}
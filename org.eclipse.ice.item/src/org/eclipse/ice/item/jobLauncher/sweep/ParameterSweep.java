@@ -0,0 +1,380 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.item.jobLauncher.sweep;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.ice.item.jobLauncher.JobRunCache;
+
+/**
+ * <p>
+ * This class creates the cases of a parameter sweep and runs work on them with
+ * a limit on how much of it runs at the same time. It does not know anything
+ * about Items or the workspace so that it can be used by any launcher.
+ * </p>
+ * <p>
+ * A case is a map of parameter names to values. Cases are created by one of
+ * three sampling methods:
+ * </p>
+ * <ul>
+ * <li>Grid - every combination of the values of the parameters</li>
+ * <li>Latin Hypercube - the given number of samples, with each parameter
+ * sampled once in each of that many equal strata</li>
+ * <li>List - the i-th value of every parameter, so the parameters must have
+ * the same number of values or just one</li>
+ * </ul>
+ * <p>
+ * Identical cases are only created once. Input files are created from a
+ * template by replacing the placeholder ${name} of each parameter with its
+ * value.
+ * </p>
+ *
+ * @author UT-Battelle, LLC
+ */
+public class ParameterSweep {
+
+	/**
+	 * The sampling methods of a sweep.
+	 */
+	public enum Sampling {
+		Grid("Grid"), LatinHypercube("Latin Hypercube"), List("List");
+
+		/**
+		 * The name of the method shown to users.
+		 */
+		private final String label;
+
+		private Sampling(String label) {
+			this.label = label;
+		}
+
+		/**
+		 * @return The name of the method shown to users
+		 */
+		public String getLabel() {
+			return label;
+		}
+
+		/**
+		 * This operation finds a method by the name shown to users.
+		 *
+		 * @param label
+		 *            The name
+		 * @return The method
+		 * @throws IllegalArgumentException
+		 *             if there is no method with that name
+		 */
+		public static Sampling fromLabel(String label) {
+			for (Sampling sampling : values()) {
+				if (sampling.label.equals(label)) {
+					return sampling;
+				}
+			}
+			throw new IllegalArgumentException(
+					"ParameterSweep Error: Unknown sampling method " + label);
+		}
+	}
+
+	/**
+	 * The parameters that are swept.
+	 */
+	private final List<SweepParameter> parameters;
+
+	/**
+	 * The sampling method.
+	 */
+	private final Sampling sampling;
+
+	/**
+	 * The number of samples of Latin hypercubes and the number of values that
+	 * ranges are divided into otherwise.
+	 */
+	private final int samples;
+
+	/**
+	 * The seed of the random numbers used for Latin hypercubes.
+	 */
+	private final long seed;
+
+	/**
+	 * The constructor.
+	 *
+	 * @param parameters
+	 *            The parameters that are swept
+	 * @param sampling
+	 *            The sampling method
+	 * @param samples
+	 *            The number of samples of Latin hypercubes and the number of
+	 *            values that ranges are divided into otherwise
+	 * @param seed
+	 *            The seed of the random numbers used for Latin hypercubes, so
+	 *            that the same sweep creates the same cases
+	 */
+	public ParameterSweep(List<SweepParameter> parameters, Sampling sampling,
+			int samples, long seed) {
+		if (parameters == null || parameters.isEmpty() || sampling == null
+				|| samples < 1) {
+			throw new IllegalArgumentException("ParameterSweep Error: "
+					+ "Parameters, a sampling method and at least one "
+					+ "sample are required.");
+		}
+		this.parameters = new ArrayList<SweepParameter>(parameters);
+		this.sampling = sampling;
+		this.samples = samples;
+		this.seed = seed;
+	}
+
+	/**
+	 * This operation creates the cases of the sweep. Identical cases are only
+	 * returned once.
+	 *
+	 * @return The cases in order. Each one maps the names of the parameters to
+	 *         their values in the order of the parameters.
+	 * @throws IllegalArgumentException
+	 *             if the parameters of a List sweep have different numbers of
+	 *             values
+	 */
+	public List<Map<String, String>> createCases() {
+
+		// Identical cases are removed by the set
+		Set<Map<String, String>> cases = new LinkedHashSet<Map<String, String>>();
+
+		switch (sampling) {
+		case Grid:
+			addGridCases(0, new LinkedHashMap<String, String>(), cases);
+			break;
+		case LatinHypercube:
+			addLatinHypercubeCases(cases);
+			break;
+		case List:
+			addListCases(cases);
+			break;
+		}
+
+		return new ArrayList<Map<String, String>>(cases);
+	}
+
+	/**
+	 * This operation recursively adds every combination of the values of the
+	 * parameters from the given index on.
+	 *
+	 * @param index
+	 *            The index of the next parameter
+	 * @param values
+	 *            The values of the parameters before the index
+	 * @param cases
+	 *            The cases
+	 */
+	private void addGridCases(int index, Map<String, String> values,
+			Set<Map<String, String>> cases) {
+		if (index == parameters.size()) {
+			cases.add(new LinkedHashMap<String, String>(values));
+		} else {
+			SweepParameter parameter = parameters.get(index);
+			for (String value : parameter.getValues(samples)) {
+				values.put(parameter.getName(), value);
+				addGridCases(index + 1, values, cases);
+			}
+			values.remove(parameter.getName());
+		}
+	}
+
+	/**
+	 * This operation adds the samples of a Latin hypercube. Each parameter is
+	 * sampled once in each stratum and the strata are shuffled separately for
+	 * each parameter.
+	 *
+	 * @param cases
+	 *            The cases
+	 */
+	private void addLatinHypercubeCases(Set<Map<String, String>> cases) {
+
+		// Local Declarations
+		Random random = new Random(seed);
+		List<List<Integer>> strata = new ArrayList<List<Integer>>();
+
+		// Shuffle the strata of each parameter
+		for (int i = 0; i < parameters.size(); i++) {
+			List<Integer> order = new ArrayList<Integer>();
+			for (int j = 0; j < samples; j++) {
+				order.add(j);
+			}
+			Collections.shuffle(order, random);
+			strata.add(order);
+		}
+
+		// Sample each parameter somewhere in its stratum
+		for (int i = 0; i < samples; i++) {
+			Map<String, String> values = new LinkedHashMap<String, String>();
+			for (int j = 0; j < parameters.size(); j++) {
+				double position = (strata.get(j).get(i) + random.nextDouble())
+						/ samples;
+				values.put(parameters.get(j).getName(),
+						parameters.get(j).sample(position));
+			}
+			cases.add(values);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation adds the cases of a List sweep. Parameters with a single
+	 * value have that value in every case.
+	 *
+	 * @param cases
+	 *            The cases
+	 */
+	private void addListCases(Set<Map<String, String>> cases) {
+
+		// Local Declarations
+		List<List<String>> values = new ArrayList<List<String>>();
+		int count = 1;
+
+		// All of the lists must have the same length or just one value
+		for (SweepParameter parameter : parameters) {
+			List<String> parameterValues = parameter.getValues(samples);
+			if (parameterValues.size() > 1) {
+				if (count > 1 && parameterValues.size() != count) {
+					throw new IllegalArgumentException("ParameterSweep Error: "
+							+ "All parameters of a List sweep must have the "
+							+ "same number of values. " + parameter.getName()
+							+ " has " + parameterValues.size()
+							+ " instead of " + count + ".");
+				}
+				count = parameterValues.size();
+			}
+			values.add(parameterValues);
+		}
+
+		for (int i = 0; i < count; i++) {
+			Map<String, String> caseValues = new LinkedHashMap<String, String>();
+			for (int j = 0; j < parameters.size(); j++) {
+				List<String> parameterValues = values.get(j);
+				caseValues.put(parameters.get(j).getName(), parameterValues
+						.get(parameterValues.size() == 1 ? 0 : i));
+			}
+			cases.add(caseValues);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation returns the placeholder of a parameter in templates.
+	 *
+	 * @param name
+	 *            The name of the parameter
+	 * @return The placeholder, ${name}
+	 */
+	public static String getPlaceholder(String name) {
+		return "${" + name + "}";
+	}
+
+	/**
+	 * This operation creates the replacements that turn a template into the
+	 * input of a case. They can be passed to
+	 * IWriter.replace(IFile, Map) or the StreamingFileReplacer.
+	 *
+	 * @param values
+	 *            The values of the case
+	 * @return The regular expressions of the placeholders mapped to the
+	 *         literal values
+	 */
+	public static Map<String, String> createReplacements(
+			Map<String, String> values) {
+		Map<String, String> replacements = new LinkedHashMap<String, String>();
+		for (Map.Entry<String, String> value : values.entrySet()) {
+			replacements.put(Pattern.quote(getPlaceholder(value.getKey())),
+					Matcher.quoteReplacement(value.getValue()));
+		}
+		return replacements;
+	}
+
+	/**
+	 * This operation hashes the contents of a file so that inputs that came
+	 * out the same, for example because a parameter does not appear in the
+	 * template, can be launched once.
+	 *
+	 * @param file
+	 *            The file
+	 * @return The SHA-256 hash of the file in hexadecimal
+	 * @throws IOException
+	 *             if the file could not be read
+	 */
+	public static String hashFile(Path file) throws IOException {
+		return JobRunCache.hashFile(file);
+	}
+
+	/**
+	 * This operation applies a function to every task, running at most the
+	 * given number of them at the same time.
+	 *
+	 * @param tasks
+	 *            The tasks
+	 * @param function
+	 *            The function applied to each task
+	 * @param maxConcurrent
+	 *            The maximum number of tasks that are run at the same time
+	 * @return The results of the tasks in the same order
+	 * @throws IllegalStateException
+	 *             if a task failed or the thread was interrupted. The
+	 *             remaining tasks are cancelled.
+	 */
+	public static <T, R> List<R> runAll(List<T> tasks,
+			Function<? super T, ? extends R> function, int maxConcurrent) {
+
+		// Local Declarations
+		List<R> results = new ArrayList<R>();
+		List<Future<? extends R>> futures = new ArrayList<Future<? extends R>>();
+
+		if (tasks.isEmpty()) {
+			return results;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(
+				Math.max(1, Math.min(maxConcurrent, tasks.size())));
+		try {
+			for (T task : tasks) {
+				futures.add(executor.submit(() -> function.apply(task)));
+			}
+			for (Future<? extends R> future : futures) {
+				results.add(future.get());
+			}
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		return results;
+	}
+
+}
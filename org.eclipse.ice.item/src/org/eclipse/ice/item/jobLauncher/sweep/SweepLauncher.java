@@ -0,0 +1,722 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.item.jobLauncher.sweep;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.ice.datastructures.entry.IEntry;
+import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.form.FormStatus;
+import org.eclipse.ice.datastructures.form.ResourceComponent;
+import org.eclipse.ice.datastructures.form.TableComponent;
+import org.eclipse.ice.datastructures.resource.ICEResource;
+import org.eclipse.ice.io.serializable.StreamingFileReplacer;
+import org.eclipse.ice.item.Item;
+import org.eclipse.ice.item.jobLauncher.JobLauncherForm;
+import org.eclipse.ice.item.jobLauncher.sweep.ParameterSweep.Sampling;
+
+/**
+ * <p>
+ * The SweepLauncher is an Item that launches a job once for every case of a
+ * parameter sweep. It is a composite Item like the MultiLauncher and the list
+ * of job launchers that can be swept is provided by the SweepLauncherBuilder.
+ * </p>
+ * <p>
+ * The input of each case is generated from a template file in the project by
+ * replacing every ${name} with the value of the parameter with that name with
+ * the StreamingFileReplacer. The inputs are generated in parallel in the folder
+ * sweeps/name_timestamp of the project, and cases whose inputs are identical
+ * are only launched once.
+ * </p>
+ * <p>
+ * The sweep only works on text inputs that were written by hand as templates.
+ * It does not fill the inputs in through the Form or the IWriter of the base
+ * job, so the placeholders must be typed into the template and the Form of the
+ * base job is not changed for each case.
+ * </p>
+ * <p>
+ * The cases are launched with clones of the base job, at most "Maximum
+ * Concurrent Jobs" at a time. When they are done, a summary of every case with
+ * its parameters and status is written to the sweep folder and it is placed in
+ * the ResourceComponent of the Form with the output of all of the jobs. The
+ * SweepLauncher is Processed only if all of its jobs were.
+ * </p>
+ * <p>
+ * For the time being, this class assumes that the base jobs are instances of
+ * ICE's JobLauncher class, just like the MultiLauncher does.
+ * </p>
+ *
+ * @author UT-Battelle, LLC
+ */
+public class SweepLauncher extends Item {
+
+	/**
+	 * The name of the summary of the cases in the sweep folder.
+	 */
+	public static final String summaryFileName = "sweep_summary.csv";
+
+	/**
+	 * The name of the action that launches the jobs of JobLaunchers.
+	 */
+	private static final String jobLaunchAction = "Launch the Job";
+
+	/**
+	 * The set of job launchers that can be swept.
+	 */
+	private ArrayList<Item> launchers = new ArrayList<Item>();
+
+	/**
+	 * The status of the sweep, which is updated by the sweep thread.
+	 */
+	private AtomicReference<FormStatus> sweepStatus;
+
+	/**
+	 * The jobs of the sweep that are currently running.
+	 */
+	private List<Item> runningLaunchers;
+
+	/**
+	 * The foremost running job whose status is FormStatus.NeedsInfo.
+	 */
+	private Item needyLauncher;
+
+	/**
+	 * A case of the sweep, its input and the job that ran it.
+	 */
+	private static class SweepCase {
+
+		/**
+		 * The number of the case, starting at 1.
+		 */
+		private final int index;
+
+		/**
+		 * The name of the case, such as case_1.
+		 */
+		private final String name;
+
+		/**
+		 * The values of the parameters.
+		 */
+		private final Map<String, String> values;
+
+		/**
+		 * The generated input.
+		 */
+		private final IFile input;
+
+		/**
+		 * The hash of the generated input.
+		 */
+		private String hash;
+
+		/**
+		 * The case with the same input that is launched instead of this one,
+		 * or null if this case is launched.
+		 */
+		private SweepCase sameAs;
+
+		/**
+		 * The job that ran this case.
+		 */
+		private Item job;
+
+		/**
+		 * The final status of this case.
+		 */
+		private FormStatus status = FormStatus.InfoError;
+
+		private SweepCase(int index, String name, Map<String, String> values,
+				IFile input) {
+			this.index = index;
+			this.name = name;
+			this.values = values;
+			this.input = input;
+		}
+	}
+
+	/**
+	 * The constructor.
+	 *
+	 * @param projectSpace
+	 *            The project space in which the SweepLauncher should manage
+	 *            its data.
+	 */
+	public SweepLauncher(IProject projectSpace) {
+
+		// Setup the super class
+		super(projectSpace);
+
+		// Setup the atomics
+		sweepStatus = new AtomicReference<FormStatus>(FormStatus.InfoError);
+
+	}
+
+	/**
+	 * This operation sets the Items that can be swept. They are listed in the
+	 * "Base Job" Entry of the Form.
+	 *
+	 * @param jobLaunchers
+	 *            The list of launchers available to the SweepLauncher. These
+	 *            are Items with an Item type of Simulation.
+	 */
+	public void setJobLaunchers(ArrayList<Item> jobLaunchers) {
+
+		// Local Declarations
+		ArrayList<String> names = new ArrayList<String>();
+
+		if (jobLaunchers != null) {
+			launchers = jobLaunchers;
+			for (Item launcher : launchers) {
+				names.add(launcher.getName());
+			}
+			// List them in the Form
+			IEntry baseJobEntry = getConfiguration().retrieveEntry("Base Job");
+			baseJobEntry.setAllowedValues(names);
+			if (!names.isEmpty()) {
+				baseJobEntry.setDefaultValue(names.get(0));
+				baseJobEntry.setValue(names.get(0));
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation overrides Item.setupForm() and creates a
+	 * SweepLauncherForm.
+	 */
+	@Override
+	protected void setupForm() {
+
+		// Set some particulars
+		setName("Parameter Sweep");
+		setDescription("The Parameter Sweep launches a job once for every "
+				+ "combination or sample of a set of parameters. The input of "
+				+ "each case is generated from a template and identical "
+				+ "cases are only launched once.");
+
+		// Create the Form
+		form = new SweepLauncherForm();
+
+		// Setup the list for the running launchers
+		runningLaunchers = Collections.synchronizedList(new ArrayList<Item>());
+
+		// Setup the list of actions
+		allowedActions.clear();
+		allowedActions.add("Launch");
+
+	}
+
+	/**
+	 * This operation directs the SweepLauncher to launch the sweep. The only
+	 * valid input for this operation is the word "Launch" and any other
+	 * string will result in failure. The inputs are generated and the jobs are
+	 * launched on a separate thread.
+	 *
+	 * @param actionName
+	 *            The name of the action. For this class, only "Launch" is
+	 *            valid.
+	 * @return The status of the launch or FormStatus.InfoError if the sweep
+	 *         is not configured properly.
+	 */
+	@Override
+	public FormStatus process(String actionName) {
+
+		// Local Declarations
+		FormStatus launchStatus = FormStatus.InfoError;
+		DataComponent config = getConfiguration();
+		ParameterSweep sweep = null;
+		Item baseJob = null;
+		IFile template = null;
+		int maxConcurrent = 1;
+
+		// Return "Processing" if the sweep is already running
+		if (FormStatus.Processing.equals(sweepStatus.get())
+				|| FormStatus.NeedsInfo.equals(sweepStatus.get())) {
+			return FormStatus.Processing;
+		} else if (!"Launch".equals(actionName)) {
+			return launchStatus;
+		}
+
+		// Find the base job
+		String baseJobName = config.retrieveEntry("Base Job").getValue();
+		for (Item launcher : launchers) {
+			if (launcher.getName().equals(baseJobName)) {
+				baseJob = launcher;
+				break;
+			}
+		}
+
+		// Create the sweep and find the template
+		try {
+			sweep = createSweep();
+			maxConcurrent = Integer.parseInt(config
+					.retrieveEntry("Maximum Concurrent Jobs").getValue()
+					.trim());
+			String templateName = config.retrieveEntry("Template Input File")
+					.getValue();
+			if (templateName != null && !templateName.trim().isEmpty()) {
+				template = project.getFile(templateName.trim());
+			}
+		} catch (IllegalArgumentException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+
+		// Launch the sweep on its own thread if everything is there
+		if (sweep != null && baseJob != null && template != null
+				&& template.exists() && maxConcurrent > 0) {
+			final ParameterSweep finalSweep = sweep;
+			final Item finalBaseJob = baseJob;
+			final IFile finalTemplate = template;
+			final int finalMaxConcurrent = maxConcurrent;
+			launchStatus = FormStatus.Processing;
+			sweepStatus.set(launchStatus);
+			Thread sweepThread = new Thread(() -> launchSweep(finalSweep,
+					finalBaseJob, finalTemplate, finalMaxConcurrent));
+			sweepThread.setName("ICE Parameter Sweep " + getId());
+			sweepThread.start();
+		} else {
+			logger.info("SweepLauncher Message: The sweep needs a base job, "
+					+ "an existing template input file, at least one "
+					+ "parameter and a positive number of concurrent jobs.");
+			sweepStatus.set(launchStatus);
+		}
+
+		return launchStatus;
+	}
+
+	/**
+	 * This operation overrides Item.getStatus() to return the status of the
+	 * whole sweep.
+	 *
+	 * @return The status. See Item.getStatus() for an exact description.
+	 */
+	@Override
+	public FormStatus getStatus() {
+		return sweepStatus.get();
+	}
+
+	/**
+	 * This operation overrides Item.getForm() to return the Form of a running
+	 * job that needs information. Otherwise, it behaves exactly like
+	 * Item.getForm().
+	 *
+	 * @return The Form.
+	 */
+	@Override
+	public Form getForm() {
+
+		// Local Declarations
+		Form retForm = form;
+
+		// Search for the first job that needs information
+		if (FormStatus.Processing.equals(sweepStatus.get())
+				|| FormStatus.NeedsInfo.equals(sweepStatus.get())) {
+			synchronized (runningLaunchers) {
+				for (Item launcher : runningLaunchers) {
+					if (FormStatus.NeedsInfo.equals(launcher.getStatus())) {
+						retForm = launcher.getForm();
+						needyLauncher = launcher;
+						break;
+					}
+				}
+			}
+		}
+
+		return retForm;
+	}
+
+	/**
+	 * This operation overrides Item.submitForm() to make sure that a Form is
+	 * submitted to the job that needs it while the sweep is running.
+	 * Otherwise, it behaves exactly like Item.submitForm().
+	 *
+	 * @param preparedForm
+	 *            The Form.
+	 * @return The status.
+	 */
+	@Override
+	public FormStatus submitForm(Form preparedForm) {
+
+		// Local Declarations
+		FormStatus submitStatus = FormStatus.InfoError;
+
+		if (needyLauncher != null
+				&& FormStatus.NeedsInfo.equals(needyLauncher.getStatus())
+				&& preparedForm.getItemID() == needyLauncher.getId()) {
+			// Submit the Form to the needy launcher
+			needyLauncher.submitForm(preparedForm);
+			logger.info("SweepLauncher Message: "
+					+ "Submitting sub-form to needy launcher.");
+			submitStatus = FormStatus.Processing;
+		} else if (preparedForm.getItemID() == getId()) {
+			submitStatus = super.submitForm(preparedForm);
+			sweepStatus.set(submitStatus);
+		}
+
+		return submitStatus;
+	}
+
+	/**
+	 * This operation creates the sweep from the Form.
+	 *
+	 * @return The sweep
+	 * @throws IllegalArgumentException
+	 *             if the Form does not describe a valid sweep
+	 */
+	private ParameterSweep createSweep() {
+
+		// Local Declarations
+		DataComponent config = getConfiguration();
+		TableComponent table = (TableComponent) form
+				.getComponent(SweepLauncherForm.parametersId);
+		List<SweepParameter> parameters = new ArrayList<SweepParameter>();
+
+		// Read the parameters
+		for (int i = 0; i < table.numberOfRows(); i++) {
+			ArrayList<IEntry> row = table.getRow(i);
+			String name = row.get(0).getValue();
+			if (name != null && !name.trim().isEmpty()) {
+				parameters.add(SweepParameter.parse(name.trim(),
+						row.get(1).getValue()));
+			}
+		}
+
+		// Read the sampling
+		Sampling sampling = Sampling.fromLabel(
+				config.retrieveEntry("Sampling Method").getValue());
+		int samples = Integer.parseInt(
+				config.retrieveEntry("Number of Samples").getValue().trim());
+		long seed = Long.parseLong(
+				config.retrieveEntry("Random Seed").getValue().trim());
+
+		return new ParameterSweep(parameters, sampling, samples, seed);
+	}
+
+	/**
+	 * This operation generates the inputs of the sweep, launches the jobs and
+	 * collects their output. It runs on its own thread.
+	 *
+	 * @param sweep
+	 *            The sweep
+	 * @param baseJob
+	 *            The job that is cloned for each case
+	 * @param template
+	 *            The template of the inputs
+	 * @param maxConcurrent
+	 *            The maximum number of jobs that run at the same time
+	 */
+	private void launchSweep(ParameterSweep sweep, Item baseJob,
+			IFile template, int maxConcurrent) {
+
+		// Local Declarations
+		List<SweepCase> cases = new ArrayList<SweepCase>();
+		Map<String, SweepCase> uniqueCases = new LinkedHashMap<String, SweepCase>();
+		FormStatus finalStatus = FormStatus.Processed;
+
+		try {
+			// Create the folder of the sweep
+			IFolder sweepFolder = createSweepFolder();
+			String extension = (template.getFileExtension() != null)
+					? "." + template.getFileExtension() : "";
+			List<Map<String, String>> caseValues = sweep.createCases();
+			for (int i = 0; i < caseValues.size(); i++) {
+				String name = "case_" + (i + 1);
+				cases.add(new SweepCase(i + 1, name, caseValues.get(i),
+						sweepFolder.getFile(name + extension)));
+			}
+			logger.info("SweepLauncher Message: Generating " + cases.size()
+					+ " inputs in " + sweepFolder.getFullPath());
+
+			// Generate the inputs in parallel
+			ParameterSweep.runAll(cases, sweepCase -> {
+				generateInput(template, sweepCase);
+				return sweepCase;
+			}, Runtime.getRuntime().availableProcessors());
+
+			// Only launch each distinct input once
+			for (SweepCase sweepCase : cases) {
+				SweepCase original = uniqueCases.get(sweepCase.hash);
+				if (original == null) {
+					uniqueCases.put(sweepCase.hash, sweepCase);
+				} else {
+					sweepCase.sameAs = original;
+				}
+			}
+			logger.info("SweepLauncher Message: Launching "
+					+ uniqueCases.size() + " distinct cases, at most "
+					+ maxConcurrent + " at a time.");
+
+			// Launch them
+			ParameterSweep.runAll(
+					new ArrayList<SweepCase>(uniqueCases.values()),
+					sweepCase -> launchCase(baseJob, sweepCase),
+					maxConcurrent);
+
+			// Collect the results
+			for (SweepCase sweepCase : cases) {
+				if (sweepCase.sameAs != null) {
+					sweepCase.status = sweepCase.sameAs.status;
+				}
+				if (!FormStatus.Processed.equals(sweepCase.status)) {
+					finalStatus = FormStatus.InfoError;
+				}
+			}
+			collectOutput(sweepFolder, cases, sweep);
+		} catch (CoreException | IOException | IllegalStateException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+			finalStatus = FormStatus.InfoError;
+		}
+
+		sweepStatus.set(finalStatus);
+
+		return;
+	}
+
+	/**
+	 * This operation creates the folder sweeps/name_timestamp in the project.
+	 *
+	 * @return The folder
+	 * @throws CoreException
+	 *             if the folder could not be created
+	 */
+	private IFolder createSweepFolder() throws CoreException {
+
+		IFolder sweepsFolder = project.getFolder("sweeps");
+		if (!sweepsFolder.exists()) {
+			sweepsFolder.create(true, true, null);
+		}
+
+		IFolder sweepFolder = sweepsFolder.getFolder(
+				getName().replaceAll("\\W+", "_") + "_" + getId() + "_"
+						+ new SimpleDateFormat("yyyyMMddHHmmss")
+								.format(new Date()));
+		sweepFolder.create(true, true, null);
+
+		return sweepFolder;
+	}
+
+	/**
+	 * This operation copies the template to the input of a case, replaces the
+	 * placeholders in it and hashes it.
+	 *
+	 * @param template
+	 *            The template
+	 * @param sweepCase
+	 *            The case
+	 * @throws IllegalStateException
+	 *             if the input could not be created
+	 */
+	private void generateInput(IFile template, SweepCase sweepCase) {
+
+		// Local Declarations
+		Map<String, String> replacements = ParameterSweep
+				.createReplacements(sweepCase.values);
+
+		try {
+			// Copy the template
+			template.copy(sweepCase.input.getFullPath(), true, null);
+			// Fill it in
+			new StreamingFileReplacer(replacements).replace(sweepCase.input);
+			sweepCase.hash = ParameterSweep
+					.hashFile(sweepCase.input.getLocation().toFile().toPath());
+		} catch (CoreException | IOException e) {
+			throw new IllegalStateException("SweepLauncher Error: Could not "
+					+ "create the input of " + sweepCase.name, e);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation launches a clone of the base job with the input of a
+	 * case and waits for it to finish.
+	 *
+	 * @param baseJob
+	 *            The job that is cloned
+	 * @param sweepCase
+	 *            The case
+	 * @return The final status of the job
+	 */
+	private FormStatus launchCase(Item baseJob, SweepCase sweepCase) {
+
+		// Local Declarations
+		Item job = (Item) baseJob.clone();
+		FormStatus jobStatus;
+
+		// Give the job an id and a unique name like the MultiLauncher does
+		job.setId(getId() + sweepCase.index);
+		job.setName(baseJob.getName() + "_" + sweepCase.name);
+
+		// Point it at the input of the case. FIXME! This assumes the job is
+		// a JobLauncher.
+		String inputName = sweepCase.input.getProjectRelativePath()
+				.toString();
+		DataComponent files = (DataComponent) job.getForm()
+				.getComponent(JobLauncherForm.filesId);
+		IEntry inputEntry = files.retrieveEntry("Input File");
+		if (!inputEntry.getAllowedValues().contains(inputName)) {
+			ArrayList<String> inputFiles = new ArrayList<String>(
+					inputEntry.getAllowedValues());
+			inputFiles.add(0, inputName);
+			((JobLauncherForm) job.getForm()).setInputFiles("Input File",
+					"The input file that should be used in the launch.",
+					inputFiles);
+		}
+		inputEntry.setValue(inputName);
+
+		// Submit and launch it
+		jobStatus = job.submitForm(job.getForm());
+		if (FormStatus.ReadyToProcess.equals(jobStatus)) {
+			logger.info("SweepLauncher Message: Launching " + job.getName()
+					+ " with " + sweepCase.values);
+			runningLaunchers.add(job);
+			job.process(jobLaunchAction);
+			jobStatus = job.getStatus();
+			// Wait for it to finish
+			while (FormStatus.Processing.equals(jobStatus)
+					|| FormStatus.NeedsInfo.equals(jobStatus)) {
+				try {
+					Thread.sleep(100);
+				} catch (InterruptedException e) {
+					logger.error(getClass().getName() + " Exception!", e);
+					Thread.currentThread().interrupt();
+					break;
+				}
+				jobStatus = job.getStatus();
+			}
+			runningLaunchers.remove(job);
+		} else {
+			logger.info("SweepLauncher Message: Unable to launch "
+					+ job.getName() + ". Its Form was not ready.");
+		}
+
+		sweepCase.job = job;
+		sweepCase.status = jobStatus;
+
+		return jobStatus;
+	}
+
+	/**
+	 * This operation writes the summary of the cases and places it in the
+	 * ResourceComponent with the output of all of the jobs.
+	 *
+	 * @param sweepFolder
+	 *            The folder of the sweep
+	 * @param cases
+	 *            The cases
+	 * @param sweep
+	 *            The sweep
+	 * @throws IOException
+	 *             if the summary could not be written
+	 * @throws CoreException
+	 *             if the folder could not be refreshed
+	 */
+	private void collectOutput(IFolder sweepFolder, List<SweepCase> cases,
+			ParameterSweep sweep) throws IOException, CoreException {
+
+		// Local Declarations
+		List<String> lines = new ArrayList<String>();
+		ResourceComponent resourceComp = (ResourceComponent) form
+				.getComponent(SweepLauncherForm.outputId);
+		int resourceId = 1;
+
+		// Write the summary with one row per case
+		StringBuilder header = new StringBuilder("Case,Status,Input,Same As");
+		for (String name : cases.get(0).values.keySet()) {
+			header.append(',').append(toCSV(name));
+		}
+		lines.add(header.toString());
+		for (SweepCase sweepCase : cases) {
+			StringBuilder line = new StringBuilder(sweepCase.name);
+			line.append(',').append(sweepCase.status);
+			line.append(',').append(toCSV(
+					sweepCase.input.getProjectRelativePath().toString()));
+			line.append(',').append(
+					(sweepCase.sameAs != null) ? sweepCase.sameAs.name : "");
+			for (String value : sweepCase.values.values()) {
+				line.append(',').append(toCSV(value));
+			}
+			lines.add(line.toString());
+		}
+		Path summary = sweepFolder.getLocation().append(summaryFileName)
+				.toFile().toPath();
+		Files.write(summary, lines, StandardCharsets.UTF_8);
+		sweepFolder.refreshLocal(IResource.DEPTH_ONE, null);
+
+		// Replace the output with the summary and the output of the jobs
+		resourceComp.clearResources();
+		ICEResource summaryResource = getResource(summary.toString());
+		if (summaryResource != null) {
+			summaryResource.setName("Sweep Summary");
+			summaryResource.setId(resourceId++);
+			summaryResource.setDescription("The parameters and status of "
+					+ "every case of the sweep.");
+			resourceComp.addResource(summaryResource);
+		}
+		for (SweepCase sweepCase : cases) {
+			if (sweepCase.job != null) {
+				ResourceComponent jobResources = (ResourceComponent) sweepCase.job
+						.getForm().getComponent(JobLauncherForm.outputId);
+				for (ICEResource resource : jobResources.getResources()) {
+					resource.setId(resourceId++);
+					resource.setDescription(sweepCase.name + " ("
+							+ sweepCase.status + "): "
+							+ resource.getDescription());
+					resourceComp.addResource(resource);
+				}
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation quotes a value for the summary if it needs it.
+	 *
+	 * @param value
+	 *            The value
+	 * @return The value, quoted if it contains a comma or a quote
+	 */
+	private String toCSV(String value) {
+		if (value.contains(",") || value.contains("\"")) {
+			return "\"" + value.replace("\"", "\"\"") + "\"";
+		}
+		return value;
+	}
+
+	/**
+	 * @return The DataComponent with the configuration of the sweep.
+	 */
+	private DataComponent getConfiguration() {
+		return (DataComponent) form
+				.getComponent(SweepLauncherForm.configurationId);
+	}
+
+}
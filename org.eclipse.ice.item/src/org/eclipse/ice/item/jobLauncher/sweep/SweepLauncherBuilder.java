@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.item.jobLauncher.sweep;
+
+import java.util.ArrayList;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.ice.item.ICompositeItemBuilder;
+import org.eclipse.ice.item.Item;
+import org.eclipse.ice.item.ItemBuilder;
+import org.eclipse.ice.item.ItemType;
+
+/**
+ * This class is responsible for building instances of the SweepLauncher Item.
+ * Like the MultiLauncherBuilder, it will not create a SweepLauncher until
+ * addBuilders() has been called with the list of builders in ICE and build()
+ * will return null until then.
+ * <p>
+ * The SweepLauncherBuilder offers the Items of the builders with a type of
+ * ItemType.Simulation as the base jobs of the sweep. It does not include
+ * composite Items, including itself and the MultiLauncher.
+ * </p>
+ * 
+ * @author UT-Battelle, LLC
+ */
+public class SweepLauncherBuilder implements ICompositeItemBuilder {
+	/**
+	 * 
+	 */
+	private ArrayList<ItemBuilder> builders = null;
+
+	/**
+	 * The constructor.
+	 */
+	public SweepLauncherBuilder() {
+
+		builders = new ArrayList<ItemBuilder>();
+
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.ice.item.ItemBuilder#getItemName()
+	 */
+	@Override
+	public String getItemName() {
+		return "Parameter Sweep";
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.ice.item.ItemBuilder#getItemType()
+	 */
+	@Override
+	public ItemType getItemType() {
+		return ItemType.Simulation;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.ice.item.ItemBuilder#build(org.eclipse.core.resources.IProject)
+	 */
+	@Override
+	public Item build(IProject projectSpace) {
+
+		// Local Declarations
+		SweepLauncher launcher = null;
+		ArrayList<Item> jobLaunchers = null;
+
+		// Only build the launcher if the list of builders is available
+		if (!(builders.isEmpty())) {
+			// Create the list of JobLaunchers
+			jobLaunchers = new ArrayList<Item>();
+			for (ItemBuilder i : builders) {
+				// Only add them if they have the right type and aren't
+				// composites, like this builder.
+				if (i.getItemType() == ItemType.Simulation
+						&& !(i instanceof ICompositeItemBuilder)) {
+					jobLaunchers.add(i.build(projectSpace));
+				}
+			}
+			// Create the sweep
+			launcher = new SweepLauncher(projectSpace);
+			launcher.setJobLaunchers(jobLaunchers);
+			// Set the itemBuilderName
+			launcher.setItemBuilderName(this.getItemName());
+			return launcher;
+		}
+
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.eclipse.ice.item.ICompositeItemBuilder#addBuilders(java.util.ArrayList)
+	 */
+	@Override
+	public void addBuilders(ArrayList<ItemBuilder> itemBuilders) {
+
+		if (itemBuilders != null) {
+			builders = itemBuilders;
+		}
+	}
+
+	@Override
+	public boolean isPublishable() {
+		return true;
+	}
+}
\ No newline at end of file
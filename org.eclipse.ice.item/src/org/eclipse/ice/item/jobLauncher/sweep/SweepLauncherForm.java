@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.item.jobLauncher.sweep;
+
+import java.util.ArrayList;
+
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.eclipse.ice.datastructures.entry.DiscreteEntry;
+import org.eclipse.ice.datastructures.entry.IEntry;
+import org.eclipse.ice.datastructures.entry.StringEntry;
+import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.form.Form;
+import org.eclipse.ice.datastructures.form.ResourceComponent;
+import org.eclipse.ice.datastructures.form.TableComponent;
+import org.eclipse.ice.item.jobLauncher.sweep.ParameterSweep.Sampling;
+
+/**
+ * <p>
+ * This is a subclass of Form for SweepLaunchers. It creates a DataComponent,
+ * id = 1, with the configuration of the sweep, a TableComponent, id = 3, with
+ * one row per swept parameter and a ResourceComponent, id = 2, that collects
+ * the status and output of every case. The ids of the configuration and the
+ * output match those of the MultiLauncherForm.
+ * </p>
+ * <p>
+ * The allowed values of the "Base Job" Entry are set by the SweepLauncher once
+ * it knows which job launchers are available.
+ * </p>
+ *
+ * @author UT-Battelle, LLC
+ */
+@XmlRootElement(name = "Form")
+class SweepLauncherForm extends Form {
+
+	/**
+	 * The id of the DataComponent with the configuration of the sweep.
+	 */
+	public static final int configurationId = 1;
+
+	/**
+	 * The id of the ResourceComponent with the output of the sweep.
+	 */
+	public static final int outputId = 2;
+
+	/**
+	 * The id of the TableComponent with the swept parameters.
+	 */
+	public static final int parametersId = 3;
+
+	/**
+	 * The constructor.
+	 */
+	public SweepLauncherForm() {
+
+		// Call the super constructor to set the details
+		super();
+
+		// Set the description
+		setDescription("This form configures a parameter sweep that ICE will "
+				+ "generate the inputs for and launch.");
+
+		// Create the configuration
+		DataComponent configComp = new DataComponent();
+		configComp.setName("Sweep Configuration");
+		configComp.setId(configurationId);
+		configComp.setDescription("The job that is swept, the template of "
+				+ "its input and how the cases are sampled and launched.");
+
+		IEntry baseJobEntry = new DiscreteEntry();
+		baseJobEntry.setName("Base Job");
+		baseJobEntry.setId(1);
+		baseJobEntry.setDescription("The job that is launched for each case.");
+		configComp.addEntry(baseJobEntry);
+
+		IEntry templateEntry = new StringEntry();
+		templateEntry.setName("Template Input File");
+		templateEntry.setId(2);
+		templateEntry.setDescription("The input file in the project that is "
+				+ "copied for each case. Every ${name} in it is replaced by "
+				+ "the value of the parameter with that name.");
+		configComp.addEntry(templateEntry);
+
+		IEntry samplingEntry = new DiscreteEntry(Sampling.Grid.getLabel(),
+				Sampling.LatinHypercube.getLabel(), Sampling.List.getLabel());
+		samplingEntry.setName("Sampling Method");
+		samplingEntry.setId(3);
+		samplingEntry.setDescription("Grid launches every combination of the "
+				+ "values, Latin Hypercube launches the given number of "
+				+ "samples and List launches the i-th value of every "
+				+ "parameter together.");
+		samplingEntry.setDefaultValue(Sampling.Grid.getLabel());
+		samplingEntry.setValue(Sampling.Grid.getLabel());
+		configComp.addEntry(samplingEntry);
+
+		IEntry samplesEntry = new StringEntry();
+		samplesEntry.setName("Number of Samples");
+		samplesEntry.setId(4);
+		samplesEntry.setDescription("The number of Latin Hypercube samples "
+				+ "and the number of values that min:max ranges are divided "
+				+ "into for the other methods.");
+		samplesEntry.setDefaultValue("10");
+		samplesEntry.setValue("10");
+		configComp.addEntry(samplesEntry);
+
+		IEntry seedEntry = new StringEntry();
+		seedEntry.setName("Random Seed");
+		seedEntry.setId(5);
+		seedEntry.setDescription("The seed of the Latin Hypercube samples.");
+		seedEntry.setDefaultValue("0");
+		seedEntry.setValue("0");
+		configComp.addEntry(seedEntry);
+
+		IEntry concurrencyEntry = new StringEntry();
+		concurrencyEntry.setName("Maximum Concurrent Jobs");
+		concurrencyEntry.setId(6);
+		concurrencyEntry.setDescription("The maximum number of cases that are "
+				+ "running at the same time.");
+		concurrencyEntry.setDefaultValue("4");
+		concurrencyEntry.setValue("4");
+		configComp.addEntry(concurrencyEntry);
+
+		addComponent(configComp);
+
+		// Create the output
+		ResourceComponent outputData = new ResourceComponent();
+		outputData.setName("Output Files and Data");
+		outputData.setId(outputId);
+		outputData.setDescription("The status of every case of the sweep and "
+				+ "the output of all of its jobs.");
+		addComponent(outputData);
+
+		// Create the table of parameters
+		TableComponent parametersTable = new TableComponent();
+		parametersTable.setName("Sweep Parameters");
+		parametersTable.setId(parametersId);
+		parametersTable.setDescription("The parameters that are swept. The "
+				+ "values are either a comma separated list or a min:max "
+				+ "range.");
+		ArrayList<IEntry> columns = new ArrayList<IEntry>();
+		IEntry nameColumn = new StringEntry();
+		nameColumn.setName("Parameter");
+		nameColumn.setDescription("The name of the parameter in the template.");
+		columns.add(nameColumn);
+		IEntry valuesColumn = new StringEntry();
+		valuesColumn.setName("Values");
+		valuesColumn.setDescription("The values of the parameter.");
+		columns.add(valuesColumn);
+		parametersTable.setRowTemplate(columns);
+		addComponent(parametersTable);
+
+	}
+
+}
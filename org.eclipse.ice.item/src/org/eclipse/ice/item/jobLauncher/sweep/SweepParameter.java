@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.item.jobLauncher.sweep;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * This class is a parameter of a sweep and the values it can take. The values
+ * are written as either a comma separated list, such as "0.1, 0.5, 1.0" or
+ * "linear, quadratic", or a numeric range "min:max", such as "0.1:1.0".
+ * </p>
+ * <p>
+ * Ranges are continuous. They are divided evenly for grids and lists and they
+ * are sampled anywhere for Latin hypercubes.
+ * </p>
+ *
+ * @author UT-Battelle, LLC
+ */
+public class SweepParameter {
+
+	/**
+	 * The name of the parameter.
+	 */
+	private final String name;
+
+	/**
+	 * The values of the parameter if they were listed, or null if it is a
+	 * range.
+	 */
+	private final List<String> values;
+
+	/**
+	 * The bounds of the parameter if it is a range.
+	 */
+	private final double min, max;
+
+	/**
+	 * The constructor for listed values.
+	 *
+	 * @param name
+	 *            The name of the parameter
+	 * @param values
+	 *            The values of the parameter. There must be at least one.
+	 */
+	public SweepParameter(String name, List<String> values) {
+		if (name == null || name.isEmpty() || values == null
+				|| values.isEmpty()) {
+			throw new IllegalArgumentException("SweepParameter Error: "
+					+ "A name and at least one value are required.");
+		}
+		this.name = name;
+		this.values = Collections
+				.unmodifiableList(new ArrayList<String>(values));
+		min = 0.0;
+		max = 0.0;
+	}
+
+	/**
+	 * The constructor for ranges.
+	 *
+	 * @param name
+	 *            The name of the parameter
+	 * @param min
+	 *            The lower bound of the range
+	 * @param max
+	 *            The upper bound of the range
+	 */
+	public SweepParameter(String name, double min, double max) {
+		if (name == null || name.isEmpty() || !(min <= max)) {
+			throw new IllegalArgumentException("SweepParameter Error: "
+					+ "A name and a range with min <= max are required.");
+		}
+		this.name = name;
+		this.values = null;
+		this.min = min;
+		this.max = max;
+	}
+
+	/**
+	 * This operation creates a parameter from its written values.
+	 *
+	 * @param name
+	 *            The name of the parameter
+	 * @param spec
+	 *            The values, either "min:max" or a comma separated list
+	 * @return The parameter
+	 * @throws IllegalArgumentException
+	 *             if there are no values or the range is invalid
+	 */
+	public static SweepParameter parse(String name, String spec) {
+
+		// Local Declarations
+		List<String> values = new ArrayList<String>();
+
+		if (spec != null) {
+			// Ranges have exactly two numbers
+			String[] bounds = spec.split(":");
+			if (bounds.length == 2) {
+				try {
+					return new SweepParameter(name,
+							Double.parseDouble(bounds[0].trim()),
+							Double.parseDouble(bounds[1].trim()));
+				} catch (NumberFormatException e) {
+					// Not a range, so it is a value with a colon in it
+				}
+			}
+			for (String value : spec.split(",")) {
+				if (!value.trim().isEmpty()) {
+					values.add(value.trim());
+				}
+			}
+		}
+
+		return new SweepParameter(name, values);
+	}
+
+	/**
+	 * @return The name of the parameter
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return True if the parameter is a continuous range, false if its values
+	 *         were listed
+	 */
+	public boolean isRange() {
+		return values == null;
+	}
+
+	/**
+	 * This operation returns the discrete values of the parameter. Listed
+	 * values are returned as they are and ranges are divided into evenly
+	 * spaced values, including both bounds.
+	 *
+	 * @param samples
+	 *            The number of values to divide a range into
+	 * @return The values
+	 */
+	public List<String> getValues(int samples) {
+
+		if (!isRange()) {
+			return values;
+		}
+
+		// Divide the range evenly
+		List<String> points = new ArrayList<String>();
+		int count = Math.max(1, samples);
+		for (int i = 0; i < count; i++) {
+			double point = (count == 1) ? min
+					: min + (max - min) * i / (count - 1);
+			points.add(String.valueOf(point));
+		}
+
+		return points;
+	}
+
+	/**
+	 * This operation returns the value at a position in the parameter.
+	 *
+	 * @param position
+	 *            The position, from 0 inclusive to 1 exclusive
+	 * @return The value of a range at that fraction of it, or the listed value
+	 *         in that fraction of the list
+	 */
+	public String sample(double position) {
+		if (isRange()) {
+			return String.valueOf(min + (max - min) * position);
+		}
+		int index = Math.min(values.size() - 1,
+				(int) (position * values.size()));
+		return values.get(index);
+	}
+
+}
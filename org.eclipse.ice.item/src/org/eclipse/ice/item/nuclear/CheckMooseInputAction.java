@@ -19,13 +19,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Dictionary;
+import java.util.List;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 
+import org.eclipse.core.filesystem.IFileInfo;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -44,9 +48,12 @@ import org.eclipse.ice.datastructures.form.FormStatus;
 import org.eclipse.ice.datastructures.form.TreeComposite;
 import org.eclipse.ice.datastructures.form.iterator.BreadthFirstTreeCompositeIterator;
 import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
+import org.eclipse.ice.datastructures.jaxbclassprovider.JAXBContextRegistry;
 import org.eclipse.ice.item.action.RemoteAction;
+import org.eclipse.ice.item.utilities.moose.CheckInputCache;
 import org.eclipse.ice.item.utilities.moose.MOOSEFileHandler;
 import org.eclipse.remote.core.IRemoteConnection;
+import org.eclipse.remote.core.IRemoteFileService;
 import org.eclipse.remote.core.IRemoteProcess;
 import org.eclipse.remote.core.IRemoteProcessBuilder;
 import org.eclipse.remote.core.IRemoteProcessService;
@@ -64,10 +71,19 @@ import org.eclipse.remote.core.exception.RemoteConnectionException;
  * inputTree - the Moose input tree in XML form, appComp - the Files DataComponent 
  * containing the App URI and output file name in XML form.
  * 
+ * Running the application takes seconds, so the result of each check is
+ * stored in a {@link CheckInputCache} and reused if the same input is checked
+ * again with the same application.
+ * 
  * @author Alex McCaskey
  *
  */
 public class CheckMooseInputAction extends RemoteAction {
+
+	/**
+	 * The name of the file in which the results of earlier checks are stored.
+	 */
+	private static final String CACHE_FILE_NAME = "checkInputCache.properties";
 	
 	/*
 	 * (non-Javadoc)
@@ -82,7 +98,8 @@ public class CheckMooseInputAction extends RemoteAction {
 		MOOSEFileHandler writer = new MOOSEFileHandler();
 		Form tempForm = new Form();
 		InputStream errorStream = null;
-		String checkInputString = "", line;
+		String appIdentity = null, inputHash = null;
+		CheckInputCache.Result result = null;
 		status = FormStatus.ReadyToProcess;
 		
 		// Get the input params
@@ -111,7 +128,8 @@ public class CheckMooseInputAction extends RemoteAction {
 		URI appUri = URI.create(appComponent.retrieveEntry("MOOSE-Based Application").getValue());
 
 		// Make sure we have the correct files in the workspace
-		if (!validateFileEntries(project, mooseTree)) {
+		ArrayList<IEntry> fileEntries = getFileEntries(mooseTree);
+		if (!validateFileEntries(project, fileEntries)) {
 			status = FormStatus.InfoError;
 			return status;
 		}
@@ -120,6 +138,11 @@ public class CheckMooseInputAction extends RemoteAction {
 		tempForm.addComponent(mooseTree);
 		writer.write(tempForm, inputFile);
 
+		// Hash the input so that the result of an earlier check of the same
+		// input can be reused
+		CheckInputCache cache = CheckInputCache.getCache(getCacheFile());
+		inputHash = hashInput(project, inputFile, fileEntries);
+
 		// Check if this MOOSE app is local or remote
 		if (isRemote) {
 
@@ -141,6 +164,14 @@ public class CheckMooseInputAction extends RemoteAction {
 			// Do the upload(s) and launch the job if the connection is open
 			if (connection.isOpen()) {
 
+				// Use the earlier result if this input was already checked
+				// with this application
+				appIdentity = getRemoteAppIdentity(appUri);
+				result = getCachedResult(cache, appIdentity, inputHash);
+				if (result != null) {
+					return reportResult(result);
+				}
+
 				// Get the file separator on the remote system
 				String remoteSeparator = connection.getProperty(IRemoteConnection.FILE_SEPARATOR_PROPERTY);
 
@@ -185,6 +216,15 @@ public class CheckMooseInputAction extends RemoteAction {
 //				} catch (CoreException e) {
 //					e.printStackTrace();
 //				}
+
+				// Read the output and analyze it for errors
+				try {
+					result = readResult(errorStream);
+				} catch (IOException e) {
+					logger.error(getClass().getName() + " Exception!", e);
+					status = FormStatus.InfoError;
+					return status;
+				}
 			} else {
 				// Print diagnostic information and fail
 				logger.error(getClass().getName() + " Exception!");
@@ -199,69 +239,208 @@ public class CheckMooseInputAction extends RemoteAction {
 			// Create a File so we can easily get its file name
 			File execFile = new File(appUri);
 
-			// Create the exec strings
-			String[] checkInputCmd = { "/bin/sh", "-c",
-					execFile.getAbsolutePath() + " --check-input -i " + project.getLocation().toOSString()
-							+ System.getProperty("file.separator") + inputFile.getName() + " --no-color" };
-
-			try {
-
-				// Launch the process
-				ProcessBuilder builder = new ProcessBuilder(checkInputCmd)
-						.directory(new File(project.getLocation().toOSString()));
-				//builder.redirectErrorStream(true);
-				Process checkInputProcess = builder.start();
+			// Use the earlier result if this input was already checked with
+			// this application
+			appIdentity = getLocalAppIdentity(execFile);
+			result = getCachedResult(cache, appIdentity, inputHash);
+			if (result != null) {
+				return reportResult(result);
+			}
 
-				// Get the InputStream from the process - this contains 
-				// standard out and standard err
-				errorStream = checkInputProcess.getErrorStream();
-				
-			} catch (IOException e) {
-				e.printStackTrace();
-				logger.error(getClass().getName() + " Exception!", e);
+			// Launch the check and analyze the output for errors
+			result = checkLocalInput(execFile,
+					new File(project.getLocation().toOSString() + System.getProperty("file.separator")
+							+ inputFile.getName()));
+			if (result == null) {
 				status = FormStatus.InfoError;
 				return status;
 			}
 
 		}
 
-		// Now we have an InputStream from either a local or 
-		// remote launch - let's get the text from that stream
-		// and analyze it for errors. 
+		// Store the result for the next check of the same input
+		if (appIdentity != null && inputHash != null) {
+			cache.put(appIdentity, inputHash, result);
+		}
+		
+		// Report any errors
+		return reportResult(result);
+			
+	}
+
+	/**
+	 * This operation runs a local MOOSE application with --check-input on an
+	 * input file and reads the result.
+	 * 
+	 * @param execFile
+	 *            The MOOSE application
+	 * @param inputFile
+	 *            The input file
+	 * @return The result, or null if the application could not be run.
+	 */
+	private CheckInputCache.Result checkLocalInput(File execFile, File inputFile) {
+
+		// Create the exec strings
+		String[] checkInputCmd = { "/bin/sh", "-c",
+				execFile.getAbsolutePath() + " --check-input -i " + inputFile.getAbsolutePath() + " --no-color" };
+
 		try {
-			// Read the output from the process
-			BufferedReader error = new BufferedReader(new InputStreamReader(errorStream));
+			// Launch the process
+			ProcessBuilder builder = new ProcessBuilder(checkInputCmd).directory(inputFile.getParentFile());
+			//builder.redirectErrorStream(true);
+			Process checkInputProcess = builder.start();
+
+			// Read the error stream from the process - this contains the
+			// result of the check
+			return readResult(checkInputProcess.getErrorStream());
+		} catch (IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+			return null;
+		}
+	}
+
+	/**
+	 * This operation reads the output of a --check-input run from the stream
+	 * and analyzes it for errors.
+	 * 
+	 * @param errorStream
+	 *            The stream that contains the output of the application
+	 * @return The result of the check
+	 * @throws IOException
+	 */
+	private CheckInputCache.Result readResult(InputStream errorStream) throws IOException {
+
+		// Local Declarations
+		StringBuilder checkInputString = new StringBuilder();
+		String line;
+
+		// Read the output from the process
+		try (BufferedReader error = new BufferedReader(new InputStreamReader(errorStream))) {
 			while ((line = error.readLine()) != null) {
-				//logger.info("Error: " + line);
-				checkInputString += line + "\n";
+				checkInputString.append(line).append("\n");
 			}
-			
-			// Close the streams
-			//input.close();
-			error.close();
-			
-			
-			// Check for any errors
-			if (checkInputString.contains("*** ERROR ***")) {
-				int indexOfError = checkInputString.indexOf("*** ERROR ***");
-				String errorString = checkInputString.substring(indexOfError,
-						checkInputString.indexOf("\n", indexOfError+15));
-				errorString = errorString.trim();
-				throwErrorMessage("MOOSE Tree Validation", "org.eclipse.ice.item.nuclear.moose", errorString,
-						checkInputString.trim());
-				status = FormStatus.InfoError;
-				return status;
+		}
+
+		// Check for any errors
+		String output = checkInputString.toString();
+		int indexOfError = output.indexOf("*** ERROR ***");
+		if (indexOfError >= 0) {
+			int endOfError = output.indexOf("\n", indexOfError + 15);
+			String errorString = output.substring(indexOfError, endOfError < 0 ? output.length() : endOfError);
+			return new CheckInputCache.Result(false, errorString.trim(), output.trim());
+		}
+
+		return new CheckInputCache.Result(true, null, output.trim());
+	}
+
+	/**
+	 * This operation sets the status from the result of a check and shows the
+	 * error to the user if the check failed.
+	 * 
+	 * @param result
+	 *            The result of the check
+	 * @return The new status
+	 */
+	private FormStatus reportResult(CheckInputCache.Result result) {
+		if (!result.isPassed()) {
+			throwErrorMessage("MOOSE Tree Validation", "org.eclipse.ice.item.nuclear.moose", result.getError(),
+					result.getOutput());
+			status = FormStatus.InfoError;
+		}
+		return status;
+	}
+
+	/**
+	 * This operation returns the earlier result of checking an input with an
+	 * application.
+	 * 
+	 * @param cache
+	 *            The cache of results
+	 * @param appIdentity
+	 *            The identity of the application, or null if it is unknown
+	 * @param inputHash
+	 *            The hash of the input, or null if it is unknown
+	 * @return The earlier result, or null if there is none.
+	 */
+	private CheckInputCache.Result getCachedResult(CheckInputCache cache, String appIdentity, String inputHash) {
+		CheckInputCache.Result result = null;
+		if (appIdentity != null && inputHash != null) {
+			result = cache.get(appIdentity, inputHash);
+			if (result != null) {
+				logger.info("Reusing the --check-input result for " + appIdentity);
 			}
+		}
+		return result;
+	}
+
+	/**
+	 * This operation returns the file in which the --check-input results are
+	 * stored. It is kept in the workspace metadata so that it is shared by all
+	 * projects and kept across sessions.
+	 * 
+	 * @return The cache file
+	 */
+	private Path getCacheFile() {
+		return Paths.get(ResourcesPlugin.getWorkspace().getRoot().getLocation().toOSString(), ".metadata",
+				".plugins", "org.eclipse.ice.item", CACHE_FILE_NAME);
+	}
 
+	/**
+	 * This operation hashes the input file and the files that it references.
+	 * 
+	 * @param project
+	 *            The project that contains the files
+	 * @param inputFile
+	 *            The input file
+	 * @param fileEntries
+	 *            The Entries of the files that the input references
+	 * @return The hash, or null if one of the files could not be read.
+	 */
+	private String hashInput(IProject project, IFile inputFile, List<IEntry> fileEntries) {
+		List<Path> referencedFiles = new ArrayList<Path>();
+		for (IEntry entry : fileEntries) {
+			referencedFiles.add(Paths.get(project.getFile(entry.getValue()).getLocation().toOSString()));
+		}
+		try {
+			return CheckInputCache.hashInput(Paths.get(inputFile.getLocation().toOSString()), referencedFiles);
 		} catch (IOException e) {
 			logger.error(getClass().getName() + " Exception!", e);
-			status = FormStatus.InfoError;
-			return status;
+			return null;
 		}
-		
-		// If we make it here, then we should be good with ReadyToProcess
-		return status;
-			
+	}
+
+	/**
+	 * This operation returns the identity of a local MOOSE application.
+	 * 
+	 * @param execFile
+	 *            The application
+	 * @return The identity, or null if the application could not be read.
+	 */
+	private String getLocalAppIdentity(File execFile) {
+		try {
+			return CheckInputCache.getIdentity(execFile.toPath());
+		} catch (IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+			return null;
+		}
+	}
+
+	/**
+	 * This operation returns the identity of a remote MOOSE application. The
+	 * connection must be open.
+	 * 
+	 * @param appUri
+	 *            The URI of the application
+	 * @return The identity, or null if the application could not be found.
+	 */
+	private String getRemoteAppIdentity(URI appUri) {
+		IRemoteFileService fileManager = connection.getService(IRemoteFileService.class);
+		IFileInfo info = fileManager.getResource(appUri.getRawPath()).fetchInfo();
+		if (!info.exists()) {
+			return null;
+		}
+		return CheckInputCache.getIdentity(appUri.getHost() + ":" + appUri.getRawPath(), info.getLength(),
+				info.getLastModified());
 	}
 
 	/**
@@ -303,11 +482,11 @@ public class CheckMooseInputAction extends RemoteAction {
 	 * 
 	 * @return
 	 */
-	private boolean validateFileEntries(IProject project, TreeComposite tree) {
+	private boolean validateFileEntries(IProject project, List<IEntry> fileEntries) {
 		refreshProjectSpace(project);
 
 		// Loop over all file entries and make sure they exist
-		for (final IEntry entry : getFileEntries(tree)) {
+		for (final IEntry entry : fileEntries) {
 			try {
 				// Check the entry value validity, if bad throw an exception
 				if (entry.getValue().isEmpty() || !project.getFile(entry.getValue()).exists()) {
@@ -400,28 +579,27 @@ public class CheckMooseInputAction extends RemoteAction {
 	public <T> T loadComponent(String xmlForm) {
 
 		T comp = null;
-		// Make an array to store the class list of registered Items
-		ArrayList<Class> classList = new ArrayList<Class>();
-		Class[] classArray = {};
-		classList.addAll(new ICEJAXBClassProvider().getClasses());
-		// Create new JAXB class context and unmarshaller
+		// Get the shared JAXB context for ICE's classes
 		JAXBContext context = null;
 		try {
-			context = JAXBContext.newInstance(classList.toArray(classArray));
+			context = JAXBContextRegistry.getContext(new ICEJAXBClassProvider().getClasses());
 		} catch (JAXBException e1) {
-			e1.printStackTrace();
 			logger.error("Could not get JAXBContext.", e1);
+			return null;
 		}
 
+		Unmarshaller unmarshaller = null;
 		try {
-			// Create the unmarshaller and load the item
-			Unmarshaller unmarshaller = context.createUnmarshaller();
+			// Get an unmarshaller and load the item
+			unmarshaller = JAXBContextRegistry.acquireUnmarshaller(context);
 			comp = (T) unmarshaller.unmarshal(new ByteArrayInputStream(xmlForm.getBytes()));
 		} catch (JAXBException e) {
 			// Complain
 			logger.error(getClass().getName() + " Exception!", e);
 			// Null out the Item so that it can't be returned uninitialized
 			comp = null;
+		} finally {
+			JAXBContextRegistry.releaseUnmarshaller(context, unmarshaller);
 		}
 
 		return comp;
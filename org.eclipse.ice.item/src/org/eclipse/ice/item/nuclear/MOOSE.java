@@ -12,13 +12,13 @@
  *******************************************************************************/
 package org.eclipse.ice.item.nuclear;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -26,6 +26,8 @@ import java.util.Date;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -36,8 +38,6 @@ import javax.xml.bind.annotation.XmlTransient;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.IResource;
-import org.eclipse.core.runtime.CoreException;
 import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.entry.DiscreteEntry;
@@ -52,12 +52,14 @@ import org.eclipse.ice.datastructures.form.TableComponent;
 import org.eclipse.ice.datastructures.form.TreeComposite;
 import org.eclipse.ice.datastructures.form.iterator.BreadthFirstTreeCompositeIterator;
 import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
+import org.eclipse.ice.datastructures.jaxbclassprovider.JAXBContextRegistry;
 import org.eclipse.ice.datastructures.resource.ICEResource;
 import org.eclipse.ice.item.Item;
 import org.eclipse.ice.item.action.Action;
 import org.eclipse.ice.item.jobLauncher.JobLauncherForm;
 import org.eclipse.ice.item.messaging.Message;
 import org.eclipse.ice.item.utilities.moose.MOOSEFileHandler;
+import org.eclipse.ice.item.utilities.moose.PostprocessorStore;
 import org.eclipse.remote.core.IRemoteConnection;
 import org.eclipse.remote.core.IRemoteConnectionHostService;
 
@@ -120,6 +122,27 @@ public class MOOSE extends Item {
 	@XmlTransient()
 	private boolean registered = false;
 
+	/**
+	 * The store that holds the Postprocessor values posted by the current
+	 * job. It is null until the first value is posted.
+	 */
+	@XmlTransient()
+	private PostprocessorStore postprocessorStore;
+
+	/**
+	 * The current Postprocessor store of each MOOSE Item, keyed by the id of
+	 * the Item, so that clients that only have the Form of an Item can find
+	 * its store.
+	 */
+	private static final ConcurrentHashMap<Integer, PostprocessorStore> postprocessorStores = new ConcurrentHashMap<Integer, PostprocessorStore>();
+
+	/**
+	 * True if the MOOSE Item was disposed and no more Postprocessor values
+	 * should be stored.
+	 */
+	@XmlTransient()
+	private boolean disposed = false;
+
 	/**
 	 * Nullary constructor.
 	 */
@@ -454,23 +477,19 @@ public class MOOSE extends Item {
 	private <T> String writeComponentToXML(T comp) throws JAXBException {
 		// Get the XML
 		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-		// Create the marshaller and write the item
-		Marshaller marshaller;
-		
-		// Make an array to store the class list of registered Items
-		ArrayList<Class> classList = new ArrayList<Class>();
-		Class[] classArray = {};
-		classList.addAll(new ICEJAXBClassProvider().getClasses());
-		// Create new JAXB class context and unmarshaller
-		JAXBContext context = JAXBContext.newInstance(classList.toArray(classArray));
+		// Get the shared JAXB context for ICE's classes
+		JAXBContext context = JAXBContextRegistry.getContext(new ICEJAXBClassProvider().getClasses());
 
+		// Get a marshaller and write the item
+		Marshaller marshaller = null;
 		try {
-			marshaller = context.createMarshaller();
-			marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+			marshaller = JAXBContextRegistry.acquireMarshaller(context);
 			marshaller.marshal(comp, outputStream);
 		} catch (JAXBException e) {
 			// Complain
 			logger.error(getClass().getName() + " Exception!", e);
+		} finally {
+			JAXBContextRegistry.releaseMarshaller(context, marshaller);
 		}
 
 		return new String(outputStream.toByteArray());
@@ -811,8 +830,8 @@ public class MOOSE extends Item {
 			// be of the format pp_name:time:value
 			String[] data = text.split(":");
 			String name = data[0];
-			Double time = Double.valueOf(data[1]);
-			Double value = Double.valueOf(data[2]);
+			double time = Double.parseDouble(data[1]);
+			double value = Double.parseDouble(data[2]);
 
 			// We need the jobLaunch directory to create new VizResources
 			IFolder directory = mooseLauncher.getJobLaunchFolder();
@@ -821,38 +840,132 @@ public class MOOSE extends Item {
 				return false;
 			}
 
-			// Refresh the project space
-			refreshProjectSpace();
+			// Add the point to the store of the job. It is written to the CSV
+			// file later with the other points that arrive in the meantime.
+			return addPostprocessorValue(directory, name, time, value);
+		}
+
+		return true;
+	}
+
+	/**
+	 * This operation closes the store of the last job so that its values are
+	 * written and its writer thread is stopped. The values can still be read
+	 * from the store, but new values are ignored.
+	 * 
+	 * @see org.eclipse.ice.item.Item#dispose()
+	 */
+	@Override
+	public void dispose() {
 
-			// Grab the new Postprocessor CSV file
-			IFile dataFile = directory.getFile(name + ".csv");
+		// Local Declarations
+		PostprocessorStore store;
 
-			// Get a reference to the ResourceComponent
-			ResourceComponent comp = (ResourceComponent) form.getComponent(3);
+		synchronized (this) {
+			disposed = true;
+			store = postprocessorStore;
+		}
 
-			try {
+		// Closing waits for the writer, so it is done without the lock. No
+		// more values are added because the Item is marked disposed.
+		if (store != null) {
+			postprocessorStores.remove(getId(), store);
+			store.close();
+		}
 
-				if (!dataFile.exists()) {
-					// If the file hasn't been created yet, we need to create
-					// it and start filling it with post processor data
-					String initialData = "Time," + name + "\n" + time + "," + value + "\n";
-					dataFile.create(new ByteArrayInputStream(initialData.getBytes()), true, null);// .createNewFile();
+		return;
+	}
 
-					// Create the VizResource, and add it to the
-					// ResourceComponent
-					ICEResource resource = getResource(dataFile.getLocation().toOSString());
-					comp.add(resource);
+	/**
+	 * This operation returns the store that holds the Postprocessor values
+	 * posted by the current job. Live plots should read the values from the
+	 * store instead of from the CSV files, which are only written
+	 * periodically.
+	 * 
+	 * @return The store, or null if no values have been posted yet.
+	 */
+	public synchronized PostprocessorStore getPostprocessorStore() {
+		return postprocessorStore;
+	}
 
-				} else {
+	/**
+	 * This operation returns the store that holds the Postprocessor values
+	 * posted by the current job of a MOOSE Item. It is meant for clients,
+	 * such as editors, that only have the Form of the Item.
+	 * 
+	 * @param itemId
+	 *            The id of the MOOSE Item, which is also the Item id of its
+	 *            Form.
+	 * @return The store, or null if the Item has not posted any values or
+	 *         was disposed.
+	 */
+	public static PostprocessorStore getPostprocessorStore(int itemId) {
+		return postprocessorStores.get(itemId);
+	}
 
-					// Write the data to the existing resource
-					dataFile.appendContents(new ByteArrayInputStream(new String(time + "," + value + "\n").getBytes()),
-							IResource.FORCE, null);
-				}
+	/**
+	 * This private operation adds a Postprocessor value to the store for a
+	 * job launch directory. A new store is created for each job, and the
+	 * store of the previous job is closed. The store is looked up, replaced
+	 * and added to under the lock of the Item, so a store is only closed once
+	 * no more values can be added to it.
+	 * 
+	 * @param directory
+	 *            The job launch directory.
+	 * @param name
+	 *            The name of the Postprocessor.
+	 * @param time
+	 *            The time of the value.
+	 * @param value
+	 *            The value of the Postprocessor.
+	 * @return True if the value was added, false if the Item was disposed.
+	 */
+	private boolean addPostprocessorValue(final IFolder directory,
+			String name, double time, double value) {
+
+		// Local Declarations
+		Path location = directory.getLocation().toFile().toPath();
+		PostprocessorStore previousStore = null;
 
-			} catch (IOException | CoreException e) {
-				logger.error(getClass().getName() + " Exception!", e);
+		synchronized (this) {
+			if (disposed) {
+				logger.info("MOOSE Message: The Item was disposed. "
+						+ "Ignoring the value of " + name + ".");
+				return false;
+			}
+			if (postprocessorStore == null || !postprocessorStore.getDirectory().equals(location)) {
+				previousStore = postprocessorStore;
+				postprocessorStore = new PostprocessorStore(location, new Consumer<List<String>>() {
+					@Override
+					public void accept(List<String> createdFiles) {
+						// Refresh the project space once for the whole chunk
+						refreshProjectSpace();
+
+						// Create a VizResource for each new file and add it
+						// to the ResourceComponent
+						ResourceComponent comp = (ResourceComponent) form.getComponent(3);
+						for (String name : createdFiles) {
+							IFile dataFile = directory.getFile(name + ".csv");
+							try {
+								ICEResource resource = getResource(dataFile.getLocation().toOSString());
+								comp.add(resource);
+							} catch (IOException e) {
+								logger.error(getClass().getName() + " Exception!", e);
+							}
+						}
+					}
+				});
+				postprocessorStores.put(getId(), postprocessorStore);
 			}
+			// Adding only schedules the write, so it does not wait for the
+			// writer while the lock is held
+			postprocessorStore.add(name, time, value);
+		}
+
+		// Write out the last values of the previous job. This waits for the
+		// writer, so it is done without holding the lock.
+		if (previousStore != null) {
+			previousStore.close();
 		}
 
 		return true;
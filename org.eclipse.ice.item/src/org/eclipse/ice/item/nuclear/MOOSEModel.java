@@ -33,6 +33,7 @@ import java.util.Hashtable;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ExecutionException;
 
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
@@ -63,6 +64,9 @@ import org.eclipse.ice.io.serializable.IWriter;
 import org.eclipse.ice.item.Item;
 import org.eclipse.ice.item.ItemType;
 import org.eclipse.ice.item.action.Action;
+import org.eclipse.ice.item.utilities.moose.MOOSEFileHandler;
+import org.eclipse.ice.item.utilities.moose.MOOSESyntaxService;
+import org.eclipse.ice.item.utilities.moose.MOOSESyntaxService.Syntax;
 import org.eclipse.remote.core.IRemoteConnection;
 import org.eclipse.remote.core.IRemoteConnectionHostService;
 import org.eclipse.remote.core.IRemoteConnectionType;
@@ -85,6 +89,10 @@ import org.osgi.service.prefs.BackingStoreException;
  * file, any data from the input file is consolidated with the YAML file in the
  * reviewEntries() method as well.
  *
+ * The YAML and action syntax of local apps are not written to files. They are
+ * generated from the output of the app by the {@link MOOSESyntaxService},
+ * which runs each version of an app only once.
+ *
  * The MOOSEModel Form has components with set IDs as such:
  *
  * ID = 1: The output file DataComponent ID = 2: The TreeComposite containing
@@ -422,30 +430,31 @@ public class MOOSEModel extends Item {
 				// Create a File so we can easily get its file name
 				File execFile = new File(uri);
 
-				// Get the YAML and Syntax files file.
-				yamlFile = mooseFolder.getFile(execFile.getName().toLowerCase() + ".yaml");
-				syntaxFile = mooseFolder.getFile(execFile.getName().toLowerCase() + ".syntax");
-
-				// Create the yaml and syntax exec strings
-				String[] yamlCmd = { "/bin/sh", "-c",
-						execFile.getAbsolutePath() + " --yaml > " + yamlFile.getLocation().toOSString().replaceAll(" ", "\\\\ ") };
-				String[] syntaxCmd = { "/bin/sh", "-c",
-						execFile.getAbsolutePath() + " --syntax > " + syntaxFile.getLocation().toOSString().replaceAll(" ", "\\\\ ") };
-
-				// Create the YAML and Syntax files
-				Process p1 = Runtime.getRuntime().exec(yamlCmd);
-				Process p2 = Runtime.getRuntime().exec(syntaxCmd);
+				// Get the syntax of the app. It is generated straight from
+				// the app's output, without any files, and only once for
+				// each version of the app.
+				Syntax syntax;
 				try {
-					int code1 = p1.waitFor();
-					int code2 = p2.waitFor();
+					syntax = MOOSESyntaxService.getSyntax(execFile).get();
+				} catch (InterruptedException | ExecutionException e) {
+					logger.error(getClass().getName() + " Exception!", e);
+					throw new IOException("MOOSEModel Exception: Could not generate the YAML/Syntax of "
+							+ execFile.getName() + ".", e);
+				}
 
-					if (code1 != 0 || code2 != 0) {
-						throw new Exception("Error in creating the YAML/Syntax files. Job return codes were " + code1
-								+ " and " + code2);
-					}
-				} catch (Exception e) {
-					logger.error(getClass().getName() + " Exception!",e);
+				// Create the tree from the syntax
+				Form readerForm = new MOOSEFileHandler().readYAML(syntax.getYAMLBlocks(), syntax.getActionSyntax(),
+						project.getLocation().toOSString());
+				if (readerForm == null) {
+					throw new IOException("MOOSEModel Exception: Executable file, " + execFile.getName()
+							+ ", did not generate a valid YAML specification!");
 				}
+
+				// Copy the new tree into the parent. This is the cleanest way
+				// to clear out the parent completely.
+				mooseParentTree.copy((TreeComposite) readerForm.getComponent(mooseTreeCompositeId));
+
+				return;
 			}
 
 			// Clean up the comments in the files
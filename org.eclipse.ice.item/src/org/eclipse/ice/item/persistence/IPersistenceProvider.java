@@ -13,6 +13,7 @@ package org.eclipse.ice.item.persistence;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -65,6 +66,25 @@ public interface IPersistenceProvider {
 	 */
 	public boolean persistItem(Item item);
 
+	/**
+	 * Persists a batch of Items. Returns true if all of the Items were
+	 * persisted. Providers that can write batches more efficiently than single
+	 * Items should override this operation. The default implementation calls
+	 * persistItem() for each Item.
+	 * 
+	 * @param items
+	 *            The Items to be persisted.
+	 * @return Returns true if the operation was successful for every Item.
+	 *         False otherwise.
+	 */
+	public default boolean persistItems(List<Item> items) {
+		boolean retVal = true;
+		for (Item item : items) {
+			retVal &= persistItem(item);
+		}
+		return retVal;
+	}
+
 	/**
 	 * Loads the specified item keyed on the ID. Returns the item, or null if an
 	 * error was encountered.
@@ -45,7 +45,7 @@ public class Block {
 	 * <li>Windows: {code \r\n}</li>
 	 * </ul>
 	 */
-	private static final String newLineRegex = "\r?\n|\r";
+	static final String newLineRegex = "\r?\n|\r";
 
 	/**
 	 * The name of the block.
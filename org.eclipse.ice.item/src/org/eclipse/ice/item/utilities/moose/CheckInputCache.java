@@ -0,0 +1,436 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.item.utilities.moose;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class caches the results of checking MOOSE input files with the
+ * --check-input option of a MOOSE application. Starting a MOOSE application
+ * takes seconds, so an input that was already checked by the same application
+ * is not checked again.
+ * <p>
+ * The results are keyed on the identity of the application and on a hash of
+ * the input. The hash is computed from the input file after blank lines,
+ * comment lines and trailing whitespace are removed, so only changes that
+ * MOOSE would see cause another check, and from the identities of the files
+ * that the input references. Applications and referenced files are identified
+ * by their paths, sizes and modification times instead of their contents
+ * because they can be very large.
+ * </p>
+ * <p>
+ * The results are stored in a file so that they are kept across sessions, and
+ * only the most recently used results are kept. Each stored result records
+ * its place in the order of use, so the least recently used results are
+ * still removed first after the file is loaded again. Results that are only
+ * read are moved in the file the next time that a result is stored. All of
+ * the operations on this class are thread safe.
+ * </p>
+ *
+ * @author UT-Battelle, LLC
+ */
+public class CheckInputCache {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(CheckInputCache.class);
+
+	/**
+	 * The default number of results that are kept.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 256;
+
+	/**
+	 * The caches that have been opened with {@link #getCache(Path)}, keyed on
+	 * their files.
+	 */
+	private static final Map<Path, CheckInputCache> caches = new HashMap<Path, CheckInputCache>();
+
+	/**
+	 * The file in which the results are stored.
+	 */
+	private final Path file;
+
+	/**
+	 * The maximum number of results that are kept.
+	 */
+	private final int maxEntries;
+
+	/**
+	 * The results, keyed on the application identity and the input hash and
+	 * ordered from the least to the most recently used.
+	 */
+	private final LinkedHashMap<String, Result> results;
+
+	/**
+	 * The result of checking an input.
+	 */
+	public static class Result {
+
+		/**
+		 * True if the input is valid.
+		 */
+		private final boolean passed;
+
+		/**
+		 * The line that describes the first error, or an empty string if the
+		 * input is valid.
+		 */
+		private final String error;
+
+		/**
+		 * The output of the check.
+		 */
+		private final String output;
+
+		/**
+		 * The constructor.
+		 *
+		 * @param passed
+		 *            True if the input is valid.
+		 * @param error
+		 *            The line that describes the first error. It is ignored if
+		 *            the input is valid.
+		 * @param output
+		 *            The output of the check.
+		 */
+		public Result(boolean passed, String error, String output) {
+			this.passed = passed;
+			// The error is stored on one line
+			this.error = (passed || error == null) ? ""
+					: error.replace('\n', ' ');
+			this.output = (output == null) ? "" : output;
+		}
+
+		/**
+		 * @return True if the input is valid, false otherwise.
+		 */
+		public boolean isPassed() {
+			return passed;
+		}
+
+		/**
+		 * @return The line that describes the first error, or an empty string
+		 *         if the input is valid.
+		 */
+		public String getError() {
+			return error;
+		}
+
+		/**
+		 * @return The output of the check.
+		 */
+		public String getOutput() {
+			return output;
+		}
+	}
+
+	/**
+	 * The constructor. The results that are already stored in the file are
+	 * loaded.
+	 *
+	 * @param file
+	 *            The file in which the results should be stored.
+	 * @param maxEntries
+	 *            The maximum number of results that should be kept.
+	 */
+	public CheckInputCache(Path file, int maxEntries) {
+
+		this.file = file;
+		this.maxEntries = maxEntries;
+		results = new LinkedHashMap<String, Result>(16, 0.75f, true);
+
+		// Load the stored results in the order in which they were used. The
+		// properties are not ordered, so each one starts with its place.
+		if (Files.isRegularFile(file)) {
+			Properties properties = new Properties();
+			TreeMap<Integer, String> keys = new TreeMap<Integer, String>();
+			Map<String, Result> stored = new HashMap<String, Result>();
+			try (InputStream stream = Files.newInputStream(file)) {
+				properties.load(stream);
+				for (String key : properties.stringPropertyNames()) {
+					String[] value = properties.getProperty(key).split("\n", 4);
+					if (value.length == 4) {
+						keys.put(Integer.parseInt(value[0]), key);
+						stored.put(key, new Result(
+								Boolean.parseBoolean(value[1]), value[2],
+								value[3]));
+					}
+				}
+				for (String key : keys.values()) {
+					results.put(key, stored.get(key));
+				}
+			} catch (IOException | IllegalArgumentException e) {
+				logger.error(getClass().getName() + " Exception!", e);
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation returns the cache that is stored in the given file. Each
+	 * file is only loaded once, so all of the clients that use the same file
+	 * share the same cache.
+	 *
+	 * @param file
+	 *            The file in which the results are stored.
+	 * @return The cache
+	 */
+	public static CheckInputCache getCache(Path file) {
+		Path key = file.toAbsolutePath().normalize();
+		synchronized (caches) {
+			CheckInputCache cache = caches.get(key);
+			if (cache == null) {
+				cache = new CheckInputCache(key, DEFAULT_MAX_ENTRIES);
+				caches.put(key, cache);
+			}
+			return cache;
+		}
+	}
+
+	/**
+	 * This operation returns the identity of a local file, which is made from
+	 * its path, size and modification time.
+	 *
+	 * @param path
+	 *            The file
+	 * @return The identity of the file
+	 * @throws IOException
+	 *             if the file can not be read
+	 */
+	public static String getIdentity(Path path) throws IOException {
+		return getIdentity(path.toAbsolutePath().normalize().toString(),
+				Files.size(path), Files.getLastModifiedTime(path).toMillis());
+	}
+
+	/**
+	 * This operation returns the identity of a file, local or remote, from its
+	 * location, size and modification time.
+	 *
+	 * @param location
+	 *            The location of the file, including the host for remote
+	 *            files
+	 * @param size
+	 *            The size of the file in bytes
+	 * @param lastModified
+	 *            The modification time of the file
+	 * @return The identity of the file
+	 */
+	public static String getIdentity(String location, long size,
+			long lastModified) {
+		return location + "|" + size + "|" + lastModified;
+	}
+
+	/**
+	 * This operation computes the hash of an input file and the files that it
+	 * references.
+	 *
+	 * @param inputFile
+	 *            The input file
+	 * @param referencedFiles
+	 *            The files that the input references
+	 * @return The hash of the input
+	 * @throws IOException
+	 *             if the input or one of the referenced files can not be read
+	 */
+	public static String hashInput(Path inputFile,
+			Collection<Path> referencedFiles) throws IOException {
+		List<String> identities = new ArrayList<String>();
+		for (Path referencedFile : referencedFiles) {
+			identities.add(getIdentity(referencedFile));
+		}
+		return hashInput(
+				Files.readAllLines(inputFile, StandardCharsets.UTF_8),
+				identities);
+	}
+
+	/**
+	 * This operation computes the hash of the lines of an input and the
+	 * identities of the files that it references. Blank lines, comment lines
+	 * and trailing whitespace are ignored, as is the order of the identities.
+	 *
+	 * @param lines
+	 *            The lines of the input
+	 * @param identities
+	 *            The identities of the files that the input references
+	 * @return The hash of the input
+	 */
+	public static String hashInput(List<String> lines,
+			Collection<String> identities) {
+
+		// Local Declarations
+		MessageDigest digest;
+		StringBuilder normalized = new StringBuilder();
+
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+
+		// Normalize the input
+		for (String line : lines) {
+			int end = line.length();
+			while (end > 0 && Character.isWhitespace(line.charAt(end - 1))) {
+				end--;
+			}
+			String trimmed = line.substring(0, end);
+			if (!trimmed.trim().isEmpty() && !trimmed.trim().startsWith("#")) {
+				normalized.append(trimmed).append('\n');
+			}
+		}
+
+		// Add the referenced files in a fixed order
+		List<String> sortedIdentities = new ArrayList<String>(identities);
+		sortedIdentities.sort(null);
+		normalized.append('\0');
+		for (String identity : sortedIdentities) {
+			normalized.append(identity).append('\n');
+		}
+
+		// Convert the hash to hex
+		StringBuilder hash = new StringBuilder();
+		for (byte b : digest.digest(
+				normalized.toString().getBytes(StandardCharsets.UTF_8))) {
+			hash.append(String.format("%02x", b));
+		}
+
+		return hash.toString();
+	}
+
+	/**
+	 * This operation returns the result of checking an input with an
+	 * application.
+	 *
+	 * @param appIdentity
+	 *            The identity of the application
+	 * @param inputHash
+	 *            The hash of the input
+	 * @return The result, or null if the input has not been checked with the
+	 *         application.
+	 */
+	public synchronized Result get(String appIdentity, String inputHash) {
+		return results.get(getKey(appIdentity, inputHash));
+	}
+
+	/**
+	 * This operation stores the result of checking an input with an
+	 * application. The least recently used results are removed if there are
+	 * too many and the results are saved to the file.
+	 *
+	 * @param appIdentity
+	 *            The identity of the application
+	 * @param inputHash
+	 *            The hash of the input
+	 * @param result
+	 *            The result of the check
+	 */
+	public synchronized void put(String appIdentity, String inputHash,
+			Result result) {
+
+		results.put(getKey(appIdentity, inputHash), result);
+
+		// Remove the least recently used results
+		while (results.size() > maxEntries) {
+			String eldest = results.keySet().iterator().next();
+			results.remove(eldest);
+		}
+
+		save();
+
+		return;
+	}
+
+	/**
+	 * This operation returns the number of results in the cache.
+	 *
+	 * @return The number of results
+	 */
+	public synchronized int size() {
+		return results.size();
+	}
+
+	/**
+	 * This operation returns the key of a result.
+	 *
+	 * @param appIdentity
+	 *            The identity of the application
+	 * @param inputHash
+	 *            The hash of the input
+	 * @return The key
+	 */
+	private static String getKey(String appIdentity, String inputHash) {
+		return appIdentity + "#" + inputHash;
+	}
+
+	/**
+	 * This operation writes the results to the file, each with its place in
+	 * the order of use. The file is replaced at once so that readers never
+	 * see a partial file.
+	 */
+	private void save() {
+
+		Properties properties = new Properties();
+		int place = 0;
+		for (Map.Entry<String, Result> entry : results.entrySet()) {
+			Result result = entry.getValue();
+			properties.setProperty(entry.getKey(),
+					place++ + "\n" + result.isPassed() + "\n"
+							+ result.getError() + "\n" + result.getOutput());
+		}
+
+		try {
+			Path parent = file.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path temp = Files.createTempFile(parent,
+					file.getFileName().toString(), ".tmp");
+			try (OutputStream stream = Files.newOutputStream(temp)) {
+				properties.store(stream, "MOOSE --check-input results");
+			}
+			try {
+				Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				// Some file systems can not replace a file atomically
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+
+		return;
+	}
+
+}
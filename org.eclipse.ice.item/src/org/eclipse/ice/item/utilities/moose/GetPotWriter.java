@@ -0,0 +1,275 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.item.utilities.moose;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.ice.datastructures.ICEObject.Component;
+import org.eclipse.ice.datastructures.entry.IEntry;
+import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.form.TreeComposite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * This class writes MOOSE blocks to a GetPot input file directly from their
+ * TreeComposites. Each tree is walked once and every section and parameter is
+ * written straight to the underlying Writer, so no Blocks, Parameters or
+ * intermediate Strings are created for the input.
+ * </p>
+ * <p>
+ * The output is the same as that of {@link Block#toGetPot(String)} for Blocks
+ * created with {@link Block#fromTreeComposite(TreeComposite)}. Inactive
+ * top-level blocks are skipped, inactive subblocks and their parameters are
+ * commented out and parameters that are neither required nor enabled are
+ * commented out.
+ * </p>
+ *
+ * @author UT-Battelle, LLC
+ */
+public class GetPotWriter {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(GetPotWriter.class);
+
+	/**
+	 * The characters that are removed from comments. This is the same set
+	 * that Block removes.
+	 */
+	private static final Pattern newLines = Pattern
+			.compile("[" + Block.newLineRegex + "]");
+
+	/**
+	 * The line separator of the output.
+	 */
+	private static final String newLine = System.lineSeparator();
+
+	/**
+	 * The Writer to which the blocks are written.
+	 */
+	private final Writer writer;
+
+	/**
+	 * The constructor.
+	 *
+	 * @param writer
+	 *            The Writer to which the blocks are written. It should be
+	 *            buffered since it is written in small pieces, and it is not
+	 *            closed by this class.
+	 */
+	public GetPotWriter(Writer writer) {
+		this.writer = writer;
+	}
+
+	/**
+	 * This operation writes a set of MOOSE blocks to a file, replacing its
+	 * contents. Blocks that must come first, such as "Functions" and
+	 * "Variables", are written before all of the others.
+	 *
+	 * @param file
+	 *            The file
+	 * @param blocks
+	 *            The TreeComposites that represent the MOOSE blocks
+	 * @throws IOException
+	 *             if the file could not be written
+	 */
+	public static void write(Path file, List<TreeComposite> blocks)
+			throws IOException {
+		try (Writer fileWriter = Files.newBufferedWriter(file,
+				Charset.defaultCharset())) {
+			new GetPotWriter(fileWriter).writeBlocks(blocks);
+		}
+	}
+
+	/**
+	 * This operation writes a set of MOOSE blocks. Blocks that must come
+	 * first, such as "Functions" and "Variables", are written before all of
+	 * the others, which are written in order.
+	 *
+	 * @param blocks
+	 *            The TreeComposites that represent the MOOSE blocks
+	 * @throws IOException
+	 *             if the blocks could not be written
+	 */
+	public void writeBlocks(List<TreeComposite> blocks) throws IOException {
+
+		// Write the blocks that must come first
+		for (TreeComposite block : blocks) {
+			if (isWrittenFirst(block)) {
+				writeBlock(block);
+			}
+		}
+		// Write the rest
+		for (TreeComposite block : blocks) {
+			if (!isWrittenFirst(block)) {
+				writeBlock(block);
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation writes a top-level MOOSE block and all of its subblocks.
+	 * Nothing is written if the block is not active.
+	 *
+	 * @param block
+	 *            The TreeComposite that represents the MOOSE block
+	 * @throws IOException
+	 *             if the block could not be written
+	 */
+	public void writeBlock(TreeComposite block) throws IOException {
+		if (block != null && block.isActive()) {
+			writeSection(block, "", false);
+		}
+	}
+
+	/**
+	 * This operation determines if a block must be written before the others.
+	 *
+	 * @param block
+	 *            The block
+	 * @return True if it must be written first, false otherwise
+	 */
+	private boolean isWrittenFirst(TreeComposite block) {
+		String name = (block != null) ? block.getName() : null;
+		return "Functions".equals(name) || "Variables".equals(name);
+	}
+
+	/**
+	 * This operation writes a section, its parameters and its subsections.
+	 *
+	 * @param block
+	 *            The TreeComposite of the section
+	 * @param indent
+	 *            The indentation of the parameters of the section
+	 * @param isSubblock
+	 *            True if the section is a subsection, which is written with
+	 *            the actual and parent section prefixes and is commented out
+	 *            instead of skipped when it is inactive
+	 * @throws IOException
+	 */
+	private void writeSection(TreeComposite block, String indent,
+			boolean isSubblock) throws IOException {
+
+		// Inactive subsections are commented out, including their brackets
+		boolean active = block.isActive();
+		String sectionIndent = active ? indent
+				: indent.substring(0, indent.length() - 2) + "# ";
+
+		// Open the section
+		writer.write(sectionIndent);
+		writer.write('[');
+		if (isSubblock) {
+			writer.write(Block.actualSectionPrefix);
+		}
+		writer.write(String.valueOf(block.getName()));
+		writer.write(']');
+		writer.write(newLine);
+
+		// Write the parameters, which are in the first data node
+		List<Component> dataNodes = block.getDataNodes();
+		if (!dataNodes.isEmpty()) {
+			Component parameters = dataNodes.get(0);
+			if (parameters instanceof DataComponent) {
+				for (IEntry entry : ((DataComponent) parameters)
+						.retrieveAllEntries()) {
+					writeParameter(entry, indent, active);
+				}
+			} else if (parameters != null) {
+				logger.info("GetPotWriter Message: Unexpected component in "
+						+ "TreeComposite " + block.getName()
+						+ ". Its parameters will not be written.");
+			}
+		}
+
+		// Write the subsections
+		for (int i = 0; i < block.getNumberOfChildren(); i++) {
+			writeSection(block.getChildAtIndex(i), indent + "  ", true);
+		}
+
+		// Close the section
+		writer.write(sectionIndent);
+		writer.write('[');
+		if (isSubblock) {
+			writer.write(Block.parentSectionPrefix);
+		}
+		writer.write(']');
+		writer.write(newLine);
+
+		return;
+	}
+
+	/**
+	 * This operation writes a parameter. Required and enabled parameters of
+	 * active sections are written, all others are commented out.
+	 *
+	 * @param entry
+	 *            The Entry of the parameter
+	 * @param indent
+	 *            The indentation of the parameters of the section
+	 * @param active
+	 *            True if the section is active
+	 * @throws IOException
+	 */
+	private void writeParameter(IEntry entry, String indent, boolean active)
+			throws IOException {
+
+		// Local Declarations
+		String name = String.valueOf(entry.getName());
+		String value = String.valueOf(entry.getValue());
+		String comment = entry.getComment();
+		boolean enabled = entry.isRequired()
+				|| !"false".equalsIgnoreCase(entry.getTag());
+
+		// Write "name = value", commented out if needed
+		writer.write(indent);
+		writer.write((active && enabled) ? "  " : "# ");
+		writer.write(name);
+		writer.write(" = ");
+		writer.write(value);
+
+		// Append the comment, aligned like Block does it
+		if (comment != null && !comment.isEmpty()) {
+			int lineLength = indent.length() + 2 + name.length() + 3
+					+ value.length();
+			int spaces;
+			if (lineLength < 30) {
+				spaces = 30 - lineLength;
+			} else if (lineLength < 45) {
+				spaces = 45 - lineLength;
+			} else if (lineLength < 60) {
+				spaces = 60 - lineLength;
+			} else {
+				spaces = 15;
+			}
+			for (int i = 0; i < spaces; i++) {
+				writer.write(' ');
+			}
+			writer.write("# ");
+			writer.write(newLines.matcher(comment).replaceAll(""));
+		}
+		writer.write(newLine);
+
+		return;
+	}
+
+}
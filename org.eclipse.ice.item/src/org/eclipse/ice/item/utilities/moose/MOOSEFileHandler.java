@@ -12,10 +12,8 @@
  *******************************************************************************/
 package org.eclipse.ice.item.utilities.moose;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
@@ -26,6 +24,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Stack;
 
@@ -111,56 +110,12 @@ public class MOOSEFileHandler implements IReader, IWriter {
 	 */
 	public void dumpInputFile(String filePath, ArrayList<TreeComposite> blockSet) {
 
-		// Local Declarations
-		File inputFile = null;
-		String outputString = "";
-		FileWriter fileWriter = null;
-		BufferedWriter fileOutputWriter = null;
-		ArrayList<Block> blocks = null;
-
 		// Only do this if the file path and data are valid
 		if (filePath != null && blockSet != null) {
-			// Create the blocks from the incoming tree composites
-			blocks = new ArrayList<Block>();
-			for (TreeComposite blockTree : blockSet) {
-				Block block = new Block();
-				block.fromTreeComposite(blockTree);
-				blocks.add(block);
-			}
-			// Reorganize the blocks so that blocks that must come first, such
-			// as "Functions" and "Variables" do.
-			for (int i = 0; i < blocks.size(); i++) {
-				// Grab the block and its name
-				Block block = blocks.get(i);
-				String name = block.getName();
-				// Check for the names of the blocks that have to be written
-				// first
-				if ("Functions".equals(name) || "Variables".equals(name)) {
-					// Remove the block from the set
-					blocks.remove(i);
-					// Write the block to the output string
-					outputString += block.toGetPot(null);
-					// Decrement the counter so we go back and get any remaining
-					// blocks.
-					--i;
-				}
-			}
-			// Dump the blocks to the output String
-			for (int i = 0; i < blocks.size(); i++) {
-				outputString += blocks.get(i).toGetPot(null);
-			}
-			// Try to write the file
+			// Stream the blocks straight to the file. Blocks that must come
+			// first, such as "Functions" and "Variables", are written first.
 			try {
-				// Open the file and writers
-				inputFile = new File(filePath);
-				fileWriter = new FileWriter(inputFile);
-				fileOutputWriter = new BufferedWriter(fileWriter);
-				// Dump the string to the file
-				fileOutputWriter.write(outputString);
-				// Flush everything to the file and close it
-				fileOutputWriter.flush();
-				fileOutputWriter.close();
-				fileWriter.close();
+				GetPotWriter.write(Paths.get(filePath), blockSet);
 			} catch (IOException e) {
 				logger.info("MOOSEFileHandler Exception: " + "Unable to write output file.");
 				logger.error(getClass().getName() + " Exception!", e);
@@ -404,11 +359,8 @@ public class MOOSEFileHandler implements IReader, IWriter {
 
 		// Local Declarations
 		InputStream input = null;
-		String syntaxFilePath, treeName;
+		String syntaxFilePath;
 		ArrayList<String> hardPathsList = null;
-		ArrayList<TreeComposite> trees = new ArrayList<TreeComposite>();
-		Map<String, TreeComposite> treeMap = null;
-		TreeComposite oneUpTree = null;
 
 		// Quit if the path is boned
 		if (filePath == null || filePath.isEmpty()) {
@@ -432,11 +384,67 @@ public class MOOSEFileHandler implements IReader, IWriter {
 			logger.info("MOOSEFileHandler Message: File loaded.");
 		}
 
+		// Close the files
+		try {
+			input.close();
+		} catch (IOException e) {
+			// Complain
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+
 		// Check we got a valid YAML file
 		if (list == null || list.isEmpty()) {
 			logger.error("Invalid YAML at " + yamlFile.getAbsolutePath());
+			return new ArrayList<TreeComposite>();
+		}
+
+		// Define the file path of the action syntax file
+		int yamlIndex = filePath.indexOf(".yaml");
+		syntaxFilePath = filePath.substring(0, yamlIndex) + ".syntax";
+
+		// Load the list of all "hard" paths from the action syntax file
+		try {
+			hardPathsList = loadActionSyntax(syntaxFilePath);
+		} catch (IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+
+		return loadYAML(list, hardPathsList, projectDir);
+	}
+
+	/**
+	 * This operation converts the blocks of a MOOSE YAML input specification,
+	 * which were already parsed, into a fully-configured set of ICE
+	 * TreeComposites. It does not read any files, so the specification can be
+	 * parsed straight from the output of the MOOSE application.
+	 * 
+	 * @param list
+	 *            The list of blocks parsed from the YAML specification
+	 * @param hardPathsList
+	 *            The "hard" paths of the action syntax, as returned by
+	 *            {@link #loadActionSyntax(String)} or
+	 *            {@link #filterActionSyntax(List)}
+	 * @param projectDir
+	 *            The project directory in which the files that may be used by
+	 *            File Entries are found
+	 * @return The MOOSE input file specification stored in TreeComposites, as
+	 *         in {@link #loadYAML(String)}.
+	 */
+	public ArrayList<TreeComposite> loadYAML(List<?> list, List<String> hardPathsList, String projectDir) {
+
+		// Local Declarations
+		String treeName;
+		ArrayList<TreeComposite> trees = new ArrayList<TreeComposite>();
+		Map<String, TreeComposite> treeMap = null;
+		TreeComposite oneUpTree = null;
+
+		// Check we got a valid specification
+		if (list == null || list.isEmpty()) {
 			return trees;
 		}
+		if (hardPathsList == null) {
+			hardPathsList = new ArrayList<String>();
+		}
 
 		// Load the block list. Use YAMLBlocks so that they can be converted to
 		// TreeComposites appropriately.
@@ -452,14 +460,6 @@ public class MOOSEFileHandler implements IReader, IWriter {
 			trees.add(block.toTreeComposite());
 		}
 
-		// Close the files
-		try {
-			input.close();
-		} catch (IOException e) {
-			// Complain
-			logger.error(getClass().getName() + " Exception!", e);
-		}
-
 		// Put all the names of top-level nodes into a list (we use this later)
 		ArrayList<String> topLevelNodes = new ArrayList<String>();
 		for (TreeComposite node : trees) {
@@ -526,17 +526,6 @@ public class MOOSEFileHandler implements IReader, IWriter {
 			tree = treeStack.pop();
 		}
 
-		// Define the file path of the action syntax file
-		int yamlIndex = filePath.indexOf(".yaml");
-		syntaxFilePath = filePath.substring(0, yamlIndex) + ".syntax";
-
-		// Load the list of all "hard" paths from the action syntax file
-		try {
-			hardPathsList = loadActionSyntax(syntaxFilePath);
-		} catch (IOException e) {
-			logger.error(getClass().getName() + " Exception!", e);
-		}
-
 		// Begin looking through the TreeComposites for matches to the list of
 		// "hard" paths from the action syntax file
 		TreeComposite currTree;
@@ -674,7 +663,6 @@ public class MOOSEFileHandler implements IReader, IWriter {
 
 		// Local declarations
 		ArrayList<String> actionSyntax = null;
-		String currLine, previousLine = "";
 
 		// Check if the filepath is valid
 		if (filePath == null || filePath.isEmpty()) {
@@ -689,7 +677,23 @@ public class MOOSEFileHandler implements IReader, IWriter {
 			logger.info("MOOSEFileHandler Message: Loading action " + "syntax file: " + filePath);
 		}
 
-		actionSyntax = (ArrayList<String>) Files.readAllLines(Paths.get(filePath), Charset.defaultCharset());
+		return filterActionSyntax(Files.readAllLines(Paths.get(filePath), Charset.defaultCharset()));
+	}
+
+	/**
+	 * This method returns the unique "hard" paths (ie. that do not end in an
+	 * asterisk) from the lines of an action syntax file or of the --syntax
+	 * output of a MOOSE app.
+	 * 
+	 * @param lines
+	 *            The lines of the action syntax
+	 * @return A String ArrayList of unique action syntax "hard" paths
+	 */
+	public ArrayList<String> filterActionSyntax(List<String> lines) {
+
+		// Local declarations
+		ArrayList<String> actionSyntax = new ArrayList<String>(lines);
+		String currLine, previousLine = "";
 
 		// Iterate through the list and eliminate non-hard-paths and
 		// duplicate entries
@@ -801,7 +805,6 @@ public class MOOSEFileHandler implements IReader, IWriter {
 
 		// Local declarations
 		String fileExt = "";
-		Form returnForm = new Form();
 
 		// Make sure we have a valid file reference
 		if (file != null && file.exists()) {
@@ -809,7 +812,6 @@ public class MOOSEFileHandler implements IReader, IWriter {
 			// Local declarations
 			File mooseFile = new File(file.getLocationURI());
 			ArrayList<TreeComposite> blocks = null;
-			TreeComposite rootNode = new TreeComposite();
 
 			String[] splitPath = mooseFile.getAbsolutePath().split("\\.(?=[^\\.]+$)");
 			if (splitPath.length > 1) {
@@ -832,41 +834,7 @@ public class MOOSEFileHandler implements IReader, IWriter {
 				// If we got a valid file, then construct
 				// a Root TreeComposite to return
 				if (blocks != null) {
-					for (TreeComposite block : blocks) {
-						// Clone the block
-						TreeComposite blockClone = (TreeComposite) block.clone();
-
-						// Don't want to do this if the file is a YAML file.
-						if (!fileExt.toLowerCase().equals("yaml")) {
-							// Set the parent and sibling references correctly
-							blockClone.setActive(true);
-							blockClone.setParent(rootNode);
-						}
-						rootNode.setNextChild(blockClone);
-					}
-
-					// Don't want to do this if the file is a YAML file.
-					if (!fileExt.toLowerCase().equals("yaml")) {
-						// Set the active data nodes
-						setActiveDataNodes(rootNode);
-
-						// Set the variable entries in the tree to
-						// be discrete based on the available Variables and
-						// AuxVariables
-						setupVariables(rootNode);
-						setupAuxVariables(rootNode);
-					}
-
-					// Set the Identifiable data on the TreeComposite
-					rootNode.setId(MOOSEModel.mooseTreeCompositeId);
-					rootNode.setDescription("The tree of input data for this problem.");
-					rootNode.setName("Input Data");
-
-					// Add it to the return Form
-					returnForm.addComponent(rootNode);
-
-					// Return the tree
-					return returnForm;
+					return createForm(blocks, fileExt.toLowerCase().equals("yaml"));
 				}
 
 			} catch (IOException e) {
@@ -878,6 +846,85 @@ public class MOOSEFileHandler implements IReader, IWriter {
 		return null;
 	}
 
+	/**
+	 * This operation reads the YAML input specification of a MOOSE app from
+	 * its parsed --yaml and --syntax output instead of from files. It returns
+	 * the same Form that {@link #read(IFile)} returns for a YAML file.
+	 * 
+	 * @param yamlBlocks
+	 *            The list of blocks parsed from the --yaml output
+	 * @param actionSyntax
+	 *            The lines of the --syntax output
+	 * @param projectDir
+	 *            The project directory in which the files that may be used by
+	 *            File Entries are found
+	 * @return The Form containing the specification, or null if there is no
+	 *         specification.
+	 */
+	public Form readYAML(List<?> yamlBlocks, List<String> actionSyntax, String projectDir) {
+
+		// Make sure there is something to read
+		if (yamlBlocks == null || yamlBlocks.isEmpty()) {
+			return null;
+		}
+
+		return createForm(loadYAML(yamlBlocks, filterActionSyntax(actionSyntax), projectDir), true);
+	}
+
+	/**
+	 * This operation creates the Form that is returned by the readers from the
+	 * blocks that were read.
+	 * 
+	 * @param blocks
+	 *            The blocks that were read
+	 * @param isYAML
+	 *            True if the blocks are a YAML input specification, false if
+	 *            they are an input file
+	 * @return The Form
+	 */
+	private Form createForm(ArrayList<TreeComposite> blocks, boolean isYAML) {
+
+		// Local declarations
+		Form returnForm = new Form();
+		TreeComposite rootNode = new TreeComposite();
+
+		for (TreeComposite block : blocks) {
+			// Clone the block
+			TreeComposite blockClone = (TreeComposite) block.clone();
+
+			// Don't want to do this if the file is a YAML file.
+			if (!isYAML) {
+				// Set the parent and sibling references correctly
+				blockClone.setActive(true);
+				blockClone.setParent(rootNode);
+			}
+			rootNode.setNextChild(blockClone);
+		}
+
+		// Don't want to do this if the file is a YAML file.
+		if (!isYAML) {
+			// Set the active data nodes
+			setActiveDataNodes(rootNode);
+
+			// Set the variable entries in the tree to
+			// be discrete based on the available Variables and
+			// AuxVariables
+			setupVariables(rootNode);
+			setupAuxVariables(rootNode);
+		}
+
+		// Set the Identifiable data on the TreeComposite
+		rootNode.setId(MOOSEModel.mooseTreeCompositeId);
+		rootNode.setDescription("The tree of input data for this problem.");
+		rootNode.setName("Input Data");
+
+		// Add it to the return Form
+		returnForm.addComponent(rootNode);
+
+		// Return the tree
+		return returnForm;
+	}
+
 	/**
 	 * This method converts the non-AuxVariable 'variable' Entries in the tree
 	 * to contain only the discrete list of available Variable sub-blocks.
@@ -1065,6 +1112,21 @@ public class MOOSEFileHandler implements IReader, IWriter {
 		return "moose";
 	}
 
+	/**
+	 * MOOSE input files are detected by their extension. The read operation
+	 * only supports GetPot files with the .i extension and YAML syntax files.
+	 * 
+	 * @param fileExtension
+	 *            The lower case file extension.
+	 * @param header
+	 *            The header of the file. It is not used.
+	 * @return True if the file is a GetPot or YAML file.
+	 */
+	@Override
+	public boolean canRead(String fileExtension, String header) {
+		return "i".equals(fileExtension) || "yaml".equals(fileExtension);
+	}
+
 	/**
 	 * This method will take in a TreeComposite, traverse through all levels of
 	 * child, subchild, etc. TreeComposites, and set the active data nodes on
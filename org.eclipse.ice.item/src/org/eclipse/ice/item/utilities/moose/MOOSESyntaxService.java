@@ -0,0 +1,422 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.item.utilities.moose;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * This class generates the YAML input specification and the action syntax of
+ * local MOOSE applications by running them with --yaml and --syntax.
+ * <p>
+ * Both dumps are run at the same time and their output is parsed as it is
+ * read, without writing any files. The result is kept for each executable
+ * until the executable changes, and requests for an executable that is
+ * already being generated wait for that generation, so each binary is only
+ * run once no matter how many Items use it.
+ * </p>
+ * <p>
+ * The parsed syntax is shared, so clients must not modify it. All of the
+ * operations on this class are thread safe.
+ * </p>
+ *
+ * @author UT-Battelle, LLC
+ */
+public final class MOOSESyntaxService {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(MOOSESyntaxService.class);
+
+	/**
+	 * The generations that were started, keyed on the absolute path of the
+	 * executable.
+	 */
+	private static final Map<File, Generation> generations = new HashMap<File, Generation>();
+
+	/**
+	 * The threads on which the MOOSE applications are run and read.
+	 */
+	private static final ExecutorService executor = Executors
+			.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable, "MOOSE Syntax Generator");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	/**
+	 * The YAML input specification and action syntax of a MOOSE application.
+	 */
+	public static class Syntax {
+
+		/**
+		 * The blocks parsed from the --yaml output.
+		 */
+		private final List<?> yamlBlocks;
+
+		/**
+		 * The lines of the --syntax output.
+		 */
+		private final List<String> actionSyntax;
+
+		/**
+		 * The constructor.
+		 *
+		 * @param yamlBlocks
+		 *            The blocks parsed from the --yaml output
+		 * @param actionSyntax
+		 *            The lines of the --syntax output
+		 */
+		public Syntax(List<?> yamlBlocks, List<String> actionSyntax) {
+			this.yamlBlocks = (yamlBlocks == null) ? Collections.emptyList()
+					: Collections.unmodifiableList(yamlBlocks);
+			this.actionSyntax = Collections.unmodifiableList(actionSyntax);
+		}
+
+		/**
+		 * @return The blocks parsed from the --yaml output. They must not be
+		 *         modified.
+		 */
+		public List<?> getYAMLBlocks() {
+			return yamlBlocks;
+		}
+
+		/**
+		 * @return The lines of the --syntax output.
+		 */
+		public List<String> getActionSyntax() {
+			return actionSyntax;
+		}
+	}
+
+	/**
+	 * A generation of the syntax of an executable and the identity of the
+	 * executable when it was started.
+	 */
+	private static class Generation {
+		private final String identity;
+		private final CompletableFuture<Syntax> syntax;
+
+		private Generation(String identity, CompletableFuture<Syntax> syntax) {
+			this.identity = identity;
+			this.syntax = syntax;
+		}
+	}
+
+	/**
+	 * The constructor is private since all of the operations are static.
+	 */
+	private MOOSESyntaxService() {
+	}
+
+	/**
+	 * This operation returns the syntax of a local MOOSE application. The
+	 * application is only run if its syntax has not been generated yet, if it
+	 * changed since then or if the last generation failed.
+	 *
+	 * @param executable
+	 *            The MOOSE application
+	 * @return The syntax, which is completed exceptionally if the
+	 *         application could not be run.
+	 */
+	public static CompletableFuture<Syntax> getSyntax(File executable) {
+
+		// Local Declarations
+		File key = executable.getAbsoluteFile();
+		String identity;
+
+		// The executable is identified like it is for input checks
+		try {
+			identity = CheckInputCache.getIdentity(key.toPath());
+		} catch (IOException e) {
+			CompletableFuture<Syntax> failure = new CompletableFuture<Syntax>();
+			failure.completeExceptionally(e);
+			return failure;
+		}
+
+		synchronized (generations) {
+			Generation generation = generations.get(key);
+			if (generation == null || !generation.identity.equals(identity)
+					|| generation.syntax.isCompletedExceptionally()) {
+				generation = new Generation(identity, generate(key));
+				generations.put(key, generation);
+			}
+			return generation.syntax;
+		}
+	}
+
+	/**
+	 * This operation runs the --yaml and --syntax dumps of an application at
+	 * the same time.
+	 *
+	 * @param executable
+	 *            The MOOSE application
+	 * @return The syntax, once both dumps are done
+	 */
+	private static CompletableFuture<Syntax> generate(File executable) {
+
+		logger.info("Generating the YAML and action syntax of "
+				+ executable.getAbsolutePath());
+
+		CompletableFuture<List<?>> yaml = CompletableFuture.supplyAsync(
+				() -> runDump(executable, "--yaml", "YAML",
+						reader -> (List<?>) new Yaml().load(reader)),
+				executor);
+		CompletableFuture<List<String>> syntax = CompletableFuture
+				.supplyAsync(() -> runDump(executable, "--syntax", "SYNTAX",
+						reader -> readLines(reader)), executor);
+
+		return yaml.thenCombine(syntax, Syntax::new);
+	}
+
+	/**
+	 * This operation runs an application with a dump option and parses the
+	 * part of its standard output between the start and end markers of the
+	 * dump as it is read.
+	 *
+	 * @param executable
+	 *            The MOOSE application
+	 * @param option
+	 *            The dump option
+	 * @param section
+	 *            The name of the dump in its markers, such as "YAML" in
+	 *            "**START YAML DATA**"
+	 * @param parser
+	 *            The parser of the dump
+	 * @return The parsed dump
+	 * @throws UncheckedIOException
+	 *             if the application could not be run or failed
+	 */
+	private static <T> T runDump(File executable, String option,
+			String section, Function<Reader, T> parser) {
+
+		// Local Declarations
+		T result;
+		int exitCode;
+
+		try {
+			// Launch the application. Its errors go to the console.
+			Process process = new ProcessBuilder(executable.getAbsolutePath(),
+					option).directory(executable.getParentFile())
+							.redirectError(ProcessBuilder.Redirect.INHERIT)
+							.start();
+
+			// Parse the output as it is written
+			InputStream output = process.getInputStream();
+			try (Reader reader = new SectionReader(
+					new BufferedReader(new InputStreamReader(output,
+							StandardCharsets.UTF_8)),
+					"**START " + section + " DATA**",
+					"**END " + section + " DATA**")) {
+				result = parser.apply(reader);
+				// Read the rest so that the application can exit
+				byte[] buffer = new byte[8192];
+				while (output.read(buffer) != -1) {
+					// Nothing to do
+				}
+			}
+
+			exitCode = process.waitFor();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedIOException(
+					new IOException("Interrupted while running " + option, e));
+		}
+
+		if (exitCode != 0) {
+			throw new UncheckedIOException(new IOException(executable.getName()
+					+ " " + option + " returned " + exitCode));
+		}
+
+		return result;
+	}
+
+	/**
+	 * This operation reads all of the lines from a reader.
+	 *
+	 * @param reader
+	 *            The reader
+	 * @return The lines
+	 */
+	private static List<String> readLines(Reader reader) {
+		List<String> lines = new ArrayList<String>();
+		BufferedReader lineReader = new BufferedReader(reader);
+		String line;
+		try {
+			while ((line = lineReader.readLine()) != null) {
+				lines.add(line);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return lines;
+	}
+
+	/**
+	 * This class reads the lines between a start marker and an end marker
+	 * from another reader. If the start marker is never found, all of the
+	 * lines are read, like the files written by older applications that did
+	 * not have markers.
+	 */
+	static class SectionReader extends Reader {
+
+		/**
+		 * The reader of all of the lines.
+		 */
+		private final BufferedReader input;
+
+		/**
+		 * The start and end markers.
+		 */
+		private final String start, end;
+
+		/**
+		 * The lines read before the start marker. They are only returned if
+		 * there is no start marker.
+		 */
+		private final List<String> preamble = new ArrayList<String>();
+
+		/**
+		 * The iterator over the preamble once it is being returned, or null.
+		 */
+		private Iterator<String> preambleIterator;
+
+		/**
+		 * True if the start marker was read.
+		 */
+		private boolean started;
+
+		/**
+		 * True if the end of the section was reached.
+		 */
+		private boolean finished;
+
+		/**
+		 * The current line, including its line terminator, and the position
+		 * of the next character to return from it.
+		 */
+		private String line = "";
+		private int position;
+
+		/**
+		 * The constructor.
+		 *
+		 * @param input
+		 *            The reader of all of the lines
+		 * @param start
+		 *            The start marker
+		 * @param end
+		 *            The end marker
+		 */
+		SectionReader(BufferedReader input, String start, String end) {
+			this.input = input;
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * This operation returns the next line of the section.
+		 *
+		 * @return The next line, or null at the end of the section
+		 * @throws IOException
+		 */
+		private String nextLine() throws IOException {
+
+			if (!finished) {
+				String next;
+				while ((next = input.readLine()) != null) {
+					if (!started) {
+						// Skip everything before the start marker
+						if (start.equals(next.trim())) {
+							started = true;
+							preamble.clear();
+						} else {
+							preamble.add(next);
+						}
+					} else if (end.equals(next.trim())) {
+						finished = true;
+						return null;
+					} else {
+						return next;
+					}
+				}
+				// There was no end marker, so return the preamble if there
+				// was no start marker either
+				finished = true;
+				preambleIterator = preamble.iterator();
+			}
+
+			return (preambleIterator != null && preambleIterator.hasNext())
+					? preambleIterator.next() : null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.io.Reader#read(char[], int, int)
+		 */
+		@Override
+		public int read(char[] buffer, int offset, int length)
+				throws IOException {
+
+			// Get the next line if the current one was read
+			while (position == line.length()) {
+				String next = nextLine();
+				if (next == null) {
+					return -1;
+				}
+				line = next + "\n";
+				position = 0;
+			}
+
+			int count = Math.min(length, line.length() - position);
+			line.getChars(position, position + count, buffer, offset);
+			position += count;
+
+			return count;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.io.Reader#close()
+		 */
+		@Override
+		public void close() throws IOException {
+			input.close();
+		}
+	}
+
+}
@@ -291,8 +291,9 @@ public class Parameter {
 		// isn't empty
 		if ((("MooseEnum").equals(Parameter.this.cpp_type) || ("MultiMooseEnum").equals(Parameter.this.cpp_type))
 				&& options != null && !options.isEmpty()) {
+			// Many parameters have the same options, so share them
 			entry = new DiscreteEntry();
-			entry.setAllowedValues(options);
+			entry.setAllowedValues(DiscreteEntry.shareAllowedValues(options));
 			// Set the default value, descri
 			String value = Parameter.this.getDefault();
 			entry.setDefaultValue((options.contains(value) ? value : options.get(0)));
@@ -372,7 +373,11 @@ public class Parameter {
 			comment = entry.getComment();
 			required = entry.isRequired();
 			enabled = !"false".equalsIgnoreCase(entry.getTag());
-			options = entry instanceof DiscreteEntry ? (List<String>) entry.getAllowedValues() : null;
+			// Copy the options since the Entry may share them
+			options = null;
+			if (entry instanceof DiscreteEntry && entry.getAllowedValues() != null) {
+				options = new ArrayList<String>(entry.getAllowedValues());
+			}
 		}
 
 		return;
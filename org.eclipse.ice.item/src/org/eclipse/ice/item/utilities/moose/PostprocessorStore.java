@@ -0,0 +1,545 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.item.utilities.moose;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class stores the values of the Postprocessors of a single MOOSE job as
+ * they are posted by the running job. The times and values of each
+ * Postprocessor are kept in memory in arrays of primitives, so live plots can
+ * read them without reading the CSV files again.
+ * <p>
+ * Each Postprocessor is also written to a CSV file named after it in the job's
+ * directory. Points are not written when they are added. Instead, they are
+ * written in chunks on a separate thread, either when enough points have been
+ * added or a short time after the first point that has not been written. The
+ * files are written directly and not through the workspace, so the listener
+ * that is called after each flush should refresh the workspace once for all
+ * of the points in the chunk.
+ * </p>
+ * <p>
+ * All of the operations on this class are thread safe.
+ * </p>
+ *
+ * @author UT-Battelle, LLC
+ */
+public class PostprocessorStore {
+
+	/**
+	 * Logger for handling event messages and other information.
+	 */
+	private static final Logger logger = LoggerFactory
+			.getLogger(PostprocessorStore.class);
+
+	/**
+	 * The default number of points that have not been written that causes a
+	 * flush.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 256;
+
+	/**
+	 * The default time in milliseconds that a point may wait before it is
+	 * written.
+	 */
+	public static final long DEFAULT_FLUSH_DELAY = 500;
+
+	/**
+	 * The directory in which the CSV files are written.
+	 */
+	private final Path directory;
+
+	/**
+	 * The series of each Postprocessor, in the order they were first posted.
+	 */
+	private final Map<String, Series> series;
+
+	/**
+	 * The number of points that have not been written that causes a flush.
+	 */
+	private final int chunkSize;
+
+	/**
+	 * The time in milliseconds that a point may wait before it is written.
+	 */
+	private final long flushDelay;
+
+	/**
+	 * The listener that is called after each flush with the names of the
+	 * Postprocessors whose CSV files were created by the flush. It may be
+	 * null.
+	 */
+	private final Consumer<List<String>> flushListener;
+
+	/**
+	 * The thread on which the CSV files are written.
+	 */
+	private final ScheduledExecutorService flusher;
+
+	/**
+	 * The flush that has been scheduled but not started, or null if there is
+	 * none.
+	 */
+	private Future<?> pendingFlush;
+
+	/**
+	 * The number of points that have been added but not written.
+	 */
+	private int unflushedPoints;
+
+	/**
+	 * True if the store has been closed.
+	 */
+	private boolean closed;
+
+	/**
+	 * The constructor. It uses the default chunk size and flush delay.
+	 *
+	 * @param directory
+	 *            The directory in which the CSV files should be written.
+	 * @param flushListener
+	 *            The listener that should be called after each flush with the
+	 *            names of the Postprocessors whose CSV files were created by
+	 *            the flush. It may be null.
+	 */
+	public PostprocessorStore(Path directory,
+			Consumer<List<String>> flushListener) {
+		this(directory, flushListener, DEFAULT_CHUNK_SIZE,
+				DEFAULT_FLUSH_DELAY);
+	}
+
+	/**
+	 * The constructor.
+	 *
+	 * @param directory
+	 *            The directory in which the CSV files should be written.
+	 * @param flushListener
+	 *            The listener that should be called after each flush with the
+	 *            names of the Postprocessors whose CSV files were created by
+	 *            the flush. It may be null.
+	 * @param chunkSize
+	 *            The number of points that have not been written that causes
+	 *            a flush.
+	 * @param flushDelay
+	 *            The time in milliseconds that a point may wait before it is
+	 *            written.
+	 */
+	public PostprocessorStore(Path directory,
+			Consumer<List<String>> flushListener, int chunkSize,
+			long flushDelay) {
+
+		// Check the arguments
+		if (directory == null || chunkSize < 1 || flushDelay < 0) {
+			throw new IllegalArgumentException("PostprocessorStore error: "
+					+ "The directory cannot be null, the chunk size must be "
+					+ "positive and the delay cannot be negative.");
+		}
+
+		this.directory = directory;
+		this.flushListener = flushListener;
+		this.chunkSize = chunkSize;
+		this.flushDelay = flushDelay;
+		series = new LinkedHashMap<String, Series>();
+
+		// Write on a single daemon thread so that a job that is never closed
+		// does not keep the platform from shutting down.
+		flusher = Executors
+				.newSingleThreadScheduledExecutor(new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable,
+								"MOOSE Postprocessor Writer");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+
+		return;
+	}
+
+	/**
+	 * This operation returns the directory in which the CSV files are
+	 * written.
+	 *
+	 * @return The directory.
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * This operation returns the CSV file of a Postprocessor. The file may not
+	 * exist until the first points of the Postprocessor are flushed.
+	 *
+	 * @param name
+	 *            The name of the Postprocessor.
+	 * @return The file.
+	 */
+	public Path getFile(String name) {
+		return directory.resolve(name + ".csv");
+	}
+
+	/**
+	 * This operation adds a point to the series of a Postprocessor.
+	 *
+	 * @param name
+	 *            The name of the Postprocessor.
+	 * @param time
+	 *            The time of the point.
+	 * @param value
+	 *            The value of the Postprocessor at that time.
+	 * @return True if this was the first point of the Postprocessor, false
+	 *         otherwise.
+	 */
+	public boolean add(String name, double time, double value) {
+		return addAll(name, new double[] { time }, new double[] { value }, 1);
+	}
+
+	/**
+	 * This operation adds a batch of points to the series of a Postprocessor.
+	 *
+	 * @param name
+	 *            The name of the Postprocessor.
+	 * @param times
+	 *            The times of the points.
+	 * @param values
+	 *            The values of the Postprocessor at those times.
+	 * @param length
+	 *            The number of points in the arrays that should be added.
+	 * @return True if these were the first points of the Postprocessor, false
+	 *         otherwise.
+	 */
+	public synchronized boolean addAll(String name, double[] times,
+			double[] values, int length) {
+
+		// Check the arguments
+		if (name == null || times == null || values == null || length < 0
+				|| length > times.length || length > values.length) {
+			throw new IllegalArgumentException("PostprocessorStore error: "
+					+ "The name and points cannot be null and the length "
+					+ "must be within the arrays.");
+		} else if (closed) {
+			throw new IllegalStateException("PostprocessorStore error: "
+					+ "Points cannot be added after the store is closed.");
+		}
+
+		// Get the series or create it
+		Series points = series.get(name);
+		boolean created = (points == null);
+		if (created) {
+			points = new Series();
+			series.put(name, points);
+		}
+
+		points.add(times, values, length);
+		unflushedPoints += length;
+
+		// Flush right away if there are enough points, otherwise make sure
+		// the points will be written soon.
+		if (unflushedPoints >= chunkSize) {
+			scheduleFlush(0);
+		} else if (length > 0) {
+			scheduleFlush(flushDelay);
+		}
+
+		return created;
+	}
+
+	/**
+	 * This operation schedules a flush unless one is already waiting to
+	 * start. A flush that waits longer than the delay is started earlier.
+	 *
+	 * @param delay
+	 *            The time in milliseconds after which the flush should start.
+	 */
+	private void scheduleFlush(long delay) {
+
+		// A pending flush that will start later than requested is replaced
+		if (pendingFlush != null && delay == 0 && !pendingFlush.isDone()
+				&& pendingFlush.cancel(false)) {
+			pendingFlush = null;
+		}
+
+		if (pendingFlush == null || pendingFlush.isDone()) {
+			pendingFlush = flusher.schedule(new Runnable() {
+				@Override
+				public void run() {
+					writeChunks();
+				}
+			}, delay, TimeUnit.MILLISECONDS);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation writes the points that have not been written to the CSV
+	 * files and then calls the flush listener. It must only be called on the
+	 * flusher thread.
+	 */
+	private void writeChunks() {
+
+		// Local Declarations
+		Map<String, double[][]> chunks = new LinkedHashMap<String, double[][]>();
+		List<String> createdFiles = new ArrayList<String>();
+
+		// Copy the points that have not been written so that the files can be
+		// written without holding the lock
+		synchronized (this) {
+			pendingFlush = null;
+			for (Map.Entry<String, Series> entry : series.entrySet()) {
+				double[][] chunk = entry.getValue().takeUnflushed();
+				if (chunk[0].length > 0) {
+					chunks.put(entry.getKey(), chunk);
+				}
+			}
+			unflushedPoints = 0;
+		}
+
+		// Append each chunk to its file with a single write
+		for (Map.Entry<String, double[][]> chunk : chunks.entrySet()) {
+			String name = chunk.getKey();
+			double[] times = chunk.getValue()[0];
+			double[] values = chunk.getValue()[1];
+			Path file = getFile(name);
+			boolean exists = Files.exists(file);
+			try (BufferedWriter writer = Files.newBufferedWriter(file,
+					StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND)) {
+				if (!exists) {
+					writer.write("Time," + name + "\n");
+					createdFiles.add(name);
+				}
+				StringBuilder lines = new StringBuilder(times.length * 24);
+				for (int i = 0; i < times.length; i++) {
+					lines.append(times[i]).append(',').append(values[i])
+							.append('\n');
+				}
+				writer.write(lines.toString());
+			} catch (IOException e) {
+				logger.error(getClass().getName() + " Exception!", e);
+			}
+		}
+
+		// Let the listener refresh the workspace once for the whole chunk
+		if (flushListener != null && !chunks.isEmpty()) {
+			try {
+				flushListener.accept(createdFiles);
+			} catch (RuntimeException e) {
+				logger.error(getClass().getName() + " Exception!", e);
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation writes all of the points that have been added and waits
+	 * for them to be written.
+	 */
+	public void flush() {
+
+		// Local Declarations
+		Future<?> flush;
+
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			flush = flusher.submit(new Runnable() {
+				@Override
+				public void run() {
+					writeChunks();
+				}
+			});
+		}
+
+		// Wait without holding the lock so that points can still be added
+		try {
+			flush.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation writes all of the points that have been added and stops
+	 * the thread on which the files are written. Points can not be added after
+	 * the store is closed, but they can still be read.
+	 */
+	public void close() {
+		flush();
+		synchronized (this) {
+			closed = true;
+		}
+		flusher.shutdown();
+		return;
+	}
+
+	/**
+	 * This operation returns the names of the Postprocessors that have points
+	 * in the store, in the order they were first posted.
+	 *
+	 * @return The names.
+	 */
+	public synchronized List<String> getNames() {
+		return new ArrayList<String>(series.keySet());
+	}
+
+	/**
+	 * This operation returns the number of points of a Postprocessor.
+	 *
+	 * @param name
+	 *            The name of the Postprocessor.
+	 * @return The number of points, or 0 if the Postprocessor has none.
+	 */
+	public synchronized int getSize(String name) {
+		Series points = series.get(name);
+		return (points != null) ? points.size : 0;
+	}
+
+	/**
+	 * This operation returns the times of the points of a Postprocessor
+	 * starting at an index. Live plots should keep the number of points they
+	 * have already read and only read the new ones.
+	 *
+	 * @param name
+	 *            The name of the Postprocessor.
+	 * @param from
+	 *            The index of the first point.
+	 * @return A copy of the times, which is empty if there are no points after
+	 *         the index.
+	 */
+	public synchronized double[] getTimes(String name, int from) {
+		Series points = series.get(name);
+		return (points != null) ? points.copy(points.times, from)
+				: new double[0];
+	}
+
+	/**
+	 * This operation returns the values of the points of a Postprocessor
+	 * starting at an index. Live plots should keep the number of points they
+	 * have already read and only read the new ones.
+	 *
+	 * @param name
+	 *            The name of the Postprocessor.
+	 * @param from
+	 *            The index of the first point.
+	 * @return A copy of the values, which is empty if there are no points
+	 *         after the index.
+	 */
+	public synchronized double[] getValues(String name, int from) {
+		Series points = series.get(name);
+		return (points != null) ? points.copy(points.values, from)
+				: new double[0];
+	}
+
+	/**
+	 * This class holds the points of a single Postprocessor in growable
+	 * arrays. It is only used while the store is locked.
+	 */
+	private static class Series {
+
+		/**
+		 * The times of the points.
+		 */
+		private double[] times = new double[64];
+
+		/**
+		 * The values of the points.
+		 */
+		private double[] values = new double[64];
+
+		/**
+		 * The number of points.
+		 */
+		private int size;
+
+		/**
+		 * The number of points that have been handed out to be written.
+		 */
+		private int flushed;
+
+		/**
+		 * This operation adds points to the series.
+		 *
+		 * @param newTimes
+		 *            The times of the points.
+		 * @param newValues
+		 *            The values of the points.
+		 * @param length
+		 *            The number of points.
+		 */
+		private void add(double[] newTimes, double[] newValues, int length) {
+			if (size + length > times.length) {
+				int capacity = Math.max(times.length * 2, size + length);
+				times = Arrays.copyOf(times, capacity);
+				values = Arrays.copyOf(values, capacity);
+			}
+			System.arraycopy(newTimes, 0, times, size, length);
+			System.arraycopy(newValues, 0, values, size, length);
+			size += length;
+		}
+
+		/**
+		 * This operation returns the points that have not been handed out to
+		 * be written and marks them as handed out.
+		 *
+		 * @return The times and values of the points.
+		 */
+		private double[][] takeUnflushed() {
+			double[][] chunk = new double[][] {
+					Arrays.copyOfRange(times, flushed, size),
+					Arrays.copyOfRange(values, flushed, size) };
+			flushed = size;
+			return chunk;
+		}
+
+		/**
+		 * This operation copies the points of an array starting at an index.
+		 *
+		 * @param array
+		 *            The times or values.
+		 * @param from
+		 *            The index of the first point.
+		 * @return The copy.
+		 */
+		private double[] copy(double[] array, int from) {
+			int start = Math.max(0, Math.min(from, size));
+			return Arrays.copyOfRange(array, start, size);
+		}
+	}
+
+}
@@ -290,11 +290,9 @@ public class AddMaterialWizardPage extends WizardPage {
 					Material matToAdd = (Material) dialog.getSelection();
 					// Get the right material reference from the database
 					IMaterialsDatabase database = (IMaterialsDatabase) source;
-					for (Material mat : database.getMaterials()) {
-						if (matToAdd.equals(mat)) {
-							matToAdd = mat;
-							break;
-						}
+					Material mat = database.getMaterial(matToAdd.getName());
+					if (matToAdd.equals(mat)) {
+						matToAdd = mat;
 					}
 
 					// Add the new material stack
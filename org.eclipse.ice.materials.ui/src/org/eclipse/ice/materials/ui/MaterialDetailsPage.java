@@ -249,8 +249,11 @@ public class MaterialDetailsPage implements IDetailsPage {
 									SelectionChangedEvent arg0) {
 								List<Material> toUpdate = new ArrayList<Material>();
 								toUpdate.add(material);
-								for (Material mat : database.getMaterials()) {
-									if (material.isComponent(mat)) {
+								for (MaterialStack stack : material
+										.getComponents()) {
+									Material mat = database.getMaterial(
+											stack.getMaterial().getName());
+									if (mat != null) {
 										mat.updateProperties();
 										toUpdate.add(mat);
 									}
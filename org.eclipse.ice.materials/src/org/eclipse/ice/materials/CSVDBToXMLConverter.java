@@ -23,6 +23,7 @@ import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 
 import org.eclipse.ice.datastructures.ICEObject.ICEList;
+import org.eclipse.ice.datastructures.jaxbclassprovider.JAXBContextRegistry;
 import org.eclipse.ice.datastructures.form.Material;
 
 /**
@@ -95,13 +96,17 @@ public class CSVDBToXMLConverter {
 		ICEList<Material> xmlList = new ICEList<Material>();
 		xmlList.setList(materials);
 
-		// Create the necessary JAXB equipment to dump the file
-		JAXBContext jaxbContext = JAXBContext.newInstance(ICEList.class,
+		// Get the necessary JAXB equipment to dump the file
+		JAXBContext jaxbContext = JAXBContextRegistry.getContext(ICEList.class,
 				Material.class);
-		Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
-		jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-		// Dump the file
-		jaxbMarshaller.marshal(xmlList, xmlFile);
+		Marshaller jaxbMarshaller = JAXBContextRegistry
+				.acquireMarshaller(jaxbContext);
+		try {
+			// Dump the file
+			jaxbMarshaller.marshal(xmlList, xmlFile);
+		} finally {
+			JAXBContextRegistry.releaseMarshaller(jaxbContext, jaxbMarshaller);
+		}
 		
 		return;
 	}
@@ -39,6 +39,55 @@ public interface IMaterialsDatabase extends IElementSource<Material> {
 	 */
 	public List<Material> getMaterials();
 
+	/**
+	 * This operation returns the material with the given name.
+	 * 
+	 * @param name
+	 *            the name of the material
+	 * @return The Material or null if there is no material with the name in
+	 *         the database.
+	 */
+	public Material getMaterial(String name);
+
+	/**
+	 * This operation returns the materials that are forms of an element, as
+	 * given by {@link Material#getElementalName()}. For example, "H" returns H,
+	 * 1H, 2H and 3H.
+	 * 
+	 * @param element
+	 *            the elemental name
+	 * @return A sorted list of the Materials, which is empty if there are
+	 *         none.
+	 */
+	public List<Material> getMaterialsByElement(String element);
+
+	/**
+	 * This operation returns the materials that have the material with the
+	 * given name as one of their components.
+	 * 
+	 * @param component
+	 *            the name of the component
+	 * @return A sorted list of the Materials, which is empty if there are
+	 *         none.
+	 */
+	public List<Material> getMaterialsWithComponent(String component);
+
+	/**
+	 * This operation returns the materials that have a value for a property
+	 * between the minimum and maximum, inclusive.
+	 * 
+	 * @param property
+	 *            the name of the property, such as {@link Material#DENSITY}
+	 * @param min
+	 *            the smallest value that should be returned
+	 * @param max
+	 *            the largest value that should be returned
+	 * @return A sorted list of the Materials, which is empty if there are
+	 *         none.
+	 */
+	public List<Material> getMaterialsInRange(String property, double min,
+			double max);
+
 	/**
 	 * This operation creates a new material in the database. If the new
 	 * Material is already in the database, it updates the existing record.
@@ -12,15 +12,30 @@
  *******************************************************************************/
 package org.eclipse.ice.materials;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -29,6 +44,7 @@ import javax.xml.bind.Unmarshaller;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.ice.datastructures.ICEObject.ICEList;
+import org.eclipse.ice.datastructures.jaxbclassprovider.JAXBContextRegistry;
 import org.eclipse.ice.datastructures.form.Material;
 import org.eclipse.ice.datastructures.form.MaterialStack;
 import org.osgi.framework.Bundle;
@@ -53,6 +69,15 @@ import ca.odell.glazedlists.gui.TableFormat;
  * bundle. It stores the (possibly) modified user list of Materials in its
  * bundle directory in the workspace.
  *
+ * Changes to the materials are appended to a change log next to the user
+ * database as soon as they are made, so that each change only costs writing
+ * the Material that changed. The log is replayed when the database is loaded
+ * and it is folded into the user database when the service is stopped.
+ *
+ * Materials are indexed by element, component and property value for the
+ * queries. Materials that are changed in place must be passed to
+ * updateMaterial() to update the indices and the log.
+ *
  * @author Jay Jay Billings
  *
  */
@@ -95,6 +120,37 @@ public class XMLMaterialsDatabase
 	 */
 	private ServiceRegistration<IMaterialsDatabase> registration;
 
+	/**
+	 * The names of the materials that are forms of each element, keyed by
+	 * elemental name.
+	 */
+	private final Map<String, Set<String>> elementIndex = new HashMap<String, Set<String>>();
+
+	/**
+	 * The names of the materials that contain each component, keyed by the
+	 * name of the component.
+	 */
+	private final Map<String, Set<String>> componentIndex = new HashMap<String, Set<String>>();
+
+	/**
+	 * The names of the materials sorted by the value of each property, keyed by
+	 * property name.
+	 */
+	private final Map<String, TreeMap<Double, Set<String>>> propertyIndex = new HashMap<String, TreeMap<Double, Set<String>>>();
+
+	/**
+	 * The values that each material was indexed with, keyed by name, so that
+	 * the material can be removed from the indices even if it has been changed
+	 * in place.
+	 */
+	private final Map<String, IndexedMaterial> indexedMaterials = new HashMap<String, IndexedMaterial>();
+
+	/**
+	 * The Marshaller used to append Materials to the change log. It is not
+	 * pooled because it writes XML fragments on a single line.
+	 */
+	private Marshaller logMarshaller;
+
 	/**
 	 * The constructor
 	 */
@@ -128,10 +184,89 @@ public class XMLMaterialsDatabase
 	 * @see org.eclipse.ice.materials.IMaterialDatabase#getMaterials()
 	 */
 	@Override
-	public List<Material> getMaterials() {
+	public synchronized List<Material> getMaterials() {
 		return new ArrayList<Material>(materialsMap.values());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.ice.materials.IMaterialsDatabase#getMaterial(java.lang.String)
+	 */
+	@Override
+	public synchronized Material getMaterial(String name) {
+		return (name != null) ? materialsMap.get(name) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.ice.materials.IMaterialsDatabase#getMaterialsByElement(java
+	 * .lang.String)
+	 */
+	@Override
+	public synchronized List<Material> getMaterialsByElement(String element) {
+		return getMaterials(elementIndex.get(element));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.ice.materials.IMaterialsDatabase#getMaterialsWithComponent(
+	 * java.lang.String)
+	 */
+	@Override
+	public synchronized List<Material> getMaterialsWithComponent(
+			String component) {
+		return getMaterials(componentIndex.get(component));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see
+	 * org.eclipse.ice.materials.IMaterialsDatabase#getMaterialsInRange(java.
+	 * lang.String, double, double)
+	 */
+	@Override
+	public synchronized List<Material> getMaterialsInRange(String property,
+			double min, double max) {
+
+		// Collect the names of the materials in the range
+		Set<String> names = new HashSet<String>();
+		TreeMap<Double, Set<String>> values = propertyIndex.get(property);
+		if (values != null && min <= max) {
+			for (Set<String> valueNames : values.subMap(min, true, max, true)
+					.values()) {
+				names.addAll(valueNames);
+			}
+		}
+
+		return getMaterials(names);
+	}
+
+	/**
+	 * This operation looks up the materials with the given names and sorts
+	 * them.
+	 *
+	 * @param names
+	 *            the names of the materials, or null if there are none
+	 * @return the sorted list of materials
+	 */
+	private List<Material> getMaterials(Collection<String> names) {
+		List<Material> materials = new ArrayList<Material>();
+		if (names != null) {
+			for (String name : names) {
+				materials.add(materialsMap.get(name));
+			}
+			Collections.sort(materials);
+		}
+		return materials;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -140,9 +275,10 @@ public class XMLMaterialsDatabase
 	 * .materials.Material)
 	 */
 	@Override
-	public void addMaterial(Material material) {
+	public synchronized void addMaterial(Material material) {
 		if (material != null) {
-			materialsMap.put(material.getName(), material);
+			putMaterial(material);
+			logChange(material, null);
 		}
 
 	}
@@ -155,9 +291,10 @@ public class XMLMaterialsDatabase
 	 * String)
 	 */
 	@Override
-	public void deleteMaterial(String name) {
-		if (name != null) {
-			materialsMap.remove(name);
+	public synchronized void deleteMaterial(String name) {
+		if (name != null && materialsMap.containsKey(name)) {
+			removeMaterial(name);
+			logChange(null, name);
 		}
 	}
 
@@ -171,7 +308,7 @@ public class XMLMaterialsDatabase
 	@Override
 	public void deleteMaterial(Material material) {
 		if (material != null) {
-			materialsMap.remove(material.getName());
+			deleteMaterial(material.getName());
 		}
 	}
 
@@ -183,9 +320,104 @@ public class XMLMaterialsDatabase
 	 * .ice.materials.Material)
 	 */
 	@Override
-	public void updateMaterial(Material material) {
+	public synchronized void updateMaterial(Material material) {
 		if (material != null) {
-			materialsMap.put(material.getName(), material);
+			putMaterial(material);
+			logChange(material, null);
+		}
+	}
+
+	/**
+	 * This operation puts a material in the map and the indices, replacing
+	 * any material with the same name.
+	 *
+	 * @param material
+	 *            the material
+	 */
+	private void putMaterial(Material material) {
+
+		// Local Declarations
+		String name = material.getName();
+		IndexedMaterial indexed = new IndexedMaterial(material);
+
+		// Replace the old one
+		removeMaterial(name);
+		materialsMap.put(name, material);
+		indexedMaterials.put(name, indexed);
+
+		// Index the new one
+		addToIndex(elementIndex, indexed.element, name);
+		for (String component : indexed.components) {
+			addToIndex(componentIndex, component, name);
+		}
+		for (Map.Entry<String, Double> property : indexed.properties
+				.entrySet()) {
+			TreeMap<Double, Set<String>> values = propertyIndex
+					.get(property.getKey());
+			if (values == null) {
+				values = new TreeMap<Double, Set<String>>();
+				propertyIndex.put(property.getKey(), values);
+			}
+			addToIndex(values, property.getValue(), name);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation removes a material from the map and the indices. It does
+	 * nothing if there is no material with the name.
+	 *
+	 * @param name
+	 *            the name of the material
+	 */
+	private void removeMaterial(String name) {
+
+		materialsMap.remove(name);
+
+		// Remove it from the indices using the values it was indexed with
+		IndexedMaterial indexed = indexedMaterials.remove(name);
+		if (indexed != null) {
+			removeFromIndex(elementIndex, indexed.element, name);
+			for (String component : indexed.components) {
+				removeFromIndex(componentIndex, component, name);
+			}
+			for (Map.Entry<String, Double> property : indexed.properties
+					.entrySet()) {
+				TreeMap<Double, Set<String>> values = propertyIndex
+						.get(property.getKey());
+				removeFromIndex(values, property.getValue(), name);
+				if (values.isEmpty()) {
+					propertyIndex.remove(property.getKey());
+				}
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation adds a name to the set of names for a key in an index.
+	 */
+	private static <K> void addToIndex(Map<K, Set<String>> index, K key,
+			String name) {
+		Set<String> names = index.get(key);
+		if (names == null) {
+			names = new HashSet<String>();
+			index.put(key, names);
+		}
+		names.add(name);
+	}
+
+	/**
+	 * This operation removes a name from the set of names for a key in an
+	 * index and drops the key when no names are left.
+	 */
+	private static <K> void removeFromIndex(Map<K, Set<String>> index, K key,
+			String name) {
+		Set<String> names = index.get(key);
+		if (names != null && names.remove(name) && names.isEmpty()) {
+			index.remove(key);
 		}
 	}
 
@@ -196,46 +428,202 @@ public class XMLMaterialsDatabase
 	 *            the file that contains a materials database in XML and which
 	 *            should be loaded.
 	 */
-	private void loadDatabase(File fileToLoad) {
+	private synchronized void loadDatabase(File fileToLoad) {
+		Unmarshaller jaxbUnmarshaller = null;
 		try {
 
 			// Create the input stream
 			FileInputStream stream = new FileInputStream(fileToLoad);
-			// Create the necessary JAXB equipment to load the file
-			Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
+			// Get the necessary JAXB equipment to load the file
+			jaxbUnmarshaller = JAXBContextRegistry
+					.acquireUnmarshaller(jaxbContext);
 			// And unmarshall it into the list
 			ICEList<Material> rawList = (ICEList<Material>) jaxbUnmarshaller
 					.unmarshal(stream);
 
-			// Load the list into the material map
+			// Load the list into the material map and the indices
 			materialsMap = new Hashtable<String, Material>();
+			indexedMaterials.clear();
+			elementIndex.clear();
+			componentIndex.clear();
+			propertyIndex.clear();
 			for (Material material : rawList.getList()) {
-				materialsMap.put(material.getName(), material);
+				putMaterial(material);
 			}
 		} catch (JAXBException | FileNotFoundException e) {
 			logger.error(getClass().getName() + " Exception!", e);
+		} finally {
+			JAXBContextRegistry.releaseUnmarshaller(jaxbContext,
+					jaxbUnmarshaller);
 		}
 		return;
 	}
 
 	/**
 	 * This operation writes the database to disk in the user database file.
+	 * The change log is deleted once its changes are in the file.
 	 */
-	private void writeDatabase() {
+	private synchronized void writeDatabase() {
 
+		Marshaller jaxbMarshaller = null;
 		try {
-			// Create the necessary JAXB equipment to dump the file
-			Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
-			jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+			// Get the necessary JAXB equipment to dump the file
+			jaxbMarshaller = JAXBContextRegistry.acquireMarshaller(jaxbContext);
 			// Create the ICEList of Materials
 			ICEList<Material> materialsList = new ICEList<Material>();
 			materialsList.setList(new ArrayList<Material>(getMaterials()));
 			// And dump it into the file
 			jaxbMarshaller.marshal(materialsList, userDatabase);
+			// The log is no longer needed
+			File changeLog = getChangeLog();
+			if (changeLog.exists() && !changeLog.delete()) {
+				logger.error(getClass().getName() + " Unable to delete "
+						+ changeLog.getPath());
+			}
 		} catch (JAXBException e) {
 			System.err.println("XMLMaterialDatabase: Error writing database!");
 			logger.error(getClass().getName() + " Exception!", e);
+		} finally {
+			JAXBContextRegistry.releaseMarshaller(jaxbContext, jaxbMarshaller);
+		}
+	}
+
+	/**
+	 * This operation returns the change log for the user database.
+	 *
+	 * @return the log file
+	 */
+	private File getChangeLog() {
+		return new File(userDatabase.getPath() + ".log");
+	}
+
+	/**
+	 * This operation appends a change to the change log. Each change is one
+	 * line that is either "+" followed by the XML of a Material that was added
+	 * or updated, or "-" followed by the name of a Material that was deleted.
+	 * If the last change in the log was only partially written, it is ended
+	 * first so that the new change starts on its own line.
+	 *
+	 * @param material
+	 *            the Material that was added or updated, or null if one was
+	 *            deleted
+	 * @param deletedName
+	 *            the name of the Material that was deleted
+	 */
+	private void logChange(Material material, String deletedName) {
+
+		// Changes made before the service starts are not logged
+		if (jaxbContext == null || userDatabase == null) {
+			return;
+		}
+
+		File changeLog = getChangeLog();
+		try {
+			endLastChange(changeLog);
+		} catch (IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+			return;
 		}
+
+		try (Writer writer = new OutputStreamWriter(
+				new FileOutputStream(changeLog, true),
+				StandardCharsets.UTF_8)) {
+			if (material != null) {
+				if (logMarshaller == null) {
+					logMarshaller = jaxbContext.createMarshaller();
+					logMarshaller.setProperty(Marshaller.JAXB_FRAGMENT,
+							Boolean.TRUE);
+					logMarshaller.setProperty(
+							Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.FALSE);
+				}
+				StringWriter xml = new StringWriter();
+				logMarshaller.marshal(material, xml);
+				writer.write("+" + xml.toString().replace("\n", "&#10;")
+						+ "\n");
+			} else {
+				writer.write("-" + deletedName + "\n");
+			}
+		} catch (JAXBException | IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation ends the last line of the change log if it does not end
+	 * with a newline, which happens if the program stopped while a change was
+	 * being written.
+	 *
+	 * @param changeLog
+	 *            the change log
+	 * @throws IOException
+	 */
+	private void endLastChange(File changeLog) throws IOException {
+
+		if (changeLog.length() > 0) {
+			try (RandomAccessFile file = new RandomAccessFile(changeLog,
+					"rw")) {
+				long length = file.length();
+				file.seek(length - 1);
+				if (file.read() != '\n') {
+					file.seek(length);
+					file.write('\n');
+				}
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation applies the changes in the change log, if there is one, to
+	 * the materials that were loaded. Changes that can not be read, like a
+	 * change that was only partially written, are logged and skipped.
+	 */
+	private synchronized void replayChangeLog() {
+
+		// Local Declarations
+		File changeLog = getChangeLog();
+		int numChanges = 0, lineNumber = 0;
+
+		if (materialsMap == null || !changeLog.exists()) {
+			return;
+		}
+
+		Unmarshaller jaxbUnmarshaller = null;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new FileInputStream(changeLog), StandardCharsets.UTF_8))) {
+			jaxbUnmarshaller = JAXBContextRegistry
+					.acquireUnmarshaller(jaxbContext);
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				try {
+					if (line.startsWith("+")) {
+						Material material = (Material) jaxbUnmarshaller
+								.unmarshal(new StringReader(line.substring(1)));
+						putMaterial(material);
+					} else if (line.startsWith("-")) {
+						removeMaterial(line.substring(1));
+					}
+					numChanges++;
+				} catch (JAXBException e) {
+					logger.error(getClass().getName()
+							+ " Skipping unreadable change on line "
+							+ lineNumber + " of " + changeLog.getPath(), e);
+				}
+			}
+		} catch (JAXBException | IOException e) {
+			logger.error(getClass().getName() + " Exception!", e);
+		} finally {
+			JAXBContextRegistry.releaseUnmarshaller(jaxbContext,
+					jaxbUnmarshaller);
+		}
+
+		logger.info("Applied " + numChanges + " logged changes.");
+
+		return;
 	}
 
 	/*
@@ -261,8 +649,8 @@ public class XMLMaterialsDatabase
 
 		// Create the JAXB context to manipulate the files
 		try {
-			jaxbContext = JAXBContext.newInstance(ICEList.class, Material.class,
-					MaterialStack.class);
+			jaxbContext = JAXBContextRegistry.getContext(ICEList.class,
+					Material.class, MaterialStack.class);
 		} catch (JAXBException e) {
 			// Complain to the logger service
 			logger.error("Unable to initialize JAXB!", e);
@@ -276,6 +664,9 @@ public class XMLMaterialsDatabase
 			loadDatabase(defaultDatabase);
 		}
 
+		// Apply the changes that were logged since it was written
+		replayChangeLog();
+
 		// Throw some info in the log
 		logger.info("Started!");
 
@@ -357,7 +748,7 @@ public class XMLMaterialsDatabase
 	 * org.eclipse.ice.datastructures.ICEObject.IElementSource#getElements()
 	 */
 	@Override
-	public EventList<Material> getElements() {
+	public synchronized EventList<Material> getElements() {
 		// Create a new event list and return it using the standard factory
 		// method for GlazedLists.
 		EventList<Material> list = GlazedLists.eventList(materialsMap.values());
@@ -371,7 +762,7 @@ public class XMLMaterialsDatabase
 	 * org.eclipse.ice.datastructures.ICEObject.IElementSource#getTableFormat()
 	 */
 	@Override
-	public TableFormat<Material> getTableFormat() {
+	public synchronized TableFormat<Material> getTableFormat() {
 
 		MaterialWritableTableFormat format = null;
 
@@ -390,4 +781,40 @@ public class XMLMaterialsDatabase
 
 		return format;
 	}
+
+	/**
+	 * This class holds the values that a material was indexed with.
+	 */
+	private static class IndexedMaterial {
+
+		/**
+		 * The elemental name of the material.
+		 */
+		private final String element;
+
+		/**
+		 * The names of the components of the material.
+		 */
+		private final List<String> components;
+
+		/**
+		 * The properties of the material.
+		 */
+		private final Map<String, Double> properties;
+
+		/**
+		 * The constructor.
+		 *
+		 * @param material
+		 *            the material that is being indexed
+		 */
+		public IndexedMaterial(Material material) {
+			element = material.getElementalName();
+			components = new ArrayList<String>();
+			for (MaterialStack stack : material.getComponents()) {
+				components.add(stack.getMaterial().getName());
+			}
+			properties = material.getProperties();
+		}
+	}
 }
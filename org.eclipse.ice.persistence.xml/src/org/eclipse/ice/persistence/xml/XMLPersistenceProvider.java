@@ -36,8 +36,10 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.form.Form;
 import org.eclipse.ice.datastructures.jaxbclassprovider.IJAXBClassProvider;
+import org.eclipse.ice.datastructures.jaxbclassprovider.JAXBContextRegistry;
 import org.eclipse.ice.io.serializable.IReader;
 import org.eclipse.ice.io.serializable.IWriter;
+import org.eclipse.ice.io.serializable.StreamingFileReplacer;
 import org.eclipse.ice.item.Item;
 import org.eclipse.ice.item.ItemBuilder;
 import org.eclipse.ice.item.persistence.IPersistenceProvider;
@@ -69,9 +71,10 @@ import org.slf4j.LoggerFactory;
  *
  * The provider also implements the IReader and IWriter interfaces and is
  * registered with the framework as an XML IO Service. It does not support the
- * find and replace operations from the IReader and IWriter interfaces and it
- * will throw an exception if either is called. In the case of find() it returns
- * null.
+ * find operation from the IReader interface and it will throw an exception if
+ * it is called. In the case of find() it returns null. The replace operation
+ * is a line-oriented, textual search and replace over the XML file. It is
+ * performed synchronously, not on the event loop.
  *
  * @author Jay Jay Billings
  *
@@ -262,7 +265,6 @@ public class XMLPersistenceProvider
 	private void createJAXBContext() throws JAXBException, CoreException {
 		// Make an array to store the class list of registered Items
 		ArrayList<Class> classList = new ArrayList<>();
-		Class[] classArray = {};
 		// Create the list of classes for the JAXBContext
 		for (Item refItem : referenceItems) {
 			classList.add(refItem.getClass());
@@ -291,8 +293,8 @@ public class XMLPersistenceProvider
 					+ "Persistence will be disabled.");
 		}
 
-		// Create new JAXB class context and unmarshaller
-		context = JAXBContext.newInstance(classList.toArray(classArray));
+		// Get the shared JAXB class context
+		context = JAXBContextRegistry.getContext(classList);
 	}
 
 	/**
@@ -403,18 +405,18 @@ public class XMLPersistenceProvider
 	private ByteArrayOutputStream createXMLStream(Object obj) {
 		// Get the XML
 		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-		// Create the marshaller and write the item
-		Marshaller marshaller;
+		// Get a marshaller and write the item
+		Marshaller marshaller = null;
 		try {
-			marshaller = context.createMarshaller();
-			marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT,
-					Boolean.TRUE);
+			marshaller = JAXBContextRegistry.acquireMarshaller(context);
 			marshaller.marshal(obj, outputStream);
 		} catch (JAXBException e) {
 			// Complain
 			logger.error(getClass().getName() + " Exception!", e);
 			logger.info("XMLPersistenceProvider Message: "
 					+ "Failed to execute persistence task for " + obj);
+		} finally {
+			JAXBContextRegistry.releaseMarshaller(context, marshaller);
 		}
 		return outputStream;
 	}
@@ -640,6 +642,43 @@ public class XMLPersistenceProvider
 		return submitTask(item, "persist", null, null);
 	}
 
+	/**
+	 * This operation persists a batch of Items. Unlike persistItem(), it waits
+	 * for space in the task queue instead of failing when a large batch, such
+	 * as a directory import, fills it.
+	 *
+	 * @param items
+	 *            The Items to persist.
+	 * @return True if every Item was queued, false if an Item was null or the
+	 *         thread was interrupted.
+	 */
+	@Override
+	public boolean persistItems(List<Item> items) {
+
+		// Local Declarations
+		boolean retVal = true;
+
+		for (Item item : items) {
+			if (item != null) {
+				QueuedTask task = new QueuedTask();
+				task.item = item;
+				task.task = "persist";
+				try {
+					taskQueue.put(task);
+				} catch (InterruptedException e) {
+					// Complain and stop
+					logger.error(getClass().getName() + " Exception!", e);
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			} else {
+				retVal = false;
+			}
+		}
+
+		return retVal;
+	}
+
 	/**
 	 * This operation loads an Item from an IFile resource.
 	 *
@@ -650,16 +689,19 @@ public class XMLPersistenceProvider
 	public Item loadItem(IFile file) {
 
 		Item item = null;
+		Unmarshaller unmarshaller = null;
 
 		try {
-			// Create the unmarshaller and load the item
-			Unmarshaller unmarshaller = context.createUnmarshaller();
+			// Get an unmarshaller and load the item
+			unmarshaller = JAXBContextRegistry.acquireUnmarshaller(context);
 			item = (Item) unmarshaller.unmarshal(file.getContents());
 		} catch (CoreException | JAXBException e) {
 			// Complain
 			logger.error(getClass().getName() + " Exception!", e);
 			// Null out the Item so that it can't be returned uninitialized
 			item = null;
+		} finally {
+			JAXBContextRegistry.releaseUnmarshaller(context, unmarshaller);
 		}
 
 		return item;
@@ -772,14 +814,11 @@ public class XMLPersistenceProvider
 	 */
 	@Override
 	public void replace(IFile file, String regex, String value) {
-		try {
-			throw new OperationNotSupportedException(
-					"XMLPersistenceProvider Error: "
-							+ "IWriter.replace() is not supported.");
-		} catch (OperationNotSupportedException e) {
-			// TODO Auto-generated catch block
-			logger.error(getClass().getName() + " Exception!", e);
+		// Make sure we aren't given any null values
+		if (file == null || regex == null || value == null) {
+			return;
 		}
+		new StreamingFileReplacer(regex, value).replace(file);
 	}
 
 	/*
@@ -801,10 +840,11 @@ public class XMLPersistenceProvider
 	public Form read(IFile file) {
 
 		Form form = null;
+		Unmarshaller unmarshaller = null;
 
 		try {
-			// Create the marshaller
-			Unmarshaller unmarshaller = context.createUnmarshaller();
+			// Get an unmarshaller
+			unmarshaller = JAXBContextRegistry.acquireUnmarshaller(context);
 			// Grab the form
 			form = (Form) unmarshaller.unmarshal(file.getContents());
 		} catch (JAXBException e) {
@@ -813,6 +853,8 @@ public class XMLPersistenceProvider
 		} catch (CoreException e) {
 			// TODO Auto-generated catch block
 			logger.error(getClass().getName() + " Exception!", e);
+		} finally {
+			JAXBContextRegistry.releaseUnmarshaller(context, unmarshaller);
 		}
 
 		return form;
@@ -847,6 +889,18 @@ public class XMLPersistenceProvider
 		return "xml";
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.ice.io.serializable.IReader#canRead(java.lang.String,
+	 * java.lang.String)
+	 */
+	@Override
+	public boolean canRead(String fileExtension, String header) {
+		// Only XML files with a Form as their root element can be read
+		return "xml".equals(fileExtension) && header.contains("<Form");
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
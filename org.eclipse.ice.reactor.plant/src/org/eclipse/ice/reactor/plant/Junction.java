@@ -13,8 +13,12 @@
 package org.eclipse.ice.reactor.plant;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * <p>
@@ -57,34 +61,41 @@ public class Junction extends PlantComponent implements IJunction {
 	 */
 	private final List<IJunctionListener> listeners;
 
+	/**
+	 * The components in {@link #inputs}, used to check if a component is an
+	 * input without searching the list.
+	 */
+	private final Set<PlantComponent> inputSet;
+
+	/**
+	 * The components in {@link #outputs}, used to check if a component is an
+	 * output without searching the list.
+	 */
+	private final Set<PlantComponent> outputSet;
+
+	/**
+	 * The PlantComposites that contain this Junction. Their connection indexes
+	 * are updated on the thread that changes the inputs or outputs, unlike the
+	 * IJunctionListeners, which are notified on a separate thread.
+	 */
+	private final List<PlantComposite> composites;
+
 	/**
 	 * This visitor adds supported PlantComponents to {@link #inputs}.
 	 */
 	private final Visitor addInputVisitor = new Visitor() {
 		@Override
 		public void visit(Pipe plantComp) {
-			boolean found = false;
-
 			// Make sure the component is not already in the list before adding.
-			int size = inputs.size();
-			for (int i = 0; !found && i < size; i++) {
-				found = (plantComp == inputs.get(i));
-			}
-			if (!found) {
+			if (inputSet.add(plantComp)) {
 				inputs.add(plantComp);
 			}
 		}
 
 		@Override
 		public void visit(HeatExchanger plantComp) {
-			boolean found = false;
-
 			// Make sure the component is not already in the list before adding.
-			int size = inputs.size();
-			for (int i = 0; !found && i < size; i++) {
-				found = (plantComp == inputs.get(i));
-			}
-			if (!found) {
+			if (inputSet.add(plantComp)) {
 				inputs.add(plantComp);
 			}
 		}
@@ -95,28 +106,16 @@ public class Junction extends PlantComponent implements IJunction {
 	private final Visitor addOutputVisitor = new Visitor() {
 		@Override
 		public void visit(Pipe plantComp) {
-			boolean found = false;
-
 			// Make sure the component is not already in the list before adding.
-			int size = outputs.size();
-			for (int i = 0; !found && i < size; i++) {
-				found = (plantComp == outputs.get(i));
-			}
-			if (!found) {
+			if (outputSet.add(plantComp)) {
 				outputs.add(plantComp);
 			}
 		}
 
 		@Override
 		public void visit(HeatExchanger plantComp) {
-			boolean found = false;
-
 			// Make sure the component is not already in the list before adding.
-			int size = outputs.size();
-			for (int i = 0; !found && i < size; i++) {
-				found = (plantComp == outputs.get(i));
-			}
-			if (!found) {
+			if (outputSet.add(plantComp)) {
 				outputs.add(plantComp);
 			}
 		}
@@ -138,6 +137,16 @@ public class Junction extends PlantComponent implements IJunction {
 		// Initialize the list of listeners.
 		listeners = new ArrayList<IJunctionListener>();
 
+		// Initialize the sets used to look up the inputs and outputs.
+		inputSet = Collections.newSetFromMap(
+				new IdentityHashMap<PlantComponent, Boolean>());
+		outputSet = Collections.newSetFromMap(
+				new IdentityHashMap<PlantComponent, Boolean>());
+
+		// Initialize the list of containing PlantComposites.
+		composites = new CopyOnWriteArrayList<PlantComposite>();
+
+		return;
 	}
 
 	/**
@@ -196,30 +205,17 @@ public class Junction extends PlantComponent implements IJunction {
 
 		if (ins != null) {
 
-			// Clear the list of inputs and notify IJunctionListeners that the
-			// inputs have been removed.
-			List<PlantComponent> removed = new ArrayList<PlantComponent>(inputs);
-			inputs.clear();
-			notifyJunctionListeners(removed, false);
-
-			// Add all non-null components from the list to the inputs. Keep
-			// track of the ones that are actually added.
-			int size = ins.size();
-			List<PlantComponent> added = new ArrayList<PlantComponent>(size);
-			size = inputs.size();
-			for (PlantComponent component : ins) {
-				if (component != null) {
-					component.accept(addInputVisitor);
-					// If the size of the inputs list has changed, then the
-					// component was successfully added.
-					if (inputs.size() > size) {
-						added.add(component);
-						size++;
-					}
-				}
-			}
+			// Replace the inputs, keeping track of the ones that were actually
+			// added or removed.
+			List<PlantComponent> added = new ArrayList<PlantComponent>();
+			List<PlantComponent> removed = new ArrayList<PlantComponent>();
+			replaceComponents(inputs, inputSet, addInputVisitor, ins, added,
+					removed);
 
-			// Notify JunctionListeners of the new inputs.
+			// Update the connections and notify JunctionListeners of only
+			// the inputs that changed.
+			updateComposites();
+			notifyJunctionListeners(removed, false);
 			notifyJunctionListeners(added, true);
 
 			// Notify IUpdateableListeners of the change.
@@ -245,40 +241,134 @@ public class Junction extends PlantComponent implements IJunction {
 
 		if (outs != null) {
 
-			// Clear the list of outputs and notify IJunctionListeners that the
-			// outputs have been removed.
-			List<PlantComponent> removed = new ArrayList<PlantComponent>(
-					outputs);
-			outputs.clear();
+			// Replace the outputs, keeping track of the ones that were
+			// actually added or removed.
+			List<PlantComponent> added = new ArrayList<PlantComponent>();
+			List<PlantComponent> removed = new ArrayList<PlantComponent>();
+			replaceComponents(outputs, outputSet, addOutputVisitor, outs, added,
+					removed);
+
+			// Update the connections and notify JunctionListeners of only
+			// the outputs that changed.
+			updateComposites();
 			notifyJunctionListeners(removed, false);
+			notifyJunctionListeners(added, true);
 
-			// Add all non-null components from the list to the outputs. Keep
-			// track of the ones that are actually added.
-			int size = outs.size();
-			List<PlantComponent> added = new ArrayList<PlantComponent>(size);
-			size = outputs.size();
-			for (PlantComponent component : outs) {
-				if (component != null) {
-					component.accept(addOutputVisitor);
-					// If the size of the outputs list has changed, then the
-					// component was successfully added.
-					if (outputs.size() > size) {
+			// Notify IUpdateableListeners of the change.
+			notifyListeners();
+		}
+
+		return;
+	}
+
+	/**
+	 * Replaces the contents of the inputs or outputs with the supported,
+	 * non-null components from a new list. Components that are in both lists
+	 * are kept and are not reported as added or removed.
+	 * 
+	 * @param list
+	 *            The list of inputs or outputs.
+	 * @param set
+	 *            The set of the components in the list.
+	 * @param visitor
+	 *            The visitor that adds supported components to the list.
+	 * @param components
+	 *            The new components.
+	 * @param added
+	 *            The list to which the added components are appended.
+	 * @param removed
+	 *            The list to which the removed components are appended.
+	 */
+	private void replaceComponents(ArrayList<PlantComponent> list,
+			Set<PlantComponent> set, Visitor visitor,
+			List<PlantComponent> components, List<PlantComponent> added,
+			List<PlantComponent> removed) {
+
+		// Remember the old components.
+		List<PlantComponent> oldList = new ArrayList<PlantComponent>(list);
+		Set<PlantComponent> oldSet = Collections.newSetFromMap(
+				new IdentityHashMap<PlantComponent, Boolean>());
+		oldSet.addAll(set);
+		list.clear();
+		set.clear();
+
+		// Add all non-null components from the new list. If the size of the
+		// list has changed, then the component was successfully added.
+		int size = 0;
+		for (PlantComponent component : components) {
+			if (component != null) {
+				component.accept(visitor);
+				if (list.size() > size) {
+					size++;
+					if (!oldSet.contains(component)) {
 						added.add(component);
-						size++;
 					}
 				}
 			}
+		}
 
-			// Notify JunctionListeners of the new outputs.
-			notifyJunctionListeners(added, true);
+		// Find the old components that are not in the new list.
+		for (PlantComponent component : oldList) {
+			if (!set.contains(component)) {
+				removed.add(component);
+			}
+		}
 
-			// Notify IUpdateableListeners of the change.
-			notifyListeners();
+		return;
+	}
+
+	/**
+	 * Adds a PlantComposite that contains this Junction. The composite's
+	 * connection index is updated whenever the inputs or outputs change.
+	 * 
+	 * @param composite
+	 *            The containing PlantComposite.
+	 */
+	void addComposite(PlantComposite composite) {
+
+		// PlantComposites with the same contents are equal, so compare the
+		// references.
+		boolean found = false;
+		for (PlantComposite existing : composites) {
+			found |= (existing == composite);
+		}
+		if (!found) {
+			composites.add(composite);
 		}
 
 		return;
 	}
 
+	/**
+	 * Removes a PlantComposite that no longer contains this Junction.
+	 * 
+	 * @param composite
+	 *            The PlantComposite from which the Junction was removed.
+	 */
+	void removeComposite(PlantComposite composite) {
+
+		// Remove the matching reference, not just an equal composite.
+		int size = composites.size();
+		for (int i = 0; i < size; i++) {
+			if (composites.get(i) == composite) {
+				composites.remove(i);
+				break;
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * Updates the connection indexes of the PlantComposites that contain this
+	 * Junction after its inputs or outputs changed.
+	 */
+	private void updateComposites() {
+		for (PlantComposite composite : composites) {
+			composite.updateConnections(this);
+		}
+	}
+
 	/**
 	 * @return the connections
 	 */
@@ -365,21 +455,19 @@ public class Junction extends PlantComponent implements IJunction {
 		// Copy the PlantComponent and ICEObject data
 		super.copy(otherObject);
 
-		// Clear all inputs and outputs and notify IJunctionListeners.
-		List<PlantComponent> components = new ArrayList<PlantComponent>(inputs);
-		components.addAll(outputs);
-		notifyJunctionListeners(components, false);
-		inputs.clear();
-		outputs.clear();
+		// Copy the input and output data, keeping track of the components
+		// that were actually added or removed.
+		List<PlantComponent> added = new ArrayList<PlantComponent>();
+		List<PlantComponent> removed = new ArrayList<PlantComponent>();
+		replaceComponents(inputs, inputSet, addInputVisitor,
+				otherObject.inputs, added, removed);
+		replaceComponents(outputs, outputSet, addOutputVisitor,
+				otherObject.outputs, added, removed);
 
-		// Copy the input and output data.
-		inputs.addAll(otherObject.inputs);
-		outputs.addAll(otherObject.outputs);
-
-		// Notify IPlantComposite listeners of the added components.
-		components = new ArrayList<PlantComponent>(inputs);
-		components.addAll(outputs);
-		notifyJunctionListeners(components, true);
+		// Update the connections and notify IJunctionListeners.
+		updateComposites();
+		notifyJunctionListeners(removed, false);
+		notifyJunctionListeners(added, true);
 
 		// Notify IUpdateableListeners of the change.
 		notifyListeners();
@@ -491,14 +579,7 @@ public class Junction extends PlantComponent implements IJunction {
 	@Override
 	public boolean isInput(PlantComponent component) {
 
-		boolean found = false;
-
-		// The list shouldn't be too big, so a linear search is okay for now.
-		int size = inputs.size();
-		for (int i = 0; !found && i < size; i++) {
-			found = (component == inputs.get(i));
-		}
-		return found;
+		return inputSet.contains(component);
 	}
 
 	@Override
@@ -512,6 +593,9 @@ public class Junction extends PlantComponent implements IJunction {
 
 			// Notify listeners if the add was successful.
 			if (inputs.size() > size) {
+				// Update the connections.
+				updateComposites();
+
 				// Notify IJunctionListeners that a component was added.
 				List<PlantComponent> added = new ArrayList<PlantComponent>(1);
 				added.add(input);
@@ -530,18 +614,19 @@ public class Junction extends PlantComponent implements IJunction {
 
 		if (input != null) {
 
-			// Search through the list to find a matching component.
-			boolean found = false;
-			Iterator<PlantComponent> iterator = inputs.iterator();
-			while (!found && iterator.hasNext()) {
-				found = (iterator.next() == input);
-			}
-
 			// Notify listeners if the remove was successful.
-			if (found) {
-				// Remove the component.
+			if (inputSet.remove(input)) {
+				// Remove the component from the list.
+				boolean found = false;
+				Iterator<PlantComponent> iterator = inputs.iterator();
+				while (!found && iterator.hasNext()) {
+					found = (iterator.next() == input);
+				}
 				iterator.remove();
 
+				// Update the connections.
+				updateComposites();
+
 				// Notify IJunctionListeners that a component was removed.
 				List<PlantComponent> removed = new ArrayList<PlantComponent>(1);
 				removed.add(input);
@@ -566,6 +651,9 @@ public class Junction extends PlantComponent implements IJunction {
 
 			// Notify listeners if the add was successful.
 			if (outputs.size() > size) {
+				// Update the connections.
+				updateComposites();
+
 				// Notify IJunctionListeners that a component was added.
 				List<PlantComponent> added = new ArrayList<PlantComponent>(1);
 				added.add(output);
@@ -584,18 +672,19 @@ public class Junction extends PlantComponent implements IJunction {
 
 		if (output != null) {
 
-			// Search through the list to find a matching component.
-			boolean found = false;
-			Iterator<PlantComponent> iterator = outputs.iterator();
-			while (!found && iterator.hasNext()) {
-				found = (iterator.next() == output);
-			}
-
 			// Notify listeners if the remove was successful.
-			if (found) {
-				// Remove the component.
+			if (outputSet.remove(output)) {
+				// Remove the component from the list.
+				boolean found = false;
+				Iterator<PlantComponent> iterator = outputs.iterator();
+				while (!found && iterator.hasNext()) {
+					found = (iterator.next() == output);
+				}
 				iterator.remove();
 
+				// Update the connections.
+				updateComposites();
+
 				// Notify IJunctionListeners that a component was removed.
 				List<PlantComponent> removed = new ArrayList<PlantComponent>(1);
 				removed.add(output);
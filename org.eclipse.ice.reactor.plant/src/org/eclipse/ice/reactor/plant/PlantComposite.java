@@ -12,9 +12,17 @@
  *******************************************************************************/
 package org.eclipse.ice.reactor.plant;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.eclipse.eavp.viz.datastructures.VizObject.IVizUpdateable;
 import org.eclipse.eavp.viz.datastructures.VizObject.IVizUpdateableListener;
@@ -24,6 +32,13 @@ import org.eclipse.ice.datastructures.ICEObject.Composite;
 /**
  * A PlantComposite is a container for {@link PlantComponent}s. Duplicate
  * components and components with duplicate IDs are not allowed.
+ * <p>
+ * The composite also keeps an index of how its {@link Junction}s connect the
+ * components. The inputs of a Junction are upstream of it and its outputs are
+ * downstream of it. The index is updated whenever a Junction is added or
+ * removed or its inputs or outputs change, so the connections of a component
+ * can be found without visiting the whole plant.
+ * </p>
  * 
  * @author Jordan H. Deyton
  * 
@@ -49,6 +64,20 @@ public class PlantComposite extends PlantComponent
 	 */
 	private List<IVizUpdateableListener> basicListeners;
 
+	/**
+	 * The IDs of the components directly downstream of each component, keyed
+	 * on the components' IDs. This only includes the connections made by the
+	 * Junctions in this PlantComposite.
+	 */
+	private final Map<Integer, Set<Integer>> downstream;
+
+	/**
+	 * The IDs of the components directly upstream of each component, keyed on
+	 * the components' IDs. This only includes the connections made by the
+	 * Junctions in this PlantComposite.
+	 */
+	private final Map<Integer, Set<Integer>> upstream;
+
 	/**
 	 * The default, nullary constructor. Initializes all default values.
 	 */
@@ -66,6 +95,10 @@ public class PlantComposite extends PlantComponent
 		listeners = new ArrayList<IPlantCompositeListener>();
 		basicListeners = new ArrayList<IVizUpdateableListener>();
 
+		// Initialize the connection index.
+		downstream = new HashMap<Integer, Set<Integer>>();
+		upstream = new HashMap<Integer, Set<Integer>>();
+
 		return;
 	}
 
@@ -95,6 +128,12 @@ public class PlantComposite extends PlantComponent
 			if (!components.containsKey(id)) {
 				components.put(id, component);
 
+				// Index the connections of new Junctions.
+				if (component instanceof Junction) {
+					((Junction) component).addComposite(this);
+					updateConnections((Junction) component);
+				}
+
 				// Notify IPlantCompositeListeners.
 				List<PlantComponent> components = new ArrayList<PlantComponent>(
 						1);
@@ -120,6 +159,12 @@ public class PlantComposite extends PlantComponent
 
 		// If necessary, notify listeners that a component has been removed.
 		if (component != null) {
+			// Remove the connections of removed Junctions.
+			if (component instanceof Junction) {
+				((Junction) component).removeComposite(this);
+				updateConnections((Junction) component);
+			}
+
 			// Notify IPlantCompositeListeners.
 			List<PlantComponent> components = new ArrayList<PlantComponent>(1);
 			components.add(component);
@@ -358,10 +403,22 @@ public class PlantComposite extends PlantComponent
 			List<PlantComponent> list = new ArrayList<PlantComponent>(
 					components.values());
 			notifyPlantCompositeListeners(list, false);
+			for (PlantComponent component : list) {
+				if (component instanceof Junction) {
+					((Junction) component).removeComposite(this);
+				}
+			}
 			components.clear();
+			clearConnections();
 
 			// Copy all of the local class data.
 			components.putAll(otherObject.components);
+			for (PlantComponent component : components.values()) {
+				if (component instanceof Junction) {
+					((Junction) component).addComposite(this);
+					updateConnections((Junction) component);
+				}
+			}
 
 			// Notify IPlantComposite listeners of the added components.
 			list = new ArrayList<PlantComponent>(components.values());
@@ -374,6 +431,360 @@ public class PlantComposite extends PlantComponent
 		return;
 	}
 
+	/**
+	 * Updates the connection index for a Junction. The connections it made
+	 * before are removed and, if it is still in this PlantComposite, its
+	 * current inputs and outputs are added. This is called by the Junction on
+	 * the thread that changes it.
+	 * 
+	 * @param junction
+	 *            The Junction whose connections changed.
+	 */
+	synchronized void updateConnections(Junction junction) {
+
+		int id = junction.getId();
+
+		// Remove the old connections of the Junction. Every connection in the
+		// index involves the Junction that made it, so this removes all of
+		// them.
+		removeLinks(id, downstream, upstream);
+		removeLinks(id, upstream, downstream);
+
+		// Add the current connections if the Junction is still in the plant.
+		if (components.get(id) == junction) {
+			for (PlantComponent input : junction.getInputs()) {
+				addLink(input.getId(), id);
+			}
+			for (PlantComponent output : junction.getOutputs()) {
+				addLink(id, output.getId());
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * Removes all of the links from a component in one direction along with
+	 * the matching links in the other direction.
+	 * 
+	 * @param id
+	 *            The ID of the component.
+	 * @param links
+	 *            The links in one direction.
+	 * @param reverseLinks
+	 *            The links in the other direction.
+	 */
+	private void removeLinks(int id, Map<Integer, Set<Integer>> links,
+			Map<Integer, Set<Integer>> reverseLinks) {
+
+		Set<Integer> ids = links.remove(id);
+		if (ids != null) {
+			for (Integer otherId : ids) {
+				Set<Integer> otherIds = reverseLinks.get(otherId);
+				otherIds.remove(id);
+				if (otherIds.isEmpty()) {
+					reverseLinks.remove(otherId);
+				}
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * Adds a link from an upstream component to a downstream component.
+	 * 
+	 * @param from
+	 *            The ID of the upstream component.
+	 * @param to
+	 *            The ID of the downstream component.
+	 */
+	private void addLink(int from, int to) {
+
+		Set<Integer> ids = downstream.get(from);
+		if (ids == null) {
+			ids = new TreeSet<Integer>();
+			downstream.put(from, ids);
+		}
+		ids.add(to);
+
+		ids = upstream.get(to);
+		if (ids == null) {
+			ids = new TreeSet<Integer>();
+			upstream.put(to, ids);
+		}
+		ids.add(from);
+
+		return;
+	}
+
+	/**
+	 * Removes all connections from the index.
+	 */
+	private synchronized void clearConnections() {
+		downstream.clear();
+		upstream.clear();
+	}
+
+	/**
+	 * Gets the components directly upstream of a component. For a Junction,
+	 * these are its inputs. For any other component, these are the Junctions
+	 * for which it is an output.
+	 * 
+	 * @param childId
+	 *            The ID of the component.
+	 * @return A list of the upstream components in this PlantComposite, in
+	 *         order of their IDs.
+	 */
+	public synchronized List<PlantComponent> getUpstreamComponents(
+			int childId) {
+		return getComponents(upstream.get(childId));
+	}
+
+	/**
+	 * Gets the components directly downstream of a component. For a Junction,
+	 * these are its outputs. For any other component, these are the Junctions
+	 * for which it is an input.
+	 * 
+	 * @param childId
+	 *            The ID of the component.
+	 * @return A list of the downstream components in this PlantComposite, in
+	 *         order of their IDs.
+	 */
+	public synchronized List<PlantComponent> getDownstreamComponents(
+			int childId) {
+		return getComponents(downstream.get(childId));
+	}
+
+	/**
+	 * Gets the Junctions in this PlantComposite that a component is connected
+	 * to, either as an input or as an output.
+	 * 
+	 * @param childId
+	 *            The ID of the component.
+	 * @return A list of the connected Junctions, in order of their IDs.
+	 */
+	public synchronized List<Junction> getConnectedJunctions(int childId) {
+
+		// Only Junctions make connections, so all linked components of a pipe
+		// are Junctions. Check the types in case a Junction is given.
+		Set<Integer> ids = new TreeSet<Integer>();
+		addAll(ids, upstream.get(childId));
+		addAll(ids, downstream.get(childId));
+		List<Junction> junctions = new ArrayList<Junction>(ids.size());
+		for (PlantComponent component : getComponents(ids)) {
+			if (component instanceof Junction) {
+				junctions.add((Junction) component);
+			}
+		}
+
+		return junctions;
+	}
+
+	/**
+	 * Finds all of the components that can be reached by going upstream from
+	 * a component.
+	 * 
+	 * @param childId
+	 *            The ID of the component.
+	 * @return A list of the upstream components in this PlantComposite, with
+	 *         the closest ones first. It only contains the component itself if
+	 *         the component is in a loop.
+	 */
+	public synchronized List<PlantComponent> findUpstreamComponents(
+			int childId) {
+		return getComponents(traverse(childId, upstream));
+	}
+
+	/**
+	 * Finds all of the components that can be reached by going downstream
+	 * from a component.
+	 * 
+	 * @param childId
+	 *            The ID of the component.
+	 * @return A list of the downstream components in this PlantComposite, with
+	 *         the closest ones first. It only contains the component itself if
+	 *         the component is in a loop.
+	 */
+	public synchronized List<PlantComponent> findDownstreamComponents(
+			int childId) {
+		return getComponents(traverse(childId, downstream));
+	}
+
+	/**
+	 * Determines whether a component is in a loop, meaning that it can be
+	 * reached by going downstream from itself.
+	 * 
+	 * @param childId
+	 *            The ID of the component.
+	 * @return True if the component is in a loop, false otherwise.
+	 */
+	public synchronized boolean isInLoop(int childId) {
+		return traverse(childId, downstream).contains(childId);
+	}
+
+	/**
+	 * Determines whether the connections of this PlantComposite contain any
+	 * loops.
+	 * 
+	 * @return True if there is at least one loop, false otherwise.
+	 */
+	public synchronized boolean hasLoops() {
+
+		// Count the upstream links of every connected component.
+		Map<Integer, Integer> upstreamCounts = new HashMap<Integer, Integer>();
+		for (Map.Entry<Integer, Set<Integer>> entry : upstream.entrySet()) {
+			upstreamCounts.put(entry.getKey(), entry.getValue().size());
+		}
+
+		// Repeatedly remove the components that have nothing upstream. If
+		// there are no loops, this removes every connected component.
+		Deque<Integer> queue = new ArrayDeque<Integer>();
+		for (Integer id : downstream.keySet()) {
+			if (!upstreamCounts.containsKey(id)) {
+				queue.add(id);
+			}
+		}
+		while (!queue.isEmpty()) {
+			Set<Integer> ids = downstream.get(queue.remove());
+			if (ids != null) {
+				for (Integer id : ids) {
+					int count = upstreamCounts.get(id) - 1;
+					if (count == 0) {
+						upstreamCounts.remove(id);
+						queue.add(id);
+					} else {
+						upstreamCounts.put(id, count);
+					}
+				}
+			}
+		}
+
+		// Components in or downstream of a loop are never removed.
+		return !upstreamCounts.isEmpty();
+	}
+
+	/**
+	 * Finds the groups of components in this PlantComposite that are
+	 * connected to each other, regardless of the direction of the
+	 * connections. Components without any connections are in groups of their
+	 * own.
+	 * 
+	 * @return A list of the groups, each of which is a list of components in
+	 *         order of their IDs. The groups are in order of the smallest IDs
+	 *         in them.
+	 */
+	public synchronized List<List<PlantComponent>> findConnectedGroups() {
+
+		List<List<PlantComponent>> groups = new ArrayList<List<PlantComponent>>();
+		Set<Integer> visited = new HashSet<Integer>();
+
+		// Start a new group at each component that has not been reached yet.
+		for (Integer id : components.keySet()) {
+			if (visited.add(id)) {
+				Set<Integer> group = new TreeSet<Integer>();
+				Deque<Integer> queue = new ArrayDeque<Integer>();
+				queue.add(id);
+				while (!queue.isEmpty()) {
+					Integer current = queue.remove();
+					group.add(current);
+					queueLinks(upstream.get(current), visited, queue);
+					queueLinks(downstream.get(current), visited, queue);
+				}
+				groups.add(getComponents(group));
+			}
+		}
+
+		return groups;
+	}
+
+	/**
+	 * Finds the IDs of all components that can be reached from a component by
+	 * following the given links.
+	 * 
+	 * @param id
+	 *            The ID of the component to start from.
+	 * @param links
+	 *            The upstream or downstream links.
+	 * @return The IDs of the reached components, with the closest ones first.
+	 */
+	private Set<Integer> traverse(int id, Map<Integer, Set<Integer>> links) {
+
+		// Do a breadth-first search. The start is only included if it is
+		// reached again through a loop.
+		Set<Integer> reached = new LinkedHashSet<Integer>();
+		Deque<Integer> queue = new ArrayDeque<Integer>();
+		queue.add(id);
+		while (!queue.isEmpty()) {
+			queueLinks(links.get(queue.remove()), reached, queue);
+		}
+
+		return reached;
+	}
+
+	/**
+	 * Adds the linked IDs that have not been reached yet to the queue of a
+	 * search.
+	 * 
+	 * @param ids
+	 *            The linked IDs, or null.
+	 * @param reached
+	 *            The IDs that have been reached. The new IDs are added to it.
+	 * @param queue
+	 *            The queue of IDs to search from.
+	 */
+	private void queueLinks(Set<Integer> ids, Set<Integer> reached,
+			Deque<Integer> queue) {
+		if (ids != null) {
+			for (Integer id : ids) {
+				if (reached.add(id)) {
+					queue.add(id);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the components in this PlantComposite with the given IDs. IDs of
+	 * components that are connected to a Junction but are not in this
+	 * PlantComposite are skipped.
+	 * 
+	 * @param ids
+	 *            The IDs of the components, or null.
+	 * @return A list of the components in the order of the IDs.
+	 */
+	private List<PlantComponent> getComponents(Set<Integer> ids) {
+
+		List<PlantComponent> list;
+		if (ids == null) {
+			list = new ArrayList<PlantComponent>(0);
+		} else {
+			list = new ArrayList<PlantComponent>(ids.size());
+			for (Integer id : ids) {
+				PlantComponent component = components.get(id);
+				if (component != null) {
+					list.add(component);
+				}
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Adds the IDs from a set of links to another set.
+	 * 
+	 * @param ids
+	 *            The set to which the IDs are added.
+	 * @param links
+	 *            The linked IDs, or null.
+	 */
+	private void addAll(Set<Integer> ids, Set<Integer> links) {
+		if (links != null) {
+			ids.addAll(links);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -154,8 +154,9 @@ public class ReflectivityModel extends Model {
 					.getComponent(matListId);
 			ArrayList<Slab> slabs = new ArrayList<Slab>();
 
-			// Create the slabs from the materials
-			for (Material mat : matList) {
+			// Create the slabs from a copy of the materials so that the list
+			// can be edited while the profile is computed
+			for (Material mat : matList.snapshot()) {
 				Slab slab = new Slab();
 				slab.thickness = mat.getProperty("Thickness (A)");
 				slab.interfaceWidth = mat.getProperty("Roughness (A)");
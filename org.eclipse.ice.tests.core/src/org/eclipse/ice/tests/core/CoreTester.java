@@ -548,6 +548,63 @@ public class CoreTester {
 		return;
 	}
 
+	/**
+	 * This operation checks that a batch import is all or nothing, so that a
+	 * file that can not be copied into the project fails the whole batch.
+	 */
+	@Test
+	public void checkBatchFileImports() {
+
+		// Local Declarations
+		FakeGeometryBuilder fakeGeometryBuilder = new FakeGeometryBuilder();
+		IProject project = getProject("batchProject");
+		File goodFile = new File("batchFile.test");
+		File missingFile = new File("missingBatchFile.test");
+		List<URI> files = new ArrayList<URI>();
+
+		// Register the ItemBuilders
+		iCECore.registerItem(fakeGeometryBuilder);
+
+		// Create a test file. The other one is never created.
+		try {
+			goodFile.createNewFile();
+		} catch (IOException e) {
+			// Complain
+			e.printStackTrace();
+			fail();
+		}
+		missingFile.delete();
+
+		// A good batch creates one Item per file
+		files.add(goodFile.toURI());
+		List<String> ids = iCECore.importFilesAsItems(files,
+				fakeGeometryBuilder.getItemName(), project, null);
+		assertEquals(1, ids.size());
+		assertTrue(Integer.parseInt(ids.get(0)) > 0);
+		int numItems = iCECore.getItemList().size();
+
+		// A file that can not be copied fails the whole batch
+		files.add(missingFile.toURI());
+		ids = iCECore.importFilesAsItems(files,
+				fakeGeometryBuilder.getItemName(), project, null);
+		assertEquals(2, ids.size());
+		assertEquals("-1", ids.get(0));
+		assertEquals("-1", ids.get(1));
+		assertEquals(numItems, iCECore.getItemList().size());
+
+		// Delete the file and the project
+		goodFile.delete();
+		try {
+			project.delete(true, null);
+		} catch (CoreException e) {
+			// Complain
+			e.printStackTrace();
+			fail();
+		}
+
+		return;
+	}
+
 	/**
 	 * This operation is responsible for testing the ability of the Core to post
 	 * updates from the ICEUpdater.
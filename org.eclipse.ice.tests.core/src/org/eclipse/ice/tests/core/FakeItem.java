@@ -79,6 +79,14 @@ public class FakeItem extends Item {
 	 */
 	private boolean updated = false;
 
+	/**
+	 * <p>
+	 * True if the FakeItem was disposed, false otherwise.
+	 * </p>
+	 *
+	 */
+	private boolean disposed = false;
+
 	/**
 	 * <p>
 	 * This operation returns the process state of the FakeItem.
@@ -246,13 +254,53 @@ public class FakeItem extends Item {
 	}
 
 	/**
-	 * Override the load operation for the input file import test.
+	 * Override the load operation for the input file import test. Files named
+	 * "bad.input" can not be loaded.
 	 */
 	@Override
 	public void loadInput(String file) {
+		if ("bad.input".equals(file)) {
+			throw new IllegalArgumentException("Unable to load " + file);
+		}
 		loaded = true;
 	}
 
+	/**
+	 * <p>
+	 * This operation returns true if the FakeItem was disposed, false
+	 * otherwise.
+	 * </p>
+	 *
+	 * @return <p>
+	 *         True if disposed, false otherwise.
+	 *         </p>
+	 */
+	public boolean wasDisposed() {
+		return disposed;
+	}
+
+	/**
+	 * <p>
+	 * This operation returns true if the FakeItem has any listeners, false
+	 * otherwise.
+	 * </p>
+	 *
+	 * @return <p>
+	 *         True if it has listeners, false otherwise.
+	 *         </p>
+	 */
+	public boolean hasListeners() {
+		return !listeners.isEmpty();
+	}
+
+	/**
+	 * Override the dispose operation to log the hit in the deletion test.
+	 */
+	@Override
+	public void dispose() {
+		disposed = true;
+	}
+
 	/**
 	 * Override the update operation to log the hit in the update test.
 	 */
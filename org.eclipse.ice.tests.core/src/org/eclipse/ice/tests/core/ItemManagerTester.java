@@ -22,7 +22,13 @@ import static org.junit.Assert.fail;
 import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -30,13 +36,18 @@ import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.ice.core.internal.itemmanager.ItemManager;
 import org.eclipse.ice.datastructures.ICEObject.Identifiable;
 import org.eclipse.ice.datastructures.form.DataComponent;
 import org.eclipse.ice.datastructures.form.Form;
 import org.eclipse.ice.datastructures.form.FormStatus;
+import org.eclipse.ice.datastructures.form.GeometryComponent;
 import org.eclipse.ice.item.ItemType;
 import org.eclipse.ice.item.messaging.Message;
+import org.eclipse.january.geometry.GeometryFactory;
+import org.eclipse.january.geometry.Sphere;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -241,6 +252,117 @@ public class ItemManagerTester {
 		return;
 	}
 
+	/**
+	 * This operation checks that the ItemManager can create a batch of Items
+	 * from input files, load them in parallel and persist them.
+	 *
+	 * @throws ExecutionException
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkBatchItemCreation()
+			throws ExecutionException, InterruptedException {
+
+		// Local Declarations
+		final AtomicInteger work = new AtomicInteger();
+		IProgressMonitor monitor = new NullProgressMonitor() {
+			@Override
+			public void worked(int amount) {
+				work.addAndGet(amount);
+			}
+		};
+		List<String> filenames = Arrays.asList("a.input", "b.input", null,
+				"c.input", "d.input", "e.input");
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		// Reset the fake persistence provider
+		fakePersistenceProvider.reset();
+
+		// Create the Items
+		ArrayList<Integer> ids;
+		try {
+			ids = itemManager.createItems(filenames,
+					fakeGeometryBuilder.getItemName(), null, executor,
+					monitor);
+		} finally {
+			executor.shutdown();
+		}
+
+		// The ids should be in order with -1 for the missing file
+		assertEquals(filenames.size(), ids.size());
+		assertEquals(-1, ids.get(2).intValue());
+		HashSet<Integer> uniqueIds = new HashSet<Integer>();
+		for (int i = 0; i < ids.size(); i++) {
+			if (i != 2) {
+				assertTrue(ids.get(i) > 0);
+				assertNotNull(itemManager.retrieveItem(ids.get(i)));
+				uniqueIds.add(ids.get(i));
+			}
+		}
+		assertEquals(5, uniqueIds.size());
+
+		// Every Item should have been loaded and persisted
+		assertEquals(5, work.get());
+		assertTrue(fakeGeometryBuilder.getLastFakeItem().wasLoaded());
+		assertTrue(fakePersistenceProvider.itemPersisted());
+
+		// An unknown type should not create anything
+		executor = Executors.newSingleThreadExecutor();
+		try {
+			ids = itemManager.createItems(filenames, "Not a type", null,
+					executor, new NullProgressMonitor());
+		} finally {
+			executor.shutdown();
+		}
+		for (Integer id : ids) {
+			assertEquals(-1, id.intValue());
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation checks that a batch of Items is thrown away when one of
+	 * the inputs can not be loaded.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkFailedBatchItemCreation() throws InterruptedException {
+
+		// Local Declarations
+		List<String> filenames = Arrays.asList("a.input", "bad.input",
+				"c.input");
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		int numItems = itemManager.retrieveItemList().size();
+
+		// Reset the fake persistence provider
+		fakePersistenceProvider.reset();
+
+		// The bad input should fail the whole batch
+		try {
+			itemManager.createItems(filenames,
+					fakeGeometryBuilder.getItemName(), null, executor,
+					new NullProgressMonitor());
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalArgumentException);
+		} finally {
+			executor.shutdown();
+		}
+
+		// None of the Items should be kept or persisted
+		assertEquals(numItems, itemManager.retrieveItemList().size());
+		assertFalse(fakePersistenceProvider.itemPersisted());
+
+		// The discarded Items should be released
+		FakeItem discardedItem = fakeGeometryBuilder.getLastFakeItem();
+		assertTrue(discardedItem.wasDisposed());
+		assertFalse(discardedItem.hasListeners());
+
+		return;
+	}
+
 	/**
 	 * This operation checks that the ItemManager can rename and Item.
 	 */
@@ -304,11 +426,15 @@ public class ItemManagerTester {
 		forms[1] = itemManager.retrieveItem(itemIds[1]);
 		assertNotNull(forms[0]);
 		assertNotNull(forms[1]);
+		FakeItem fakeItem = fakeGeometryBuilder.getLastFakeItem();
+		assertFalse(fakeItem.wasDisposed());
 
-		// Delete the Items and make sure the persistence provider was called.
+		// Delete the Items and make sure the persistence provider was called
+		// and that the Item was disposed.
 		fakePersistenceProvider.reset();
 		assertTrue(itemManager.deleteItem(itemIds[0]));
 		assertTrue(fakePersistenceProvider.itemDeleted());
+		assertTrue(fakeItem.wasDisposed());
 		fakePersistenceProvider.reset();
 		assertTrue(itemManager.deleteItem(itemIds[1]));
 		assertTrue(fakePersistenceProvider.itemDeleted());
@@ -392,6 +518,12 @@ public class ItemManagerTester {
 		// Make sure the persistence provider was called
 		assertTrue(fakePersistenceProvider.itemUpdated());
 
+		// Posting the same Form again should not write the Item again
+		fakePersistenceProvider.reset();
+		assertEquals(FormStatus.ReadyToProcess,
+				itemManager.updateItem(testForm));
+		assertFalse(fakePersistenceProvider.itemUpdated());
+
 		// Send a signal for the Item to update/reload its data
 		itemManager.reloadItemData();
 		assertTrue(fakeGeometryBuilder.getLastFakeItem().wasRefreshed());
@@ -433,6 +565,42 @@ public class ItemManagerTester {
 
 	}
 
+	/**
+	 * This operation checks that the ItemManager writes an Item again after
+	 * the Geometry in its Form is edited. The content hash of a
+	 * GeometryComponent does not cover its Geometry, so the ItemManager can
+	 * not skip the write for an unchanged hash.
+	 */
+	@Test
+	public void checkGeometryUpdates() {
+
+		// Create a FakeItem and give its Form a DataComponent and a Geometry
+		int itemId = itemManager.createItem(fakeGeometryBuilder.getItemName(),
+				null);
+		Form testForm = itemManager.retrieveItem(itemId);
+		GeometryComponent geometryComp = new GeometryComponent();
+		geometryComp.setGeometry(GeometryFactory.eINSTANCE.createGeometry());
+		testForm.addComponent(new DataComponent());
+		testForm.addComponent(geometryComp);
+
+		// Post the update and make sure that the Item was written
+		fakePersistenceProvider.reset();
+		assertEquals(FormStatus.ReadyToProcess,
+				itemManager.updateItem(testForm));
+		assertTrue(fakePersistenceProvider.itemUpdated());
+
+		// Add a shape to the Geometry. The Item should be written again.
+		fakePersistenceProvider.reset();
+		Sphere sphere = GeometryFactory.eINSTANCE.createSphere();
+		sphere.setName("Sphere 1");
+		geometryComp.getGeometry().addNode(sphere);
+		assertEquals(FormStatus.ReadyToProcess,
+				itemManager.updateItem(testForm));
+		assertTrue(fakePersistenceProvider.itemUpdated());
+
+		return;
+	}
+
 	/**
 	 * This operation checks the ItemManager to make sure that it can process
 	 * Items. It creates a FakeItem with the ItemManager and then directs the
@@ -16,6 +16,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -225,6 +227,82 @@ public class DataComponentTester {
 
 	}
 
+	/**
+	 * This operation checks that Entries are still found by name after they
+	 * are renamed, deleted or changed through the list returned by
+	 * retrieveAllEntries().
+	 */
+	@Test
+	public void checkEntryIndex() {
+
+		// Local Declarations
+		dataComponent = new DataComponent();
+		IEntry first = new StringEntry();
+		IEntry duplicate = new StringEntry();
+		IEntry other = new StringEntry();
+		first.setName("Duplicate");
+		duplicate.setName("Duplicate");
+		other.setName("Other");
+		dataComponent.addEntry(first);
+		dataComponent.addEntry(duplicate);
+		dataComponent.addEntry(other);
+
+		// The first Entry with a name should be found
+		assertSame(first, dataComponent.retrieveEntry("Duplicate"));
+		assertFalse(dataComponent.contains("Missing"));
+		assertNull(dataComponent.retrieveEntry(null));
+		assertFalse(dataComponent.contains(null));
+
+		// Renaming an Entry should move it in the index
+		first.setName("Renamed");
+		assertSame(first, dataComponent.retrieveEntry("Renamed"));
+		assertSame(duplicate, dataComponent.retrieveEntry("Duplicate"));
+
+		// Only the first Entry with a name should be found after a rename
+		first.setName("Duplicate");
+		assertSame(first, dataComponent.retrieveEntry("Duplicate"));
+		assertFalse(dataComponent.contains("Renamed"));
+		first.setName("Renamed");
+		other.setName("Renamed");
+		assertSame(first, dataComponent.retrieveEntry("Renamed"));
+		assertFalse(dataComponent.contains("Other"));
+		other.setName("Other");
+		assertSame(other, dataComponent.retrieveEntry("Other"));
+
+		// Direct changes to the list should be noticed
+		ArrayList<IEntry> list = dataComponent.retrieveAllEntries();
+		IEntry direct = new StringEntry();
+		direct.setName("Direct");
+		list.add(direct);
+		assertSame(direct, dataComponent.retrieveEntry("Direct"));
+		list.set(list.indexOf(other), direct);
+		assertFalse(dataComponent.contains("Other"));
+		list.remove(direct);
+		list.remove(direct);
+		assertFalse(dataComponent.contains("Direct"));
+
+		// Deleting a name should delete every Entry with it
+		dataComponent.addEntry(other);
+		IEntry secondDuplicate = new StringEntry();
+		secondDuplicate.setName("Duplicate");
+		dataComponent.addEntry(secondDuplicate);
+		dataComponent.deleteEntry("Duplicate");
+		assertFalse(dataComponent.contains("Duplicate"));
+		assertEquals(2, dataComponent.retrieveAllEntries().size());
+		assertSame(other, dataComponent.retrieveEntry("Other"));
+
+		// Clones should have their own index
+		DataComponent clone = (DataComponent) dataComponent.clone();
+		assertNotSame(first, clone.retrieveEntry("Renamed"));
+		assertEquals(first, clone.retrieveEntry("Renamed"));
+
+		// Clearing should empty the index
+		dataComponent.clearEntries();
+		assertFalse(dataComponent.contains("Other"));
+
+		return;
+	}
+
 	/**
 	 * <p>
 	 * This operation checks the ability of the DataComponent to update its
@@ -612,6 +690,7 @@ public class DataComponentTester {
 
 		// check contents
 		assertTrue(dataComponent.equals(loadDataComponent));
+		assertNotNull(loadDataComponent.retrieveEntry(entry1.getName()));
 		
 	}
 }
\ No newline at end of file
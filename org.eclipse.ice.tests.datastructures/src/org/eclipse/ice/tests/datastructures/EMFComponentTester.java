@@ -15,6 +15,7 @@ package org.eclipse.ice.tests.datastructures;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -367,6 +368,122 @@ public class EMFComponentTester {
 
 	}
 
+	/**
+	 * <p>
+	 * This operation checks that the EMFComponent can load a file lazily and
+	 * that the lazily loaded tree matches the tree that is loaded all at once.
+	 * </p>
+	 */
+	@Test
+	public void checkLazyLoad() {
+		String separator = System.getProperty("file.separator");
+		String userDir = System.getProperty("user.home") + separator
+				+ "ICETests" + separator + "datastructuresData";
+		File schemaFile = new File(userDir + separator + "shiporder.xsd");
+		File loadFile = new File(userDir + separator
+				+ "expectedShipOrderSave.xml");
+
+		// Load the file both ways
+		EMFComponent eagerComponent = new EMFComponent();
+		assertTrue(eagerComponent.load(schemaFile, loadFile));
+		EMFComponent lazyComponent = new EMFComponent();
+		lazyComponent.setLazyLoading(true);
+		assertTrue(lazyComponent.isLazyLoading());
+		assertTrue(lazyComponent.load(schemaFile, loadFile));
+
+		// Only the root should exist until its children are requested
+		EMFTreeComposite emfTree = (EMFTreeComposite) lazyComponent
+				.getEMFTreeComposite();
+		assertEquals("DocumentRoot", emfTree.getName());
+		assertFalse(emfTree.isLoaded());
+		assertEquals(1, emfTree.getNumberOfChildren());
+		assertTrue(emfTree.isLoaded());
+		EMFTreeComposite shipOrder = (EMFTreeComposite) emfTree
+				.getChildAtIndex(0);
+		assertEquals("ShiporderType", shipOrder.getName());
+		assertFalse(shipOrder.isLoaded());
+
+		// The children should be in document order and have unique ids
+		assertEquals(3, shipOrder.getNumberOfChildren());
+		assertEquals("ShiptoType", shipOrder.getChildAtIndex(0).getName());
+		assertEquals("ItemType", shipOrder.getChildAtIndex(1).getName());
+		assertEquals("ItemType", shipOrder.getChildAtIndex(2).getName());
+		assertEquals(shipOrder, shipOrder.getChildAtIndex(1).getParent());
+		assertEquals(shipOrder.getChildAtIndex(2),
+				shipOrder.getChildAtIndex(1).getNextSibling());
+		assertFalse(shipOrder.getChildAtIndex(1).getId() == shipOrder
+				.getChildAtIndex(2).getId());
+
+		// Saving the lazy tree should write everything
+		String xmlString = lazyComponent.saveToString();
+		assertNotNull(xmlString);
+		assertEquals(2,
+				xmlString.split(Pattern.quote("<item>"), -1).length - 1);
+
+		// Both components should share the same schema processor, so loading
+		// the schema again should not change anything
+		assertEquals(eagerComponent.saveToString(), xmlString);
+
+		return;
+	}
+
+	/**
+	 * <p>
+	 * This operation checks that the trees of a lazily loaded EMFComponent
+	 * get the same ids as the trees loaded all at once, whatever order they
+	 * are opened in.
+	 * </p>
+	 */
+	@Test
+	public void checkLazyLoadIds() {
+		String separator = System.getProperty("file.separator");
+		String userDir = System.getProperty("user.home") + separator
+				+ "ICETests" + separator + "datastructuresData";
+		File schemaFile = new File(userDir + separator + "shiporder.xsd");
+		File loadFile = new File(userDir + separator
+				+ "expectedShipOrderSave.xml");
+
+		// Load the file both ways
+		EMFComponent eagerComponent = new EMFComponent();
+		assertTrue(eagerComponent.load(schemaFile, loadFile));
+		EMFComponent lazyComponent = new EMFComponent();
+		lazyComponent.setLazyLoading(true);
+		assertTrue(lazyComponent.load(schemaFile, loadFile));
+
+		// Open the last item before the other trees
+		TreeComposite shipOrder = lazyComponent.getEMFTreeComposite()
+				.getChildAtIndex(0);
+		TreeComposite lastItem = shipOrder
+				.getChildAtIndex(shipOrder.getNumberOfChildren() - 1);
+		lastItem.getNumberOfChildren();
+
+		// Every tree should have the same id and name in both components
+		HashMap<Integer, String> eagerIds = new HashMap<Integer, String>();
+		collectIds(eagerComponent.getEMFTreeComposite(), eagerIds);
+		HashMap<Integer, String> lazyIds = new HashMap<Integer, String>();
+		collectIds(lazyComponent.getEMFTreeComposite(), lazyIds);
+		assertTrue(eagerIds.size() > 4);
+		assertEquals(eagerIds, lazyIds);
+
+		return;
+	}
+
+	/**
+	 * This operation adds the id and name of a tree and of all of its
+	 * descendants to a map. Each id must only be found once.
+	 * 
+	 * @param tree
+	 *            The tree
+	 * @param ids
+	 *            The map of ids to names
+	 */
+	private void collectIds(TreeComposite tree, HashMap<Integer, String> ids) {
+		assertNull(ids.put(tree.getId(), tree.getName()));
+		for (int i = 0; i < tree.getNumberOfChildren(); i++) {
+			collectIds(tree.getChildAtIndex(i), ids);
+		}
+	}
+
 	/**
 	 * <p>
 	 * This operation checks the DataComponent to insure that its equals() and
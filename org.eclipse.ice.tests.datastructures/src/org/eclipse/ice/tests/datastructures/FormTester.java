@@ -23,16 +23,19 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import javax.xml.bind.JAXBException;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.ICEJAXBHandler;
+import org.eclipse.ice.datastructures.entry.DiscreteEntry;
 import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.entry.StringEntry;
 import org.eclipse.ice.datastructures.form.DataComponent;
 import org.eclipse.ice.datastructures.form.Form;
 import org.eclipse.ice.datastructures.form.ResourceComponent;
+import org.eclipse.ice.datastructures.form.TreeComposite;
 import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
 import org.eclipse.ice.datastructures.resource.ICEResource;
 import org.junit.Test;
@@ -631,4 +634,111 @@ public class FormTester {
 		assertTrue(form.equals(loadedForm));
 
 	}
-}
\ No newline at end of file
+
+	/**
+	 * This operation checks that the content hash of the Form changes when
+	 * the content of the Form, its Components and their Entries changes,
+	 * including the allowed values of DiscreteEntries, and that copies have
+	 * the same hash.
+	 */
+	@Test
+	public void checkContentHash() {
+
+		// Create a Form with a DataComponent and a tree
+		Form form = new Form();
+		form.setName("Hashed Form");
+		form.setItemID(3);
+		DataComponent data = new DataComponent();
+		data.setId(1);
+		for (int i = 0; i < 10; i++) {
+			StringEntry entry = new StringEntry();
+			entry.setId(i);
+			entry.setName("Entry " + i);
+			entry.setValue("value " + i);
+			data.addEntry(entry);
+		}
+		form.addComponent(data);
+		TreeComposite tree = new TreeComposite();
+		tree.setId(2);
+		TreeComposite child = new TreeComposite();
+		DataComponent childData = (DataComponent) data.clone();
+		child.addComponent(childData);
+		tree.setNextChild(child);
+		form.addComponent(tree);
+
+		// The hash should be the same until something changes
+		long hash = form.getContentHash();
+		assertEquals(hash, form.getContentHash());
+
+		// Copies should have the same hash
+		Form copy = (Form) form.clone();
+		assertEquals(hash, copy.getContentHash());
+
+		// Changing a value should change the hash and changing it back should
+		// restore it
+		IEntry entry = data.retrieveEntry("Entry 5");
+		entry.setValue("new value");
+		long changedHash = form.getContentHash();
+		assertFalse(hash == changedHash);
+		assertEquals(hash, copy.getContentHash());
+		entry.setValue("value 5");
+		assertEquals(hash, form.getContentHash());
+
+		// Changes that do not notify listeners should be found too
+		entry.setComment("A comment");
+		assertFalse(hash == form.getContentHash());
+		entry.setComment("");
+		entry.setReady(false);
+		assertFalse(hash == form.getContentHash());
+		entry.setReady(true);
+		assertEquals(hash, form.getContentHash());
+
+		// So should changes to the Entry list and changes deep in the tree
+		StringEntry extraEntry = new StringEntry();
+		data.retrieveAllEntries().add(extraEntry);
+		assertFalse(hash == form.getContentHash());
+		data.retrieveAllEntries().remove(extraEntry);
+		assertEquals(hash, form.getContentHash());
+		childData.retrieveEntry("Entry 0").setValue("deep");
+		assertFalse(hash == form.getContentHash());
+		assertFalse(
+				copy.getContentHash() == ((Form) form.clone()).getContentHash());
+		childData.retrieveEntry("Entry 0").setValue("value 0");
+		tree.setActive(true);
+		assertFalse(hash == form.getContentHash());
+		tree.setActive(false);
+		assertEquals(hash, form.getContentHash());
+
+		// Forms with different Items should be different
+		copy.setItemID(4);
+		assertFalse(hash == copy.getContentHash());
+
+		// The allowed values of a DiscreteEntry are part of its content
+		DiscreteEntry discreteEntry = new DiscreteEntry("a", "b");
+		discreteEntry.setId(10);
+		discreteEntry.setName("Discrete");
+		discreteEntry.setValue("a");
+		data.addEntry(discreteEntry);
+		long discreteHash = form.getContentHash();
+		assertFalse(hash == discreteHash);
+		discreteEntry.setAllowedValues(Arrays.asList("a", "c"));
+		assertEquals("a", discreteEntry.getValue());
+		assertFalse(discreteHash == form.getContentHash());
+		discreteEntry.setAllowedValues(Arrays.asList("a", "b"));
+		assertEquals(discreteHash, form.getContentHash());
+
+		// Removed Entries are no longer part of the Form
+		data.deleteEntry("Discrete");
+		assertEquals(hash, form.getContentHash());
+		discreteEntry.setValue("b");
+		assertEquals(hash, form.getContentHash());
+
+		// The hash only covers the whole Form while every Component tracks
+		// its content. ResourceComponents do not.
+		assertTrue(form.hasTrackedContent());
+		form.addComponent(new ResourceComponent());
+		assertFalse(form.hasTrackedContent());
+
+		return;
+	}
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.tests.datastructures;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
+import org.eclipse.ice.datastructures.jaxbclassprovider.JAXBContextRegistry;
+import org.junit.Test;
+
+/**
+ * This class tests the JAXBContextRegistry.
+ *
+ * @author UT-Battelle, LLC
+ *
+ */
+public class JAXBContextRegistryTester {
+
+	/**
+	 * This operation checks that contexts are created once for each set of
+	 * classes, no matter the order of the classes or how many threads ask for
+	 * them.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void checkContextCaching() throws Exception {
+
+		// The same set in a different order should give the same context
+		JAXBContext context = JAXBContextRegistry
+				.getContext(SimpleJAXBTestClass.class, DataComponent.class);
+		assertNotNull(context);
+		assertSame(context, JAXBContextRegistry
+				.getContext(DataComponent.class, SimpleJAXBTestClass.class));
+		assertSame(context, JAXBContextRegistry.getContext(Arrays.asList(
+				(Class) DataComponent.class, SimpleJAXBTestClass.class,
+				DataComponent.class)));
+
+		// Many threads asking for a prefetched context should all get it
+		final List<Class> classes = new ICEJAXBClassProvider().getClasses();
+		JAXBContextRegistry.prefetch(classes);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<JAXBContext>> futures = new ArrayList<Future<JAXBContext>>();
+		for (int i = 0; i < 8; i++) {
+			futures.add(executor.submit(new Callable<JAXBContext>() {
+				@Override
+				public JAXBContext call() throws Exception {
+					return JAXBContextRegistry.getContext(classes);
+				}
+			}));
+		}
+		JAXBContext iceContext = futures.get(0).get();
+		for (Future<JAXBContext> future : futures) {
+			assertSame(iceContext, future.get());
+		}
+		executor.shutdown();
+
+		// Compare the time of a cached lookup to creating a new context
+		long start = System.nanoTime();
+		JAXBContext.newInstance(classes.toArray(new Class[classes.size()]));
+		long created = System.nanoTime() - start;
+		start = System.nanoTime();
+		JAXBContextRegistry.getContext(classes);
+		long cached = System.nanoTime() - start;
+		System.out.println("JAXBContextRegistryTester Message: "
+				+ "Created context in " + created / 1000 + " us, "
+				+ "found cached context in " + cached / 1000 + " us.");
+
+		return;
+	}
+
+	/**
+	 * This operation checks that context creation failures are reported and
+	 * not cached.
+	 */
+	@Test
+	public void checkContextFailure() {
+
+		// JAXB can not handle interfaces
+		for (int i = 0; i < 2; i++) {
+			try {
+				JAXBContextRegistry.getContext(Runnable.class);
+				fail();
+			} catch (JAXBException e) {
+				assertNotNull(e);
+			}
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation checks that Marshallers and Unmarshallers are reused.
+	 *
+	 * @throws JAXBException
+	 */
+	@Test
+	public void checkPooling() throws JAXBException {
+
+		JAXBContext context = JAXBContextRegistry
+				.getContext(SimpleJAXBTestClass.class);
+
+		// A released Marshaller should be handed out again
+		Marshaller marshaller = JAXBContextRegistry.acquireMarshaller(context);
+		assertNotNull(marshaller);
+		JAXBContextRegistry.releaseMarshaller(context, marshaller);
+		assertSame(marshaller, JAXBContextRegistry.acquireMarshaller(context));
+
+		// A Marshaller that is in use should not be
+		Marshaller otherMarshaller = JAXBContextRegistry
+				.acquireMarshaller(context);
+		assertTrue(marshaller != otherMarshaller);
+		JAXBContextRegistry.releaseMarshaller(context, marshaller);
+		JAXBContextRegistry.releaseMarshaller(context, otherMarshaller);
+
+		// Same for Unmarshallers
+		Unmarshaller unmarshaller = JAXBContextRegistry
+				.acquireUnmarshaller(context);
+		assertNotNull(unmarshaller);
+		JAXBContextRegistry.releaseUnmarshaller(context, unmarshaller);
+		assertSame(unmarshaller,
+				JAXBContextRegistry.acquireUnmarshaller(context));
+		JAXBContextRegistry.releaseUnmarshaller(context, unmarshaller);
+
+		// Releasing null should be harmless
+		JAXBContextRegistry.releaseMarshaller(context, null);
+		JAXBContextRegistry.releaseUnmarshaller(context, null);
+
+		return;
+	}
+
+}
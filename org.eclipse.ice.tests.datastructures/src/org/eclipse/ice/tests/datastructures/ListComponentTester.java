@@ -23,6 +23,9 @@ import java.io.File;
 import java.io.IOException;
 import java.text.Normalizer.Form;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.bind.JAXBException;
 
@@ -474,6 +477,113 @@ public class ListComponentTester implements IElementSource<Integer>,
 		return;
 	}
 
+	/**
+	 * This method checks that batches of edits are made while holding the
+	 * write lock and post a single event and that snapshots can be read while
+	 * the list is edited on another thread.
+	 * 
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkBatching() throws InterruptedException {
+
+		// Count the events posted to each kind of listener
+		final ListComponent<Integer> component = new ListComponent<Integer>();
+		final AtomicInteger numEvents = new AtomicInteger();
+		final AtomicInteger numUpdates = new AtomicInteger();
+		component.addListEventListener(event -> numEvents.incrementAndGet());
+		component.register(updateable -> numUpdates.incrementAndGet());
+
+		// A batch of edits should post one event
+		component.batch(list -> {
+			for (int i = 0; i < 1000; i++) {
+				list.add(i);
+			}
+			list.remove(0);
+			list.set(0, -1);
+		});
+		assertEquals(1, numEvents.get());
+		assertEquals(1, numUpdates.get());
+		assertEquals(999, component.size());
+		assertEquals(-1, (int) component.get(0));
+
+		// So should nested batches
+		component.batch(list -> {
+			list.add(1000);
+			component.batch(nestedList -> nestedList.add(1001));
+			assertEquals(1, numEvents.get());
+		});
+		assertEquals(2, numEvents.get());
+		assertEquals(1001, component.size());
+
+		// Copying a list should post one event too
+		ListComponent<Integer> copy = new ListComponent<Integer>();
+		AtomicInteger numCopyEvents = new AtomicInteger();
+		copy.addListEventListener(event -> numCopyEvents.incrementAndGet());
+		copy.add(5);
+		copy.copy(component);
+		assertEquals(2, numCopyEvents.get());
+		assertEquals(component, copy);
+
+		// A snapshot should not change with the list or be changeable
+		List<Integer> snapshot = component.snapshot();
+		component.clear();
+		assertEquals(1001, snapshot.size());
+		assertEquals(-1, (int) snapshot.get(0));
+		try {
+			snapshot.add(1);
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertNotNull(e);
+		}
+
+		// Snapshots taken while batches are made should only ever see whole
+		// batches
+		final AtomicBoolean done = new AtomicBoolean(false);
+		final AtomicBoolean partial = new AtomicBoolean(false);
+		Thread reader = new Thread(() -> {
+			while (!done.get()) {
+				if (component.snapshot().size() % 10 != 0) {
+					partial.set(true);
+				}
+			}
+		});
+		reader.start();
+		for (int i = 0; i < 1000; i++) {
+			component.batch(list -> {
+				for (int j = 0; j < 10; j++) {
+					list.add(j);
+				}
+			});
+		}
+		done.set(true);
+		reader.join();
+		assertFalse(partial.get());
+		assertEquals(10000, component.size());
+
+		// Adding elements one at a time should post an event for each one,
+		// but adding them in a batch should only post one
+		final int numElements = 100;
+		component.clear();
+		numEvents.set(0);
+		for (int i = 0; i < numElements; i++) {
+			component.add(i);
+		}
+		assertEquals(numElements, numEvents.get());
+		List<Integer> single = component.snapshot();
+		component.clear();
+		numEvents.set(0);
+		component.batch(list -> {
+			for (int i = 0; i < numElements; i++) {
+				list.add(i);
+			}
+		});
+		assertEquals(1, numEvents.get());
+		assertEquals(single, component.snapshot());
+
+		return;
+	}
+
 	/**
 	 * This method checks the visitation routine.
 	 */
@@ -629,8 +739,6 @@ public class ListComponentTester implements IElementSource<Integer>,
 	 */
 	@Override
 	public void listChanged(ListEvent<Integer> listChanges) {
-		System.out.println("ListComponentTester Message: "
-				+ "ListEventListener callback executed.");
 		notified = true;
 	}
 
@@ -221,6 +221,8 @@ public class MaterialTester {
 
 		// Create a Material that will be written to XML
 		Material material = TestMaterialFactory.createCO2();
+		material.setProperty(Material.DENSITY, 1.977);
+		Map<String, Double> properties = material.getProperties();
 
 		try {
 			// Write the material to a byte stream so that it can be converted
@@ -228,6 +230,9 @@ public class MaterialTester {
 			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 			jaxbHandler.write(material, classList, outputStream);
 
+			// Writing the material should not change its properties.
+			assertEquals(properties, material.getProperties());
+
 			// Read it back from the stream into a second Material by converting
 			// the output stream into a byte array and then an input stream.
 			ByteArrayInputStream inputStream = new ByteArrayInputStream(
@@ -237,6 +242,8 @@ public class MaterialTester {
 
 			// They should be equal.
 			assertTrue(readMaterial.equals(material));
+			assertEquals(1.977, readMaterial.getProperty(Material.DENSITY),
+					0.0);
 		} catch (NullPointerException | JAXBException | IOException e) {
 			// Just learned about Multicatch! Is this not the coolest #!@%?
 			e.printStackTrace();
@@ -244,4 +251,152 @@ public class MaterialTester {
 
 		return;
 	}
+
+	/**
+	 * This operation checks that Material.updateProperties() computes the
+	 * properties of compounds and only recomputes them when the compound or
+	 * its components change. It also prints the time it takes to update a
+	 * large set of compound stacks.
+	 */
+	@Test
+	public void checkUpdatingProperties() {
+
+		// Create the elements and a compound of them
+		Material silicon = createElement("Si", 28.0855, 4.1491, 0.171, 0.004);
+		Material oxygen = createElement("O", 15.9994, 5.803, 0.0, 0.0);
+		Material quartz = new Material();
+		quartz.setName("SiO2");
+		quartz.addComponent(silicon);
+		quartz.addComponent(new MaterialStack(oxygen, 2));
+		quartz.setProperty(Material.DENSITY, 2.2);
+		quartz.updateProperties();
+
+		// Check the computed properties
+		double mass = 28.0855 + 2.0 * 15.9994;
+		double numberDensity = 1.0e-24 * 6.02e23 * 2.2 / mass;
+		assertEquals(mass, quartz.getProperty(Material.ATOMIC_MASS), 1.0e-12);
+		assertEquals(numberDensity,
+				quartz.getProperty(Material.NUMBER_DENSITY), 1.0e-12);
+		assertEquals(numberDensity * 1.0e-5 * (4.1491 + 2.0 * 5.803),
+				quartz.getProperty(Material.SCAT_LENGTH_DENSITY), 1.0e-18);
+		assertEquals(28.0855 / mass * 0.171 * 1.0e-24 * 2.2,
+				quartz.getProperty(Material.MASS_ABS_COHERENT), 1.0e-30);
+		assertEquals(28.0855 / mass * 0.004 * 1.0e-24 * 2.2,
+				quartz.getProperty(Material.MASS_ABS_INCOHERENT), 1.0e-30);
+
+		// The well-known properties should be reported with the others
+		Map<String, Double> properties = quartz.getProperties();
+		assertEquals(6, properties.size());
+		assertEquals(2.2, properties.get(Material.DENSITY), 0.0);
+
+		// Overwriting a derived property should be undone by the next update
+		double sld = quartz.getProperty(Material.SCAT_LENGTH_DENSITY);
+		quartz.setProperty(Material.SCAT_LENGTH_DENSITY, 0.0);
+		quartz.updateProperties();
+		assertEquals(sld, quartz.getProperty(Material.SCAT_LENGTH_DENSITY),
+				0.0);
+
+		// Changing the density, a component or an amount should update it
+		quartz.setProperty(Material.DENSITY, 4.4);
+		quartz.updateProperties();
+		assertEquals(2.0 * sld,
+				quartz.getProperty(Material.SCAT_LENGTH_DENSITY), 1.0e-18);
+		oxygen.setProperty(Material.COHERENT_SCAT_LENGTH, 0.0);
+		quartz.updateProperties();
+		assertEquals(2.0 * numberDensity * 1.0e-5 * 4.1491,
+				quartz.getProperty(Material.SCAT_LENGTH_DENSITY), 1.0e-18);
+		quartz.getComponents().get(0).setAmount(3);
+		quartz.updateProperties();
+		assertTrue(quartz.getProperty(Material.ATOMIC_MASS) > mass + 1.0);
+
+		// Compounds of compounds should pick up changes to their components
+		Material stack = new Material();
+		stack.setName("Stack");
+		stack.addComponent(quartz);
+		stack.setProperty(Material.DENSITY, 1.0);
+		stack.updateProperties();
+		double stackMass = stack.getProperty(Material.ATOMIC_MASS);
+		quartz.getComponents().get(0).setAmount(1);
+		quartz.getComponents().get(1).setAmount(1);
+		quartz.updateProperties();
+		stack.updateProperties();
+		assertTrue(stack.getProperty(Material.ATOMIC_MASS) < stackMass);
+		assertEquals(quartz.getProperty(Material.ATOMIC_MASS),
+				stack.getProperty(Material.ATOMIC_MASS), 1.0e-12);
+
+		// Removing a well-known property should work like removing any other
+		stack.removeProperty(Material.DENSITY);
+		assertEquals(0.0, stack.getProperty(Material.DENSITY), 0.0);
+		assertFalse(stack.getProperties().containsKey(Material.DENSITY));
+
+		// Create a set of compound stacks like those of a reflectivity model
+		List<Material> elements = new ArrayList<Material>();
+		for (int i = 0; i < 20; i++) {
+			elements.add(createElement("E" + i, 1.0 + i, 0.1 * i, 0.01 * i,
+					0.001 * i));
+		}
+		List<Material> compounds = new ArrayList<Material>();
+		for (int i = 0; i < 500; i++) {
+			Material compound = new Material();
+			compound.setName("Compound" + i);
+			for (int j = 0; j < 5; j++) {
+				compound.addComponent(new MaterialStack(
+						elements.get((i + j) % elements.size()), 1 + j));
+			}
+			compound.setProperty(Material.DENSITY, 1.0 + 0.001 * i);
+			compounds.add(compound);
+		}
+
+		// Compare updating changed compounds to updating unchanged ones
+		int numUpdates = 200;
+		long start = System.nanoTime();
+		for (int i = 0; i < numUpdates; i++) {
+			for (Material compound : compounds) {
+				compound.setProperty(Material.DENSITY, 1.0 + 0.001 * i);
+				compound.updateProperties();
+			}
+		}
+		long changed = System.nanoTime() - start;
+		start = System.nanoTime();
+		for (int i = 0; i < numUpdates; i++) {
+			for (Material compound : compounds) {
+				compound.updateProperties();
+			}
+		}
+		long unchanged = System.nanoTime() - start;
+		System.out.println("MaterialTester Message: Updated "
+				+ compounds.size() + " compounds " + numUpdates + " times in "
+				+ changed / 1000000 + " ms with changes and "
+				+ unchanged / 1000000 + " ms without changes.");
+
+		return;
+	}
+
+	/**
+	 * This operation creates an elemental Material with the properties that
+	 * are used to compute the properties of compounds.
+	 * 
+	 * @param name
+	 *            The name of the element
+	 * @param mass
+	 *            The atomic mass
+	 * @param scatteringLength
+	 *            The coherent scattering length
+	 * @param massAbsCoherent
+	 *            The coherent mass absorption coefficient
+	 * @param massAbsIncoherent
+	 *            The incoherent mass absorption coefficient
+	 * @return The element
+	 */
+	private Material createElement(String name, double mass,
+			double scatteringLength, double massAbsCoherent,
+			double massAbsIncoherent) {
+		Material element = new Material();
+		element.setName(name);
+		element.setProperty(Material.ATOMIC_MASS, mass);
+		element.setProperty(Material.COHERENT_SCAT_LENGTH, scatteringLength);
+		element.setProperty(Material.MASS_ABS_COHERENT, massAbsCoherent);
+		element.setProperty(Material.MASS_ABS_INCOHERENT, massAbsIncoherent);
+		return element;
+	}
 }
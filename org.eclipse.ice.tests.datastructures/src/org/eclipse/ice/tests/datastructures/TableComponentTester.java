@@ -23,10 +23,13 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.bind.JAXBException;
 
 import org.eclipse.ice.datastructures.ICEObject.ICEJAXBHandler;
+import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
+import org.eclipse.ice.datastructures.ICEObject.IUpdateableListener;
 import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.entry.StringEntry;
 import org.eclipse.ice.datastructures.form.TableComponent;
@@ -622,6 +625,229 @@ public class TableComponentTester {
 
 	}
 
+	/**
+	 * <p>
+	 * This operation checks the bulk row operations of the TableComponent and
+	 * makes sure that they only notify listeners once per batch.
+	 * </p>
+	 * 
+	 */
+	@Test
+	public void checkBulkRowManipulation() {
+
+		// Local Declarations
+		final AtomicInteger notifications = new AtomicInteger();
+		IUpdateableListener countingListener = new IUpdateableListener() {
+			@Override
+			public void update(IUpdateable component) {
+				notifications.incrementAndGet();
+			}
+		};
+
+		// Setup the table with a two column template
+		tableComponent = new TableComponent();
+		ArrayList<IEntry> template = new ArrayList<IEntry>();
+		StringEntry key = new StringEntry();
+		key.setName("Key");
+		key.setValue("defaultKey");
+		StringEntry value = new StringEntry();
+		value.setName("Value");
+		value.setValue("defaultValue");
+		template.add(key);
+		template.add(value);
+
+		// Nothing can be added without a template
+		assertEquals(-1, tableComponent.addRows(5));
+		tableComponent.setRowTemplate(template);
+		assertEquals(-1, tableComponent.addRows(0));
+
+		// Add some rows by count
+		tableComponent.register(countingListener);
+		assertEquals(0, tableComponent.addRows(3));
+		assertEquals(3, tableComponent.numberOfRows());
+		assertEquals("defaultKey", tableComponent.getRow(2).get(0).getValue());
+		waitForNotifications(notifications, 1);
+		assertEquals(1, notifications.get());
+
+		// Bulk load rows with values, including a short row
+		notifications.set(0);
+		ArrayList<ArrayList<String>> rowValues = new ArrayList<ArrayList<String>>();
+		for (int i = 0; i < 1000; i++) {
+			ArrayList<String> row = new ArrayList<String>();
+			row.add("key" + i);
+			row.add("value" + i);
+			rowValues.add(row);
+		}
+		rowValues.get(999).remove(1);
+		assertEquals(3, tableComponent.addRows(rowValues));
+		assertEquals(1003, tableComponent.numberOfRows());
+		assertEquals("key0", tableComponent.getRow(3).get(0).getValue());
+		assertEquals("value0", tableComponent.getRow(3).get(1).getValue());
+		assertEquals("key999", tableComponent.getRow(1002).get(0).getValue());
+		assertEquals("defaultValue",
+				tableComponent.getRow(1002).get(1).getValue());
+		assertEquals(1002,
+				(int) tableComponent.getRowIds().get(1002));
+		waitForNotifications(notifications, 1);
+		assertEquals(1, notifications.get());
+
+		// Select a row and then delete everything
+		notifications.set(0);
+		ArrayList<Integer> selected = new ArrayList<Integer>();
+		selected.add(5);
+		tableComponent.setSelectedRows(selected);
+		notifications.set(0);
+		tableComponent.deleteAllRows();
+		assertEquals(0, tableComponent.numberOfRows());
+		assertNull(tableComponent.getSelectedRows());
+		assertNotNull(tableComponent.getRowTemplate());
+		waitForNotifications(notifications, 1);
+		assertEquals(1, notifications.get());
+
+		// Rows can be added again after clearing
+		assertEquals(0, tableComponent.addRows(rowValues.subList(0, 2)));
+		assertEquals("key1", tableComponent.getRow(1).get(0).getValue());
+
+		return;
+	}
+
+	/**
+	 * This operation checks the column operations and batch deletion of the
+	 * TableComponent and makes sure that they only notify listeners once per
+	 * batch.
+	 */
+	@Test
+	public void checkColumnOperations() {
+
+		// Local Declarations
+		final AtomicInteger notifications = new AtomicInteger();
+		IUpdateableListener countingListener = new IUpdateableListener() {
+			@Override
+			public void update(IUpdateable component) {
+				notifications.incrementAndGet();
+			}
+		};
+		int numRows = 10000;
+
+		// Setup the table with a two column template and many rows
+		tableComponent = new TableComponent();
+		ArrayList<IEntry> template = new ArrayList<IEntry>();
+		StringEntry key = new StringEntry();
+		key.setName("Key");
+		StringEntry value = new StringEntry();
+		value.setName("Value");
+		value.setValue("defaultValue");
+		template.add(key);
+		template.add(value);
+		tableComponent.setRowTemplate(template);
+		ArrayList<ArrayList<String>> rowValues = new ArrayList<ArrayList<String>>();
+		for (int i = 0; i < numRows; i++) {
+			ArrayList<String> row = new ArrayList<String>();
+			row.add("key" + i);
+			rowValues.add(row);
+		}
+		tableComponent.addRows(rowValues);
+
+		// Check the columns
+		ArrayList<String> keys = tableComponent.getColumn("Key");
+		assertEquals(numRows, keys.size());
+		assertEquals("key42", keys.get(42));
+		assertEquals("defaultValue",
+				tableComponent.getColumn("Value").get(numRows - 1));
+		assertNull(tableComponent.getColumn("Missing"));
+		assertFalse(tableComponent.setColumn("Missing", keys));
+
+		// Entries that were handed out should follow the column and the
+		// other way around
+		IEntry valueEntry = tableComponent.getRow(5).get(1);
+		tableComponent.register(countingListener);
+		ArrayList<String> values = new ArrayList<String>();
+		for (int i = 0; i < numRows; i++) {
+			values.add("value" + i);
+		}
+		assertTrue(tableComponent.setColumn("Value", values));
+		assertEquals("value5", valueEntry.getValue());
+		assertEquals("value6", tableComponent.getRow(6).get(1).getValue());
+		valueEntry.setValue("edited");
+		assertEquals("edited", tableComponent.getColumn("Value").get(5));
+		waitForNotifications(notifications, 1);
+		assertEquals(1, notifications.get());
+
+		// Delete a batch of rows, including bad and duplicate indices
+		notifications.set(0);
+		ArrayList<Integer> selected = new ArrayList<Integer>();
+		selected.add(1);
+		selected.add(5);
+		selected.add(6);
+		tableComponent.setSelectedRows(selected);
+		ArrayList<Integer> deleted = new ArrayList<Integer>();
+		deleted.add(0);
+		deleted.add(5);
+		deleted.add(5);
+		deleted.add(numRows - 1);
+		deleted.add(-3);
+		deleted.add(numRows);
+		assertTrue(tableComponent.deleteRows(deleted));
+		assertEquals(numRows - 3, tableComponent.numberOfRows());
+		assertEquals("key6", tableComponent.getRow(4).get(0).getValue());
+		assertEquals("value6", tableComponent.getRow(4).get(1).getValue());
+		assertEquals("key1", tableComponent.getRow(0).get(0).getValue());
+		waitForNotifications(notifications, 1);
+		assertEquals(1, notifications.get());
+
+		// The selection should follow the rows that were not deleted
+		ArrayList<Integer> newSelection = tableComponent.getSelectedRows();
+		assertEquals(2, newSelection.size());
+		assertEquals(0, (int) newSelection.get(0));
+		assertEquals(4, (int) newSelection.get(1));
+
+		// Row ids should be the row indices
+		assertTrue(tableComponent.containsRow(numRows - 4));
+		assertFalse(tableComponent.containsRow(numRows - 3));
+		assertFalse(tableComponent.containsRow(-1));
+		assertEquals(numRows - 4,
+				(int) tableComponent.getRowIds().get(numRows - 4));
+
+		// Nothing should happen for bad batches
+		assertFalse(tableComponent.deleteRows(new ArrayList<Integer>()));
+		deleted.clear();
+		deleted.add(numRows);
+		assertFalse(tableComponent.deleteRows(deleted));
+
+		// Copies should not share Entries with the original
+		TableComponent copy = (TableComponent) tableComponent.clone();
+		assertTrue(tableComponent.equals(copy));
+		assertEquals(tableComponent.hashCode(), copy.hashCode());
+		copy.getRow(0).get(0).setValue("changed");
+		assertEquals("key1", tableComponent.getRow(0).get(0).getValue());
+		assertFalse(tableComponent.equals(copy));
+
+		return;
+	}
+
+	/**
+	 * This operation waits for up to two seconds for the asynchronous
+	 * notifications to reach the expected count, and then a little longer to
+	 * catch any extra notifications.
+	 * 
+	 * @param notifications
+	 *            The notification counter
+	 * @param expected
+	 *            The expected number of notifications
+	 */
+	private void waitForNotifications(AtomicInteger notifications,
+			int expected) {
+		try {
+			for (int i = 0; i < 40 && notifications.get() < expected; i++) {
+				Thread.sleep(50);
+			}
+			Thread.sleep(100);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+			fail();
+		}
+	}
+
 	/**
 	 * <p>
 	 * This operation checks the TableComponent to insure that it can be
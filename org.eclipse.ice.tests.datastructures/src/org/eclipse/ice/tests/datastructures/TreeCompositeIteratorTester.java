@@ -13,17 +13,30 @@ package org.eclipse.ice.tests.datastructures;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
+import org.eclipse.ice.datastructures.componentVisitor.SelectiveComponentVisitor;
+import org.eclipse.ice.datastructures.form.DataComponent;
 import org.eclipse.ice.datastructures.form.TreeComposite;
 import org.eclipse.ice.datastructures.form.iterator.BreadthFirstTreeCompositeIterator;
+import org.eclipse.ice.datastructures.form.iterator.ParallelTreeCompositeTraversal;
 import org.eclipse.ice.datastructures.form.iterator.PostOrderTreeCompositeIterator;
 import org.eclipse.ice.datastructures.form.iterator.PreOrderTreeCompositeIterator;
+import org.eclipse.ice.datastructures.form.iterator.TreeCompositeSpliterator;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -443,4 +456,111 @@ public class TreeCompositeIteratorTester {
 		return;
 	}
 
+	/**
+	 * Tests that the spliterator traverses a TreeComposite in pre-order, even
+	 * when it is split for a parallel Stream.
+	 */
+	@Test
+	public void checkSpliterator() {
+
+		// A null root should not be allowed.
+		try {
+			new TreeCompositeSpliterator(null);
+			fail("TreeCompositeSpliterator failure: "
+					+ "IllegalArgumentException not thrown for null root.");
+		} catch (IllegalArgumentException e) {
+			// Exception thrown as expected.
+		}
+
+		// The base case tree can not be split.
+		Spliterator<TreeComposite> spliterator = new TreeCompositeSpliterator(
+				rootBase);
+		assertNull(spliterator.trySplit());
+		assertTrue(spliterator.tryAdvance(tree -> assertSame(rootBase, tree)));
+		assertFalse(spliterator.tryAdvance(tree -> fail()));
+		assertEquals(0, spliterator.estimateSize());
+
+		// Sequential and parallel Streams should both be in pre-order.
+		final String expectedOutput = "A1 B1 C1 B2 C2 C3 D1 D2 C4 D3 D4 D5 ";
+		for (boolean parallel : new boolean[] { false, true }) {
+			String actualOutput = TreeCompositeSpliterator
+					.stream(root, parallel).map(tree -> tree.getName() + " ")
+					.collect(Collectors.joining());
+			assertEquals(expectedOutput, actualOutput);
+		}
+
+		// Splitting the root should hand out the root and its first child.
+		spliterator = new TreeCompositeSpliterator(root);
+		Spliterator<TreeComposite> prefix = spliterator.trySplit();
+		final StringBuilder output = new StringBuilder();
+		prefix.forEachRemaining(tree -> output.append(tree.getName() + " "));
+		assertEquals("A1 B1 C1 ", output.toString());
+		output.setLength(0);
+		spliterator.forEachRemaining(tree -> output.append(tree.getName() + " "));
+		assertEquals("B2 C2 C3 D1 D2 C4 D3 D4 D5 ", output.toString());
+
+		return;
+	}
+
+	/**
+	 * Tests that the parallel traversal handles every TreeComposite and data
+	 * node once and reports failures.
+	 */
+	@Test
+	public void checkParallelTraversal() {
+
+		// Every tree should be handled exactly once.
+		final ConcurrentLinkedQueue<String> names = new ConcurrentLinkedQueue<String>();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		ParallelTreeCompositeTraversal.forEach(pool, root,
+				tree -> names.add(tree.getName()));
+		List<String> sortedNames = new ArrayList<String>(names);
+		Collections.sort(sortedNames);
+		assertEquals("[A1, B1, B2, C1, C2, C3, C4, D1, D2, D3, D4, D5]",
+				sortedNames.toString());
+
+		// Exceptions thrown by the action should be thrown by the traversal.
+		try {
+			ParallelTreeCompositeTraversal.forEach(pool, root, tree -> {
+				if ("D4".equals(tree.getName())) {
+					throw new IllegalStateException("D4");
+				}
+			});
+			fail("ParallelTreeCompositeTraversal failure: "
+					+ "Exception from the action not thrown.");
+		} catch (IllegalStateException e) {
+			// The pool may wrap the exception in a new one of the same type.
+			assertTrue(e.getMessage().contains("D4"));
+		}
+		pool.shutdown();
+
+		// Null arguments should not be allowed.
+		try {
+			ParallelTreeCompositeTraversal.forEach(null, tree -> {
+			});
+			fail("ParallelTreeCompositeTraversal failure: "
+					+ "IllegalArgumentException not thrown for null root.");
+		} catch (IllegalArgumentException e) {
+			// Exception thrown as expected.
+		}
+
+		// A thread safe visitor should see every data node.
+		Iterator<TreeComposite> iterator = new PreOrderTreeCompositeIterator(
+				root);
+		while (iterator.hasNext()) {
+			iterator.next().addComponent(new DataComponent());
+		}
+		final AtomicInteger count = new AtomicInteger();
+		ParallelTreeCompositeTraversal.visitDataNodes(root,
+				new SelectiveComponentVisitor() {
+					@Override
+					public void visit(DataComponent component) {
+						count.incrementAndGet();
+					}
+				});
+		assertEquals(12, count.get());
+
+		return;
+	}
+
 }
@@ -15,7 +15,9 @@ package org.eclipse.ice.tests.datastructures;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -24,16 +26,24 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.bind.JAXBException;
 
 import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.ICEObject.ICEJAXBHandler;
+import org.eclipse.ice.datastructures.ICEObject.IUpdateable;
 import org.eclipse.ice.datastructures.componentVisitor.IComponentVisitor;
 import org.eclipse.ice.datastructures.componentVisitor.SelectiveComponentVisitor;
 import org.eclipse.ice.datastructures.entry.StringEntry;
 import org.eclipse.ice.datastructures.form.DataComponent;
+import org.eclipse.ice.datastructures.form.ITreeCompositeListener;
 import org.eclipse.ice.datastructures.form.TableComponent;
 import org.eclipse.ice.datastructures.form.TreeComposite;
 import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
@@ -713,6 +723,88 @@ public class TreeCompositeTester extends SelectiveComponentVisitor {
 
 	}
 
+	/**
+	 * This operation checks that ITreeCompositeListeners are told which
+	 * children were added or removed, in order, for the whole sub-tree.
+	 */
+	@Test
+	public void checkChildNotifications() {
+
+		// Setup a listener that records the changes
+		final List<String> changes = new ArrayList<String>();
+		ITreeCompositeListener listener = new ITreeCompositeListener() {
+			@Override
+			public void update(IUpdateable component) {
+				// Nothing to do
+			}
+
+			@Override
+			public void childAdded(TreeComposite parent, TreeComposite child) {
+				changes.add("added " + child.getName() + " to "
+						+ parent.getName());
+			}
+
+			@Override
+			public void childRemoved(TreeComposite parent,
+					TreeComposite child) {
+				changes.add("removed " + child.getName() + " from "
+						+ parent.getName());
+			}
+
+			@Override
+			public void childrenReset(TreeComposite parent) {
+				changes.add("reset " + parent.getName());
+			}
+		};
+
+		// Setup the tree and register the listener
+		TreeComposite root = new TreeComposite();
+		root.setName("root");
+		root.register(listener);
+
+		// Add two children and a grandchild. The changes are delivered right
+		// away on this thread.
+		TreeComposite pipe = new TreeComposite();
+		pipe.setName("pipe");
+		TreeComposite junction = new TreeComposite();
+		junction.setName("junction");
+		TreeComposite grandchild = new TreeComposite();
+		grandchild.setName("grandchild");
+		root.setNextChild(pipe);
+		root.setNextChild(junction);
+		pipe.setNextChild(grandchild);
+		// Adding a child that is already there is not a change
+		root.setNextChild(pipe);
+		assertEquals(3, changes.size());
+		assertEquals("added pipe to root", changes.get(0));
+		assertEquals("added junction to root", changes.get(1));
+		assertEquals("added grandchild to pipe", changes.get(2));
+		changes.clear();
+
+		// Remove a child. The listener should not hear from it afterward.
+		root.removeChild(pipe);
+		pipe.removeChild(grandchild);
+		assertEquals(1, changes.size());
+		assertEquals("removed pipe from root", changes.get(0));
+		changes.clear();
+
+		// Copying a tree replaces all of the children at once
+		TreeComposite other = new TreeComposite();
+		other.setName("root");
+		other.setNextChild(new TreeComposite());
+		root.copy(other);
+		assertEquals(1, changes.size());
+		assertEquals("reset root", changes.get(0));
+		changes.clear();
+
+		// Unregistered listeners should not be told about changes
+		root.unregister(listener);
+		root.setNextChild(junction);
+		assertTrue(changes.isEmpty());
+
+		return;
+	}
+
 	/**
 	 * <p>
 	 * This operation checks the TreeComposite to insure that its equals() and
@@ -1124,6 +1216,184 @@ public class TreeCompositeTester extends SelectiveComponentVisitor {
 
 	}
 
+	/**
+	 * This operation checks that the exemplars of a copied TreeComposite are
+	 * shared with the original until they are retrieved from either tree and
+	 * that changes to the exemplars of one tree do not show up in the other.
+	 */
+	@Test
+	public void checkCopyOnWriteExemplars() {
+
+		// Create a tree with two levels of exemplars
+		TreeComposite tree = createExemplarTree(20, 50, 20);
+		TreeComposite block = tree.getChildExemplars().get(0);
+		TreeComposite subBlock = block.getChildExemplars().get(0);
+
+		// The copy should be equal and share the exemplars
+		TreeComposite copy = (TreeComposite) tree.clone();
+		assertEquals(tree, copy);
+		assertEquals(tree.hashCode(), copy.hashCode());
+		assertTrue(copy.hasChildExemplars());
+
+		// Retrieving them should give the copy its own exemplars, but not
+		// their exemplars
+		TreeComposite copiedBlock = copy.getChildExemplars().get(0);
+		assertNotSame(block, copiedBlock);
+		assertEquals(block, copiedBlock);
+		assertSame(copiedBlock, copy.getChildExemplars().get(0));
+		TreeComposite copiedSubBlock = copiedBlock.getChildExemplars().get(0);
+		assertNotSame(subBlock, copiedSubBlock);
+
+		// Changing the copy's exemplars should not change the original
+		DataComponent data = (DataComponent) copiedSubBlock.getDataNodes()
+				.get(0);
+		data.retrieveAllEntries().get(0).setValue("changed");
+		data = (DataComponent) subBlock.getDataNodes().get(0);
+		assertEquals("0", data.retrieveAllEntries().get(0).getValue());
+		copiedBlock.addChildExemplar(new TreeComposite());
+		assertEquals(50, block.getChildExemplars().size());
+
+		// Replacing the copy's exemplars should not change the original either
+		copy = (TreeComposite) tree.clone();
+		copy.setChildExemplars(new ArrayList<TreeComposite>());
+		assertFalse(copy.hasChildExemplars());
+		assertTrue(tree.hasChildExemplars());
+
+		// Changing the original's exemplars after a copy should not change the
+		// copy
+		copy = (TreeComposite) tree.clone();
+		block = tree.getChildExemplars().get(0);
+		block.setName("Changed Block");
+		subBlock = block.getChildExemplars().get(0);
+		data = (DataComponent) subBlock.getDataNodes().get(0);
+		data.retrieveAllEntries().get(0).setValue("changed");
+		copiedBlock = copy.getChildExemplars().get(0);
+		assertEquals("Block 0", copiedBlock.getName());
+		copiedSubBlock = copiedBlock.getChildExemplars().get(0);
+		data = (DataComponent) copiedSubBlock.getDataNodes().get(0);
+		assertEquals("0", data.retrieveAllEntries().get(0).getValue());
+
+		// Exemplars that were retrieved before a copy can still be changed
+		// without changing the copy
+		tree = createExemplarTree(2, 2, 2);
+		block = tree.getChildExemplars().get(0);
+		copy = (TreeComposite) tree.clone();
+		block.setName("Changed Block");
+		assertEquals("Block 0", copy.getChildExemplars().get(0).getName());
+
+		// The same holds for copies of copies, which share their exemplars
+		tree = createExemplarTree(2, 2, 2);
+		copy = (TreeComposite) tree.clone();
+		TreeComposite copyOfCopy = (TreeComposite) copy.clone();
+		copy.getChildExemplars().get(1).setName("Changed Block");
+		assertEquals("Block 1",
+				copyOfCopy.getChildExemplars().get(1).getName());
+		copyOfCopy.getChildExemplars().get(0).setName("Changed Block");
+		assertEquals("Block 0", copy.getChildExemplars().get(0).getName());
+
+		return;
+	}
+
+	/**
+	 * This operation checks that a TreeComposite can be copied and have its
+	 * exemplars retrieved from many threads at once.
+	 * 
+	 * @throws ExecutionException
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkConcurrentExemplarCopies()
+			throws InterruptedException, ExecutionException {
+
+		// Local Declarations
+		final TreeComposite tree = createExemplarTree(10, 10, 2);
+		// A copy shares its exemplars with the trees copied from it
+		final TreeComposite template = (TreeComposite) tree.clone();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<TreeComposite>> copies = new ArrayList<Future<TreeComposite>>();
+
+		// Copy the template and retrieve the exemplars of both trees
+		try {
+			for (int i = 0; i < 200; i++) {
+				copies.add(executor.submit(new Callable<TreeComposite>() {
+					@Override
+					public TreeComposite call() {
+						TreeComposite copy = (TreeComposite) template.clone();
+						copy.getChildExemplars().get(0).getChildExemplars();
+						template.getChildExemplars();
+						return copy;
+					}
+				}));
+			}
+			for (Future<TreeComposite> copy : copies) {
+				assertEquals(tree, copy.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(tree, template);
+
+		return;
+	}
+
+	/**
+	 * This operation creates a tree like a MOOSE input tree with a set of
+	 * block exemplars that each have a set of sub-block exemplars.
+	 * 
+	 * @param numBlocks
+	 *            The number of block exemplars.
+	 * @param numSubBlocks
+	 *            The number of sub-block exemplars of each block.
+	 * @param numParameters
+	 *            The number of Entries in the DataComponent of each exemplar.
+	 * @return The tree
+	 */
+	private TreeComposite createExemplarTree(int numBlocks, int numSubBlocks,
+			int numParameters) {
+
+		TreeComposite tree = new TreeComposite();
+		tree.setName("Root");
+		ArrayList<TreeComposite> blocks = new ArrayList<TreeComposite>();
+		for (int i = 0; i < numBlocks; i++) {
+			TreeComposite block = createExemplar("Block " + i, numParameters);
+			ArrayList<TreeComposite> subBlocks = new ArrayList<TreeComposite>();
+			for (int j = 0; j < numSubBlocks; j++) {
+				subBlocks.add(createExemplar("SubBlock " + j, numParameters));
+			}
+			block.setChildExemplars(subBlocks);
+			blocks.add(block);
+		}
+		tree.setChildExemplars(blocks);
+
+		return tree;
+	}
+
+	/**
+	 * This operation creates an exemplar with a DataComponent of parameters.
+	 * 
+	 * @param name
+	 *            The name of the exemplar
+	 * @param numParameters
+	 *            The number of Entries in its DataComponent
+	 * @return The exemplar
+	 */
+	private TreeComposite createExemplar(String name, int numParameters) {
+
+		TreeComposite exemplar = new TreeComposite();
+		exemplar.setName(name);
+		DataComponent parameters = new DataComponent();
+		parameters.setName(name + " Parameters");
+		for (int i = 0; i < numParameters; i++) {
+			StringEntry entry = new StringEntry();
+			entry.setName("parameter" + i);
+			entry.setValue(String.valueOf(i));
+			parameters.addEntry(entry);
+		}
+		exemplar.addComponent(parameters);
+
+		return exemplar;
+	}
+
 	/**
 	 * This operation adds a component of the specified type to the map.
 	 * 
@@ -15,6 +15,9 @@ package org.eclipse.ice.tests.datastructures.entry;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -194,6 +197,60 @@ public class DiscreteEntryTester {
 		return;
 	}
 
+	/**
+	 * This operation checks that Entries with the same allowed values share
+	 * them, that the shared values can not be changed and that they can be
+	 * replaced by a changed copy.
+	 */
+	@Test
+	public void checkSharedAllowedValues() {
+
+		// Entries created with the same values should share them
+		DiscreteEntry entry = new DiscreteEntry("true", "false");
+		DiscreteEntry otherEntry = new DiscreteEntry(new String("true"),
+				new String("false"));
+		assertSame(entry.getAllowedValues(), otherEntry.getAllowedValues());
+		assertSame("true", otherEntry.getAllowedValues().get(0));
+
+		// Different values should not be shared
+		DiscreteEntry yesNoEntry = new DiscreteEntry("yes", "no");
+		assertNotSame(entry.getAllowedValues(), yesNoEntry.getAllowedValues());
+
+		// The shared table should be equal to the list, but not the list
+		List<String> allowed = new ArrayList<String>();
+		allowed.add("true");
+		allowed.add("false");
+		List<String> shared = DiscreteEntry.shareAllowedValues(allowed);
+		assertEquals(allowed, shared);
+		assertSame(entry.getAllowedValues(), shared);
+		allowed.add("maybe");
+		assertEquals(2, shared.size());
+		assertNull(DiscreteEntry.shareAllowedValues(null));
+
+		// The shared table should not be changeable
+		try {
+			shared.add("maybe");
+			fail();
+		} catch (UnsupportedOperationException e) {
+			// Expected
+		}
+
+		// Setting a value should still be checked against the table
+		assertTrue(otherEntry.setValue("false"));
+		assertFalse(otherEntry.setValue("maybe"));
+
+		// New values are added by setting a changed copy, which leaves the
+		// other Entries alone
+		List<String> values = new ArrayList<String>(
+				otherEntry.getAllowedValues());
+		values.add("maybe");
+		otherEntry.setAllowedValues(values);
+		assertTrue(otherEntry.setValue("maybe"));
+		assertEquals(2, entry.getAllowedValues().size());
+
+		return;
+	}
+
 	/**
 	 * This operation checks the ability of the DiscreteEntry to persist itself to XML
 	 * and to load itself from an XML input stream.
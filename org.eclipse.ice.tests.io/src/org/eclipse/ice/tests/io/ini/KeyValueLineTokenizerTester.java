@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.tests.io.ini;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.ice.io.ini.KeyValueLineTokenizer;
+import org.junit.Test;
+
+/**
+ * This class tests the KeyValueLineTokenizer.
+ *
+ * @author UT-Battelle, LLC
+ *
+ */
+public class KeyValueLineTokenizerTester {
+
+	/**
+	 * The default INI assignment pattern.
+	 */
+	private static final String INI_ASSIGNMENT = "(=|\\b(\\s)+?|\\b\\t)";
+
+	/**
+	 * This operation checks IPS-style tokenizing, where lines are split once
+	 * on a literal and keys and values are kept as they are.
+	 */
+	@Test
+	public void checkSplitOnce() {
+
+		KeyValueLineTokenizer tokenizer = new KeyValueLineTokenizer("#", "=",
+				true, false);
+
+		// A normal line with a comment
+		assertTrue(tokenizer.tokenize("\tNAME = a = b # comment"));
+		assertEquals("\tNAME ", tokenizer.getRawKey());
+		assertEquals(" a = b ", tokenizer.getRawValue());
+		assertEquals("NAME", tokenizer.getKey());
+		assertEquals("a = b", tokenizer.getValue());
+
+		// A commented out assignment
+		assertFalse(tokenizer.tokenize("# NAME = value"));
+		assertNull(tokenizer.getKey());
+		assertTrue(tokenizer.isBlank());
+
+		// An empty key and value
+		assertTrue(tokenizer.tokenize("="));
+		assertTrue(tokenizer.isKeyBlank());
+		assertEquals("", tokenizer.getRawValue());
+
+		// No assignment
+		assertFalse(tokenizer.tokenize("[PORTS]"));
+		assertEquals("[PORTS]", tokenizer.getContent());
+
+		return;
+	}
+
+	/**
+	 * This operation checks INI-style tokenizing, where the key and value are
+	 * the first and last tokens of the trimmed, comment-free content.
+	 */
+	@Test
+	public void checkSplitAll() {
+
+		KeyValueLineTokenizer tokenizer = new KeyValueLineTokenizer(";",
+				INI_ASSIGNMENT, false, true);
+
+		assertTrue(tokenizer.tokenize("  key = value  ; comment"));
+		assertEquals("key = value", tokenizer.getContent());
+		assertEquals("key", tokenizer.getKey());
+		assertEquals("value", tokenizer.getValue());
+
+		assertTrue(tokenizer.tokenize("key\tvalue"));
+		assertEquals("key", tokenizer.getKey());
+		assertEquals("value", tokenizer.getValue());
+
+		assertFalse(tokenizer.tokenize("[section] ; a = b"));
+		assertEquals("[section]", tokenizer.getContent());
+
+		assertFalse(tokenizer.tokenize("lonely"));
+		assertFalse(tokenizer.tokenize(""));
+
+		return;
+	}
+
+	/**
+	 * This operation checks that the tokenizer gives exactly the same keys and
+	 * values as String.split() on many random lines.
+	 */
+	@Test
+	public void checkSplitEquivalence() {
+
+		// Local Declarations
+		String[] assignments = { INI_ASSIGNMENT, "=", "::", "\\s*=\\s*" };
+		String alphabet = "ab =\t;:x ";
+		Random rng = new Random(42);
+
+		for (String assignment : assignments) {
+			for (boolean splitOnce : new boolean[] { true, false }) {
+				KeyValueLineTokenizer tokenizer = new KeyValueLineTokenizer(
+						";", assignment, splitOnce, true);
+				for (int n = 0; n < 10000; n++) {
+					// Create a random line
+					StringBuilder builder = new StringBuilder();
+					int length = rng.nextInt(12);
+					for (int i = 0; i < length; i++) {
+						builder.append(
+								alphabet.charAt(rng.nextInt(alphabet.length())));
+					}
+					String line = builder.toString();
+
+					// Lines that are only comments break String.split()
+					String[] commentSplit = line.split(";");
+					if (commentSplit.length == 0) {
+						continue;
+					}
+					String content = commentSplit[0].trim();
+					String[] tokens = splitOnce ? content.split(assignment, 2)
+							: content.split(assignment);
+
+					// Compare
+					boolean hasPair = tokenizer.tokenize(line);
+					assertEquals(content, tokenizer.getContent());
+					assertEquals(line, tokens.length >= 2, hasPair);
+					if (hasPair) {
+						if (splitOnce) {
+							assertEquals(tokens[0], tokenizer.getRawKey());
+							assertEquals(tokens[1], tokenizer.getRawValue());
+						} else {
+							assertEquals(tokens[0].trim(), tokenizer.getKey());
+							assertEquals(tokens[tokens.length - 1].trim(),
+									tokenizer.getValue());
+						}
+					}
+				}
+			}
+		}
+
+		return;
+	}
+
+}
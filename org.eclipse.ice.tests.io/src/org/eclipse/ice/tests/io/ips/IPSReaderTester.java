@@ -17,6 +17,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 
 import org.eclipse.core.resources.IFile;
@@ -182,4 +184,100 @@ public class IPSReaderTester {
 		// Okay good job
 		return;
 	}
+
+	/**
+	 * Checks the IPSReader on a generated configuration with thousands of
+	 * port components.
+	 */
+	@Test
+	public void checkLargeIPSReader() {
+
+		// Local Declarations
+		int numComponents = 4000;
+		int numParams = 12;
+		String[] portNames = { "INIT_STATE", "AMPERES_THERMAL",
+				"AMPERES_ELECTRICAL", "CHARTRAN_ELECTRICAL_THERMAL_DRIVER",
+				"NTG", "DUALFOIL", "CHARTRAN_THERMAL_DRIVER", "AMPERES" };
+		StringBuilder contents = new StringBuilder();
+
+		// Write the global configuration
+		for (int i = 0; i < 20; i++) {
+			contents.append("GLOBAL_" + i + " = value_" + i + "  # comment\n");
+		}
+
+		// Write the ports table
+		contents.append("[PORTS]\n\tNAMES = ");
+		for (int i = 0; i < numComponents; i++) {
+			contents.append(portNames[i % portNames.length]).append(" ");
+		}
+		contents.append("\n\n");
+		for (int i = 0; i < numComponents; i++) {
+			contents.append("\t[[" + portNames[i % portNames.length] + "]]\n"
+					+ "\t\tIMPLEMENTATION = IMPL_" + i + "\n");
+		}
+		contents.append("\n");
+
+		// Write the components
+		for (int i = 0; i < numComponents; i++) {
+			contents.append("[" + portNames[i % portNames.length] + "]\n");
+			for (int j = 0; j < numParams; j++) {
+				contents.append("\tPARAM_" + j + " = " + i + "_" + j
+						+ " # comment\n");
+			}
+			contents.append("\n");
+		}
+
+		// Write the time loop
+		contents.append("[TIME_LOOP]\n\tMODE = REGULAR\n\tSTART = 0.0\n"
+				+ "\tFINISH = 3600.0\n\tNSTEP = 100\n\tSTEP = 36.0\n");
+
+		// Put the file in the workspace
+		IFile inputFile = projectSpace.getFile("large_ini.conf");
+		try {
+			ByteArrayInputStream stream = new ByteArrayInputStream(contents
+					.toString().getBytes(StandardCharsets.UTF_8));
+			if (inputFile.exists()) {
+				inputFile.setContents(stream, true, false,
+						new NullProgressMonitor());
+			} else {
+				inputFile.create(stream, true, new NullProgressMonitor());
+			}
+		} catch (CoreException e) {
+			e.printStackTrace();
+			fail();
+		}
+
+		// Read it
+		IPSReader reader = new IPSReader();
+		Form form = reader.read(inputFile);
+
+		// Check the Form
+		assertNotNull(form);
+		ArrayList<Component> components = form.getComponents();
+		assertEquals(4, components.size());
+		TableComponent globalConfig = (TableComponent) components.get(1);
+		assertEquals(20, globalConfig.numberOfRows());
+		assertEquals("value_7", globalConfig.getRow(7).get(1).getValue()
+				.trim());
+		TableComponent portsTable = (TableComponent) components.get(2);
+		assertEquals(numComponents, portsTable.numberOfRows());
+		MasterDetailsComponent portsMaster = (MasterDetailsComponent) components
+				.get(3);
+		assertEquals(numComponents, portsMaster.numberOfMasters());
+		DataComponent lastPort = portsMaster
+				.getDetailsAtIndex(numComponents - 1);
+		assertEquals(numParams, lastPort.retrieveAllEntries().size());
+		DataComponent timeLoopData = (DataComponent) components.get(0);
+		assertEquals(5, timeLoopData.retrieveAllEntries().size());
+
+		// Clean up
+		try {
+			inputFile.delete(true, new NullProgressMonitor());
+		} catch (CoreException e) {
+			e.printStackTrace();
+			fail();
+		}
+
+		return;
+	}
 }
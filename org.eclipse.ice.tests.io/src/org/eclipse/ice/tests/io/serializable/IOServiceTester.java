@@ -16,10 +16,18 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.form.Form;
 import org.eclipse.ice.io.serializable.IIOService;
@@ -129,4 +137,109 @@ public class IOServiceTester {
 		assertNull(service.getWriter("SomeOtherWriter"));
 	}
 
+	/**
+	 * This method checks that the IOService detects the format of files from
+	 * their extension and header and that the results are cached until the
+	 * file changes.
+	 */
+	@Test
+	public void checkFindReader() {
+
+		// Local Declarations
+		service = new IOService();
+		final AtomicInteger sniffCount = new AtomicInteger();
+
+		// Create a reader that recognizes files by their header
+		IReader sniffingReader = new IReader() {
+
+			@Override
+			public Form read(IFile file) {
+				return new Form();
+			}
+
+			@Override
+			public ArrayList<IEntry> findAll(IFile file, String regex) {
+				return new ArrayList<IEntry>();
+			}
+
+			@Override
+			public String getReaderType() {
+				return "SniffingReader";
+			}
+
+			@Override
+			public boolean canRead(String fileExtension, String header) {
+				sniffCount.incrementAndGet();
+				return "fake".equals(fileExtension)
+						&& header.startsWith("#FAKE");
+			}
+
+		};
+		service.addReader(sniffingReader);
+
+		try {
+			// Create a project for the files
+			IProject project = ResourcesPlugin.getWorkspace().getRoot()
+					.getProject("IOServiceTester");
+			if (!project.exists()) {
+				project.create(new NullProgressMonitor());
+			}
+			if (!project.isOpen()) {
+				project.open(new NullProgressMonitor());
+			}
+
+			// Create a file that the reader recognizes
+			IFile file = project.getFile("detect.fake");
+			setContents(file, "#FAKE 1\nkey = value\n");
+			assertTrue(sniffingReader == service.findReader(file));
+
+			// The result should be cached while the file is unchanged
+			int count = sniffCount.get();
+			assertTrue(sniffingReader == service.findReader(file));
+			assertEquals(count, sniffCount.get());
+
+			// Changing the header should change the result
+			setContents(file, "not a fake file\n");
+			assertNull(service.findReader(file));
+			assertTrue(sniffCount.get() > count);
+
+			// Unrecognized files are cached too
+			count = sniffCount.get();
+			assertNull(service.findReader(file));
+			assertEquals(count, sniffCount.get());
+
+			// The extension must match too
+			IFile otherFile = project.getFile("detect.txt");
+			setContents(otherFile, "#FAKE 1\n");
+			assertNull(service.findReader(otherFile));
+
+			// Missing files can not be read
+			assertNull(service.findReader(project.getFile("missing.fake")));
+			assertNull(service.findReader(null));
+
+			// Clean up
+			file.delete(true, null);
+			otherFile.delete(true, null);
+		} catch (CoreException e) {
+			e.printStackTrace();
+			fail();
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation creates the file or replaces its contents.
+	 */
+	private void setContents(IFile file, String contents)
+			throws CoreException {
+		ByteArrayInputStream stream = new ByteArrayInputStream(
+				contents.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(stream, true, false, null);
+		} else {
+			file.create(stream, true, null);
+		}
+	}
+
 }
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.tests.io.serializable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.ice.io.serializable.StreamingFileReplacer;
+import org.junit.Test;
+
+/**
+ * This class tests the StreamingFileReplacer.
+ *
+ * @author UT-Battelle, LLC
+ *
+ */
+public class StreamingFileReplacerTester {
+
+	/**
+	 * This operation checks that a single replacement is applied to every
+	 * matching line and that line terminators are preserved.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkReplace() throws IOException {
+
+		Path file = Files.createTempFile("replaceTest", ".conf");
+		try {
+			write(file, "SIM_ROOT = /a/b\r\nNAME = x\nSIM_ROOT = /c\n");
+
+			StreamingFileReplacer replacer = new StreamingFileReplacer(
+					"SIM_ROOT = .*", "SIM_ROOT = /new");
+			assertEquals(2, replacer.replace(file));
+			assertEquals("SIM_ROOT = /new\r\nNAME = x\nSIM_ROOT = /new\n",
+					read(file));
+
+			// A file without a trailing newline should not gain one
+			write(file, "a=1\nb=2");
+			assertEquals(1,
+					new StreamingFileReplacer("b=\\d", "b=3").replace(file));
+			assertEquals("a=1\nb=3", read(file));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation checks that a batch of replacements is applied in order
+	 * in a single pass and that unchanged files are not rewritten.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkBatchReplace() throws IOException {
+
+		Path file = Files.createTempFile("replaceTest", ".i");
+		try {
+			write(file, "x = 1\ny = 2\nz = 3\n");
+
+			// The second replacement sees the output of the first
+			Map<String, String> replacements = new LinkedHashMap<>();
+			replacements.put("x = 1", "x = 10");
+			replacements.put("x = 10", "x = 100");
+			replacements.put("z = \\d+", "z = 30");
+			StreamingFileReplacer replacer = new StreamingFileReplacer(
+					replacements);
+			assertEquals(2, replacer.replace(file));
+			assertEquals("x = 100\ny = 2\nz = 30\n", read(file));
+
+			// Nothing matches, so the file should be left alone
+			long modified = Files.getLastModifiedTime(file).toMillis();
+			assertEquals(0, new StreamingFileReplacer("w = .*", "w = 0")
+					.replace(file));
+			assertEquals(modified, Files.getLastModifiedTime(file).toMillis());
+			assertEquals("x = 100\ny = 2\nz = 30\n", read(file));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation checks that replaced files keep their permissions and
+	 * that matches replaced by the same text are not counted as changes.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkAttributesAndChanges() throws IOException {
+
+		Path file = Files.createTempFile("replaceTest", ".sh");
+		try {
+			write(file, "#!/bin/sh\nexec app -i a.i\nexec app -i b.i\n");
+
+			// Replacing text with itself is not a change
+			assertEquals(0, new StreamingFileReplacer("exec", "exec")
+					.replace(file));
+			assertEquals(1, new StreamingFileReplacer("a\\.i", "b.i")
+					.replace(file));
+			assertEquals("#!/bin/sh\nexec app -i b.i\nexec app -i b.i\n",
+					read(file));
+
+			// Executable scripts stay executable
+			if (Files.getFileAttributeView(file,
+					PosixFileAttributeView.class) != null) {
+				Set<PosixFilePermission> permissions = PosixFilePermissions
+						.fromString("rwxr-xr--");
+				Files.setPosixFilePermissions(file, permissions);
+				assertEquals(2, new StreamingFileReplacer("app", "app-opt")
+						.replace(file));
+				assertEquals(permissions,
+						Files.getPosixFilePermissions(file));
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation checks that files larger than a chunk, with lines and
+	 * multibyte characters that straddle chunk boundaries, are processed
+	 * correctly.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkChunkBoundaries() throws IOException {
+
+		Path file = Files.createTempFile("replaceTest", ".txt");
+		try {
+			StringBuilder original = new StringBuilder();
+			StringBuilder expected = new StringBuilder();
+			for (int i = 0; i < 5000; i++) {
+				original.append("param").append(i).append(" = \u00e9t\u00e9 ")
+						.append(i % 7).append('\n');
+				expected.append("param").append(i).append(" = \u00e9t\u00e9 ")
+						.append(i % 7 == 3 ? "three" : String.valueOf(i % 7))
+						.append('\n');
+			}
+			write(file, original.toString());
+
+			// Use a tiny chunk so that nearly every line crosses a boundary
+			Map<String, String> replacements = new LinkedHashMap<>();
+			replacements.put(" 3$", " three");
+			StreamingFileReplacer replacer = new StreamingFileReplacer(
+					replacements, StandardCharsets.UTF_8, 7);
+			int changed = replacer.replace(file);
+			assertTrue(changed > 0);
+			assertEquals(expected.toString(), read(file));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation checks that workspace files are read and written in
+	 * their own character set, so that files that are not UTF-8 can still be
+	 * rewritten.
+	 *
+	 * @throws CoreException
+	 * @throws IOException
+	 */
+	@Test
+	public void checkFileCharset() throws CoreException, IOException {
+
+		// Local Declarations
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		IProject project = ResourcesPlugin.getWorkspace().getRoot()
+				.getProject("streamingFileReplacerTest");
+		String contents = "NAME = caf\u00e9\nSIM_ROOT = /a\n";
+
+		if (!project.exists()) {
+			project.create(monitor);
+		}
+		project.open(monitor);
+		try {
+			// Create a Latin-1 file, which is not valid UTF-8
+			IFile file = project.getFile("latin1.conf");
+			file.create(new ByteArrayInputStream(
+					contents.getBytes(StandardCharsets.ISO_8859_1)), true,
+					monitor);
+			file.setCharset("ISO-8859-1", monitor);
+
+			assertEquals(1, new StreamingFileReplacer("SIM_ROOT = .*",
+					"SIM_ROOT = /b").replace(file));
+			assertEquals("NAME = caf\u00e9\nSIM_ROOT = /b\n",
+					new String(Files.readAllBytes(
+							file.getLocation().toFile().toPath()),
+							StandardCharsets.ISO_8859_1));
+		} finally {
+			project.delete(true, true, monitor);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation writes a string to the file as UTF-8.
+	 */
+	private void write(Path file, String contents) throws IOException {
+		Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * This operation reads the file as a UTF-8 string.
+	 */
+	private String read(Path file) throws IOException {
+		return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+	}
+
+}
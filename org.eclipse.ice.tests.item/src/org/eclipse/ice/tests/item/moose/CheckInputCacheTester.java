@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.tests.item.moose;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.ice.item.utilities.moose.CheckInputCache;
+import org.eclipse.ice.item.utilities.moose.CheckInputCache.Result;
+import org.junit.Test;
+
+/**
+ * This class checks the CheckInputCache that stores the results of MOOSE
+ * --check-input runs.
+ *
+ * @author UT-Battelle, LLC
+ */
+public class CheckInputCacheTester {
+
+	/**
+	 * This operation checks that inputs that only differ in blank lines,
+	 * comments and trailing whitespace have the same hash and that other
+	 * changes, including changes to the referenced files, change the hash.
+	 */
+	@Test
+	public void checkHashing() {
+
+		String hash = CheckInputCache.hashInput(
+				Arrays.asList("[Mesh]", "  file = mesh.e", "[]"),
+				Collections.<String> emptyList());
+
+		// Formatting and comments should not matter
+		assertEquals(hash,
+				CheckInputCache.hashInput(Arrays.asList("# A comment", "",
+						"[Mesh]  ", "  file = mesh.e\t", "   ", "[]"),
+						Collections.<String> emptyList()));
+
+		// Values and referenced files should
+		assertFalse(hash.equals(CheckInputCache.hashInput(
+				Arrays.asList("[Mesh]", "  file = other.e", "[]"),
+				Collections.<String> emptyList())));
+		String withFile = CheckInputCache.hashInput(
+				Arrays.asList("[Mesh]", "  file = mesh.e", "[]"),
+				Arrays.asList(CheckInputCache.getIdentity("mesh.e", 10, 1)));
+		assertFalse(hash.equals(withFile));
+		assertFalse(withFile.equals(CheckInputCache.hashInput(
+				Arrays.asList("[Mesh]", "  file = mesh.e", "[]"),
+				Arrays.asList(CheckInputCache.getIdentity("mesh.e", 10, 2)))));
+
+		// The order of the referenced files should not matter
+		assertEquals(
+				CheckInputCache.hashInput(Arrays.asList("[]"),
+						Arrays.asList("a", "b")),
+				CheckInputCache.hashInput(Arrays.asList("[]"),
+						Arrays.asList("b", "a")));
+
+		return;
+	}
+
+	/**
+	 * This operation checks that results are stored in the file, that they
+	 * are read back in the order in which they were used and that only the
+	 * most recently used results are kept.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkStorage() throws IOException {
+
+		// Local Declarations
+		Path file = Files.createTempDirectory("checkInput")
+				.resolve("cache.properties");
+		CheckInputCache cache = new CheckInputCache(file, 2);
+
+		// Store a passing and a failing result
+		cache.put("app", "a", new Result(true, null, "ok"));
+		cache.put("app", "b", new Result(false,
+				"*** ERROR ***\nbad block", "*** ERROR ***\nbad block\n"));
+		assertTrue(cache.get("app", "a").isPassed());
+		assertNull(cache.get("other", "a"));
+		assertTrue(Files.exists(file));
+
+		// They should be read back
+		CheckInputCache loaded = new CheckInputCache(file, 2);
+		assertEquals(2, loaded.size());
+		Result result = loaded.get("app", "b");
+		assertFalse(result.isPassed());
+		assertEquals("*** ERROR *** bad block", result.getError());
+		assertEquals("*** ERROR ***\nbad block\n", result.getOutput());
+
+		// "a" was used last, so "b" should be removed
+		loaded.get("app", "a");
+		loaded.put("app", "c", new Result(true, null, ""));
+		assertEquals(2, loaded.size());
+		assertNull(loaded.get("app", "b"));
+		assertNotNull(loaded.get("app", "a"));
+		assertEquals(2, new CheckInputCache(file, 2).size());
+
+		// The order of use should be kept in the file. "y" was used before
+		// "x", so it should be removed first after the file is loaded again.
+		Path orderFile = file.resolveSibling("order.properties");
+		CheckInputCache ordered = new CheckInputCache(orderFile, 2);
+		ordered.put("app", "x", new Result(true, null, ""));
+		ordered.put("app", "y", new Result(true, null, ""));
+		ordered.put("app", "x", new Result(true, null, "again"));
+		CheckInputCache reloaded = new CheckInputCache(orderFile, 2);
+		reloaded.put("app", "z", new Result(true, null, ""));
+		assertNull(reloaded.get("app", "y"));
+		assertEquals("again", reloaded.get("app", "x").getOutput());
+
+		return;
+	}
+
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.tests.item.moose;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.eclipse.ice.datastructures.form.TreeComposite;
+import org.eclipse.ice.item.utilities.moose.Block;
+import org.eclipse.ice.item.utilities.moose.GetPotWriter;
+import org.eclipse.ice.item.utilities.moose.Parameter;
+import org.junit.Test;
+
+/**
+ * This class checks the GetPotWriter that streams MOOSE blocks to GetPot.
+ *
+ * @author UT-Battelle, LLC
+ */
+public class GetPotWriterTester {
+
+	/**
+	 * This operation checks that a block is written exactly like Block writes
+	 * it, including comments, disabled parameters and inactive subblocks.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkWriting() throws IOException {
+
+		// Create a block with every kind of parameter and subblock
+		Block block = createBlock("Kernels", true);
+		Block diffusion = createBlock("diffusion", true);
+		Block inactive = createBlock("reaction", false);
+		inactive.setSubblocks(new ArrayList<Block>(
+				Arrays.asList(createBlock("nested", true))));
+		block.setSubblocks(
+				new ArrayList<Block>(Arrays.asList(diffusion, inactive)));
+		TreeComposite tree = block.toTreeComposite();
+
+		// Write it and compare it to the Block created from the tree
+		StringWriter output = new StringWriter();
+		new GetPotWriter(output).writeBlock(tree);
+		Block reference = new Block();
+		reference.fromTreeComposite(tree);
+		assertEquals(reference.toGetPot(null), output.toString());
+
+		return;
+	}
+
+	/**
+	 * This operation checks that Functions and Variables are written first
+	 * and that inactive blocks are not written to the file.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkFile() throws IOException {
+
+		// Local Declarations
+		TreeComposite mesh = createBlock("Mesh", true).toTreeComposite();
+		TreeComposite variables = createBlock("Variables", true)
+				.toTreeComposite();
+		TreeComposite outputs = createBlock("Outputs", false)
+				.toTreeComposite();
+		TreeComposite functions = createBlock("Functions", true)
+				.toTreeComposite();
+		Path file = Files.createTempFile("getPotWriter", ".i");
+
+		// Write the file
+		GetPotWriter.write(file,
+				Arrays.asList(mesh, variables, outputs, functions));
+
+		// Check the order of the blocks
+		String expected = toGetPot(variables) + toGetPot(functions)
+				+ toGetPot(mesh);
+		assertEquals(expected, new String(Files.readAllBytes(file),
+				Charset.defaultCharset()));
+		Files.delete(file);
+
+		return;
+	}
+
+	/**
+	 * This operation creates a block with a required parameter that has a
+	 * comment, an enabled parameter and a disabled parameter.
+	 *
+	 * @param name
+	 *            The name of the block
+	 * @param active
+	 *            True if the block is active
+	 * @return The block
+	 */
+	private Block createBlock(String name, boolean active) {
+
+		// Local Declarations
+		Block block = new Block();
+		Parameter required = new Parameter(), enabled = new Parameter(),
+				disabled = new Parameter();
+
+		required.setName("variable");
+		required.setDefault("u");
+		required.setRequired(true);
+		required.setComment("The variable?\nof the block");
+		enabled.setName("block");
+		enabled.setDefault("0 1");
+		enabled.setEnabled(true);
+		disabled.setName("a_really_long_parameter_name_for_the_comment");
+		disabled.setDefault("1.0e-8");
+		disabled.setEnabled(false);
+		disabled.setComment("Long");
+
+		block.setName(name);
+		block.setParameters(new ArrayList<Parameter>(
+				Arrays.asList(required, enabled, disabled)));
+		block.setActive(active);
+
+		return block;
+	}
+
+	/**
+	 * This operation writes a tree with Block.
+	 *
+	 * @param tree
+	 *            The tree
+	 * @return The GetPot string
+	 */
+	private String toGetPot(TreeComposite tree) {
+		Block block = new Block();
+		block.fromTreeComposite(tree);
+		return block.toGetPot(null);
+	}
+
+}
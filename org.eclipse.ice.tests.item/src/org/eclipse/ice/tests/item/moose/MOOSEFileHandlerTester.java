@@ -15,6 +15,7 @@ package org.eclipse.ice.tests.item.moose;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -22,7 +23,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 
+import org.eclipse.ice.datastructures.ICEObject.Component;
+import org.eclipse.ice.datastructures.entry.DiscreteEntry;
 import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.form.AdaptiveTreeComposite;
 import org.eclipse.ice.datastructures.form.DataComponent;
@@ -89,6 +94,133 @@ public class MOOSEFileHandlerTester {
 
 	}
 
+	/**
+	 * This operation checks that the exemplar tree of a gold-standard YAML
+	 * file is copied correctly when its exemplars are copied on write.
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	public void checkCopyingYAMLExemplars() throws IOException {
+
+		// Local Declarations
+		String separator = System.getProperty("file.separator");
+		String userDir = System.getProperty("user.home") + separator + "ICETests" + separator + "itemData";
+		String filePath = userDir + separator + "moose_test.yaml";
+		MOOSEFileHandler handler = new MOOSEFileHandler();
+
+		// Put the blocks under a single tree like MOOSEModel does
+		TreeComposite tree = new TreeComposite();
+		tree.setChildExemplars(handler.loadYAML(filePath));
+		assertEquals(42, tree.getChildExemplars().size());
+
+		// The copy should be equal before and after all of its exemplars are
+		// used
+		TreeComposite copy = (TreeComposite) tree.clone();
+		assertEquals(tree, copy);
+		assertEquals(countExemplars(tree), countExemplars(copy));
+		assertEquals(tree, copy);
+
+		return;
+	}
+
+	/**
+	 * This operation checks the memory that is used by the Entries of a full
+	 * MOOSE syntax load and that Entries with the same name or allowed values
+	 * share them.
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	public void checkYAMLEntryFootprint() throws IOException {
+
+		// Local Declarations
+		String separator = System.getProperty("file.separator");
+		String userDir = System.getProperty("user.home") + separator + "ICETests" + separator + "itemData";
+		String filePath = userDir + separator + "moose_test.yaml";
+		MOOSEFileHandler handler = new MOOSEFileHandler();
+
+		// Load the syntax and measure the memory it takes
+		Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		long memory = runtime.totalMemory() - runtime.freeMemory();
+		ArrayList<TreeComposite> blocks = handler.loadYAML(filePath);
+		System.gc();
+		memory = runtime.totalMemory() - runtime.freeMemory() - memory;
+		assertEquals(42, blocks.size());
+
+		// Collect all of the Entries in the blocks and their exemplars
+		ArrayList<IEntry> entries = new ArrayList<IEntry>();
+		for (TreeComposite block : blocks) {
+			collectEntries(block, entries);
+		}
+		assertTrue(entries.size() > 0);
+		System.out.println("MOOSEFileHandlerTester Message: Loaded " + entries.size() + " Entries in " + memory
+				+ " bytes, " + (memory / entries.size()) + " bytes per Entry.");
+
+		// Entries with the same name should share it and boolean Entries should
+		// share their allowed values
+		HashMap<String, String> names = new HashMap<String, String>();
+		List<String> booleanValues = null;
+		for (IEntry entry : entries) {
+			String name = names.get(entry.getName());
+			if (name == null) {
+				names.put(entry.getName(), entry.getName());
+			} else {
+				assertSame(name, entry.getName());
+			}
+			List<String> allowedValues = entry.getAllowedValues();
+			if (entry instanceof DiscreteEntry && allowedValues.size() == 2 && "true".equals(allowedValues.get(0))
+					&& "false".equals(allowedValues.get(1))) {
+				if (booleanValues == null) {
+					booleanValues = allowedValues;
+				} else {
+					assertSame(booleanValues, allowedValues);
+				}
+			}
+		}
+		assertNotNull(booleanValues);
+
+		return;
+	}
+
+	/**
+	 * This operation adds the Entries of the data nodes of a tree and of all
+	 * of its exemplars to a list.
+	 * 
+	 * @param tree
+	 *            The tree
+	 * @param entries
+	 *            The list of Entries
+	 */
+	private void collectEntries(TreeComposite tree, List<IEntry> entries) {
+		for (Component dataNode : tree.getDataNodes()) {
+			if (dataNode instanceof DataComponent) {
+				entries.addAll(((DataComponent) dataNode).retrieveAllEntries());
+			}
+		}
+		for (TreeComposite exemplar : tree.getChildExemplars()) {
+			collectEntries(exemplar, entries);
+		}
+		return;
+	}
+
+	/**
+	 * This operation counts all of the exemplars below a tree, which makes the
+	 * tree take ownership of all of them.
+	 * 
+	 * @param tree
+	 *            The tree
+	 * @return The number of exemplars
+	 */
+	private int countExemplars(TreeComposite tree) {
+		int count = 0;
+		for (TreeComposite exemplar : tree.getChildExemplars()) {
+			count += 1 + countExemplars(exemplar);
+		}
+		return count;
+	}
+
 	/**
 	 * This method is responsible for checking that action syntax file is
 	 * correctly loaded.
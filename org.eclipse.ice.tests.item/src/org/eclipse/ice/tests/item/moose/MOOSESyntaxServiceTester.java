@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.tests.item.moose;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.ice.item.utilities.moose.MOOSESyntaxService;
+import org.eclipse.ice.item.utilities.moose.MOOSESyntaxService.Syntax;
+import org.junit.Test;
+
+/**
+ * This class checks the MOOSESyntaxService with a fake MOOSE application.
+ *
+ * @author UT-Battelle, LLC
+ */
+public class MOOSESyntaxServiceTester {
+
+	/**
+	 * This operation checks that the dumps are parsed from the output of the
+	 * application and that each version of the application is only run once.
+	 *
+	 * @throws IOException
+	 * @throws ExecutionException
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkGeneration()
+			throws IOException, InterruptedException, ExecutionException {
+
+		// Create a fake application that records its runs
+		Path directory = Files.createTempDirectory("mooseSyntax");
+		Path runs = directory.resolve("runs");
+		Path app = directory.resolve("fake-opt");
+		List<String> script = Arrays.asList("#!/bin/sh",
+				"echo \"$1\" >> " + runs.toString(), "sleep 1",
+				"if [ \"$1\" = \"--yaml\" ]; then",
+				"  echo 'Some startup message'",
+				"  echo '**START YAML DATA**'", "  echo '- name: /Mesh'",
+				"  echo '  description: The mesh'",
+				"  echo '**END YAML DATA**'", "else",
+				"  echo '**START SYNTAX DATA**'", "  echo 'Mesh'",
+				"  echo 'Kernels/*'", "  echo '**END SYNTAX DATA**'", "fi");
+		Files.write(app, script);
+		app.toFile().setExecutable(true);
+		File executable = app.toFile();
+
+		// Concurrent requests should share one generation
+		CompletableFuture<Syntax> first = MOOSESyntaxService
+				.getSyntax(executable);
+		assertSame(first, MOOSESyntaxService.getSyntax(executable));
+
+		// Check the parsed dumps
+		Syntax syntax = first.get();
+		assertEquals(1, syntax.getYAMLBlocks().size());
+		Map<?, ?> block = (Map<?, ?>) syntax.getYAMLBlocks().get(0);
+		assertEquals("/Mesh", block.get("name"));
+		assertEquals(Arrays.asList("Mesh", "Kernels/*"),
+				syntax.getActionSyntax());
+		assertEquals(2, Files.readAllLines(runs).size());
+
+		// Later requests should reuse it
+		assertSame(syntax, MOOSESyntaxService.getSyntax(executable).get());
+		assertEquals(2, Files.readAllLines(runs).size());
+
+		// A new version of the application should be run again
+		Files.setLastModifiedTime(app, FileTime.fromMillis(
+				Files.getLastModifiedTime(app).toMillis() + 10000));
+		assertTrue(syntax != MOOSESyntaxService.getSyntax(executable).get());
+		assertEquals(4, Files.readAllLines(runs).size());
+
+		// Missing applications should fail
+		try {
+			MOOSESyntaxService.getSyntax(new File(directory.toFile(), "none"))
+					.get();
+			fail();
+		} catch (ExecutionException e) {
+			// Expected
+		}
+
+		return;
+	}
+
+}
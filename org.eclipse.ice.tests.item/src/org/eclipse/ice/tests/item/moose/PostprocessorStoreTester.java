@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.ice.tests.item.moose;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.ice.item.utilities.moose.PostprocessorStore;
+import org.junit.Test;
+
+/**
+ * This class checks the MOOSE PostprocessorStore.
+ *
+ * @author UT-Battelle, LLC
+ */
+public class PostprocessorStoreTester {
+
+	/**
+	 * This operation checks that points are kept in memory and can be read
+	 * incrementally.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkAddingPoints() throws IOException {
+
+		// Local Declarations
+		Path directory = Files.createTempDirectory("ppStore");
+		PostprocessorStore store = new PostprocessorStore(directory, null);
+
+		// Add some points to two Postprocessors
+		assertTrue(store.add("temperature", 0.0, 300.0));
+		assertFalse(store.add("temperature", 0.5, 310.0));
+		assertTrue(store.add("pressure", 0.5, 1.0));
+		store.addAll("temperature", new double[] { 1.0, 1.5, 9.0 },
+				new double[] { 320.0, 330.0, 9.0 }, 2);
+
+		// Check the names and sizes
+		assertEquals(Arrays.asList("temperature", "pressure"),
+				store.getNames());
+		assertEquals(4, store.getSize("temperature"));
+		assertEquals(1, store.getSize("pressure"));
+		assertEquals(0, store.getSize("flux"));
+
+		// Check the points, including reading only the new ones
+		assertArrayEquals(new double[] { 0.0, 0.5, 1.0, 1.5 },
+				store.getTimes("temperature", 0), 0.0);
+		assertArrayEquals(new double[] { 320.0, 330.0 },
+				store.getValues("temperature", 2), 0.0);
+		assertEquals(0, store.getValues("temperature", 4).length);
+		assertEquals(0, store.getTimes("flux", 0).length);
+
+		// Add enough points to grow the arrays
+		for (int i = 0; i < 1000; i++) {
+			store.add("pressure", i, 2.0 * i);
+		}
+		assertEquals(1001, store.getSize("pressure"));
+		assertEquals(1998.0, store.getValues("pressure", 1000)[0], 0.0);
+
+		store.close();
+
+		return;
+	}
+
+	/**
+	 * This operation checks that the points are written to the CSV files in
+	 * chunks and that the listener is told about new files.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkFlushing() throws IOException {
+
+		// Local Declarations
+		Path directory = Files.createTempDirectory("ppStore");
+		final List<List<String>> flushes = new ArrayList<List<String>>();
+		Consumer<List<String>> listener = new Consumer<List<String>>() {
+			@Override
+			public void accept(List<String> createdFiles) {
+				synchronized (flushes) {
+					flushes.add(createdFiles);
+				}
+			}
+		};
+		// Use a long delay so that only full chunks and explicit flushes
+		// write the files
+		PostprocessorStore store = new PostprocessorStore(directory,
+				listener, 4, 60000);
+
+		// Nothing should be written until there is a full chunk
+		store.add("temperature", 0.0, 300.0);
+		store.add("temperature", 0.5, 310.0);
+		store.add("temperature", 1.0, 320.0);
+		assertFalse(Files.exists(store.getFile("temperature")));
+
+		// A full chunk should be written without waiting for the delay
+		store.add("temperature", 1.5, 330.0);
+		for (int i = 0; i < 100
+				&& !Files.exists(store.getFile("temperature")); i++) {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				fail();
+			}
+		}
+		store.flush();
+		List<String> lines = Files.readAllLines(store.getFile("temperature"));
+		assertEquals(Arrays.asList("Time,temperature", "0.0,300.0",
+				"0.5,310.0", "1.0,320.0", "1.5,330.0"), lines);
+		synchronized (flushes) {
+			assertEquals(1, flushes.size());
+			assertEquals(Arrays.asList("temperature"), flushes.get(0));
+		}
+
+		// More points should be appended without another header
+		store.add("temperature", 2.0, 340.0);
+		store.add("pressure", 2.0, 1.0);
+		store.flush();
+		lines = Files.readAllLines(store.getFile("temperature"));
+		assertEquals(6, lines.size());
+		assertEquals("2.0,340.0", lines.get(5));
+		assertEquals(Arrays.asList("Time,pressure", "2.0,1.0"),
+				Files.readAllLines(store.getFile("pressure")));
+		synchronized (flushes) {
+			assertEquals(2, flushes.size());
+			assertEquals(Arrays.asList("pressure"), flushes.get(1));
+		}
+
+		// Closing should write the remaining points and prevent new ones
+		store.add("pressure", 2.5, 1.5);
+		store.close();
+		assertEquals(3, Files.readAllLines(store.getFile("pressure")).size());
+		try {
+			store.add("pressure", 3.0, 2.0);
+			fail();
+		} catch (IllegalStateException e) {
+			// Expected
+		}
+		assertEquals(2, store.getSize("pressure"));
+
+		return;
+	}
+
+}
@@ -13,6 +13,7 @@ package org.eclipse.tests.ice.item;
 
 import java.util.HashMap;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.ice.io.serializable.IIOService;
 import org.eclipse.ice.io.serializable.IReader;
 import org.eclipse.ice.io.serializable.ITemplatedReader;
@@ -182,6 +183,29 @@ public class FakeIOService implements IIOService {
 		return null;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.io.serializable.IIOService#findReader(org.eclipse.core.
+	 * resources.IFile)
+	 */
+	@Override
+	public IReader findReader(IFile file) {
+
+		// Only check extensions. The fake does not read headers or cache.
+		if (file != null && file.getFileExtension() != null) {
+			String extension = file.getFileExtension().toLowerCase();
+			for (IReader reader : readerMap.values()) {
+				if (reader.canRead(extension, "")) {
+					return reader;
+				}
+			}
+		}
+
+		return null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -38,6 +38,58 @@ public class FakeMaterialsDatabase implements IMaterialsDatabase {
 		return null;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.ice.materials.IMaterialsDatabase#getMaterial(java.lang.
+	 * String)
+	 */
+	@Override
+	public Material getMaterial(String name) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.materials.IMaterialsDatabase#getMaterialsByElement(java
+	 * .lang.String)
+	 */
+	@Override
+	public List<Material> getMaterialsByElement(String element) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.materials.IMaterialsDatabase#getMaterialsWithComponent(
+	 * java.lang.String)
+	 */
+	@Override
+	public List<Material> getMaterialsWithComponent(String component) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.ice.materials.IMaterialsDatabase#getMaterialsInRange(java.
+	 * lang.String, double, double)
+	 */
+	@Override
+	public List<Material> getMaterialsInRange(String property, double min,
+			double max) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -1280,6 +1280,45 @@ public class ItemTester implements ItemListener {
 		assertTrue(fakeReader == testItem.getTestReader());
 		assertTrue(fakeWriter == testItem.getTestWriter());
 
+		// Create an IReader that is only found by detecting the format
+		IReader detectedReader = new IReader() {
+
+			@Override
+			public Form read(IFile file) {
+				return new Form();
+			}
+
+			@Override
+			public ArrayList<IEntry> findAll(IFile file, String regex) {
+				return new ArrayList<IEntry>();
+			}
+
+			@Override
+			public String getReaderType() {
+				return "detected";
+			}
+
+			@Override
+			public boolean canRead(String fileExtension, String header) {
+				return "conf".equals(fileExtension);
+			}
+
+		};
+
+		// Without an IReader for its IO type, the Item should get the one
+		// detected for the file
+		IIOService detectingService = new FakeIOService();
+		detectingService.addReader(detectedReader);
+		testItem.setIOService(detectingService);
+		IFile file = ResourcesPlugin.getWorkspace().getRoot()
+				.getProject("itemTesterWorkspace").getFile("input.conf");
+		assertNull(testItem.getTestReader());
+		assertTrue(detectedReader == testItem.getTestReader(file));
+
+		// The IReader of the IO type still comes first
+		detectingService.addReader(fakeReader);
+		assertTrue(fakeReader == testItem.getTestReader(file));
+
 		return;
 	}
 
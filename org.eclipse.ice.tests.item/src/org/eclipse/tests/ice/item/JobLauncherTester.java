@@ -25,11 +25,15 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 import javax.xml.bind.JAXBException;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IResource;
@@ -43,6 +47,7 @@ import org.eclipse.ice.datastructures.form.Form;
 import org.eclipse.ice.datastructures.jaxbclassprovider.ICEJAXBClassProvider;
 import org.eclipse.ice.item.jobLauncher.JobLauncher;
 import org.eclipse.ice.item.jobLauncher.JobLauncherForm;
+import org.eclipse.ice.item.jobLauncher.sweep.ParameterSweep;
 import org.junit.Test;
 
 /**
@@ -857,4 +862,76 @@ public class JobLauncherTester {
 
 		return;
 	}
+
+	/**
+	 * This operation checks that jobs which are launched at the same time,
+	 * like the cases of a parameter sweep, each get their own local job launch
+	 * folder.
+	 */
+	@Test
+	public void checkConcurrentLaunchFolders() {
+
+		// Local Declarations
+		IWorkspaceRoot workspaceRoot = ResourcesPlugin.getWorkspace().getRoot();
+		IProject project = null;
+		String separator = System.getProperty("file.separator");
+		List<TestJobLauncher> launchers = new ArrayList<TestJobLauncher>();
+		Set<String> names = new HashSet<String>();
+
+		// Setup the project
+		try {
+			project = workspaceRoot.getProject("itemTesterWorkspace");
+			if (!project.exists()) {
+				URI defaultProjectLocation = (new File(
+						System.getProperty("user.dir") + separator
+								+ "itemTesterWorkspace")).toURI();
+				IProjectDescription projectDesc = ResourcesPlugin
+						.getWorkspace()
+						.newProjectDescription("itemTesterWorkspace");
+				projectDesc.setLocationURI(defaultProjectLocation);
+				project.create(projectDesc, null);
+			}
+			if (project.exists() && !project.isOpen()) {
+				project.open(null);
+			}
+		} catch (CoreException e) {
+			e.printStackTrace();
+			fail();
+		}
+
+		// Create jobs with ids and names like the SweepLauncher gives its
+		// cases. The last two have the same id and name, so only the counter
+		// tells them apart.
+		for (int i = 0; i < 8; i++) {
+			TestJobLauncher job = new TestJobLauncher(project);
+			job.setId(100 + Math.min(i, 6));
+			job.setName("Concurrent Launch_case_" + Math.min(i, 6));
+			launchers.add(job);
+		}
+
+		// Create their folders at the same time
+		List<IFolder> folders = ParameterSweep.runAll(launchers,
+				job -> job.createJobFolderForTest(), launchers.size());
+
+		// Every launch must have its own folder
+		for (IFolder folder : folders) {
+			assertNotNull(folder);
+			assertTrue(folder.exists());
+			assertTrue(folder.getName().startsWith("iceLaunch_"));
+			assertTrue(names.add(folder.getName()));
+		}
+		assertEquals(launchers.size(), names.size());
+
+		// Clean up
+		try {
+			for (IFolder folder : folders) {
+				folder.delete(true, null);
+			}
+		} catch (CoreException e) {
+			e.printStackTrace();
+			fail();
+		}
+
+		return;
+	}
 }
\ No newline at end of file
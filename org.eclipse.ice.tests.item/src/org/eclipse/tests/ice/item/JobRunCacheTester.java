@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.tests.ice.item;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ice.item.jobLauncher.JobRunCache;
+import org.junit.Test;
+
+/**
+ * This class checks the JobRunCache that lets JobLaunchers reuse the output of
+ * identical runs.
+ *
+ * @author UT-Battelle, LLC
+ */
+public class JobRunCacheTester {
+
+	/**
+	 * This operation checks that runs are keyed on the contents of the input
+	 * files, the arguments and the executable.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkFingerprint() throws IOException {
+
+		// Local Declarations
+		Path directory = Files.createTempDirectory("jobRunCache");
+		Path install = Files.createDirectory(directory.resolve("bin"));
+		Path executable = Files.write(install.resolve("app-opt"),
+				"binary".getBytes());
+		Path first = Files.createDirectory(directory.resolve("case_1"));
+		Path second = Files.createDirectory(directory.resolve("case_2"));
+		Path input = Files.write(first.resolve("input.i"), "a = 1\n".getBytes());
+		Path copy = Files.write(second.resolve("input.i"), "a = 1\n".getBytes());
+		List<String> inputs = Arrays.asList("inputFile", "Mesh");
+		List<String> ignored = Arrays.asList("localJobLaunchDirectory");
+
+		Map<String, String> arguments = createArguments(input, install);
+		String key = JobRunCache.fingerprint(arguments, inputs, ignored);
+
+		// The same input in another place is the same run
+		assertEquals(key, JobRunCache.fingerprint(
+				createArguments(copy, install), inputs, ignored));
+
+		// So is a run in another job folder
+		arguments.put("localJobLaunchDirectory", "iceLaunch_2");
+		assertEquals(key,
+				JobRunCache.fingerprint(arguments, inputs, ignored));
+
+		// Other arguments and inputs are not
+		arguments.put("numProcs", "2");
+		assertFalse(key
+				.equals(JobRunCache.fingerprint(arguments, inputs, ignored)));
+		Files.write(copy, "a = 2\n".getBytes());
+		assertFalse(key.equals(JobRunCache.fingerprint(
+				createArguments(copy, install), inputs, ignored)));
+
+		// Neither is a rebuilt executable
+		Files.setLastModifiedTime(executable, FileTime.fromMillis(
+				Files.getLastModifiedTime(executable).toMillis() - 10000));
+		assertFalse(key.equals(JobRunCache.fingerprint(
+				createArguments(input, install), inputs, ignored)));
+
+		// Executables that can not be found are identified by name
+		assertEquals("missing-app",
+				JobRunCache.getExecutableIdentity("missing-app -i", null));
+
+		return;
+	}
+
+	/**
+	 * This operation checks that the input files that are not named like
+	 * files, such as the meshes of MOOSE, and the scripts that are passed to
+	 * an interpreter are part of the key of a run.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkDependencies() throws IOException {
+
+		// Local Declarations
+		Path directory = Files.createTempDirectory("jobRunCache");
+		Path install = Files.createDirectory(directory.resolve("bin"));
+		Path script = Files.write(install.resolve("run.py"),
+				"print('run')\n".getBytes());
+		Path input = Files.write(directory.resolve("input.i"),
+				"a = 1\n".getBytes());
+		Path mesh = Files.write(directory.resolve("square.e"),
+				"mesh".getBytes());
+		List<String> inputs = Arrays.asList("inputFile", "Mesh");
+		List<String> ignored = Arrays.asList("localJobLaunchDirectory");
+
+		Map<String, String> arguments = createArguments(input, install);
+		arguments.put("Mesh", mesh.toString());
+		arguments.put("executable",
+				"python ${installDir}run.py -i ${inputFile}");
+		String key = JobRunCache.fingerprint(arguments, inputs, ignored);
+
+		// Editing the mesh in place changes the run
+		Files.write(mesh, "refined mesh".getBytes());
+		String meshKey = JobRunCache.fingerprint(arguments, inputs, ignored);
+		assertFalse(key.equals(meshKey));
+
+		// So does changing the script
+		Files.write(script, "print('rebuilt')\n".getBytes());
+		assertFalse(meshKey
+				.equals(JobRunCache.fingerprint(arguments, inputs, ignored)));
+
+		// Files are found in options too
+		String identity = JobRunCache.getExecutableIdentity(
+				"python --script=${installDir}run.py", install.toString());
+		assertTrue(identity.contains(
+				script.toAbsolutePath().normalize().toString()));
+
+		return;
+	}
+
+	/**
+	 * This operation checks that the output of a run is restored into a new
+	 * job folder and that the cache does not share its files with the job
+	 * folders.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkStoreAndRestore() throws IOException {
+
+		// Local Declarations
+		Path directory = Files.createTempDirectory("jobRunCache");
+		JobRunCache cache = new JobRunCache(directory.resolve("cache"),
+				JobRunCache.DEFAULT_MAX_AGE, JobRunCache.DEFAULT_MAX_SIZE);
+		Path firstJob = Files.createDirectory(directory.resolve("job_1"));
+		Path secondJob = Files.createDirectory(directory.resolve("job_2"));
+
+		// Run the first job
+		Files.write(firstJob.resolve("out.e"), "exodus".getBytes());
+		Files.createDirectory(firstJob.resolve("csv"));
+		Files.write(firstJob.resolve("csv").resolve("out.csv"),
+				"time,u\n".getBytes());
+		Path firstStdOut = Files.write(firstJob.resolve("job_stdout_1.txt"),
+				"Solve converged\n".getBytes());
+		assertFalse(cache.restore("key", secondJob,
+				createLogs(firstJob.resolve("unused.txt"))));
+		cache.store("key", firstJob, createLogs(firstStdOut));
+		// Changing the first job after it is stored does not change the cache
+		Files.write(firstJob.resolve("out.e"), "rerun".getBytes());
+
+		// Restore it in the second job
+		Path secondStdOut = Files.write(secondJob.resolve("job_stdout_2.txt"),
+				"header\n".getBytes());
+		assertTrue(cache.restore("key", secondJob, createLogs(secondStdOut)));
+		assertEquals("exodus",
+				new String(Files.readAllBytes(secondJob.resolve("out.e"))));
+		assertEquals("time,u\n", new String(Files.readAllBytes(
+				secondJob.resolve("csv").resolve("out.csv"))));
+		assertEquals("Solve converged\n",
+				new String(Files.readAllBytes(secondStdOut)));
+		// The log of the first job is not an output file
+		assertFalse(Files.exists(secondJob.resolve("job_stdout_1.txt")));
+
+		// Neither does changing the restored output
+		Files.write(secondJob.resolve("out.e"), "edited".getBytes());
+		Path thirdJob = Files.createDirectory(directory.resolve("job_3"));
+		assertTrue(cache.restore("key", thirdJob,
+				createLogs(thirdJob.resolve("job_stdout_3.txt"))));
+		assertEquals("exodus",
+				new String(Files.readAllBytes(thirdJob.resolve("out.e"))));
+
+		// Other runs are not in the cache
+		assertFalse(cache.restore("otherKey", secondJob,
+				createLogs(secondStdOut)));
+
+		return;
+	}
+
+	/**
+	 * This operation checks that old runs and the least recently used runs
+	 * are removed.
+	 *
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void checkEviction() throws IOException, InterruptedException {
+
+		// Local Declarations
+		Path directory = Files.createTempDirectory("jobRunCache");
+		JobRunCache cache = new JobRunCache(directory.resolve("cache"),
+				JobRunCache.DEFAULT_MAX_AGE, 25);
+		Path job = Files.createDirectory(directory.resolve("job"));
+		Path restored = Files.createDirectory(directory.resolve("restored"));
+		Map<String, Path> noLogs = Collections.emptyMap();
+
+		// Each run is 10 bytes, so only two fit
+		Files.write(job.resolve("out.txt"), "0123456789".getBytes());
+		cache.store("first", job, noLogs);
+		Thread.sleep(20);
+		cache.store("second", job, noLogs);
+		Thread.sleep(20);
+		// Using the first run makes the second the least recently used
+		assertTrue(cache.restore("first", restored, noLogs));
+		Thread.sleep(20);
+		cache.store("third", job, noLogs);
+		assertTrue(Files.exists(cache.getDirectory().resolve("first")));
+		assertFalse(Files.exists(cache.getDirectory().resolve("second")));
+		assertTrue(Files.exists(cache.getDirectory().resolve("third")));
+
+		// Old runs are removed
+		cache.setMaxAge(-1);
+		assertFalse(cache.restore("first", restored, noLogs));
+		assertFalse(Files.exists(cache.getDirectory().resolve("first")));
+		cache.evict();
+		assertFalse(Files.exists(cache.getDirectory().resolve("third")));
+
+		return;
+	}
+
+	/**
+	 * This operation creates the arguments of a launch like those in the
+	 * action data map of a JobLauncher.
+	 *
+	 * @param input
+	 *            The input file
+	 * @param install
+	 *            The installation directory of the executable
+	 * @return The arguments
+	 */
+	private Map<String, String> createArguments(Path input, Path install) {
+		Map<String, String> arguments = new HashMap<String, String>();
+		arguments.put("executable", "${installDir}app-opt -i ${inputFile}");
+		arguments.put("installDir", install.toString());
+		arguments.put("inputFile", input.toString());
+		arguments.put("hostname", "localhost");
+		arguments.put("numProcs", "1");
+		arguments.put("localJobLaunchDirectory", "iceLaunch_1");
+		return arguments;
+	}
+
+	/**
+	 * This operation creates the logs of a run.
+	 *
+	 * @param stdOut
+	 *            The standard output of the run
+	 * @return The logs
+	 */
+	private Map<String, Path> createLogs(Path stdOut) {
+		Map<String, Path> logs = new LinkedHashMap<String, Path>();
+		logs.put("stdout", stdOut);
+		return logs;
+	}
+
+}
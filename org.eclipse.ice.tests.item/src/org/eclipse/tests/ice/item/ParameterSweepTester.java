@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 UT-Battelle, LLC.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Initial API and implementation and/or initial documentation - UT-Battelle, LLC
+ *******************************************************************************/
+package org.eclipse.tests.ice.item;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ice.item.jobLauncher.sweep.ParameterSweep;
+import org.eclipse.ice.item.jobLauncher.sweep.ParameterSweep.Sampling;
+import org.eclipse.ice.item.jobLauncher.sweep.SweepParameter;
+import org.junit.Test;
+
+/**
+ * This class checks the ParameterSweep and SweepParameter classes that create
+ * the cases of the SweepLauncher.
+ *
+ * @author UT-Battelle, LLC
+ */
+public class ParameterSweepTester {
+
+	/**
+	 * This operation checks that parameters are parsed from lists and ranges.
+	 */
+	@Test
+	public void checkParameters() {
+
+		// Lists
+		SweepParameter list = SweepParameter.parse("order", "FIRST, SECOND,");
+		assertFalse(list.isRange());
+		assertEquals(Arrays.asList("FIRST", "SECOND"), list.getValues(10));
+		assertEquals("SECOND", list.sample(0.99));
+
+		// Ranges
+		SweepParameter range = SweepParameter.parse("k", " 1.0 : 2.0 ");
+		assertTrue(range.isRange());
+		assertEquals(Arrays.asList("1.0", "1.5", "2.0"), range.getValues(3));
+		assertEquals("1.25", range.sample(0.25));
+
+		// Values with colons are not ranges
+		assertEquals(Arrays.asList("a:b"),
+				SweepParameter.parse("file", "a:b").getValues(1));
+
+		// Parameters need values
+		try {
+			SweepParameter.parse("empty", " , ");
+			fail();
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation checks the cases of grid, list and Latin hypercube
+	 * sweeps.
+	 */
+	@Test
+	public void checkCases() {
+
+		// Local Declarations
+		List<SweepParameter> parameters = Arrays.asList(
+				SweepParameter.parse("a", "1, 2, 3"),
+				SweepParameter.parse("b", "x, y"));
+
+		// Grids have every combination
+		List<Map<String, String>> cases = new ParameterSweep(parameters,
+				Sampling.Grid, 1, 0).createCases();
+		assertEquals(6, cases.size());
+		assertEquals(createCase("1", "x"), cases.get(0));
+		assertEquals(createCase("3", "y"), cases.get(5));
+
+		// Lists pair the values and need them to be the same length
+		try {
+			new ParameterSweep(parameters, Sampling.List, 1, 0).createCases();
+			fail();
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+		cases = new ParameterSweep(
+				Arrays.asList(SweepParameter.parse("a", "1, 2, 1"),
+						SweepParameter.parse("b", "x")),
+				Sampling.List, 1, 0).createCases();
+		// The identical third case should be removed
+		assertEquals(Arrays.asList(createCase("1", "x"), createCase("2", "x")),
+				cases);
+
+		// Latin hypercubes sample each stratum of each parameter once
+		parameters = Arrays.asList(SweepParameter.parse("a", "0:10"),
+				SweepParameter.parse("b", "0:1"));
+		cases = new ParameterSweep(parameters, Sampling.LatinHypercube, 10,
+				42).createCases();
+		assertEquals(10, cases.size());
+		Set<Integer> strataA = new HashSet<Integer>();
+		Set<Integer> strataB = new HashSet<Integer>();
+		for (Map<String, String> sample : cases) {
+			strataA.add((int) Double.parseDouble(sample.get("a")));
+			strataB.add((int) (Double.parseDouble(sample.get("b")) * 10));
+		}
+		assertEquals(10, strataA.size());
+		assertEquals(10, strataB.size());
+		// The same seed creates the same cases
+		assertEquals(cases, new ParameterSweep(parameters,
+				Sampling.LatinHypercube, 10, 42).createCases());
+
+		return;
+	}
+
+	/**
+	 * This operation checks that the replacements fill in templates with the
+	 * values literally and that identical files have the same hash.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void checkInputs() throws IOException {
+
+		// Local Declarations
+		Map<String, String> values = new LinkedHashMap<String, String>();
+		values.put("a.b", "$1\\2");
+		String template = "x = ${a.b} and ${a_b}";
+
+		// Fill in the template
+		for (Map.Entry<String, String> replacement : ParameterSweep
+				.createReplacements(values).entrySet()) {
+			template = template.replaceAll(replacement.getKey(),
+					replacement.getValue());
+		}
+		assertEquals("x = $1\\2 and ${a_b}", template);
+
+		// Hash some files
+		Path directory = Files.createTempDirectory("parameterSweep");
+		Path first = Files.write(directory.resolve("first"),
+				"a = 1\n".getBytes());
+		Path second = Files.write(directory.resolve("second"),
+				"a = 1\n".getBytes());
+		Path third = Files.write(directory.resolve("third"),
+				"a = 2\n".getBytes());
+		assertEquals(ParameterSweep.hashFile(first),
+				ParameterSweep.hashFile(second));
+		assertFalse(ParameterSweep.hashFile(first)
+				.equals(ParameterSweep.hashFile(third)));
+
+		return;
+	}
+
+	/**
+	 * This operation checks that tasks are run in order with the given limit
+	 * on how many run at the same time.
+	 */
+	@Test
+	public void checkConcurrencyLimit() {
+
+		// Local Declarations
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger maxRunning = new AtomicInteger();
+		List<Integer> tasks = new ArrayList<Integer>();
+		for (int i = 0; i < 12; i++) {
+			tasks.add(i);
+		}
+
+		// Run tasks that take a little while
+		List<Integer> results = ParameterSweep.runAll(tasks, task -> {
+			int count = running.incrementAndGet();
+			maxRunning.accumulateAndGet(count, Math::max);
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			running.decrementAndGet();
+			return task * 2;
+		}, 3);
+
+		assertEquals(12, results.size());
+		assertEquals(Integer.valueOf(22), results.get(11));
+		assertTrue(maxRunning.get() <= 3);
+		assertTrue(maxRunning.get() > 1);
+
+		// Failures are reported
+		try {
+			ParameterSweep.runAll(tasks, task -> {
+				if (task == 5) {
+					throw new IllegalArgumentException("Bad task");
+				}
+				return task;
+			}, 2);
+			fail();
+		} catch (IllegalStateException e) {
+			assertTrue(e.getCause() instanceof IllegalArgumentException);
+		}
+
+		return;
+	}
+
+	/**
+	 * This operation creates a case of the parameters a and b.
+	 *
+	 * @param a
+	 *            The value of a
+	 * @param b
+	 *            The value of b
+	 * @return The case
+	 */
+	private Map<String, String> createCase(String a, String b) {
+		Map<String, String> values = new LinkedHashMap<String, String>();
+		values.put("a", a);
+		values.put("b", b);
+		return values;
+	}
+
+}
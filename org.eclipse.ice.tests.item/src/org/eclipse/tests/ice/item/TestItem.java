@@ -16,6 +16,7 @@ import java.util.ArrayList;
 
 import javax.xml.bind.annotation.XmlRootElement;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.ice.datastructures.entry.IEntry;
 import org.eclipse.ice.datastructures.entry.StringEntry;
@@ -356,6 +357,18 @@ public class TestItem extends Item {
 		return getReader();
 	}
 
+	/**
+	 * This method is just a utility for ItemTester to check the IReader that
+	 * is picked for a file.
+	 * 
+	 * @param file
+	 *            The file
+	 * @return The IReader for the file
+	 */
+	public IReader getTestReader(IFile file) {
+		return getReader(file);
+	}
+
 	/**
 	 * This method is just a utility for ItemTester to check that the IWriter
 	 * reference is valid.
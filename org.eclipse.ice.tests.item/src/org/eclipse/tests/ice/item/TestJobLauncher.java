@@ -14,6 +14,7 @@ package org.eclipse.tests.ice.item;
 
 import java.util.ArrayList;
 
+import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.ice.item.IActionFactory;
 import org.eclipse.ice.item.Item;
@@ -73,6 +74,17 @@ public class TestJobLauncher extends JobLauncher {
 		return getActionFactory();
 	}
 
+	/**
+	 * This operation creates the folder of a local job launch so that the
+	 * tests can check that launches which start together get their own
+	 * folders.
+	 * 
+	 * @return The folder or null if it could not be created
+	 */
+	public IFolder createJobFolderForTest() {
+		return createLocalJobLaunchFolder();
+	}
+
 	/**
 	 * For the tests, we just need to run remote execution
 	 */
@@ -13,13 +13,19 @@
 package org.eclipse.ice.tests.materials;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.xml.bind.JAXBContext;
@@ -87,6 +93,11 @@ public class XMLMaterialDatabaseTester {
 	 */
 	@AfterClass
 	public static void after() {
+		// Delete the change log
+		File changeLog = new File(userTestFile.getPath() + ".log");
+		if (changeLog.exists()) {
+			changeLog.delete();
+		}
 		// Delete the user test file
 		if (userTestFile.exists()) {
 			userTestFile.delete();
@@ -230,4 +241,204 @@ public class XMLMaterialDatabaseTester {
 			fail();
 		}
 	}
+
+	/**
+	 * This operation checks the queries for materials by name, element,
+	 * component and property value.
+	 *
+	 * @throws JAXBException
+	 */
+	@Test
+	public void checkQueries() throws JAXBException {
+
+		// Create CO2 and H2O and a table of isotopes of made up elements Ea
+		// to Ez with densities from 0 to 29.99.
+		Material co2 = TestMaterialFactory.createCO2();
+		Material h2o = TestMaterialFactory.createH2O();
+		ArrayList<Material> materials = new ArrayList<Material>();
+		materials.add(co2);
+		materials.add(h2o);
+		for (int i = 0; i < 3000; i++) {
+			Material isotope = new Material();
+			isotope.setName((i / 26 + 1) + "E" + (char) ('a' + i % 26));
+			isotope.setProperty(Material.DENSITY, i / 100.0);
+			materials.add(isotope);
+		}
+		XMLMaterialsDatabase database = startDatabase(materials);
+
+		// Check the lookup by name
+		assertEquals(co2, database.getMaterial("CO2"));
+		assertNull(database.getMaterial("Phutureprimitive"));
+		assertNull(database.getMaterial(null));
+
+		// Check the lookup by element. The isotopes should be sorted.
+		List<Material> isotopes = database.getMaterialsByElement("Ea");
+		assertEquals(116, isotopes.size());
+		assertEquals("1Ea", isotopes.get(0).getName());
+		assertEquals("2Ea", isotopes.get(1).getName());
+		assertTrue(database.getMaterialsByElement("Phutureprimitive")
+				.isEmpty());
+
+		// Check the lookup by component
+		List<Material> oxides = database.getMaterialsWithComponent("O");
+		assertEquals(Arrays.asList(co2, h2o), oxides);
+		assertEquals(Arrays.asList(h2o),
+				database.getMaterialsWithComponent("H"));
+
+		// Check the lookup by property value
+		List<Material> dense = database.getMaterialsInRange(Material.DENSITY,
+				1.0, 2.0);
+		assertEquals(101, dense.size());
+		for (Material material : dense) {
+			double density = material.getProperty(Material.DENSITY);
+			assertTrue(density >= 1.0 && density <= 2.0);
+		}
+		assertTrue(database.getMaterialsInRange(Material.DENSITY, 2.0, 1.0)
+				.isEmpty());
+		assertTrue(database.getMaterialsInRange("Phutureprimitive", 0.0, 1.0)
+				.isEmpty());
+
+		// Time the queries
+		long start = System.nanoTime();
+		for (int i = 0; i < 100; i++) {
+			database.getMaterialsByElement("Ea");
+			database.getMaterialsWithComponent("O");
+			database.getMaterialsInRange(Material.DENSITY, 1.0, 2.0);
+		}
+		System.out.println("XMLMaterialDatabaseTester Message: Queried "
+				+ "3002 materials by element, component and property "
+				+ "value in " + (System.nanoTime() - start) / 100000
+				+ " us on average.");
+
+		// Updates should move materials in the indices
+		Material isotope = database.getMaterial("1Ea");
+		isotope.setProperty(Material.DENSITY, 1.5);
+		database.updateMaterial(isotope);
+		assertEquals(102, database
+				.getMaterialsInRange(Material.DENSITY, 1.0, 2.0).size());
+
+		// Deletes should remove them from the indices
+		database.deleteMaterial("1Ea");
+		database.deleteMaterial(h2o);
+		assertEquals(101, database
+				.getMaterialsInRange(Material.DENSITY, 1.0, 2.0).size());
+		assertEquals(Arrays.asList(co2),
+				database.getMaterialsWithComponent("O"));
+		assertEquals(115, database.getMaterialsByElement("Ea").size());
+
+		database.stop();
+
+		return;
+	}
+
+	/**
+	 * This operation checks that changes are logged as they are made and that
+	 * the log is replayed when the database is loaded.
+	 *
+	 * @throws JAXBException
+	 * @throws IOException
+	 */
+	@Test
+	public void checkChangeLog() throws JAXBException, IOException {
+
+		// Start with CO2 and H2O
+		Material co2 = TestMaterialFactory.createCO2();
+		Material h2o = TestMaterialFactory.createH2O();
+		ArrayList<Material> materials = new ArrayList<Material>();
+		materials.add(co2);
+		materials.add(h2o);
+		XMLMaterialsDatabase database = startDatabase(materials);
+		File changeLog = new File(userTestFile.getPath() + ".log");
+		assertFalse(changeLog.exists());
+
+		// Make some changes. Each one should be a line in the log.
+		long userDatabaseSize = userTestFile.length();
+		Material lastMaterial = new Material();
+		lastMaterial.setName("Phutureprimitive");
+		database.addMaterial(lastMaterial);
+		co2.setProperty(Material.DENSITY, 1.98);
+		database.updateMaterial(co2);
+		database.deleteMaterial("H2O");
+		assertEquals(3, Files
+				.readAllLines(changeLog.toPath(), StandardCharsets.UTF_8).size());
+		assertEquals(userDatabaseSize, userTestFile.length());
+
+		// Another database should load the changes from the log
+		XMLMaterialsDatabase loadedDatabase = new XMLMaterialsDatabase(
+				userTestFile, defaultTestFile);
+		loadedDatabase.start();
+		assertEquals(database.getMaterials().size(),
+				loadedDatabase.getMaterials().size());
+		assertEquals(lastMaterial,
+				loadedDatabase.getMaterial("Phutureprimitive"));
+		assertEquals(1.98, loadedDatabase.getMaterial("CO2")
+				.getProperty(Material.DENSITY), 1.0e-12);
+		assertNull(loadedDatabase.getMaterial("H2O"));
+
+		// A partially written change should be ignored
+		try (FileWriter writer = new FileWriter(changeLog, true)) {
+			writer.write("+<Material><name>Broken");
+		}
+		loadedDatabase = new XMLMaterialsDatabase(userTestFile,
+				defaultTestFile);
+		loadedDatabase.start();
+		assertEquals(database.getMaterials().size(),
+				loadedDatabase.getMaterials().size());
+
+		// Changes made after it should start on their own line and still be
+		// applied
+		Material nextMaterial = new Material();
+		nextMaterial.setName("Emancipator");
+		database.addMaterial(nextMaterial);
+		assertEquals(5, Files
+				.readAllLines(changeLog.toPath(), StandardCharsets.UTF_8).size());
+		loadedDatabase = new XMLMaterialsDatabase(userTestFile,
+				defaultTestFile);
+		loadedDatabase.start();
+		assertEquals(database.getMaterials().size(),
+				loadedDatabase.getMaterials().size());
+		assertEquals(nextMaterial, loadedDatabase.getMaterial("Emancipator"));
+		assertNull(loadedDatabase.getMaterial("Broken"));
+
+		// Stopping should fold the log into the user database
+		database.stop();
+		assertFalse(changeLog.exists());
+		loadedDatabase = new XMLMaterialsDatabase(userTestFile,
+				defaultTestFile);
+		loadedDatabase.start();
+		assertEquals(database.getMaterials().size(),
+				loadedDatabase.getMaterials().size());
+		assertEquals(co2, loadedDatabase.getMaterial("CO2"));
+
+		return;
+	}
+
+	/**
+	 * This operation writes the materials to the test files and starts a
+	 * database with them.
+	 *
+	 * @param materials
+	 *            the materials
+	 * @return the started database
+	 * @throws JAXBException
+	 */
+	private XMLMaterialsDatabase startDatabase(ArrayList<Material> materials)
+			throws JAXBException {
+
+		// Write the materials to the test files
+		ICEList<Material> jaxbMaterialsList = new ICEList<Material>();
+		jaxbMaterialsList.setList(materials);
+		JAXBContext jaxbContext = JAXBContext.newInstance(ICEList.class,
+				Material.class);
+		Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
+		jaxbMarshaller.marshal(jaxbMaterialsList, userTestFile);
+		jaxbMarshaller.marshal(jaxbMaterialsList, defaultTestFile);
+
+		// Start the database
+		XMLMaterialsDatabase database = new XMLMaterialsDatabase(userTestFile,
+				defaultTestFile);
+		database.start();
+
+		return database;
+	}
 }
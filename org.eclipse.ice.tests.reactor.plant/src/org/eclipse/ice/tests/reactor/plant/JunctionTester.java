@@ -451,6 +451,32 @@ public class JunctionTester {
 		removed = listener.getRemovedPipes();
 		assertEquals(0, removed.size());
 
+		// ---- Only changed inputs should be reported. ---- //
+		listener.reset();
+
+		Pipe newPipe = new Pipe();
+		newPipe.setId(4);
+		ArrayList<PlantComponent> newPipes = new ArrayList<PlantComponent>(
+				pipes);
+		newPipes.add(newPipe);
+		junction.setInputs(newPipes);
+
+		assertTrue(listener.wasNotified());
+		added = listener.getAddedPipes();
+		assertEquals(1, added.size());
+		assertSame(newPipe, added.get(0));
+		removed = listener.getRemovedPipes();
+		assertEquals(0, removed.size());
+		assertEquals(newPipes, junction.getInputs());
+		assertTrue(junction.isInput(newPipe));
+
+		// Removed inputs should no longer be inputs.
+		newPipes.remove(0);
+		junction.setInputs(newPipes);
+		assertFalse(junction.isInput(pipes.get(0)));
+		assertTrue(junction.isInput(pipes.get(1)));
+		assertEquals(newPipes, junction.getInputs());
+
 		// ---- Unregister the listener. ---- //
 		listener.reset();
 
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -28,6 +29,8 @@ import org.eclipse.ice.datastructures.ICEObject.Component;
 import org.eclipse.ice.datastructures.componentVisitor.IReactorComponent;
 import org.eclipse.ice.datastructures.componentVisitor.SelectiveComponentVisitor;
 import org.eclipse.ice.reactor.plant.IPlantCompositeListener;
+import org.eclipse.ice.reactor.plant.Junction;
+import org.eclipse.ice.reactor.plant.Pipe;
 import org.eclipse.ice.reactor.plant.PlantComponent;
 import org.eclipse.ice.reactor.plant.PlantComposite;
 import org.eclipse.ice.reactor.plant.SelectivePlantComponentVisitor;
@@ -345,6 +348,95 @@ public class PlantCompositeTester {
 		return;
 	}
 
+	/**
+	 * Checks the index of the connections made by the Junctions in a
+	 * PlantComposite and the queries that use it.
+	 */
+	@Test
+	public void checkConnections() {
+
+		// Create a plant with pipes 1 -> 2 -> 3 joined by Junctions 11 and
+		// 12, and an unconnected pipe 4.
+		PlantComposite plant = new PlantComposite();
+		Pipe[] pipes = new Pipe[5];
+		for (int i = 1; i < pipes.length; i++) {
+			pipes[i] = new Pipe();
+			pipes[i].setId(i);
+			plant.addPlantComponent(pipes[i]);
+		}
+		Junction junction1 = new Junction();
+		junction1.setId(11);
+		junction1.addInput(pipes[1]);
+		junction1.addOutput(pipes[2]);
+		plant.addPlantComponent(junction1);
+		Junction junction2 = new Junction();
+		junction2.setId(12);
+		plant.addPlantComponent(junction2);
+		junction2.addInput(pipes[2]);
+		junction2.addOutput(pipes[3]);
+
+		// Check the direct connections.
+		assertEquals(Arrays.asList(junction1),
+				plant.getDownstreamComponents(1));
+		assertEquals(Arrays.asList(pipes[2]),
+				plant.getDownstreamComponents(11));
+		assertEquals(Arrays.asList(pipes[1]), plant.getUpstreamComponents(11));
+		assertEquals(Arrays.asList(junction1, junction2),
+				plant.getConnectedJunctions(2));
+		assertTrue(plant.getConnectedJunctions(4).isEmpty());
+
+		// Check the traversals.
+		assertEquals(Arrays.asList(junction1, pipes[2], junction2, pipes[3]),
+				plant.findDownstreamComponents(1));
+		assertEquals(Arrays.asList(junction1, pipes[1]),
+				plant.findUpstreamComponents(2));
+		assertFalse(plant.hasLoops());
+		assertFalse(plant.isInLoop(2));
+
+		// Check the connected groups.
+		List<List<PlantComponent>> groups = plant.findConnectedGroups();
+		assertEquals(2, groups.size());
+		assertEquals(Arrays.asList(pipes[1], pipes[2], pipes[3], junction1,
+				junction2), groups.get(0));
+		assertEquals(Arrays.asList(pipes[4]), groups.get(1));
+
+		// Close the loop by making pipe 3 an input of the first Junction.
+		ArrayList<PlantComponent> inputs = new ArrayList<PlantComponent>();
+		inputs.add(pipes[1]);
+		inputs.add(pipes[3]);
+		junction1.setInputs(inputs);
+		assertTrue(plant.hasLoops());
+		assertTrue(plant.isInLoop(2));
+		assertFalse(plant.isInLoop(1));
+		assertEquals(Arrays.asList(junction1, junction2),
+				plant.getConnectedJunctions(3));
+
+		// Removing a Junction should remove its connections.
+		plant.removeComponent(12);
+		assertFalse(plant.hasLoops());
+		assertEquals(Arrays.asList(junction1), plant.getConnectedJunctions(2));
+		assertTrue(plant.getDownstreamComponents(2).isEmpty());
+		groups = plant.findConnectedGroups();
+		assertEquals(2, groups.size());
+		assertEquals(Arrays.asList(pipes[1], pipes[2], pipes[3], junction1),
+				groups.get(0));
+
+		// Changing the removed Junction should not affect the plant.
+		junction2.addOutput(pipes[4]);
+		assertTrue(plant.getConnectedJunctions(4).isEmpty());
+
+		// Copies should have the same connections.
+		PlantComposite copy = new PlantComposite();
+		copy.copy(plant);
+		assertEquals(plant.findDownstreamComponents(1),
+				copy.findDownstreamComponents(1));
+		junction1.removeOutput(pipes[2]);
+		assertTrue(plant.getUpstreamComponents(2).isEmpty());
+		assertTrue(copy.getUpstreamComponents(2).isEmpty());
+
+		return;
+	}
+
 	/**
 	 * Checks XML persistence for PlantComposites.
 	 */
@@ -105,6 +105,31 @@ public class ReflectivityModelBuilderTester implements IMaterialsDatabase {
 		return null;
 	}
 
+	@Override
+	public Material getMaterial(String name) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	@Override
+	public List<Material> getMaterialsByElement(String element) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	@Override
+	public List<Material> getMaterialsWithComponent(String component) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	@Override
+	public List<Material> getMaterialsInRange(String property, double min,
+			double max) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
 	@Override
 	public void addMaterial(Material material) {
 		// TODO Auto-generated method stub
@@ -16,7 +16,6 @@ import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -25,6 +24,8 @@ import java.io.PipedOutputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 
 import javax.xml.bind.annotation.XmlRootElement;
@@ -49,6 +50,7 @@ import org.eclipse.ice.io.serializable.IIOService;
 import org.eclipse.ice.io.serializable.IOService;
 import org.eclipse.ice.io.serializable.IReader;
 import org.eclipse.ice.io.serializable.IWriter;
+import org.eclipse.ice.io.serializable.StreamingFileReplacer;
 import org.eclipse.ice.item.Item;
 
 /**
@@ -365,19 +367,15 @@ public class VibeKVPair extends Item implements IReader, IWriter {
 			// Pull the default file from inside the plugin
 			URI uri = new URI("platform:/plugin/org.eclipse.ice.vibe/data/"
 					+ caseName + ".dat");
-			InputStream reader = uri.toURL().openStream();
-			FileOutputStream outStream = new FileOutputStream(temp);
-
 			// Write out the default file from the plugin to the temp
-			// location
-			int fileByte;
-			while ((fileByte = reader.read()) != -1) {
-				outStream.write(fileByte);
+			// location in buffered chunks
+			try (InputStream reader = uri.toURL().openStream()) {
+				Files.copy(reader, temp.toPath(),
+						StandardCopyOption.REPLACE_EXISTING);
 			}
-			outStream.close();
 			if (project != null) {
 				inputFile = project.getFile(caseName + ".dat");
-				project.refreshLocal(IResource.DEPTH_INFINITE, null);
+				inputFile.refreshLocal(IResource.DEPTH_ZERO, null);
 			} else {
 				inputFile = ResourcesPlugin.getWorkspace().getRoot()
 						.getFile(new Path(defaultFilePath));
@@ -429,33 +427,25 @@ public class VibeKVPair extends Item implements IReader, IWriter {
 			form = new Form();
 		}
 
-		// Read in the ini file to an ArrayList<String>
-		ArrayList<String> lines = new ArrayList<String>();
-		BufferedReader reader = null;
-		try {
-			reader = new BufferedReader(
-					new InputStreamReader(ifile.getContents()));
-			
-			// Read the FileInputStream and append to a StringBuffer
-			StringBuffer buffer = new StringBuffer();
-			int fileByte;
-			while ((fileByte = reader.read()) != -1) {
-				buffer.append((char) fileByte);
-			}
-
-			// Break up the StringBuffer at each newline character
-			String[] bufferSplit = (buffer.toString()).split("\n");
-			for (String each : bufferSplit) {
-				lines.add(each);
+		// Parse the key-value pairs from the file one buffered line at a time
+		ArrayList<ArrayList<String>> pairs = new ArrayList<ArrayList<String>>();
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(ifile.getContents()))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int assignment = line.indexOf('=');
+				if (assignment >= 0) {
+					// The value ends at the next = sign, if there is one
+					int valueEnd = line.indexOf('=', assignment + 1);
+					if (valueEnd < 0) {
+						valueEnd = line.length();
+					}
+					ArrayList<String> pair = new ArrayList<String>(2);
+					pair.add(line.substring(0, assignment));
+					pair.add(line.substring(assignment + 1, valueEnd));
+					pairs.add(pair);
+				}
 			}
-
-			// Add a dummy EOF line so that the last line of the file is
-			// read in correctly
-			lines.add("EOF");
-			
-			//Close the reader
-			reader.close();
-			
 		} catch (FileNotFoundException e) {
 			logger.error("VibeKVPair Message: "
 					+ "Error! Could not find file for loading.");
@@ -474,9 +464,7 @@ public class VibeKVPair extends Item implements IReader, IWriter {
 		if (kvTable == null) {
 			kvTable = new TableComponent();
 		} else {
-			for (int i : kvTable.getRowIds()) {
-				kvTable.deleteRow(0);
-			}
+			kvTable.deleteAllRows();
 		}
 		ArrayList<IEntry> row;
 		ArrayList<IEntry> kvEntries = new ArrayList<IEntry>();
@@ -500,131 +488,131 @@ public class VibeKVPair extends Item implements IReader, IWriter {
 		// The row for the NUMSEG key
 		VibeKVPairRow numsegRow = null;
 
-		for (String line : lines) {
-			if (line.contains("=")) {
-				String[] keyValue = line.split("=");
-				int rowID = kvTable.addRow();
-				row = kvTable.getRow(rowID);
-
-				// The new row under construction
-				VibeKVPairRow entryRow = null;
-
-				// For most keys, create a standard row
-				if (!dependentKeys.contains(keyValue[0])) {
-
-					entryRow = new VibeKVPairRow((StringEntry) row.get(0),
-							(StringEntry) row.get(1));
-
-					if ("NUMSEG".equals(keyValue[0])) {
-						numsegRow = entryRow;
-
-						// The prescence of NUMSEG means that this is a DualFoil
-						// problem. We must set the template name appropriately,
-						// in case this function was invoked by importing a
-						// key-value file directly.
-						templateName = "DualFoil";
-						((DataComponent) form
-								.getComponent(TEMPLATE_COMPONENT_ID))
-										.retrieveAllEntries().get(0)
-										.setValue("DualFoil");
-					}
-				}
+		// Load all of the rows with their values in one pass. The values are
+		// set before any of the rows below start listening to them.
+		int firstRowID = kvTable.addRows(pairs);
 
-				else {
-
-					// TODO If we ever want to create more complex relationships
-					// between rows, change this to handle things more
-					// generically
-					// For keys whose lengths depend on numseg, add a listener
-					entryRow = new VibeKVPairRow((StringEntry) row.get(0),
-							(StringEntry) row.get(1)) {
-						@Override
-						public void update(IUpdateable component) {
-
-							// This row won't need to send updates of its own,
-							// so ignore the value entry
-							if (component == getValue()) {
-								return;
-							}
+		for (int rowIndex = 0; rowIndex < pairs.size(); rowIndex++) {
+			String rowKey = pairs.get(rowIndex).get(0);
+			row = kvTable.getRow(firstRowID + rowIndex);
 
-							// Cast the component
-							VibeKVPairRow source = (VibeKVPairRow) component;
+			// The new row under construction
+			VibeKVPairRow entryRow = null;
 
-							// The string that will be written to this row's
-							// value
-							String valueString = getValue().getValue();
+			// For most keys, create a standard row
+			if (!dependentKeys.contains(rowKey)) {
 
-							// Calculate the size of the vector
-							int vectorSize = valueString.length()
-									- valueString.replace(",", "").length() + 1;
+				entryRow = new VibeKVPairRow((StringEntry) row.get(0),
+						(StringEntry) row.get(1));
 
-							// Get the new value of the numseg key
-							int numseg = Integer
-									.valueOf(source.getValue().getValue());
+				if ("NUMSEG".equals(rowKey)) {
+					numsegRow = entryRow;
 
-							// If numseg is an invalid value, ignore the change
-							if (numseg <= 0) {
-								return;
-							}
+					// The prescence of NUMSEG means that this is a DualFoil
+					// problem. We must set the template name appropriately,
+					// in case this function was invoked by importing a
+					// key-value file directly.
+					templateName = "DualFoil";
+					((DataComponent) form
+							.getComponent(TEMPLATE_COMPONENT_ID))
+									.retrieveAllEntries().get(0)
+									.setValue("DualFoil");
+				}
+			}
+
+			else {
+
+				// TODO If we ever want to create more complex relationships
+				// between rows, change this to handle things more
+				// generically
+				// For keys whose lengths depend on numseg, add a listener
+				entryRow = new VibeKVPairRow((StringEntry) row.get(0),
+						(StringEntry) row.get(1)) {
+					@Override
+					public void update(IUpdateable component) {
+
+						// This row won't need to send updates of its own,
+						// so ignore the value entry
+						if (component == getValue()) {
+							return;
+						}
 
-							// If numseg has been reduced, shorten the value
-							// vector
-							if (numseg < vectorSize) {
+						// Cast the component
+						VibeKVPairRow source = (VibeKVPairRow) component;
 
-								// The amount of numbers to be removed
-								int numRemove = vectorSize - numseg;
+						// The string that will be written to this row's
+						// value
+						String valueString = getValue().getValue();
 
-								// Remove the last number in the vector,
-								// numRemove times
-								for (int i = 0; i < numRemove; i++) {
-									valueString = valueString.substring(0,
-											valueString.lastIndexOf(','));
-								}
+						// Calculate the size of the vector
+						int vectorSize = valueString.length()
+								- valueString.replace(",", "").length() + 1;
 
-								getValue().setValue(valueString);
+						// Get the new value of the numseg key
+						int numseg = Integer
+								.valueOf(source.getValue().getValue());
 
+						// If numseg is an invalid value, ignore the change
+						if (numseg <= 0) {
+							return;
+						}
+
+						// If numseg has been reduced, shorten the value
+						// vector
+						if (numseg < vectorSize) {
+
+							// The amount of numbers to be removed
+							int numRemove = vectorSize - numseg;
+
+							// Remove the last number in the vector,
+							// numRemove times
+							for (int i = 0; i < numRemove; i++) {
+								valueString = valueString.substring(0,
+										valueString.lastIndexOf(','));
 							}
 
-							// If numseg has been increased, lengthen the value
-							// vector
-							else if (numseg > vectorSize) {
+							getValue().setValue(valueString);
 
-								// The number of additional values to add
-								int numAdd = numseg - vectorSize;
+						}
 
-								// The default value to pad the vector with
-								String pad = null;
+						// If numseg has been increased, lengthen the value
+						// vector
+						else if (numseg > vectorSize) {
 
-								// MODESEG is a vector of integers, all others
-								// are vectors of doubles
-								if (!getKey().getValue().equals("MODESEG")) {
-									pad = ",0.0";
-								} else {
-									pad = ",0";
-								}
+							// The number of additional values to add
+							int numAdd = numseg - vectorSize;
 
-								// Pad the vector out with the default value
-								for (int i = 0; i < numAdd; i++) {
-									valueString += pad;
-								}
+							// The default value to pad the vector with
+							String pad = null;
 
-								getValue().setValue(valueString);
+							// MODESEG is a vector of integers, all others
+							// are vectors of doubles
+							if (!getKey().getValue().equals("MODESEG")) {
+								pad = ",0.0";
+							} else {
+								pad = ",0";
 							}
-						}
-					};
 
-					// Add this row to the list
-					dependentRows.add(entryRow);
-				}
+							// Pad the vector out with the default value
+							for (int i = 0; i < numAdd; i++) {
+								valueString += pad;
+							}
 
-				entryRow.getKey().setValue(keyValue[0]);
-				entryRow.getValue().setValue(keyValue[1]);
+							getValue().setValue(valueString);
+						}
+					}
+				};
+
+				// Add this row to the list
+				dependentRows.add(entryRow);
 			}
 		}
 
 		// Register each dependent row as a listener to the NUMSEG row
-		for (VibeKVPairRow dependentRow : dependentRows) {
-			numsegRow.register(dependentRow);
+		if (numsegRow != null) {
+			for (VibeKVPairRow dependentRow : dependentRows) {
+				numsegRow.register(dependentRow);
+			}
 		}
 
 		//Add the table to the form if it isn't already there
@@ -710,7 +698,11 @@ public class VibeKVPair extends Item implements IReader, IWriter {
 
 	@Override
 	public void replace(IFile file, String regex, String value) {
-		// TODO Auto-generated method stub
+		// Make sure we aren't given any null values
+		if (file == null || regex == null || value == null) {
+			return;
+		}
+		new StreamingFileReplacer(regex, value).replace(file);
 	}
 
 	/**